@@ -15,6 +15,7 @@ public final class Name implements Cloneable {
     private Scope scope;
     private boolean globalName;
     private boolean lookupByName;
+    private int slot = -1;
 
     /**
      * Constructs a new Name object.
@@ -72,6 +73,26 @@ public final class Name implements Cloneable {
         return scope != null && !globalName && !lookupByName;
     }
 
+    /**
+     * Returns the local slot index or {@code -1} if this name is not stored in a local slot.
+     * 
+     * @return the local slot index or {@code -1}
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Assigns a local slot to this name.
+     * 
+     * @param slot
+     *            the local slot index
+     */
+    public void setSlot(int slot) {
+        assert this.slot == -1 && slot >= 0;
+        this.slot = slot;
+    }
+
     /**
      * Returns {@code true} if this name is resolved.
      * 
@@ -135,6 +135,10 @@ abstract class AbstractIterationGenerator<NODE extends Node, ITERATOR> {
             mv.goTo(target);
         }
         mv.mark(endIteration);
+        mv.tryCatch(startIteration, endIteration, handlerCatch, Types.ScriptException);
+        if (handlerCatchStackOverflow != null) {
+            mv.tryCatch(startIteration, endIteration, handlerCatchStackOverflow, Types.Error);
+        }
 
         // Restore temporary abrupt targets
         List<TempLabel> tempLabels = exitIteration(node, mv);
@@ -146,10 +150,6 @@ abstract class AbstractIterationGenerator<NODE extends Node, ITERATOR> {
         Completion returnResult = emitReturnHandler(node, iterator, completion, tempLabels, mv);
 
         mv.exitVariableScope();
-        mv.tryCatch(startIteration, endIteration, handlerCatch, Types.ScriptException);
-        if (handlerCatchStackOverflow != null) {
-            mv.tryCatch(startIteration, endIteration, handlerCatchStackOverflow, Types.Error);
-        }
 
         if (!hasTarget) {
             mv.mark(target);
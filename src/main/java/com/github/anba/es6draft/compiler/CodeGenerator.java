@@ -36,6 +36,7 @@ import com.github.anba.es6draft.compiler.CodeVisitor.GeneratorState;
 import com.github.anba.es6draft.compiler.CodeVisitor.LabelState;
 import com.github.anba.es6draft.compiler.DefaultCodeGenerator.ValType;
 import com.github.anba.es6draft.compiler.StatementGenerator.Completion;
+import com.github.anba.es6draft.compiler.analyzer.LocalSlots;
 import com.github.anba.es6draft.compiler.assembler.Code;
 import com.github.anba.es6draft.compiler.assembler.Code.MethodCode;
 import com.github.anba.es6draft.compiler.assembler.MethodName;
@@ -244,6 +245,21 @@ final class CodeGenerator {
         return key;
     }
 
+    // functions without function environment
+    private final HashMap<FunctionNode, Integer> localSlots = new HashMap<>();
+
+    /**
+     * Returns the number of local slots or {@code -1} if the function uses a function environment.
+     * 
+     * @param node
+     *            the function node
+     * @return the number of local slots or {@code -1}
+     */
+    int localSlots(FunctionNode node) {
+        Integer slots = localSlots.get(node);
+        return slots != null ? slots : -1;
+    }
+
     private final HashMap<DoExpression, LabelState> doExpressionCompletions = new HashMap<>();
     private final HashMap<StatementListMethod, LabelState> statementCompletions = new HashMap<>();
 
@@ -977,6 +993,9 @@ final class CodeGenerator {
         if (!isCompiled(node)) {
             Future<String> source = getSource(node);
 
+            // local slots for parameters and variables, not used with debug info to keep all bindings inspectable
+            localSlots.put(node, !isEnabled(Compiler.Option.DebugInfo) ? LocalSlots.analyze(node) : -1);
+
             // initialization method
             new FunctionDeclarationInstantiationGenerator(this).generate(node);
 
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.compiler;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics for compiled code units.
+ * <p>
+ * Each compiled script, module or function is defined in its own class loader. A code unit is live until its class
+ * loader has been garbage collected, which allows the JVM to unload the generated classes.
+ */
+public final class CompiledCodeMetrics {
+    private CompiledCodeMetrics() {
+    }
+
+    private static final ReferenceQueue<ClassLoader> queue = new ReferenceQueue<>();
+    private static final Set<CodeUnitReference> liveUnits = ConcurrentHashMap.newKeySet();
+    private static final AtomicLong definedUnits = new AtomicLong();
+    private static final AtomicLong unloadedUnits = new AtomicLong();
+    private static final AtomicLong definedClasses = new AtomicLong();
+    private static final AtomicLong unloadedClasses = new AtomicLong();
+    private static final AtomicLong computedFramesClasses = new AtomicLong();
+    private static final AtomicLong liveClassBytes = new AtomicLong();
+
+    private static final class CodeUnitReference extends PhantomReference<ClassLoader> {
+        final int classCount;
+        final long classBytes;
+
+        CodeUnitReference(ClassLoader loader, int classCount, long classBytes) {
+            super(loader, queue);
+            this.classCount = classCount;
+            this.classBytes = classBytes;
+        }
+    }
+
+    /**
+     * Registers a new code unit.
+     *
+     * @param loader
+     *            the class loader of the code unit
+     * @param classCount
+     *            the number of classes
+     * @param computedFramesCount
+     *            the number of classes whose stack map frames were recomputed by ASM
+     * @param classBytes
+     *            the total size of the class files
+     */
+    static void register(ClassLoader loader, int classCount, int computedFramesCount, long classBytes) {
+        expungeUnloadedUnits();
+        liveUnits.add(new CodeUnitReference(loader, classCount, classBytes));
+        definedUnits.incrementAndGet();
+        definedClasses.addAndGet(classCount);
+        computedFramesClasses.addAndGet(computedFramesCount);
+        liveClassBytes.addAndGet(classBytes);
+    }
+
+    private static void expungeUnloadedUnits() {
+        for (Reference<? extends ClassLoader> ref; (ref = queue.poll()) != null;) {
+            CodeUnitReference unit = (CodeUnitReference) ref;
+            if (liveUnits.remove(unit)) {
+                unloadedUnits.incrementAndGet();
+                unloadedClasses.addAndGet(unit.classCount);
+                liveClassBytes.addAndGet(-unit.classBytes);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of code units which were defined so far.
+     *
+     * @return the number of defined code units
+     */
+    public static long getDefinedUnitCount() {
+        return definedUnits.get();
+    }
+
+    /**
+     * Returns the number of code units which have been garbage collected.
+     *
+     * @return the number of collected code units
+     */
+    public static long getUnloadedUnitCount() {
+        expungeUnloadedUnits();
+        return unloadedUnits.get();
+    }
+
+    /**
+     * Returns the number of code units which are still live.
+     *
+     * @return the number of live code units
+     */
+    public static long getLiveUnitCount() {
+        expungeUnloadedUnits();
+        return liveUnits.size();
+    }
+
+    /**
+     * Returns the number of classes which were defined so far.
+     *
+     * @return the number of defined classes
+     */
+    public static long getDefinedClassCount() {
+        return definedClasses.get();
+    }
+
+    /**
+     * Returns the number of classes whose stack map frames were recomputed by ASM instead of being emitted by the
+     * assembler.
+     *
+     * @return the number of classes with recomputed stack map frames
+     */
+    public static long getComputedFramesClassCount() {
+        return computedFramesClasses.get();
+    }
+
+    /**
+     * Returns the number of classes whose code unit is still live.
+     *
+     * @return the number of live classes
+     */
+    public static long getLiveClassCount() {
+        expungeUnloadedUnits();
+        return definedClasses.get() - unloadedClasses.get();
+    }
+
+    /**
+     * Returns the total size of the class files whose code unit is still live.
+     *
+     * @return the size of the live class files in bytes
+     */
+    public static long getLiveClassBytes() {
+        expungeUnloadedUnits();
+        return liveClassBytes.get();
+    }
+}
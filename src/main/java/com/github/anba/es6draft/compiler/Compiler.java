@@ -210,6 +210,9 @@ public final class Compiler {
         boolean printSimple = printCode && !isEnabled(Option.PrintFullCode);
         boolean debugInfo = isEnabled(Option.DebugInfo);
         CodeLoader loader = new CodeLoader();
+        int classCount = 0;
+        int computedFramesCount = 0;
+        long totalBytes = 0;
         for (ClassCode classCode : code.getClasses()) {
             String className = Type.className(classCode.className);
             if (debugInfo) {
@@ -222,6 +225,11 @@ public final class Compiler {
             }
             // System.out.printf("define class '%s'%n", className);
             Class<?> c = loader.defineClass(className, bytes);
+            classCount += 1;
+            totalBytes += bytes.length;
+            if (classCode.hasComputedFrames()) {
+                computedFramesCount += 1;
+            }
             if (debugInfo) {
                 try {
                     Field classBytes = c.getDeclaredField("classBytes");
@@ -232,6 +240,7 @@ public final class Compiler {
                 }
             }
         }
+        CompiledCodeMetrics.register(loader, classCount, computedFramesCount, totalBytes);
 
         try {
             Class<?> c = loader.loadClass(Type.className(clazzName));
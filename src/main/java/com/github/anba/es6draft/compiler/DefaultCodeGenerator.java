@@ -53,9 +53,6 @@ import com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject;
 abstract class DefaultCodeGenerator<RETURN> extends DefaultNodeVisitor<RETURN, CodeVisitor> {
     private static final class Fields {
         static final FieldName Double_NaN = FieldName.findStatic(Types.Double, "NaN", Type.DOUBLE_TYPE);
-
-        static final FieldName ScriptRuntime_EMPTY_ARRAY = FieldName.findStatic(Types.ScriptRuntime, "EMPTY_ARRAY",
-                Types.Object_);
     }
 
     private static final class Methods {
@@ -2023,11 +2020,16 @@ abstract class DefaultCodeGenerator<RETURN> extends DefaultNodeVisitor<RETURN, C
         mv.load(method);
         mv.loadExecutionContext();
         mv.load(thisValue);
-        if (arguments.length == 0) {
-            mv.get(Fields.ScriptRuntime_EMPTY_ARRAY);
-        } else {
-            mv.anewarray(Types.Object, arguments);
+        if (Bootstrap.hasFixedArityCall(arguments.length)) {
+            for (Value<?> argument : arguments) {
+                mv.load(argument);
+            }
+            mv.lineInfo(node);
+            mv.invokedynamic(Bootstrap.getFixedArityCallName(),
+                    Bootstrap.getFixedArityCallMethodDescriptor(arguments.length), Bootstrap.getCallBootstrap());
+            return;
         }
+        mv.anewarray(Types.Object, arguments);
         mv.lineInfo(node);
         mv.invokedynamic(Bootstrap.getCallName(), Bootstrap.getCallMethodDescriptor(), Bootstrap.getCallBootstrap());
     }
@@ -2102,6 +2104,7 @@ abstract class DefaultCodeGenerator<RETURN> extends DefaultNodeVisitor<RETURN, C
                 mv.goTo(noException);
             }
             mv.mark(endCatch);
+            mv.tryCatch(startCatch, endCatch, handlerCatch, Types.ScriptException);
 
             mv.catchHandler(handlerCatch, Types.ScriptException);
             {
@@ -2120,7 +2123,6 @@ abstract class DefaultCodeGenerator<RETURN> extends DefaultNodeVisitor<RETURN, C
 
                 mv.exitVariableScope();
             }
-            mv.tryCatch(startCatch, endCatch, handlerCatch, Types.ScriptException);
             mv.mark(noException);
         } , mv);
     }
@@ -12,6 +12,7 @@ import static com.github.anba.es6draft.compiler.BindingInitializationGenerator.I
 import static com.github.anba.es6draft.semantics.StaticSemantics.*;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -41,6 +42,7 @@ import com.github.anba.es6draft.runtime.DeclarativeEnvironmentRecord;
 import com.github.anba.es6draft.runtime.LexicalEnvironment;
 import com.github.anba.es6draft.runtime.internal.Bootstrap;
 import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
+import com.github.anba.es6draft.runtime.internal.IndexedMap;
 import com.github.anba.es6draft.runtime.internal.NativeCalls;
 import com.github.anba.es6draft.runtime.objects.Eval.EvalFlags;
 import com.github.anba.es6draft.runtime.objects.simd.SIMDType;
@@ -269,6 +271,7 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
     private static final int MAX_JVM_ARGUMENTS = 255;
     private static final int BOOTSTRAP_ARGUMENTS = 3;
     private static final int MAX_DYN_ARGUMENTS = MAX_JVM_ARGUMENTS - BOOTSTRAP_ARGUMENTS;
+    private static final int MAX_OBJECT_LITERAL_TEMPLATE_PROPERTIES = 32;
 
     public ExpressionGenerator(CodeGenerator codegen) {
         super(codegen);
@@ -280,6 +283,12 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
                 Bootstrap.getCallBootstrap());
     }
 
+    private static void invokeDynamicFixedArityCall(int argumentCount, CodeVisitor mv) {
+        // stack: [func(Callable), cx, thisValue, arg1, ..., argN] -> [result]
+        mv.invokedynamic(Bootstrap.getFixedArityCallName(),
+                Bootstrap.getFixedArityCallMethodDescriptor(argumentCount), Bootstrap.getCallBootstrap());
+    }
+
     private static void invokeDynamicConstruct(CodeVisitor mv) {
         // stack: [constructor(Constructor), cx, args] -> [result]
         mv.invokedynamic(Bootstrap.getConstructName(), Bootstrap.getConstructMethodDescriptor(),
@@ -311,6 +320,13 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
                 Bootstrap.getConcatBootstrap());
     }
 
+    private static void invokeDynamicObjectLiteral(Object[] propertyKeys, CodeVisitor mv) {
+        // stack: [cx, value1, ..., valueN] -> [object]
+        mv.invokedynamic(Bootstrap.getObjectLiteralName(),
+                Bootstrap.getObjectLiteralMethodDescriptor(propertyKeys.length),
+                Bootstrap.getObjectLiteralBootstrap(), propertyKeys);
+    }
+
     private boolean isTailCall(Expression node, CodeVisitor mv) {
         return !codegen.isEnabled(Compiler.Option.NoTailCall) && mv.isTailCall(node);
     }
@@ -556,6 +572,30 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
         return EvaluateDirectCallEval(call, arguments, true, mv);
     }
 
+    /**
+     * Returns {@code true} if the call arguments can be passed directly on the operand stack instead of an arguments
+     * array.
+     * 
+     * @param call
+     *            the function call expression
+     * @param arguments
+     *            the function arguments
+     * @param mv
+     *            the code visitor
+     * @return {@code true} if a fixed-arity call can be emitted
+     */
+    private boolean isFixedArityCall(Expression call, List<Expression> arguments, CodeVisitor mv) {
+        if (!Bootstrap.hasFixedArityCall(arguments.size()) || isTailCall(call, mv)) {
+            return false;
+        }
+        for (Expression argument : arguments) {
+            if (argument instanceof CallSpreadElement) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * [12.3.4.3 Runtime Semantics: EvaluateDirectCall( func, thisValue, arguments, tailPosition )]
      * 
@@ -567,6 +607,21 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
      *            the code visitor
      */
     private ValType EvaluateDirectCall(Expression call, List<Expression> arguments, CodeVisitor mv) {
+        if (isFixedArityCall(call, arguments, mv)) {
+            /* steps 1-2 */
+            // stack: [func, cx, thisValue] -> [func, cx, thisValue, arg1, ..., argN]
+            for (Expression argument : arguments) {
+                ValType argType = argument.accept(this, mv);
+                mv.toBoxed(argType);
+            }
+
+            /* steps 3-9 */
+            mv.lineInfo(call);
+            // stack: [func, cx, thisValue, arg1, ..., argN] -> [result]
+            invokeDynamicFixedArityCall(arguments.size(), mv);
+            return ValType.Any;
+        }
+
         /* steps 1-2 */
         // stack: [func, cx, thisValue] -> [func, cx, thisValue, args]
         ArgumentListEvaluation(call, arguments, mv);
@@ -3241,12 +3296,40 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
             decorators = newDecoratorVariable("decorators", mv);
         }
         PropertyGenerator propgen = codegen.propertyGenerator(decorators);
-        /* step 1 */
-        mv.loadExecutionContext();
-        mv.get(Fields.Intrinsics_ObjectPrototype);
-        mv.invoke(Methods.OrdinaryObject_ObjectCreate);
+        List<PropertyDefinition> properties = node.getProperties();
+        int templateSize = hasDecorators ? 0 : objectLiteralTemplateSize(properties);
+        if (templateSize > 0) {
+            // Leading data properties with constant names are created in a single step from a template.
+            /* steps 1-3 (object literal template) */
+            Object[] propertyKeys = new Object[templateSize];
+            mv.loadExecutionContext();
+            for (int i = 0; i < templateSize; ++i) {
+                PropertyDefinition property = properties.get(i);
+                if (property instanceof PropertyValueDefinition) {
+                    PropertyValueDefinition valueDefinition = (PropertyValueDefinition) property;
+                    String propName = PropName(valueDefinition.getPropertyName());
+                    Expression propertyValue = valueDefinition.getPropertyValue();
+                    expressionBoxed(propertyValue, mv);
+                    if (IsAnonymousFunctionDefinition(propertyValue)) {
+                        SetFunctionName(propertyValue, propName, mv);
+                    }
+                    propertyKeys[i] = propName;
+                } else {
+                    IdentifierReference propertyName = ((PropertyNameDefinition) property).getPropertyName();
+                    expressionBoxed(propertyName, mv);
+                    propertyKeys[i] = PropName(propertyName);
+                }
+            }
+            mv.lineInfo(node);
+            invokeDynamicObjectLiteral(propertyKeys, mv);
+        } else {
+            /* step 1 */
+            mv.loadExecutionContext();
+            mv.get(Fields.Intrinsics_ObjectPrototype);
+            mv.invoke(Methods.OrdinaryObject_ObjectCreate);
+        }
         /* steps 2-3 */
-        for (PropertyDefinition property : node.getProperties()) {
+        for (PropertyDefinition property : properties.subList(templateSize, properties.size())) {
             mv.dup();
             property.accept(propgen, mv);
         }
@@ -3262,6 +3345,37 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
         return ValType.Object;
     }
 
+    /**
+     * Returns the number of leading property definitions which can be created from an object literal template. Only
+     * data properties with distinct, constant property names are supported. {@code __proto__} and array index property
+     * names are excluded, because they don't create ordinary string keyed properties.
+     * 
+     * @param properties
+     *            the property definitions
+     * @return the number of template properties
+     */
+    private static int objectLiteralTemplateSize(List<PropertyDefinition> properties) {
+        HashSet<String> propertyNames = new HashSet<>();
+        for (PropertyDefinition property : properties) {
+            if (propertyNames.size() == MAX_OBJECT_LITERAL_TEMPLATE_PROPERTIES) {
+                break;
+            }
+            String propName;
+            if (property instanceof PropertyValueDefinition) {
+                propName = PropName(((PropertyValueDefinition) property).getPropertyName());
+            } else if (property instanceof PropertyNameDefinition) {
+                propName = PropName(((PropertyNameDefinition) property).getPropertyName());
+            } else {
+                break;
+            }
+            if (propName == null || "__proto__".equals(propName) || IndexedMap.isIndex(IndexedMap.toIndex(propName))
+                    || !propertyNames.add(propName)) {
+                break;
+            }
+        }
+        return propertyNames.size();
+    }
+
     /**
      * 12.3.2 Property Accessors
      * <p>
@@ -56,6 +56,10 @@ final class FunctionCodeGenerator {
                 Types.ExecutionContext, "newFunctionExecutionContext",
                 Type.methodType(Types.ExecutionContext, Types.FunctionObject, Types.LexicalEnvironment));
 
+        static final MethodName ExecutionContext_newFunctionExecutionContext_LocalSlots = MethodName.findStatic(
+                Types.ExecutionContext, "newFunctionExecutionContext",
+                Type.methodType(Types.ExecutionContext, Types.FunctionObject, Types.Object, Type.INT_TYPE));
+
         static final MethodName ExecutionContext_getCurrentFunction = MethodName.findVirtual(Types.ExecutionContext,
                 "getCurrentFunction", Type.methodType(Types.FunctionObject));
 
@@ -379,6 +383,7 @@ final class FunctionCodeGenerator {
             mv._return();
         }
         mv.mark(endFinally);
+        mv.tryFinally(startFinally, endFinally, handlerFinally);
 
         // Exception: Restore 'caller' and 'arguments' and then rethrow exception
         mv.finallyHandler(handlerFinally);
@@ -386,8 +391,6 @@ final class FunctionCodeGenerator {
         restoreLegacyProperties(function, oldCaller, oldArguments, mv);
         mv.load(throwable);
         mv.athrow();
-
-        mv.tryFinally(startFinally, endFinally, handlerFinally);
     }
 
     /**
@@ -530,6 +533,7 @@ final class FunctionCodeGenerator {
             returnResultOrThis(thisArg, false, mv);
         }
         mv.mark(endFinally);
+        mv.tryFinally(startFinally, endFinally, handlerFinally);
 
         // Exception: Restore 'caller' and 'arguments' and then rethrow exception
         mv.finallyHandler(handlerFinally);
@@ -537,8 +541,6 @@ final class FunctionCodeGenerator {
         restoreLegacyProperties(function, oldCaller, oldArguments, mv);
         mv.load(throwable);
         mv.athrow();
-
-        mv.tryFinally(startFinally, endFinally, handlerFinally);
     }
 
     /**
@@ -656,6 +658,7 @@ final class FunctionCodeGenerator {
             functionDeclarationInstantiation(node, calleeContext, function, arguments, mv);
             mv.goTo(noException);
             mv.mark(endCatch);
+            mv.tryCatch(startCatch, endCatch, handlerCatch, Types.ScriptException);
             mv.catchHandler(handlerCatch, Types.ScriptException);
             {
                 // stack: [exception] -> [cx, exception]
@@ -666,7 +669,6 @@ final class FunctionCodeGenerator {
                 mv._return();
             }
             mv.mark(noException);
-            mv.tryCatch(startCatch, endCatch, handlerCatch, Types.ScriptException);
         }
 
         // (3) Perform EvaluateBody
@@ -851,6 +853,16 @@ final class FunctionCodeGenerator {
     private void prepareCallAndBindThis(FunctionNode node, Variable<ExecutionContext> calleeContext,
             Variable<? extends FunctionObject> function, Variable<? extends Object> thisArgument,
             InstructionVisitor mv) {
+        int localSlots = codegen.localSlots(node);
+        if (localSlots >= 0) {
+            // Parameters and variables are stored in local slots, no function environment is needed.
+            mv.load(function);
+            ordinaryCallBindThis(node, function, thisArgument, mv);
+            mv.iconst(localSlots);
+            mv.invoke(Methods.ExecutionContext_newFunctionExecutionContext_LocalSlots);
+            mv.store(calleeContext);
+            return;
+        }
         mv.load(function);
         {
             // Create new function environment.
@@ -888,6 +900,16 @@ final class FunctionCodeGenerator {
     private void prepareCallAndBindThis(FunctionNode node, Variable<ExecutionContext> calleeContext,
             Variable<? extends FunctionObject> function, Variable<Constructor> newTarget,
             Variable<ScriptObject> thisArgument, InstructionVisitor mv) {
+        int localSlots = codegen.localSlots(node);
+        if (localSlots >= 0) {
+            // Parameters and variables are stored in local slots, no function environment is needed.
+            mv.load(function);
+            mv.load(thisArgument);
+            mv.iconst(localSlots);
+            mv.invoke(Methods.ExecutionContext_newFunctionExecutionContext_LocalSlots);
+            mv.store(calleeContext);
+            return;
+        }
         mv.load(function);
         {
             // Create new function environment.
@@ -57,6 +57,9 @@ final class FunctionDeclarationInstantiationGenerator extends
         static final MethodName ExecutionContext_setLexicalEnvironment = MethodName.findVirtual(Types.ExecutionContext,
                 "setLexicalEnvironment", Type.methodType(Type.VOID_TYPE, Types.LexicalEnvironment));
 
+        static final MethodName ExecutionContext_initializeLocals = MethodName.findVirtual(Types.ExecutionContext,
+                "initializeLocals", Type.methodType(Type.VOID_TYPE, Types.Object_, Type.INT_TYPE));
+
         static final MethodName ExecutionContext_setVariableEnvironment = MethodName.findVirtual(Types.ExecutionContext,
                 "setVariableEnvironment", Type.methodType(Type.VOID_TYPE, Types.LexicalEnvironment));
 
@@ -117,7 +120,11 @@ final class FunctionDeclarationInstantiationGenerator extends
         mv.lineInfo(function);
         mv.begin();
         mv.enterScope(function);
-        generate(function, mv);
+        if (codegen.localSlots(function) >= 0) {
+            generateLocalSlots(function, mv);
+        } else {
+            generate(function, mv);
+        }
         mv.exitScope();
         mv.end();
     }
@@ -168,6 +175,26 @@ final class FunctionDeclarationInstantiationGenerator extends
         }
     }
 
+    /**
+     * FunctionDeclarationInstantiation for functions whose parameters and variables are stored in local slots. The
+     * slots are already initialized to undefined, only the arguments need to be copied into the parameter slots.
+     * 
+     * @param function
+     *            the function node
+     * @param mv
+     *            the code visitor
+     */
+    private void generateLocalSlots(FunctionNode function, CodeVisitor mv) {
+        int parameterCount = function.getParameters().getFormals().size();
+        if (parameterCount > 0) {
+            mv.loadParameter(EXECUTION_CONTEXT, ExecutionContext.class);
+            mv.loadParameter(ARGUMENTS, Object[].class);
+            mv.iconst(parameterCount);
+            mv.invoke(Methods.ExecutionContext_initializeLocals);
+        }
+        mv._return();
+    }
+
     private void generate(FunctionNode function, CodeVisitor mv) {
         Variable<ExecutionContext> context = mv.getParameter(EXECUTION_CONTEXT, ExecutionContext.class);
         Variable<LexicalEnvironment<FunctionEnvironmentRecord>> env = mv.newVariable("env", LexicalEnvironment.class)
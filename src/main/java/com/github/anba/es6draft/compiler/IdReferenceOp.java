@@ -54,6 +54,9 @@ abstract class IdReferenceOp {
      * @return the {@code IdReferenceOp}
      */
     static IdReferenceOp of(BindingIdentifier ident) {
+        if (IdentifierResolution.isLocalSlot(ident.getResolvedName())) {
+            return IdReferenceOp.LOCAL;
+        }
         return IdReferenceOp.LOOKUP;
     }
 
@@ -83,4 +86,23 @@ abstract class IdReferenceOp {
             mv.invoke(Methods.Reference_putValue);
         }
     };
+
+    /**
+     * 12.1.6 Runtime Semantics: Evaluation
+     * <p>
+     * Parameters and variables stored in local slots.
+     */
+    static final IdReferenceOp LOCAL = new IdReferenceOp() {
+        @Override
+        ValType resolveBinding(BindingIdentifier node, CodeVisitor mv) {
+            // stack: [] -> []
+            return ValType.Empty;
+        }
+
+        @Override
+        void putValue(BindingIdentifier node, ValType value, CodeVisitor mv) {
+            // stack: [value] -> []
+            IdentifierResolution.storeLocal(node.getResolvedName(), value, mv);
+        }
+    };
 }
@@ -9,6 +9,7 @@ package com.github.anba.es6draft.compiler;
 import com.github.anba.es6draft.ast.BindingIdentifier;
 import com.github.anba.es6draft.ast.IdentifierReference;
 import com.github.anba.es6draft.ast.Node;
+import com.github.anba.es6draft.ast.scope.Name;
 import com.github.anba.es6draft.compiler.DefaultCodeGenerator.ValType;
 import com.github.anba.es6draft.compiler.assembler.MethodName;
 import com.github.anba.es6draft.compiler.assembler.Type;
@@ -26,11 +27,63 @@ final class IdentifierResolution {
         static final MethodName ExecutionContext_resolveBindingValue = MethodName.findVirtual(
                 Types.ExecutionContext, "resolveBindingValue",
                 Type.methodType(Types.Object, Types.String, Type.BOOLEAN_TYPE));
+
+        static final MethodName ExecutionContext_getLocal = MethodName.findVirtual(Types.ExecutionContext,
+                "getLocal", Type.methodType(Types.Object, Type.INT_TYPE));
+
+        static final MethodName ExecutionContext_setLocal = MethodName.findVirtual(Types.ExecutionContext,
+                "setLocal", Type.methodType(Type.VOID_TYPE, Type.INT_TYPE, Types.Object));
     }
 
     private IdentifierResolution() {
     }
 
+    /**
+     * Returns {@code true} if the name is stored in a local slot.
+     * 
+     * @param name
+     *            the resolved name or {@code null}
+     * @return {@code true} if the name is stored in a local slot
+     */
+    static boolean isLocalSlot(Name name) {
+        return name != null && name.getSlot() >= 0;
+    }
+
+    /**
+     * stack: [] {@literal ->} [value]
+     * 
+     * @param name
+     *            the resolved name
+     * @param mv
+     *            the code visitor
+     * @return the value type
+     */
+    static ValType loadLocal(Name name, CodeVisitor mv) {
+        mv.loadExecutionContext();
+        mv.iconst(name.getSlot());
+        mv.invoke(Methods.ExecutionContext_getLocal);
+        return ValType.Any;
+    }
+
+    /**
+     * stack: [value] {@literal ->} []
+     * 
+     * @param name
+     *            the resolved name
+     * @param value
+     *            the value type
+     * @param mv
+     *            the code visitor
+     */
+    static void storeLocal(Name name, ValType value, CodeVisitor mv) {
+        mv.toBoxed(value);
+        mv.loadExecutionContext();
+        mv.swap();
+        mv.iconst(name.getSlot());
+        mv.swap();
+        mv.invoke(Methods.ExecutionContext_setLocal);
+    }
+
     static ValType resolve(IdentifierReference node, CodeVisitor mv) {
         return resolve(node, node.getName(), mv);
     }
@@ -263,6 +263,9 @@ abstract class ReferenceOp<NODE extends LeftHandSideExpression> {
      * @return the {@code ReferenceOp}
      */
     public static ReferenceOp<IdentifierReference> of(IdentifierReference lhs) {
+        if (IdentifierResolution.isLocalSlot(lhs.getResolvedName())) {
+            return ReferenceOp.LOCAL;
+        }
         return ReferenceOp.LOOKUP;
     }
 
@@ -701,6 +704,64 @@ abstract class ReferenceOp<NODE extends LeftHandSideExpression> {
         }
     };
 
+    /**
+     * 12.1 Identifiers
+     * <p>
+     * 12.1.6 Runtime Semantics: Evaluation
+     * <p>
+     * Parameters and variables stored in local slots. The reference value is not materialized on the stack.
+     */
+    static final ReferenceOp<IdentifierReference> LOCAL = new ReferenceOp<IdentifierReference>() {
+        @Override
+        protected ValType reference(IdentifierReference node, boolean update, CodeVisitor mv, CodeGenerator gen) {
+            // stack: [] -> []
+            return ValType.Empty;
+        }
+
+        @Override
+        ValType getValue(IdentifierReference node, ValType ref, CodeVisitor mv) {
+            // stack: [] -> [value]
+            return IdentifierResolution.loadLocal(node.getResolvedName(), mv);
+        }
+
+        @Override
+        void putValue(IdentifierReference node, ValType ref, ValType value, CodeVisitor mv) {
+            // stack: [value] -> []
+            IdentifierResolution.storeLocal(node.getResolvedName(), value, mv);
+        }
+
+        @Override
+        ValType delete(IdentifierReference node, CodeVisitor mv, CodeGenerator gen) {
+            // Parameter and variable bindings are not deletable.
+            mv.iconst(false);
+            return ValType.Boolean;
+        }
+
+        @Override
+        protected ValType referenceValue(IdentifierReference node, boolean withThis, CodeVisitor mv,
+                CodeGenerator gen) {
+            // stack: [] -> [value]
+            IdentifierResolution.loadLocal(node.getResolvedName(), mv);
+            if (withThis) {
+                // stack: [value] -> [value, thisValue]
+                mv.loadUndefined();
+            }
+            return ValType.Any;
+        }
+
+        @Override
+        Variable<?> saveValue(ValType ref, ValType value, CodeVisitor mv) {
+            // stack: [value] -> [value, value]
+            mv.dup(value);
+            return null;
+        }
+
+        @Override
+        void restoreValue(Variable<?> result, CodeVisitor mv) {
+            // stack: [] -> []
+        }
+    };
+
     /**
      * 12.3.2 Property Accessors
      * <p>
@@ -142,9 +142,68 @@ final class RuntimeInfoGenerator {
         if (hasMappedOrLegacyArguments(node)) {
             functionFlags |= FunctionFlags.MappedArguments.getValue();
         }
+        FunctionFlags comparator = numericComparator(node);
+        if (comparator != null) {
+            functionFlags |= comparator.getValue();
+        }
         return functionFlags;
     }
 
+    /**
+     * Returns the comparator flag if the function subtracts its two parameters and has no other effects.
+     * 
+     * @param node
+     *            the function node
+     * @return the comparator flag or {@code null}
+     */
+    private static FunctionFlags numericComparator(FunctionNode node) {
+        if (!(node instanceof ArrowFunction || node instanceof FunctionDeclaration
+                || node instanceof FunctionExpression) || node.isGenerator() || node.isAsync()) {
+            return null;
+        }
+        FormalParameterList parameters = node.getParameters();
+        if (parameters.getFormals().size() != 2 || !parameters.isSimpleParameterList()) {
+            return null;
+        }
+        Expression expression;
+        if (node instanceof ArrowFunction && ((ArrowFunction) node).getExpression() != null) {
+            expression = ((ArrowFunction) node).getExpression();
+        } else {
+            List<StatementListItem> statements = node.getStatements();
+            if (statements == null || statements.size() != 1 || !(statements.get(0) instanceof ReturnStatement)) {
+                return null;
+            }
+            expression = ((ReturnStatement) statements.get(0)).getExpression();
+        }
+        if (!(expression instanceof BinaryExpression)
+                || ((BinaryExpression) expression).getOperator() != BinaryExpression.Operator.SUB) {
+            return null;
+        }
+        Expression left = ((BinaryExpression) expression).getLeft();
+        Expression right = ((BinaryExpression) expression).getRight();
+        if (!(left instanceof IdentifierReference && right instanceof IdentifierReference)) {
+            return null;
+        }
+        String first = parameterName(parameters.getFormals().get(0));
+        String second = parameterName(parameters.getFormals().get(1));
+        String leftName = ((IdentifierReference) left).getName(), rightName = ((IdentifierReference) right).getName();
+        if (first.equals(second)) {
+            return null;
+        }
+        if (leftName.equals(first) && rightName.equals(second)) {
+            return FunctionFlags.AscendingComparator;
+        }
+        if (leftName.equals(second) && rightName.equals(first)) {
+            return FunctionFlags.DescendingComparator;
+        }
+        return null;
+    }
+
+    private static String parameterName(FormalParameter parameter) {
+        Binding binding = ((BindingElement) parameter.getElement()).getBinding();
+        return ((BindingIdentifier) binding).getName().getIdentifier();
+    }
+
     private boolean hasConciseBody(FunctionNode node) {
         if (node instanceof ArrowFunction) {
             return ((ArrowFunction) node).getExpression() != null;
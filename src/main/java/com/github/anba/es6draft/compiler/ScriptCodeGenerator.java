@@ -149,6 +149,7 @@ final class ScriptCodeGenerator {
             mv._return();
         }
         mv.mark(endFinally);
+        mv.tryFinally(startFinally, endFinally, handlerFinally);
 
         // Exception: Restore script context and then rethrow exception
         mv.finallyHandler(handlerFinally);
@@ -157,8 +158,6 @@ final class ScriptCodeGenerator {
         setScriptContext(realm, oldScriptContext, mv);
         mv.load(throwable);
         mv.athrow();
-
-        mv.tryFinally(startFinally, endFinally, handlerFinally);
     }
 
     /**
@@ -21,8 +21,7 @@ final class StackImpl extends Stack {
     @Override
     protected Type intersectionType(Type left, Type right) {
         // Hard coded type relationships to avoid dynamic class loading.
-        // TODO: Change to a less brittle approach.
-        Type commonType = Types.Object;
+        Type commonType = null;
         if (isCharSequence(left)) {
             if (isCharSequence(right)) {
                 commonType = Types.CharSequence;
@@ -67,6 +66,9 @@ final class StackImpl extends Stack {
                 commonType = Types.ScriptObject;
             }
         }
+        if (commonType == null) {
+            return super.intersectionType(left, right);
+        }
         return commonType;
     }
 
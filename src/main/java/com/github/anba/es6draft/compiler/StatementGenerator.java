@@ -1227,7 +1227,7 @@ final class StatementGenerator extends DefaultCodeGenerator<StatementGenerator.C
             ValType type = expression(node.getTest(), mv);
             ToBoolean(type, mv);
             mv.ifne(lblStmt);
-        } else {
+        } else if (!result.isAbrupt() || lblContinue.isTarget()) {
             mv.goTo(lblStmt);
         }
 
@@ -1726,6 +1726,8 @@ final class StatementGenerator extends DefaultCodeGenerator<StatementGenerator.C
         mv.mark(startCatchFinally);
         Completion tryResult = emitTryBlock(node, noException, mv);
         mv.mark(endCatch);
+        mv.tryCatch(startCatchFinally, endCatch, handlerCatch, Types.ScriptException);
+        mv.tryCatch(startCatchFinally, endCatch, handlerCatchStackOverflow, Types.Error);
 
         /* steps 2-3 */
         // Emit catch-block
@@ -1735,6 +1737,8 @@ final class StatementGenerator extends DefaultCodeGenerator<StatementGenerator.C
             mv.goTo(noException);
         }
         mv.mark(endFinally);
+        mv.tryCatch(startCatchFinally, endFinally, handlerFinally, Types.ScriptException);
+        mv.tryCatch(startCatchFinally, endFinally, handlerFinallyStackOverflow, Types.Error);
 
         // Restore temporary abrupt targets
         List<TempLabel> tempLabels = mv.exitFinallyScoped();
@@ -1745,10 +1749,6 @@ final class StatementGenerator extends DefaultCodeGenerator<StatementGenerator.C
                 handlerFinallyStackOverflow, noException, tempLabels, mv);
 
         mv.exitVariableScope();
-        mv.tryCatch(startCatchFinally, endCatch, handlerCatch, Types.ScriptException);
-        mv.tryCatch(startCatchFinally, endCatch, handlerCatchStackOverflow, Types.Error);
-        mv.tryCatch(startCatchFinally, endFinally, handlerFinally, Types.ScriptException);
-        mv.tryCatch(startCatchFinally, endFinally, handlerFinallyStackOverflow, Types.Error);
 
         /* steps 5-8 */
         return finallyResult.then(tryResult.select(catchResult));
@@ -1779,6 +1779,8 @@ final class StatementGenerator extends DefaultCodeGenerator<StatementGenerator.C
         mv.mark(startCatch);
         Completion tryResult = emitTryBlock(node, exceptionHandled, mv);
         mv.mark(endCatch);
+        mv.tryCatch(startCatch, endCatch, handlerCatch, Types.ScriptException);
+        mv.tryCatch(startCatch, endCatch, handlerCatchStackOverflow, Types.Error);
 
         /* step 2 */
         // Emit catch-block
@@ -1791,8 +1793,6 @@ final class StatementGenerator extends DefaultCodeGenerator<StatementGenerator.C
         }
 
         mv.exitVariableScope();
-        mv.tryCatch(startCatch, endCatch, handlerCatch, Types.ScriptException);
-        mv.tryCatch(startCatch, endCatch, handlerCatchStackOverflow, Types.Error);
 
         /* steps 4-6 */
         return tryResult.select(catchResult);
@@ -1824,6 +1824,8 @@ final class StatementGenerator extends DefaultCodeGenerator<StatementGenerator.C
         mv.mark(startFinally);
         Completion tryResult = emitTryBlock(node, noException, mv);
         mv.mark(endFinally);
+        mv.tryCatch(startFinally, endFinally, handlerFinally, Types.ScriptException);
+        mv.tryCatch(startFinally, endFinally, handlerFinallyStackOverflow, Types.Error);
 
         // Restore temporary abrupt targets
         List<TempLabel> tempLabels = mv.exitFinallyScoped();
@@ -1834,8 +1836,6 @@ final class StatementGenerator extends DefaultCodeGenerator<StatementGenerator.C
                 handlerFinally, handlerFinallyStackOverflow, noException, tempLabels, mv);
 
         mv.exitVariableScope();
-        mv.tryCatch(startFinally, endFinally, handlerFinally, Types.ScriptException);
-        mv.tryCatch(startFinally, endFinally, handlerFinallyStackOverflow, Types.Error);
 
         /* steps 3-6 */
         return finallyResult.then(tryResult);
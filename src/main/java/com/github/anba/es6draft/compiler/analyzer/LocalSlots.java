@@ -0,0 +1,793 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.compiler.analyzer;
+
+import static com.github.anba.es6draft.semantics.StaticSemantics.BoundNames;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.github.anba.es6draft.ast.*;
+import com.github.anba.es6draft.ast.scope.FunctionScope;
+import com.github.anba.es6draft.ast.scope.Name;
+import com.github.anba.es6draft.ast.synthetic.ExpressionMethod;
+import com.github.anba.es6draft.ast.synthetic.MethodDefinitionsMethod;
+import com.github.anba.es6draft.ast.synthetic.PropertyDefinitionsMethod;
+import com.github.anba.es6draft.ast.synthetic.SpreadArrayLiteral;
+import com.github.anba.es6draft.ast.synthetic.SpreadElementMethod;
+import com.github.anba.es6draft.ast.synthetic.StatementListMethod;
+
+/**
+ * Assigns local slots to the parameters and variables of functions which don't require a function environment.
+ * <p>
+ * A function qualifies if its bindings can't be observed by name from other code: it must not contain nested
+ * functions or classes, direct eval, {@code with} statements, {@code super} or {@code new.target} references, it
+ * must not use the arguments object and its parameter list must be simple. Function-level lexical declarations and
+ * block-scoped declarations which shadow a parameter or variable are not supported either.
+ */
+public final class LocalSlots implements VoidNodeVisitor<LocalSlots.Bindings> {
+    static final class Bindings {
+        final ArrayList<IdentifierReference> references = new ArrayList<>();
+        final ArrayList<BindingIdentifier> bindings = new ArrayList<>();
+        final HashSet<String> blockScoped = new HashSet<>();
+        boolean unsupported;
+    }
+
+    private LocalSlots() {
+    }
+
+    /**
+     * Assigns local slots to the parameters and variables of {@code function}. Parameters are stored in the slots
+     * {@code [0, parameterCount)}, variables in the remaining slots.
+     * 
+     * @param function
+     *            the function node
+     * @return the number of local slots or {@code -1} if the function requires a function environment
+     */
+    public static int analyze(FunctionNode function) {
+        if (!isSupported(function)) {
+            return -1;
+        }
+        FunctionScope scope = function.getScope();
+        LinkedHashMap<String, Name> locals = new LinkedHashMap<>();
+        for (Name name : BoundNames(function.getParameters())) {
+            if (locals.containsKey(name.getIdentifier())) {
+                // Duplicate parameter names.
+                return -1;
+            }
+            locals.put(name.getIdentifier(), null);
+        }
+        for (Name name : scope.varDeclaredNames()) {
+            locals.putIfAbsent(name.getIdentifier(), null);
+        }
+        if (locals.containsKey("arguments")) {
+            return -1;
+        }
+
+        Bindings bindings = new Bindings();
+        LocalSlots visitor = new LocalSlots();
+        if (function instanceof ArrowFunction && ((ArrowFunction) function).getExpression() != null) {
+            ((ArrowFunction) function).getExpression().accept(visitor, bindings);
+        } else {
+            function.getStatements().forEach(v -> v.accept(visitor, bindings));
+        }
+        if (bindings.unsupported) {
+            return -1;
+        }
+        for (String name : bindings.blockScoped) {
+            if (locals.containsKey(name)) {
+                return -1;
+            }
+        }
+
+        int slot = 0;
+        for (Map.Entry<String, Name> entry : locals.entrySet()) {
+            Name name = new Name(entry.getKey());
+            name.resolve(scope, false);
+            name.setSlot(slot++);
+            entry.setValue(name);
+        }
+        for (IdentifierReference node : bindings.references) {
+            Name name = locals.get(node.getName());
+            if (name != null) {
+                node.setResolvedName(name);
+            }
+        }
+        for (BindingIdentifier node : bindings.bindings) {
+            Name name = locals.get(node.getName().getIdentifier());
+            if (name != null) {
+                node.setResolvedName(name);
+            }
+        }
+        return locals.size();
+    }
+
+    private static boolean isSupported(FunctionNode function) {
+        if (function.isGenerator() || function.isAsync() || function instanceof GeneratorComprehension) {
+            return false;
+        }
+        if (function instanceof MethodDefinition) {
+            MethodDefinition method = (MethodDefinition) function;
+            if (method.isClassConstructor() || method.isCallConstructor()) {
+                return false;
+            }
+        }
+        FunctionScope scope = function.getScope();
+        if (scope.hasEval() || scope.hasSuperReference() || scope.needsArguments()) {
+            return false;
+        }
+        if (scope.variableScope() != scope || !scope.lexicallyScopedDeclarations().isEmpty()
+                || !scope.blockFunctionNames().isEmpty()) {
+            return false;
+        }
+        return function.getParameters().isSimpleParameterList();
+    }
+
+    private <NODE extends Node> void acceptIfPresent(NODE node, Bindings value) {
+        if (node != null) {
+            node.accept(this, value);
+        }
+    }
+
+    @Override
+    public void visit(ArrayAssignmentPattern node, Bindings value) {
+        node.getElements().forEach(v -> v.accept(this, value));
+    }
+
+    @Override
+    public void visit(ArrayBindingPattern node, Bindings value) {
+        node.getElements().forEach(v -> v.accept(this, value));
+    }
+
+    @Override
+    public void visit(ArrayComprehension node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(ArrayLiteral node, Bindings value) {
+        node.getElements().forEach(v -> v.accept(this, value));
+    }
+
+    @Override
+    public void visit(ArrowFunction node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(AssignmentElement node, Bindings value) {
+        node.getTarget().accept(this, value);
+        acceptIfPresent(node.getInitializer(), value);
+    }
+
+    @Override
+    public void visit(AssignmentExpression node, Bindings value) {
+        node.getLeft().accept(this, value);
+        node.getRight().accept(this, value);
+    }
+
+    @Override
+    public void visit(AssignmentProperty node, Bindings value) {
+        acceptIfPresent(node.getPropertyName(), value);
+        node.getTarget().accept(this, value);
+        acceptIfPresent(node.getInitializer(), value);
+    }
+
+    @Override
+    public void visit(AssignmentRestElement node, Bindings value) {
+        node.getTarget().accept(this, value);
+    }
+
+    @Override
+    public void visit(AssignmentRestProperty node, Bindings value) {
+        node.getTarget().accept(this, value);
+    }
+
+    @Override
+    public void visit(AsyncArrowFunction node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(AsyncFunctionDeclaration node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(AsyncFunctionExpression node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(AsyncGeneratorDeclaration node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(AsyncGeneratorExpression node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(AwaitExpression node, Bindings value) {
+        node.getExpression().accept(this, value);
+    }
+
+    @Override
+    public void visit(BinaryExpression node, Bindings value) {
+        node.getLeft().accept(this, value);
+        node.getRight().accept(this, value);
+    }
+
+    @Override
+    public void visit(BindingElement node, Bindings value) {
+        node.getBinding().accept(this, value);
+        acceptIfPresent(node.getInitializer(), value);
+    }
+
+    @Override
+    public void visit(BindingElision node, Bindings value) {
+    }
+
+    @Override
+    public void visit(BindingIdentifier node, Bindings value) {
+        value.bindings.add(node);
+    }
+
+    @Override
+    public void visit(BindingProperty node, Bindings value) {
+        acceptIfPresent(node.getPropertyName(), value);
+        node.getBinding().accept(this, value);
+        acceptIfPresent(node.getInitializer(), value);
+    }
+
+    @Override
+    public void visit(BindingRestElement node, Bindings value) {
+        node.getBinding().accept(this, value);
+    }
+
+    @Override
+    public void visit(BindingRestProperty node, Bindings value) {
+        node.getBindingIdentifier().accept(this, value);
+    }
+
+    @Override
+    public void visit(BlockStatement node, Bindings value) {
+        node.getStatements().forEach(v -> v.accept(this, value));
+    }
+
+    @Override
+    public void visit(BooleanLiteral node, Bindings value) {
+    }
+
+    @Override
+    public void visit(BreakStatement node, Bindings value) {
+    }
+
+    @Override
+    public void visit(CallExpression node, Bindings value) {
+        node.getBase().accept(this, value);
+        node.getArguments().forEach(v -> v.accept(this, value));
+    }
+
+    @Override
+    public void visit(CallSpreadElement node, Bindings value) {
+        node.getExpression().accept(this, value);
+    }
+
+    @Override
+    public void visit(CatchNode node, Bindings value) {
+        for (Name name : BoundNames(node.getCatchParameter())) {
+            value.blockScoped.add(name.getIdentifier());
+        }
+        node.getCatchParameter().accept(this, value);
+        node.getCatchBlock().accept(this, value);
+    }
+
+    @Override
+    public void visit(ClassDeclaration node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(ClassExpression node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(CommaExpression node, Bindings value) {
+        node.getOperands().forEach(v -> v.accept(this, value));
+    }
+
+    @Override
+    public void visit(Comprehension node, Bindings value) {
+        node.getList().forEach(v -> v.accept(this, value));
+        node.getExpression().accept(this, value);
+    }
+
+    @Override
+    public void visit(ComprehensionFor node, Bindings value) {
+        node.getBinding().accept(this, value);
+        node.getExpression().accept(this, value);
+    }
+
+    @Override
+    public void visit(ComprehensionIf node, Bindings value) {
+        node.getTest().accept(this, value);
+    }
+
+    @Override
+    public void visit(ComputedPropertyName node, Bindings value) {
+        node.getExpression().accept(this, value);
+    }
+
+    @Override
+    public void visit(ConditionalExpression node, Bindings value) {
+        node.getTest().accept(this, value);
+        node.getThen().accept(this, value);
+        node.getOtherwise().accept(this, value);
+    }
+
+    @Override
+    public void visit(ContinueStatement node, Bindings value) {
+    }
+
+    @Override
+    public void visit(DebuggerStatement node, Bindings value) {
+    }
+
+    @Override
+    public void visit(DoExpression node, Bindings value) {
+        node.getStatement().accept(this, value);
+    }
+
+    @Override
+    public void visit(DoWhileStatement node, Bindings value) {
+        node.getTest().accept(this, value);
+        node.getStatement().accept(this, value);
+    }
+
+    @Override
+    public void visit(ElementAccessor node, Bindings value) {
+        node.getBase().accept(this, value);
+        node.getElement().accept(this, value);
+    }
+
+    @Override
+    public void visit(Elision node, Bindings value) {
+    }
+
+    @Override
+    public void visit(EmptyExpression node, Bindings value) {
+    }
+
+    @Override
+    public void visit(EmptyStatement node, Bindings value) {
+    }
+
+    @Override
+    public void visit(ExportClause node, Bindings value) {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public void visit(ExportDeclaration node, Bindings value) {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public void visit(ExportDefaultExpression node, Bindings value) {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public void visit(ExportSpecifier node, Bindings value) {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public void visit(ExpressionMethod node, Bindings value) {
+        node.getExpression().accept(this, value);
+    }
+
+    @Override
+    public void visit(ExpressionStatement node, Bindings value) {
+        node.getExpression().accept(this, value);
+    }
+
+    @Override
+    public void visit(ForAwaitStatement node, Bindings value) {
+        node.getHead().accept(this, value);
+        node.getExpression().accept(this, value);
+        node.getStatement().accept(this, value);
+    }
+
+    @Override
+    public void visit(ForEachStatement node, Bindings value) {
+        node.getHead().accept(this, value);
+        node.getExpression().accept(this, value);
+        node.getStatement().accept(this, value);
+    }
+
+    @Override
+    public void visit(ForInStatement node, Bindings value) {
+        node.getHead().accept(this, value);
+        node.getExpression().accept(this, value);
+        node.getStatement().accept(this, value);
+    }
+
+    @Override
+    public void visit(FormalParameter node, Bindings value) {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public void visit(FormalParameterList node, Bindings value) {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public void visit(ForOfStatement node, Bindings value) {
+        node.getHead().accept(this, value);
+        node.getExpression().accept(this, value);
+        node.getStatement().accept(this, value);
+    }
+
+    @Override
+    public void visit(ForStatement node, Bindings value) {
+        acceptIfPresent(node.getHead(), value);
+        acceptIfPresent(node.getTest(), value);
+        acceptIfPresent(node.getStep(), value);
+        node.getStatement().accept(this, value);
+    }
+
+    @Override
+    public void visit(FunctionDeclaration node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(FunctionExpression node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(FunctionSent node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(GeneratorComprehension node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(GeneratorDeclaration node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(GeneratorExpression node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(GuardedCatchNode node, Bindings value) {
+        for (Name name : BoundNames(node.getCatchParameter())) {
+            value.blockScoped.add(name.getIdentifier());
+        }
+        node.getCatchParameter().accept(this, value);
+        node.getGuard().accept(this, value);
+        node.getCatchBlock().accept(this, value);
+    }
+
+    @Override
+    public void visit(IdentifierName node, Bindings value) {
+    }
+
+    @Override
+    public void visit(IdentifierReference node, Bindings value) {
+        value.references.add(node);
+    }
+
+    @Override
+    public void visit(IfStatement node, Bindings value) {
+        node.getTest().accept(this, value);
+        node.getThen().accept(this, value);
+        acceptIfPresent(node.getOtherwise(), value);
+    }
+
+    @Override
+    public void visit(ImportClause node, Bindings value) {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public void visit(ImportDeclaration node, Bindings value) {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public void visit(ImportSpecifier node, Bindings value) {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public void visit(LabelledFunctionStatement node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(LabelledStatement node, Bindings value) {
+        node.getStatement().accept(this, value);
+    }
+
+    @Override
+    public void visit(LegacyComprehension node, Bindings value) {
+        node.getList().forEach(v -> v.accept(this, value));
+        node.getExpression().accept(this, value);
+    }
+
+    @Override
+    public void visit(LegacyComprehensionFor node, Bindings value) {
+        node.getBinding().accept(this, value);
+        node.getExpression().accept(this, value);
+    }
+
+    @Override
+    public void visit(LegacyGeneratorDeclaration node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(LegacyGeneratorExpression node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(LetExpression node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(LetStatement node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(LexicalBinding node, Bindings value) {
+        node.getBinding().accept(this, value);
+        acceptIfPresent(node.getInitializer(), value);
+    }
+
+    @Override
+    public void visit(LexicalDeclaration node, Bindings value) {
+        for (Name name : BoundNames(node)) {
+            value.blockScoped.add(name.getIdentifier());
+        }
+        node.getElements().forEach(v -> v.accept(this, value));
+    }
+
+    @Override
+    public void visit(MethodDefinition node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(MethodDefinitionsMethod node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(Module node, Bindings value) {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public void visit(NativeCallExpression node, Bindings value) {
+        node.getBase().accept(this, value);
+        node.getArguments().forEach(v -> v.accept(this, value));
+    }
+
+    @Override
+    public void visit(NewExpression node, Bindings value) {
+        node.getExpression().accept(this, value);
+        node.getArguments().forEach(v -> v.accept(this, value));
+    }
+
+    @Override
+    public void visit(NewTarget node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(NullLiteral node, Bindings value) {
+    }
+
+    @Override
+    public void visit(NumericLiteral node, Bindings value) {
+    }
+
+    @Override
+    public void visit(ObjectAssignmentPattern node, Bindings value) {
+        node.getProperties().forEach(v -> v.accept(this, value));
+        acceptIfPresent(node.getRest(), value);
+    }
+
+    @Override
+    public void visit(ObjectBindingPattern node, Bindings value) {
+        node.getProperties().forEach(v -> v.accept(this, value));
+        acceptIfPresent(node.getRest(), value);
+    }
+
+    @Override
+    public void visit(ObjectLiteral node, Bindings value) {
+        node.getProperties().forEach(v -> v.accept(this, value));
+    }
+
+    @Override
+    public void visit(PropertyAccessor node, Bindings value) {
+        node.getBase().accept(this, value);
+    }
+
+    @Override
+    public void visit(PropertyDefinitionsMethod node, Bindings value) {
+        node.getProperties().forEach(v -> v.accept(this, value));
+    }
+
+    @Override
+    public void visit(PropertyNameDefinition node, Bindings value) {
+        node.getPropertyName().accept(this, value);
+    }
+
+    @Override
+    public void visit(PropertyValueDefinition node, Bindings value) {
+        node.getPropertyName().accept(this, value);
+        node.getPropertyValue().accept(this, value);
+    }
+
+    @Override
+    public void visit(RegularExpressionLiteral node, Bindings value) {
+    }
+
+    @Override
+    public void visit(ReturnStatement node, Bindings value) {
+        acceptIfPresent(node.getExpression(), value);
+    }
+
+    @Override
+    public void visit(Script node, Bindings value) {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public void visit(SpreadArrayLiteral node, Bindings value) {
+        node.getElements().forEach(v -> v.accept(this, value));
+    }
+
+    @Override
+    public void visit(SpreadElement node, Bindings value) {
+        node.getExpression().accept(this, value);
+    }
+
+    @Override
+    public void visit(SpreadElementMethod node, Bindings value) {
+        node.getExpression().accept(this, value);
+    }
+
+    @Override
+    public void visit(SpreadProperty node, Bindings value) {
+        node.getExpression().accept(this, value);
+    }
+
+    @Override
+    public void visit(StatementListMethod node, Bindings value) {
+        node.getStatements().forEach(v -> v.accept(this, value));
+    }
+
+    @Override
+    public void visit(StringLiteral node, Bindings value) {
+    }
+
+    @Override
+    public void visit(SuperCallExpression node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(SuperElementAccessor node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(SuperNewExpression node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(SuperPropertyAccessor node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(SwitchClause node, Bindings value) {
+        acceptIfPresent(node.getExpression(), value);
+        node.getStatements().forEach(v -> v.accept(this, value));
+    }
+
+    @Override
+    public void visit(SwitchStatement node, Bindings value) {
+        node.getExpression().accept(this, value);
+        node.getClauses().forEach(v -> v.accept(this, value));
+    }
+
+    @Override
+    public void visit(TemplateCallExpression node, Bindings value) {
+        node.getBase().accept(this, value);
+        node.getTemplate().accept(this, value);
+    }
+
+    @Override
+    public void visit(TemplateCharacters node, Bindings value) {
+    }
+
+    @Override
+    public void visit(TemplateLiteral node, Bindings value) {
+        node.getElements().forEach(v -> v.accept(this, value));
+    }
+
+    @Override
+    public void visit(ThisExpression node, Bindings value) {
+    }
+
+    @Override
+    public void visit(ThrowStatement node, Bindings value) {
+        node.getExpression().accept(this, value);
+    }
+
+    @Override
+    public void visit(TryStatement node, Bindings value) {
+        node.getTryBlock().accept(this, value);
+        acceptIfPresent(node.getCatchNode(), value);
+        node.getGuardedCatchNodes().forEach(v -> v.accept(this, value));
+        acceptIfPresent(node.getFinallyBlock(), value);
+    }
+
+    @Override
+    public void visit(UnaryExpression node, Bindings value) {
+        node.getOperand().accept(this, value);
+    }
+
+    @Override
+    public void visit(VariableDeclaration node, Bindings value) {
+        node.getBinding().accept(this, value);
+        acceptIfPresent(node.getInitializer(), value);
+    }
+
+    @Override
+    public void visit(VariableStatement node, Bindings value) {
+        node.getElements().forEach(v -> v.accept(this, value));
+    }
+
+    @Override
+    public void visit(WhileStatement node, Bindings value) {
+        node.getTest().accept(this, value);
+        node.getStatement().accept(this, value);
+    }
+
+    @Override
+    public void visit(WithStatement node, Bindings value) {
+        value.unsupported = true;
+    }
+
+    @Override
+    public void visit(YieldExpression node, Bindings value) {
+        acceptIfPresent(node.getExpression(), value);
+    }
+}
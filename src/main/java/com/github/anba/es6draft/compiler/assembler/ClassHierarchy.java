@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.compiler.assembler;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class hierarchy queries for stack map frame types.
+ * <p>
+ * Follows the rules of the bytecode verifier: interface types are treated like {@code java.lang.Object}, so every
+ * reference type is assignable to an interface type and the common super type of two classes is always a class type.
+ */
+final class ClassHierarchy {
+    private ClassHierarchy() {
+    }
+
+    private static final ClassLoader LOADER = ClassHierarchy.class.getClassLoader();
+    private static final ConcurrentHashMap<String, Optional<Class<?>>> classes = new ConcurrentHashMap<>();
+
+    private static Class<?> toClass(Type type) {
+        return classes.computeIfAbsent(type.descriptor(), descriptor -> {
+            try {
+                return Optional.of(Class.forName(Type.className(type.internalName()), false, LOADER));
+            } catch (ClassNotFoundException | LinkageError e) {
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+
+    private static boolean isIntegerType(int sort) {
+        return Type.Sort.BOOLEAN <= sort && sort <= Type.Sort.INT;
+    }
+
+    /**
+     * Returns {@code true} if a value of type {@code source} can be used where a value of type {@code target} is
+     * expected.
+     *
+     * @param target
+     *            the target type
+     * @param source
+     *            the source type
+     * @return {@code true} if {@code source} is assignable to {@code target}
+     */
+    static boolean isAssignable(Type target, Type source) {
+        if (target == source) {
+            return true;
+        }
+        int targetSort = target.getSort(), sourceSort = source.getSort();
+        if (targetSort < Type.Sort.ARRAY || sourceSort < Type.Sort.ARRAY) {
+            return targetSort == sourceSort || (isIntegerType(targetSort) && isIntegerType(sourceSort));
+        }
+        if (source == Type.NULL) {
+            return true;
+        }
+        if (target == Type.NULL) {
+            return false;
+        }
+        if (target.equals(source) || target.equals(Types.Object)) {
+            return true;
+        }
+        Class<?> targetClass = toClass(target), sourceClass = toClass(source);
+        if (targetClass == null || sourceClass == null) {
+            return false;
+        }
+        return targetClass.isInterface() || targetClass.isAssignableFrom(sourceClass);
+    }
+
+    /**
+     * Returns the common super type of two reference types or {@code null} if the class hierarchy is not available.
+     *
+     * @param left
+     *            the first type
+     * @param right
+     *            the second type
+     * @return the common super type or {@code null}
+     */
+    static Type commonSuperType(Type left, Type right) {
+        if (left.getSort() == Type.Sort.ARRAY && right.getSort() == Type.Sort.ARRAY) {
+            Type leftComponent = Type.of(left.descriptor().substring(1));
+            Type rightComponent = Type.of(right.descriptor().substring(1));
+            if (leftComponent.getSort() < Type.Sort.ARRAY || rightComponent.getSort() < Type.Sort.ARRAY) {
+                return Types.Object;
+            }
+            Type component = commonSuperType(leftComponent, rightComponent);
+            return component != null ? component.asArray() : null;
+        }
+        if (left.getSort() == Type.Sort.ARRAY || right.getSort() == Type.Sort.ARRAY) {
+            return Types.Object;
+        }
+        Class<?> leftClass = toClass(left), rightClass = toClass(right);
+        if (leftClass == null || rightClass == null) {
+            return null;
+        }
+        if (leftClass.isInterface() || rightClass.isInterface()) {
+            return Types.Object;
+        }
+        Class<?> c = leftClass;
+        while (!c.isAssignableFrom(rightClass)) {
+            c = c.getSuperclass();
+        }
+        return c == leftClass ? left : Type.of(c);
+    }
+}
@@ -88,7 +88,8 @@ public final class Code {
         if ((access & ~Modifier.classModifiers()) != 0) {
             throw new IllegalArgumentException();
         }
-        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        // Stack map frames and max stack/locals are provided by the instruction assembler.
+        ClassWriter cw = new ClassWriter(0);
         cw.visit(JAVA_VERSION, access | Opcodes.ACC_SUPER, className, signature.toString(),
                 superClass.internalName(), toInternalNames(interfaces));
         cw.visitSource(sourceInfo.getFileName(), sourceInfo.getSourceMap());
@@ -260,6 +261,7 @@ public final class Code {
         public final String className;
         public final Type classType;
         public final ClassWriter classWriter;
+        private boolean computeFrames = false;
 
         ClassCode(ConstantPool constantPool, String className, ClassWriter classWriter) {
             this.constantPool = constantPool;
@@ -272,10 +274,34 @@ public final class Code {
             return methodCount;
         }
 
+        /**
+         * Requests to recompute the stack map frames for this class.
+         */
+        void computeFrames() {
+            computeFrames = true;
+        }
+
+        /**
+         * Returns {@code true} if the stack map frames of this class are recomputed by ASM, because at least one
+         * method was assembled without exact stack map frames.
+         * 
+         * @return {@code true} if the stack map frames are recomputed
+         */
+        public boolean hasComputedFrames() {
+            return computeFrames;
+        }
+
         public byte[] toByteArray() {
             constantPool.close();
             classWriter.visitEnd();
-            return classWriter.toByteArray();
+            byte[] bytes = classWriter.toByteArray();
+            if (computeFrames) {
+                // Fallback for methods without exact stack map frames.
+                ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+                new ClassReader(bytes).accept(cw, ClassReader.SKIP_FRAMES);
+                bytes = cw.toByteArray();
+            }
+            return bytes;
         }
 
         public MethodCode newConstructor(int access, MethodTypeDescriptor methodDescriptor,
@@ -44,17 +44,6 @@ final class ExternConstantPool extends ConstantPool {
         static final TypeSpec<String> STRING = new TypeSpec<>("getString", Types.String, "");
     }
 
-    private static final class ConstantClassAssembler extends InstructionAssembler {
-        public ConstantClassAssembler(MethodCode method) {
-            super(method);
-        }
-
-        @Override
-        protected Stack createStack(Variables variables) {
-            return new EmptyStack(variables);
-        }
-    }
-
     private final ClassCode classCode;
     private boolean closed = false;
 
@@ -137,10 +126,10 @@ final class ExternConstantPool extends ConstantPool {
         asm.end();
     }
 
-    private <T> ConstantClassAssembler newMethod(String methodName, TypeSpec<T> spec) {
+    private <T> InstructionAssembler newMethod(String methodName, TypeSpec<T> spec) {
         MethodCode method = classCode.newMethod(Modifier.PUBLIC | Modifier.STATIC, methodName,
                 spec.methodDescriptor, null, null);
-        return new ConstantClassAssembler(method);
+        return new InstructionAssembler(method);
     }
 
     private void load(InstructionAssembler assembler, int index, TypeSpec<?> spec) {
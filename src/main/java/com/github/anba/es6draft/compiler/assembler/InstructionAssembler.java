@@ -126,7 +126,241 @@ public class InstructionAssembler {
         }
     }
 
+    /**
+     * Method visitor to emit stack map frames and to compute the maximum number of local variables.
+     */
+    private static final class FrameMethodVisitor extends MethodVisitor {
+        private Type[] frameStack;
+        private Type[] frameLocals;
+        private boolean handlerFrame;
+        private boolean reachable = true;
+        private boolean exact = true;
+        private int maxLocals;
+
+        FrameMethodVisitor(MethodVisitor mv, int argumentsSize) {
+            super(Opcodes.ASM5, mv);
+            this.maxLocals = argumentsSize;
+        }
+
+        /**
+         * Returns {@code true} if a stack map frame was emitted for every reachable jump target.
+         * 
+         * @return {@code true} if the stack map frames are exact
+         */
+        boolean isExact() {
+            return exact;
+        }
+
+        /**
+         * Returns the maximum number of local variable slots.
+         * 
+         * @return the maximum number of local variable slots
+         */
+        int getMaxLocals() {
+            return maxLocals;
+        }
+
+        /**
+         * Requests a stack map frame for the next instruction.
+         * 
+         * @param stack
+         *            the operand stack types
+         * @param locals
+         *            the local variable types
+         * @param handler
+         *            {@code true} if the frame is for an exception handler
+         */
+        void frame(Type[] stack, Type[] locals, boolean handler) {
+            if (frameStack != null && (handler || handlerFrame)) {
+                // Exception handler and jump target at the same offset.
+                exact = false;
+            }
+            frameStack = stack;
+            frameLocals = locals;
+            handlerFrame = handler;
+        }
+
+        private void beforeInsn() {
+            if (frameStack != null) {
+                Object[] stack = new Object[frameStack.length];
+                for (int i = 0; i < frameStack.length; ++i) {
+                    stack[i] = frameType(frameStack[i]);
+                }
+                // Two-slot types occupy a single entry in stack map frames.
+                Object[] locals = new Object[frameLocals.length];
+                int numLocals = 0;
+                for (int i = 0; i < frameLocals.length; ++i) {
+                    locals[numLocals++] = frameType(frameLocals[i]);
+                    if (frameLocals[i] != null && frameLocals[i].getSize() == 2) {
+                        i += 1;
+                    }
+                }
+                super.visitFrame(Opcodes.F_NEW, numLocals, locals, stack.length, stack);
+                frameStack = frameLocals = null;
+                reachable = true;
+            } else if (!reachable) {
+                // Unreachable code requires a stack map frame, too.
+                exact = false;
+            }
+        }
+
+        private static Object frameType(Type type) {
+            if (type == null) {
+                return Opcodes.TOP;
+            }
+            if (type == Type.NULL) {
+                return Opcodes.NULL;
+            }
+            switch (type.getSort()) {
+            case Type.Sort.BOOLEAN:
+            case Type.Sort.CHAR:
+            case Type.Sort.BYTE:
+            case Type.Sort.SHORT:
+            case Type.Sort.INT:
+                return Opcodes.INTEGER;
+            case Type.Sort.FLOAT:
+                return Opcodes.FLOAT;
+            case Type.Sort.LONG:
+                return Opcodes.LONG;
+            case Type.Sort.DOUBLE:
+                return Opcodes.DOUBLE;
+            case Type.Sort.ARRAY:
+            case Type.Sort.OBJECT:
+                return type.internalName();
+            case Type.Sort.VOID:
+            case Type.Sort.METHOD:
+            default:
+                throw new AssertionError();
+            }
+        }
+
+        private void afterInsn(int opcode) {
+            switch (opcode) {
+            case Opcodes.GOTO:
+            case Opcodes.ATHROW:
+            case Opcodes.IRETURN:
+            case Opcodes.LRETURN:
+            case Opcodes.FRETURN:
+            case Opcodes.DRETURN:
+            case Opcodes.ARETURN:
+            case Opcodes.RETURN:
+            case Opcodes.TABLESWITCH:
+            case Opcodes.LOOKUPSWITCH:
+                reachable = false;
+                break;
+            default:
+            }
+        }
+
+        @Override
+        public void visitFrame(int type, int nLocal, Object[] local, int nStack, Object[] stack) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+            beforeInsn();
+            super.visitInsn(opcode);
+            afterInsn(opcode);
+        }
+
+        @Override
+        public void visitIntInsn(int opcode, int operand) {
+            beforeInsn();
+            super.visitIntInsn(opcode, operand);
+        }
+
+        @Override
+        public void visitVarInsn(int opcode, int var) {
+            beforeInsn();
+            super.visitVarInsn(opcode, var);
+            switch (opcode) {
+            case Opcodes.LLOAD:
+            case Opcodes.DLOAD:
+            case Opcodes.LSTORE:
+            case Opcodes.DSTORE:
+                maxLocals = Math.max(maxLocals, var + 2);
+                break;
+            default:
+                maxLocals = Math.max(maxLocals, var + 1);
+            }
+        }
+
+        @Override
+        public void visitTypeInsn(int opcode, String type) {
+            beforeInsn();
+            super.visitTypeInsn(opcode, type);
+        }
+
+        @Override
+        public void visitFieldInsn(int opcode, String owner, String name, String desc) {
+            beforeInsn();
+            super.visitFieldInsn(opcode, owner, name, desc);
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String desc, boolean itf) {
+            beforeInsn();
+            super.visitMethodInsn(opcode, owner, name, desc, itf);
+        }
+
+        @Override
+        public void visitInvokeDynamicInsn(String name, String desc, org.objectweb.asm.Handle bsm,
+                Object... bsmArgs) {
+            beforeInsn();
+            super.visitInvokeDynamicInsn(name, desc, bsm, bsmArgs);
+        }
+
+        @Override
+        public void visitJumpInsn(int opcode, Label label) {
+            beforeInsn();
+            super.visitJumpInsn(opcode, label);
+            afterInsn(opcode);
+        }
+
+        @Override
+        public void visitLdcInsn(Object cst) {
+            beforeInsn();
+            super.visitLdcInsn(cst);
+        }
+
+        @Override
+        public void visitIincInsn(int var, int increment) {
+            beforeInsn();
+            super.visitIincInsn(var, increment);
+            maxLocals = Math.max(maxLocals, var + 1);
+        }
+
+        @Override
+        public void visitLocalVariable(String name, String desc, String signature, Label start, Label end,
+                int index) {
+            super.visitLocalVariable(name, desc, signature, start, end, index);
+            maxLocals = Math.max(maxLocals, index + Type.of(desc).getSize());
+        }
+
+        @Override
+        public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+            beforeInsn();
+            super.visitTableSwitchInsn(min, max, dflt, labels);
+            afterInsn(Opcodes.TABLESWITCH);
+        }
+
+        @Override
+        public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+            beforeInsn();
+            super.visitLookupSwitchInsn(dflt, keys, labels);
+            afterInsn(Opcodes.LOOKUPSWITCH);
+        }
+
+        @Override
+        public void visitMultiANewArrayInsn(String desc, int dims) {
+            beforeInsn();
+            super.visitMultiANewArrayInsn(desc, dims);
+        }
+    }
+
     private final MethodCode method;
+    private final FrameMethodVisitor frames;
     private final MethodVisitor methodVisitor;
     private final ConstantPool constantPool;
     private final Stack stack;
@@ -150,7 +384,8 @@ public class InstructionAssembler {
      */
     public InstructionAssembler(MethodCode method) {
         this.method = method;
-        this.methodVisitor = decorate(method.methodVisitor);
+        this.frames = new FrameMethodVisitor(method.methodVisitor, argumentsSize(method));
+        this.methodVisitor = decorate(frames);
         this.constantPool = method.classCode.constantPool;
         this.stack = createStack(variables);
     }
@@ -229,7 +464,10 @@ public class InstructionAssembler {
     public void end() {
         exitVariableScope();
         variables.close();
-        methodVisitor.visitMaxs(0, 0);
+        if (!hasStack() || !stack.hasExactFrames() || !frames.isExact()) {
+            method.classCode.computeFrames();
+        }
+        methodVisitor.visitMaxs(stack.getMaxStackSize(), frames.getMaxLocals());
         methodVisitor.visitEnd();
     }
 
@@ -251,14 +489,27 @@ public class InstructionAssembler {
         return (method.access & Opcodes.ACC_STATIC) == 0;
     }
 
+    private static int argumentsSize(MethodCode method) {
+        int size = (method.access & Opcodes.ACC_STATIC) == 0 ? 1 : 0;
+        for (Type argument : method.methodDescriptor.parameterList()) {
+            size += argument.getSize();
+        }
+        return size;
+    }
+
     private void initializeParameters() {
         int slot = 0;
         if (isInstanceMethod()) {
             variables.reserveSlot("<this>", Types.Object, slot);
+            stack.parameter(slot, method.classCode.classType);
+            if ("<init>".equals(method.methodName)) {
+                stack.uninitializedThis();
+            }
             slot += Types.Object.getSize();
         }
         for (Type argument : method.methodDescriptor.parameterList()) {
             variables.reserveSlot(argument, slot);
+            stack.parameter(slot, argument);
             slot += argument.getSize();
         }
     }
@@ -412,7 +663,17 @@ public class InstructionAssembler {
     }
 
     protected final void restoreStack(Type[] stack) {
-        this.stack.setStack(stack);
+        Type[] restored = stack;
+        for (int i = 0; i < stack.length; ++i) {
+            if (stack[i] == Type.NULL) {
+                // Restored stack values are typed as objects, not as null constants.
+                if (restored == stack) {
+                    restored = stack.clone();
+                }
+                restored[i] = Types.Object;
+            }
+        }
+        this.stack.setStack(restored);
     }
 
     protected final boolean isEqualStack(Jump label, Type[] stack) {
@@ -436,12 +697,15 @@ public class InstructionAssembler {
 
     public void mark(TryCatchLabel label) {
         methodVisitor.visitLabel(label.label());
-        // Stack object does not need to be updated.
+        stack.mark(label);
     }
 
     public void mark(Jump jump) {
         methodVisitor.visitLabel(jump.label());
         stack.mark(jump);
+        if (hasStack()) {
+            frames.frame(jump.frameStack(), jump.frameLocals(), false);
+        }
     }
 
     public void lineInfo(int line) {
@@ -471,6 +735,7 @@ public class InstructionAssembler {
      */
     public void tryCatch(TryCatchLabel start, TryCatchLabel end, TryCatchLabel handler, Type type) {
         methodVisitor.visitTryCatchBlock(start.label(), end.label(), handler.label(), type.internalName());
+        stack.tryCatch(start, end, handler);
     }
 
     /**
@@ -485,6 +750,7 @@ public class InstructionAssembler {
      */
     public void tryFinally(TryCatchLabel start, TryCatchLabel end, TryCatchLabel handler) {
         methodVisitor.visitTryCatchBlock(start.label(), end.label(), handler.label(), null);
+        stack.tryCatch(start, end, handler);
     }
 
     /**
@@ -498,7 +764,10 @@ public class InstructionAssembler {
      */
     public void catchHandler(TryCatchLabel handler, Type exception) {
         methodVisitor.visitLabel(handler.label());
-        stack.catchHandler(exception);
+        stack.catchHandler(handler, exception);
+        if (hasStack()) {
+            frames.frame(stack.getStack(), stack.getLocals(), true);
+        }
     }
 
     /**
@@ -510,7 +779,10 @@ public class InstructionAssembler {
      */
     public void finallyHandler(TryCatchLabel handler) {
         methodVisitor.visitLabel(handler.label());
-        stack.catchHandler(Types.Throwable);
+        stack.catchHandler(handler, Types.Throwable);
+        if (hasStack()) {
+            frames.frame(stack.getStack(), stack.getLocals(), true);
+        }
     }
 
     /* constant value instructions */
@@ -2093,7 +2365,11 @@ public class InstructionAssembler {
 
     public void invokespecial(Type owner, String name, MethodTypeDescriptor desc, boolean itf) {
         methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, owner.internalName(), name, desc.descriptor(), itf);
-        stack.invokespecial(desc);
+        if ("<init>".equals(name)) {
+            stack.invokeconstructor(desc);
+        } else {
+            stack.invokespecial(desc);
+        }
     }
 
     public void invokestatic(Type owner, String name, MethodTypeDescriptor desc, boolean itf) {
@@ -16,6 +16,9 @@ public class Jump {
     private boolean resolved;
     private boolean target;
     private Type[] stack;
+    private Type[] locals;
+    private Type[] frameStack;
+    private Type[] frameLocals;
 
     public Jump() {
         this.label = new Label();
@@ -25,6 +28,15 @@ public class Jump {
         this.stack = stack;
     }
 
+    final void setLocals(Type[] locals) {
+        this.locals = locals;
+    }
+
+    final void setFrame(Type[] frameStack, Type[] frameLocals) {
+        this.frameStack = frameStack;
+        this.frameLocals = frameLocals;
+    }
+
     final Label label() {
         assert !resolved;
         resolved = true;
@@ -40,6 +52,18 @@ public class Jump {
         return stack;
     }
 
+    final Type[] locals() {
+        return locals;
+    }
+
+    final Type[] frameStack() {
+        return frameStack;
+    }
+
+    final Type[] frameLocals() {
+        return frameLocals;
+    }
+
     /**
      * Returns {@code true} if this label is resolved, otherwise {@code false}.
      * 
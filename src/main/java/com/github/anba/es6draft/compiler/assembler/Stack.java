@@ -6,13 +6,19 @@
  */
 package com.github.anba.es6draft.compiler.assembler;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 
 /**
  * Basic stack type information tracking, complex control instructions are not supported.
+ * <p>
+ * Additionally tracks the local variable types to compute the stack map frames at jump targets and exception
+ * handlers. Local variables have their declared type in stack map frames and are only present if initialized on all
+ * incoming paths. The frames are marked as inexact if the type information is not sufficient to compute valid frames.
  */
 public class Stack {
     private static final int MIN_STACK_SIZE = 8;
+    private static final int MIN_LOCALS_SIZE = 8;
     private static final Type OBJECT_TYPE = Types.Object;
     private static final Type STRING_TYPE = Types.String;
     private static final Type[] EMPTY_STACK = new Type[0];
@@ -20,6 +26,17 @@ public class Stack {
     private final Variables variables;
     private Type[] stack;
     private int sp;
+    private int stackSize;
+    private int maxStackSize;
+
+    // Local variable types, unused and unknown slots are null.
+    private Type[] locals = new Type[MIN_LOCALS_SIZE];
+    // Log of local variable slots whose type was changed or removed.
+    private int[] changedLocals = new int[MIN_LOCALS_SIZE];
+    private int changedLocalsCount;
+    // Number of uninitialized objects, including an uninitialized this-reference.
+    private int uninitialized;
+    private boolean exactFrames = true;
 
     public Stack(Variables variables) {
         this.variables = variables;
@@ -47,18 +64,163 @@ public class Stack {
         return sp;
     }
 
+    /**
+     * Returns the maximum operand stack size.
+     * 
+     * @return the maximum stack size
+     */
+    final int getMaxStackSize() {
+        return maxStackSize;
+    }
+
+    /**
+     * Returns {@code true} if the computed stack map frames are valid for the method.
+     * 
+     * @return {@code true} if the stack map frames are exact
+     */
+    final boolean hasExactFrames() {
+        return exactFrames;
+    }
+
+    private void inexactFrames() {
+        exactFrames = false;
+    }
+
+    /**
+     * Return a copy of the current local variable types.
+     * 
+     * @return the current local variable types
+     */
+    final Type[] getLocals() {
+        int length = locals.length;
+        while (length > 0 && locals[length - 1] == null) {
+            length -= 1;
+        }
+        if (length == 0) {
+            return EMPTY_STACK;
+        }
+        return Arrays.copyOf(locals, length);
+    }
+
+    /**
+     * Sets the type of a method parameter.
+     * 
+     * @param slot
+     *            the parameter slot
+     * @param type
+     *            the parameter type
+     */
+    final void parameter(int slot, Type type) {
+        setLocal(slot, type);
+    }
+
+    /**
+     * Marks the this-reference as uninitialized until the super-constructor call.
+     */
+    final void uninitializedThis() {
+        uninitialized += 1;
+    }
+
+    /**
+     * Marks the start or the end of a try-catch block.
+     * 
+     * @param label
+     *            the try-catch label
+     */
+    final void mark(TryCatchLabel label) {
+        if (label.ranges() != null) {
+            // Exception handler marked without stack map frame.
+            inexactFrames();
+        }
+        label.mark(getLocals(), changedLocalsCount);
+    }
+
+    /**
+     * Defines a try-catch block.
+     * 
+     * @param start
+     *            the start label of the try-catch block
+     * @param end
+     *            the end label of the try-catch block
+     * @param handler
+     *            the handler label
+     */
+    final void tryCatch(TryCatchLabel start, TryCatchLabel end, TryCatchLabel handler) {
+        if (handler.isMarked()) {
+            // Stack map frame of the exception handler was computed without this try-catch block.
+            inexactFrames();
+        }
+        handler.addRange(start, end);
+    }
+
     /**
      * Start exception handler for {@code exception}.
      * 
+     * @param handler
+     *            the handler label
      * @param exception
      *            the exception type for the catch handler
      */
-    void catchHandler(Type exception) {
+    void catchHandler(TryCatchLabel handler, Type exception) {
+        Type[] handlerLocals = handlerLocals(handler);
+        if (handlerLocals == null) {
+            inexactFrames();
+            handlerLocals = EMPTY_STACK;
+        }
+        Type handlerType = exception;
+        if (stack != null) {
+            // Fall-through into the exception handler.
+            if (sp != 1 || stack[0].isPrimitive()) {
+                inexactFrames();
+            } else if (!ClassHierarchy.isAssignable(exception, stack[0])) {
+                handlerType = intersectionType(exception, stack[0]);
+            }
+            mergeLocals(handlerLocals, locals);
+        }
+        handler.mark(handlerLocals, changedLocalsCount);
+        restoreLocals(handlerLocals);
+        frame();
         if (stack == null) {
             newStack();
         }
         sp = 0;
-        push(exception);
+        stackSize = 0;
+        push(handlerType);
+    }
+
+    /**
+     * Returns the local variable types which are valid in all protected code ranges of the exception handler.
+     * 
+     * @param handler
+     *            the handler label
+     * @return the local variable types or {@code null} if not available
+     */
+    private Type[] handlerLocals(TryCatchLabel handler) {
+        ArrayList<TryCatchLabel> ranges = handler.ranges();
+        if (ranges == null) {
+            return null;
+        }
+        Type[] handlerLocals = null;
+        for (int i = 0, size = ranges.size(); i < size; i += 2) {
+            TryCatchLabel start = ranges.get(i), end = ranges.get(i + 1);
+            if (!start.isMarked() || !end.isMarked()) {
+                return null;
+            }
+            Type[] rangeLocals = start.locals().clone();
+            // Remove all local variables which were changed in the protected code range.
+            for (int j = start.changes(), changes = end.changes(); j < changes; ++j) {
+                int slot = changedLocals[j];
+                if (slot < rangeLocals.length) {
+                    rangeLocals[slot] = null;
+                }
+            }
+            if (handlerLocals == null) {
+                handlerLocals = rangeLocals;
+            } else {
+                mergeLocals(handlerLocals, rangeLocals);
+            }
+        }
+        return handlerLocals;
     }
 
     /**
@@ -80,6 +242,12 @@ public class Stack {
     void setStack(Type[] stack, int sp) {
         this.stack = stack;
         this.sp = sp;
+        int size = 0;
+        for (int i = 0; i < sp; ++i) {
+            size += stack[i].getSize();
+        }
+        this.stackSize = size;
+        this.maxStackSize = Math.max(maxStackSize, size);
     }
 
     private void increaseStack(int newSize) {
@@ -122,7 +290,11 @@ public class Stack {
                 Arrays.toString(labelStack));
         for (int i = 0; i < sp; ++i) {
             Type t0 = stack[i], t1 = labelStack[i];
-            if (!t0.equals(t1)) {
+            if (t0 == t1 || t1 == Type.NULL) {
+                // Same type or null value.
+            } else if (t0 == Type.NULL) {
+                stack[i] = t1;
+            } else if (!t0.equals(t1)) {
                 assert compatibleTypes(t0, t1);
                 if (t0.getSort() <= Type.Sort.INT) {
                     stack[i] = Type.of(Math.max(Math.max(t0.getSort(), t1.getSort()), Type.Sort.INT));
@@ -140,8 +312,113 @@ public class Stack {
                 && left.getSort() < Type.Sort.ARRAY == right.getSort() < Type.Sort.ARRAY;
     }
 
+    /**
+     * Returns the common super type of two reference types.
+     * 
+     * @param left
+     *            the first type
+     * @param right
+     *            the second type
+     * @return the common super type
+     */
     protected Type intersectionType(Type left, Type right) {
-        return OBJECT_TYPE;
+        Type commonType = ClassHierarchy.commonSuperType(left, right);
+        if (commonType == null) {
+            inexactFrames();
+            return OBJECT_TYPE;
+        }
+        return commonType;
+    }
+
+    /* local variable types */
+
+    private void setLocal(int slot, Type type) {
+        int size = type.getSize();
+        if (slot + size > locals.length) {
+            locals = Arrays.copyOf(locals, Math.max(slot + size, locals.length << 1));
+        }
+        if (slot > 0 && locals[slot - 1] != null && locals[slot - 1].getSize() == 2) {
+            // Overwrites the upper half of a two-slot type.
+            changeLocal(slot - 1, null);
+        }
+        changeLocal(slot, type);
+        if (size == 2) {
+            changeLocal(slot + 1, null);
+        }
+    }
+
+    private void changeLocal(int slot, Type type) {
+        Type old = locals[slot];
+        if (old != null && !old.equals(type)) {
+            if (changedLocalsCount == changedLocals.length) {
+                changedLocals = Arrays.copyOf(changedLocals, changedLocalsCount << 1);
+            }
+            changedLocals[changedLocalsCount++] = slot;
+        }
+        locals[slot] = type;
+    }
+
+    private void restoreLocals(Type[] newLocals) {
+        for (int slot = 0, length = Math.max(locals.length, newLocals.length); slot < length; ++slot) {
+            Type type = slot < newLocals.length ? newLocals[slot] : null;
+            if (slot >= locals.length) {
+                locals = Arrays.copyOf(locals, length);
+            }
+            changeLocal(slot, type);
+        }
+    }
+
+    private void mergeLocals(Type[] labelLocals) {
+        for (int slot = 0, length = locals.length; slot < length; ++slot) {
+            Type type = locals[slot];
+            if (type != null && (slot >= labelLocals.length || !type.equals(labelLocals[slot]))) {
+                changeLocal(slot, null);
+            }
+        }
+    }
+
+    private static void mergeLocals(Type[] labelLocals, Type[] locals) {
+        for (int slot = 0, length = labelLocals.length; slot < length; ++slot) {
+            Type type = labelLocals[slot];
+            if (type != null && (slot >= locals.length || !type.equals(locals[slot]))) {
+                labelLocals[slot] = null;
+            }
+        }
+    }
+
+    /**
+     * Updates the state for a new stack map frame.
+     */
+    private void frame() {
+        // Only keep initialized variables in stack map frames.
+        for (int slot = 0, length = locals.length; slot < length; ++slot) {
+            if (locals[slot] != null && !variables.isActive(slot)) {
+                changeLocal(slot, null);
+            }
+        }
+        if (uninitialized > 0) {
+            // Uninitialized types are not tracked.
+            inexactFrames();
+        }
+    }
+
+    private boolean isFrameCompatible(Type[] frameStack, Type[] frameLocals) {
+        if (frameStack == null || frameLocals == null) {
+            return false;
+        }
+        for (int i = 0; i < sp; ++i) {
+            if (!ClassHierarchy.isAssignable(frameStack[i], stack[i])) {
+                return false;
+            }
+        }
+        for (int slot = 0, length = frameLocals.length; slot < length; ++slot) {
+            Type type = frameLocals[slot];
+            if (type != null && (slot >= locals.length || locals[slot] == null
+                    || !ClassHierarchy.isAssignable(type, locals[slot]))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /* stack operations */
@@ -161,6 +438,7 @@ public class Stack {
         assert sp > 0 : getStackString();
         Type t = stack[--sp];
         assert t.getSize() == size : String.format("%d[%s] != %d, %s", t.getSize(), t, size, getStackString());
+        stackSize -= size;
         return t;
     }
 
@@ -168,6 +446,7 @@ public class Stack {
         assert sp > 0 : getStackString();
         Type t = stack[--sp];
         assert compatibleTypes(t, type) : String.format("%s != %s, %s", t, type, getStackString());
+        stackSize -= t.getSize();
     }
 
     protected void push(Type type) {
@@ -175,6 +454,10 @@ public class Stack {
             increaseStack(sp << 1);
         }
         stack[sp++] = type;
+        stackSize += type.getSize();
+        if (stackSize > maxStackSize) {
+            maxStackSize = stackSize;
+        }
     }
 
     /* */
@@ -184,12 +467,18 @@ public class Stack {
         if (labelStack == null) {
             // label not yet visited => forward jump
             jump.setStack(getStack());
+            jump.setLocals(getLocals());
         } else if (jump.isResolved()) {
             // label already resolved
             assert assertEqualTypes(stack, sp, labelStack, labelStack.length);
+            if (!isFrameCompatible(jump.frameStack(), jump.frameLocals())) {
+                // backward jump not compatible with the stack map frame
+                inexactFrames();
+            }
         } else {
             // update label stack state
             alignStack(labelStack, labelStack.length, stack, sp);
+            mergeLocals(jump.locals(), locals);
         }
     }
 
@@ -202,15 +491,20 @@ public class Stack {
                 // debug mode)
                 assert false : "newStack after discard stack";
                 newStack();
+                inexactFrames();
             }
             jump.setStack(getStack());
         } else if (stack == null) {
             // label after discard stack (goto, return, throw), retrieve stack from label
             setStack(labelStack);
+            restoreLocals(jump.locals());
         } else {
             // update stack state
             alignStack(stack, sp, labelStack, labelStack.length);
+            mergeLocals(jump.locals());
         }
+        frame();
+        jump.setFrame(getStack(), getLocals());
     }
 
     /* */
@@ -222,7 +516,7 @@ public class Stack {
     /* constant value instructions */
 
     public final void anull() {
-        push(OBJECT_TYPE);
+        push(Type.NULL);
     }
 
     public final void aconst() {
@@ -342,7 +636,12 @@ public class Stack {
     }
 
     public final void aaload() {
-        aload(OBJECT_TYPE);
+        Type arrayType = peek(-2);
+        if (arrayType.getSort() == Type.Sort.ARRAY) {
+            aload(Type.of(arrayType.descriptor().substring(1)));
+        } else {
+            aload(OBJECT_TYPE);
+        }
     }
 
     public final void baload() {
@@ -362,7 +661,12 @@ public class Stack {
     private void store(int var, Type type) {
         Type t = variables.getVariable(var);
         assert compatibleTypes(type, t);
+        if (!ClassHierarchy.isAssignable(t, peek())) {
+            // stored value is not compatible with the declared variable type
+            inexactFrames();
+        }
         pop(type);
+        setLocal(var, t);
     }
 
     public final void istore(int var) {
@@ -1276,6 +1580,13 @@ public class Stack {
         invoke(desc, true);
     }
 
+    public final void invokeconstructor(MethodTypeDescriptor desc) {
+        invoke(desc, true);
+        if (uninitialized > 0) {
+            uninitialized -= 1;
+        }
+    }
+
     /**
      * {@code invokestatic} bytecode instruction.
      * 
@@ -1316,6 +1627,7 @@ public class Stack {
      */
     public final void anew(Type type) {
         push(type);
+        uninitialized += 1;
     }
 
     /**
@@ -6,6 +6,8 @@
  */
 package com.github.anba.es6draft.compiler.assembler;
 
+import java.util.ArrayList;
+
 import org.objectweb.asm.Label;
 
 /**
@@ -13,6 +15,11 @@ import org.objectweb.asm.Label;
  */
 public final class TryCatchLabel {
     private final Label label;
+    private boolean marked;
+    private Type[] locals;
+    private int changes;
+    // Pairs of start and end labels of the code ranges protected by this handler.
+    private ArrayList<TryCatchLabel> ranges;
 
     public TryCatchLabel() {
         this.label = new Label();
@@ -21,4 +28,34 @@ public final class TryCatchLabel {
     /*package*/Label label() {
         return label;
     }
+
+    /*package*/void mark(Type[] locals, int changes) {
+        this.marked = true;
+        this.locals = locals;
+        this.changes = changes;
+    }
+
+    /*package*/boolean isMarked() {
+        return marked;
+    }
+
+    /*package*/Type[] locals() {
+        return locals;
+    }
+
+    /*package*/int changes() {
+        return changes;
+    }
+
+    /*package*/void addRange(TryCatchLabel start, TryCatchLabel end) {
+        if (ranges == null) {
+            ranges = new ArrayList<>();
+        }
+        ranges.add(start);
+        ranges.add(end);
+    }
+
+    /*package*/ArrayList<TryCatchLabel> ranges() {
+        return ranges;
+    }
 }
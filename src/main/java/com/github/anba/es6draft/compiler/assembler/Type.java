@@ -17,6 +17,12 @@ public final class Type {
     /** Internal type to represent the reserved slot of a two-byte slot type. */
     static final Type RESERVED = new Type("reserved");
 
+    /**
+     * Internal type to represent the {@code null} value on the operand stack. Compares equal to {@code Object}, so
+     * {@code null} values are only distinguished by identity.
+     */
+    static final Type NULL = new Type("Ljava/lang/Object;");
+
     /** The {@code void} type. */
     public static final Type VOID_TYPE = new Type("V", org.objectweb.asm.Type.VOID_TYPE);
     /** The {@code boolean} type. */
@@ -1949,12 +1949,12 @@ public final class Parser {
      * Parses the input source as script code.
      * 
      * @param source
-     *            the source string to parse
+     *            the source code to parse
      * @return the parsed script
      * @throws ParserException
      *             if the input source could not be parsed successfully
      */
-    public Script parseScript(String source) throws ParserException {
+    public Script parseScript(CharSequence source) throws ParserException {
         if (ts != null)
             throw new IllegalStateException();
         ts = new TokenStream(this, new TokenStreamInput(source));
@@ -1965,12 +1965,12 @@ public final class Parser {
      * Parses the input source as module code.
      * 
      * @param source
-     *            the source string to parse
+     *            the source code to parse
      * @return the parsed module
      * @throws ParserException
      *             if the input source could not be parsed successfully
      */
-    public Module parseModule(String source) throws ParserException {
+    public Module parseModule(CharSequence source) throws ParserException {
         if (ts != null)
             throw new IllegalStateException();
         ts = new TokenStream(this, new TokenStreamInput(source));
@@ -6,8 +6,10 @@
  */
 package com.github.anba.es6draft.parser;
 
+import java.nio.CharBuffer;
+
 /**
- * Class to provide character-based access to an input source string
+ * Class to provide character-based access to an input source string or character sequence
  */
 final class TokenStreamInput {
     /**
@@ -15,11 +17,11 @@ final class TokenStreamInput {
      */
     public static final int EOF = -1;
 
-    private final String source;
+    private final CharSequence source;
     private final int length;
     private int cursor = 0;
 
-    public TokenStreamInput(String source) {
+    public TokenStreamInput(CharSequence source) {
         this.source = source;
         this.length = source.length();
     }
@@ -42,7 +44,7 @@ final class TokenStreamInput {
     public int get() {
         if (cursor >= length)
             return EOF;
-        int cp = source.codePointAt(cursor);
+        int cp = Character.codePointAt(source, cursor);
         cursor += Character.charCount(cp);
         return cp;
     }
@@ -76,7 +78,7 @@ final class TokenStreamInput {
      *            the code point to read back
      */
     public void unget(int c) {
-        assert c != EOF ? source.codePointAt(cursor - Character.charCount(c)) == c
+        assert c != EOF ? Character.codePointAt(source, cursor - Character.charCount(c)) == c
                 : cursor >= length;
         if (c != EOF)
             cursor -= Character.charCount(c);
@@ -152,7 +154,10 @@ final class TokenStreamInput {
      * @return the source characters in the given range
      */
     public String range(int from, int to) {
-        return source.substring(from, to);
+        if (source instanceof String) {
+            return ((String) source).substring(from, to);
+        }
+        return source.subSequence(from, to).toString();
     }
 
     /**
@@ -168,6 +173,16 @@ final class TokenStreamInput {
      *            the start offset in the array
      */
     public void chars(int from, int to, char[] array, int offset) {
-        source.getChars(from, to, array, offset);
+        if (source instanceof String) {
+            ((String) source).getChars(from, to, array, offset);
+        } else if (source instanceof CharBuffer) {
+            CharBuffer chars = ((CharBuffer) source).duplicate();
+            chars.position(chars.position() + from);
+            chars.get(array, offset, to - from);
+        } else {
+            for (int i = from; i < to; ++i) {
+                array[offset++] = source.charAt(i);
+            }
+        }
     }
 }
@@ -40,4 +40,28 @@ final class GroupIterator implements Iterator<String> {
         }
         return null;
     }
+
+    /**
+     * Returns the set of undefined groups, i.e. the groups for which {@link #next()} returns {@code null}, without
+     * creating the group strings.
+     * 
+     * @param result
+     *            the match result
+     * @param negativeLAGroups
+     *            the groups within negative lookahead assertions
+     * @return the undefined groups
+     */
+    static BitSet undefinedGroups(MatchResult result, BitSet negativeLAGroups) {
+        BitSet undefinedGroups = new BitSet();
+        int last = result.start();
+        for (int group = 1, groupCount = result.groupCount(); group <= groupCount; ++group) {
+            int start = result.start(group);
+            if (start >= last && !negativeLAGroups.get(group)) {
+                last = start;
+            } else {
+                undefinedGroups.set(group);
+            }
+        }
+        return undefinedGroups;
+    }
 }
@@ -20,4 +20,14 @@ public interface IterableMatchResult extends MatchResult, Iterable<String> {
      */
     @Override
     Iterator<String> iterator();
+
+    /**
+     * Returns the captured group or {@code null} if the group is undefined. The result is the same as the
+     * corresponding element of the {@link #iterator() group iterator}, but only the requested group string is created.
+     * 
+     * @param group
+     *            the group number, {@code 1 <= group <= groupCount()}
+     * @return the captured group or {@code null}
+     */
+    String capture(int group);
 }
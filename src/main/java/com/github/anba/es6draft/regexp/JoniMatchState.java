@@ -26,6 +26,8 @@ final class JoniMatchState implements MatchState, IterableMatchResult {
     private final StringPosition position;
     private int begin = -1, end = 0;
     private Region region;
+    // Lazily computed by capture(int)
+    private BitSet undefinedGroups;
 
     public JoniMatchState(UEncoding encoding, Matcher matcher, CharSequence string, BitSet negativeLAGroups) {
         this.encoding = encoding;
@@ -67,8 +69,11 @@ final class JoniMatchState implements MatchState, IterableMatchResult {
 
         void update(int begin, int end) {
             assert begin >= 0 && end >= 0 && begin <= end;
-            this.stringBegin = stringIndex(begin);
-            this.stringEnd = stringIndex(end);
+            // Compute both indices before updating the cached positions, matches can move backwards.
+            int stringBegin = stringIndex(begin);
+            int stringEnd = stringIndex(end);
+            this.stringBegin = stringBegin;
+            this.stringEnd = stringEnd;
             this.begin = begin;
             this.end = end;
         }
@@ -109,11 +114,17 @@ final class JoniMatchState implements MatchState, IterableMatchResult {
     }
 
     private boolean update(int r) {
+        undefinedGroups = null;
+        if (r <= Matcher.FAILED) {
+            // Keep the position cache consistent, the match state may be reused for the next search.
+            begin = -1;
+            return false;
+        }
         begin = matcher.getBegin();
         end = matcher.getEnd();
         region = matcher.getRegion();
         position.update(begin, end);
-        return r > Matcher.FAILED;
+        return true;
     }
 
     private boolean isUnicode() {
@@ -172,6 +183,20 @@ final class JoniMatchState implements MatchState, IterableMatchResult {
         return new GroupIterator(this, negativeLAGroups);
     }
 
+    @Override
+    public String capture(int group) {
+        ensureResult();
+        ensureValidGroup(group);
+        if (group == 0) {
+            return group(0);
+        }
+        BitSet undefinedGroups = this.undefinedGroups;
+        if (undefinedGroups == null) {
+            this.undefinedGroups = undefinedGroups = GroupIterator.undefinedGroups(this, negativeLAGroups);
+        }
+        return undefinedGroups.get(group) ? null : group(group);
+    }
+
     @Override
     public MatchResult toMatchResult() {
         return new JoniMatchState(encoding, string, negativeLAGroups, position.clone(), begin, end,
@@ -7,6 +7,7 @@
 package com.github.anba.es6draft.regexp;
 
 import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 
 import org.joni.Matcher;
@@ -22,15 +23,23 @@ final class JoniRegExpMatcher implements RegExpMatcher {
     // Java flags for the input RegExp
     private final int flags;
     private final BitSet negativeLAGroups;
-    private Regex pattern;
+    // Compiled pattern, shared with all clones
+    private final AtomicReference<Regex> pattern;
     // FIXME: Memory issue?
     private CharSequence lastInput = null;
     private byte[] lastInputBytes = null;
+    // Match state for the last input, reused to avoid allocating a new joni Matcher and Region for each match.
+    private JoniMatchState lastMatchState = null;
 
     public JoniRegExpMatcher(String regex, int flags, BitSet negativeLAGroups) {
+        this(regex, flags, negativeLAGroups, new AtomicReference<>());
+    }
+
+    private JoniRegExpMatcher(String regex, int flags, BitSet negativeLAGroups, AtomicReference<Regex> pattern) {
         this.regex = regex;
         this.flags = flags;
         this.negativeLAGroups = negativeLAGroups;
+        this.pattern = pattern;
     }
 
     private UEncoding getEncoding() {
@@ -41,6 +50,7 @@ final class JoniRegExpMatcher implements RegExpMatcher {
     }
 
     private Regex getPattern() {
+        Regex pattern = this.pattern.get();
         if (pattern == null) {
             int flags = 0;
             if ((this.flags & Pattern.MULTILINE) != 0) {
@@ -55,24 +65,21 @@ final class JoniRegExpMatcher implements RegExpMatcher {
             byte[] bytes = enc.toBytes(regex);
             int length = bytes.length - enc.minLength();
             pattern = new Regex(bytes, 0, length, flags, enc, JoniSyntax.ECMAScript);
+            this.pattern.set(pattern);
         }
         return pattern;
     }
 
     @Override
     public JoniMatchState matcher(String s) {
-        UEncoding enc = getEncoding();
-        if (s != lastInput) {
-            lastInput = s;
-            lastInputBytes = enc.toBytes(s);
-        }
-        int length = lastInputBytes.length - enc.minLength();
-        Matcher matcher = getPattern().matcher(lastInputBytes, 0, length);
-        return new JoniMatchState(enc, matcher, s, negativeLAGroups);
+        return matcher((CharSequence) s);
     }
 
     @Override
     public JoniMatchState matcher(CharSequence s) {
+        if (s == lastInput && lastMatchState != null) {
+            return lastMatchState;
+        }
         UEncoding enc = getEncoding();
         if (s != lastInput) {
             lastInput = s;
@@ -80,14 +87,12 @@ final class JoniRegExpMatcher implements RegExpMatcher {
         }
         int length = lastInputBytes.length - enc.minLength();
         Matcher matcher = getPattern().matcher(lastInputBytes, 0, length);
-        return new JoniMatchState(enc, matcher, s, negativeLAGroups);
+        return lastMatchState = new JoniMatchState(enc, matcher, s, negativeLAGroups);
     }
 
     @Override
     public JoniRegExpMatcher clone() {
-        JoniRegExpMatcher clone = new JoniRegExpMatcher(regex, flags, negativeLAGroups);
-        clone.pattern = pattern;
-        return clone;
+        return new JoniRegExpMatcher(regex, flags, negativeLAGroups, pattern);
     }
 
     @Override
@@ -12,6 +12,9 @@ package com.github.anba.es6draft.regexp;
 public interface RegExpMatcher extends Cloneable {
     /**
      * Returns a {@link MatchState} object for {@code input}.
+     * <p>
+     * The match state may be reused by subsequent calls with the same input string, callers need to use
+     * {@link MatchState#toMatchResult()} to retain a match result.
      * 
      * @param input
      *            the input string to match against
@@ -21,6 +24,9 @@ public interface RegExpMatcher extends Cloneable {
 
     /**
      * Returns a {@link MatchState} object for {@code input}.
+     * <p>
+     * The match state may be reused by subsequent calls with the same input string, callers need to use
+     * {@link MatchState#toMatchResult()} to retain a match result.
      * 
      * @param input
      *            the input string to match against
@@ -79,6 +79,7 @@ import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.Realm;
 import com.github.anba.es6draft.runtime.Task;
 import com.github.anba.es6draft.runtime.World;
+import com.github.anba.es6draft.runtime.extensions.io.EventLoop;
 import com.github.anba.es6draft.runtime.extensions.timer.Timers;
 import com.github.anba.es6draft.runtime.internal.*;
 import com.github.anba.es6draft.runtime.modules.MalformedNameException;
@@ -485,9 +486,15 @@ public final class Repl {
         @Option(name = "--timers", usage = "options.timers")
         boolean timers;
 
+        @Option(name = "--event-loop", usage = "options.event_loop")
+        boolean eventLoop;
+
         @Option(name = "--console", usage = "options.console")
         boolean console;
 
+        @Option(name = "--work-stealing", usage = "options.work_stealing")
+        boolean workStealing;
+
         @Option(name = "--no-jline", usage = "options.no_jline")
         boolean noJLine;
 
@@ -945,7 +952,11 @@ public final class Repl {
         if (options.interactive) {
             sources.add(new InteractiveTaskSource(realm));
         }
-        if (options.timers) {
+        if (options.eventLoop) {
+            EventLoop eventLoop = realm.createGlobalProperties(new EventLoop(), EventLoop.class);
+            realm.createGlobalProperties(eventLoop.getTimers(), Timers.class);
+            sources.add(eventLoop);
+        } else if (options.timers) {
             sources.add(realm.createGlobalProperties(new Timers(), Timers.class));
         }
         switch (sources.size()) {
@@ -1126,6 +1137,7 @@ public final class Repl {
                                                    .setGlobalAllocator(allocator)
                                                    .setModuleLoader(moduleLoader)
                                                    .setConsole(console)
+                                                   .setWorkerScheduling(workerScheduling(options))
                                                    .setWorkerErrorReporter(this::errorReporter)
                                                    .setOptions(compatibilityOptions(options))
                                                    .setParserOptions(parserOptions(options))
@@ -1174,7 +1186,7 @@ public final class Repl {
                         Source source = moduleSource.toSource();
                         String file = e.getFile();
                         if (file.equals(source.getFileString())) {
-                            throw new ParserExceptionWithSource(e, source, moduleSource.sourceCode());
+                            throw new ParserExceptionWithSource(e, source, moduleSource.sourceCode().toString());
                         }
                         Path filePath = Paths.get(file).toAbsolutePath();
                         Source errorSource = new Source(filePath, file, 1);
@@ -1217,6 +1229,13 @@ public final class Repl {
         });
     }
 
+    private static RuntimeContext.WorkerScheduling workerScheduling(Options options) {
+        if (options.workStealing) {
+            return RuntimeContext.WorkerScheduling.WorkStealing;
+        }
+        return RuntimeContext.WorkerScheduling.ThreadPool;
+    }
+
     private static Set<CompatibilityOption> compatibilityOptions(Options options) {
         Set<CompatibilityOption> compatibilityOptions;
         if (options.strict) {
@@ -6,26 +6,29 @@
  */
 package com.github.anba.es6draft.repl.global;
 
+import static com.github.anba.es6draft.runtime.AbstractOperations.ToNumber;
 import static com.github.anba.es6draft.runtime.internal.Errors.newTypeError;
+import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 
-import com.github.anba.es6draft.Script;
 import com.github.anba.es6draft.repl.loader.NodeModuleLoader;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.Realm;
-import com.github.anba.es6draft.runtime.World;
 import com.github.anba.es6draft.runtime.internal.Messages;
 import com.github.anba.es6draft.runtime.internal.Properties.Function;
-import com.github.anba.es6draft.runtime.internal.RuntimeContext;
 import com.github.anba.es6draft.runtime.internal.Source;
+import com.github.anba.es6draft.runtime.internal.WorkerAgent;
+import com.github.anba.es6draft.runtime.internal.WorkerAgent.MessagePort;
 import com.github.anba.es6draft.runtime.modules.MalformedNameException;
 import com.github.anba.es6draft.runtime.modules.ModuleLoader;
 import com.github.anba.es6draft.runtime.modules.ResolutionException;
@@ -40,6 +43,8 @@ public final class AtomicsTestFunctions {
     private final ReentrantLock sharedLock = new ReentrantLock();
     private ByteBuffer sharedBufferData;
     private long sharedBufferLength;
+    private final AtomicInteger workerIds = new AtomicInteger();
+    private final ConcurrentHashMap<Integer, WorkerAgent> workers = new ConcurrentHashMap<>();
 
     /**
      * shell-function: {@code getSharedArrayBuffer()}
@@ -102,29 +107,111 @@ public final class AtomicsTestFunctions {
      */
     @Function(name = "evalInWorker", arity = 1)
     public boolean evalInWorker(ExecutionContext cx, ExecutionContext caller, String sourceString) {
+        return startWorkerAgent(cx, caller, sourceString) != null;
+    }
+
+    /**
+     * shell-function: {@code startWorker(sourceString)}
+     * 
+     * @param cx
+     *            the execution context
+     * @param caller
+     *            the caller execution context
+     * @param sourceString
+     *            the script source code
+     * @return the worker id or {@code -1} if no script worker was started
+     */
+    @Function(name = "startWorker", arity = 1)
+    public int startWorker(ExecutionContext cx, ExecutionContext caller, String sourceString) {
+        WorkerAgent worker = startWorkerAgent(cx, caller, sourceString);
+        if (worker == null) {
+            return -1;
+        }
+        int workerId = workerIds.incrementAndGet();
+        workers.put(workerId, worker);
+        worker.whenDone(() -> releaseIfFinished(workerId, worker));
+        return workerId;
+    }
+
+    /**
+     * Removes a finished worker once all its messages were received.
+     */
+    private void releaseIfFinished(int workerId, WorkerAgent worker) {
+        if (worker.isDone() && !worker.getPort().hasPendingMessages()) {
+            workers.remove(workerId, worker);
+        }
+    }
+
+    /**
+     * shell-function: {@code postMessageToWorker(workerId, message)}
+     * 
+     * @param cx
+     *            the execution context
+     * @param workerId
+     *            the worker id
+     * @param message
+     *            the message value
+     */
+    @Function(name = "postMessageToWorker", arity = 2)
+    public void postMessageToWorker(ExecutionContext cx, int workerId, Object message) {
+        worker(cx, workerId).getPort().postMessage(cx, message);
+    }
+
+    /**
+     * shell-function: {@code receiveMessageFromWorker(workerId [, timeout])}
+     * 
+     * @param cx
+     *            the execution context
+     * @param workerId
+     *            the worker id
+     * @param timeout
+     *            the optional timeout in milliseconds
+     * @return the message value or {@code undefined} if the timeout elapsed
+     * @throws InterruptedException
+     *             if interrupted while waiting
+     */
+    @Function(name = "receiveMessageFromWorker", arity = 1)
+    public Object receiveMessageFromWorker(ExecutionContext cx, int workerId, Object timeout)
+            throws InterruptedException {
+        WorkerAgent worker = worker(cx, workerId);
+        Object message = receiveMessage(cx, worker.getPort(), timeout);
+        releaseIfFinished(workerId, worker);
+        return message;
+    }
+
+    private WorkerAgent worker(ExecutionContext cx, int workerId) {
+        WorkerAgent worker = workers.get(workerId);
+        if (worker == null) {
+            throw newTypeError(cx, Messages.Key.IncompatibleObject);
+        }
+        return worker;
+    }
+
+    private static Object receiveMessage(ExecutionContext cx, MessagePort port, Object timeout)
+            throws InterruptedException {
+        double t;
+        if (Type.isUndefined(timeout)) {
+            t = Double.POSITIVE_INFINITY;
+        } else {
+            double q = ToNumber(cx, timeout);
+            t = Double.isNaN(q) ? Double.POSITIVE_INFINITY : Math.max(0, q);
+        }
+        Object message = port.receiveMessage(cx, (long) t, TimeUnit.MILLISECONDS);
+        return message != null ? message : UNDEFINED;
+    }
+
+    private WorkerAgent startWorkerAgent(ExecutionContext cx, ExecutionContext caller, String sourceString) {
         Source baseSource = Objects.requireNonNull(cx.getRealm().sourceInfo(caller));
+        Source source = new Source(baseSource, "evalInWorker-script", 1);
         try {
             // TODO: Initialize extensions (console.jsm, window timers?).
-            CompletableFuture.supplyAsync(() -> {
-                // Set 'executor' to null so it doesn't get shared with the current runtime context.
-                /* @formatter:off */
-                RuntimeContext context = new RuntimeContext.Builder(cx.getRuntimeContext())
-                                                           .setExecutor(null)
-                                                           .build();
-                /* @formatter:on */
-
-                World world = new World(context);
-                Realm realm;
-                try {
-                    realm = world.newInitializedRealm();
-                } catch (IOException | URISyntaxException e) {
-                    throw new CompletionException(e);
-                }
+            return WorkerAgent.start(cx, source, sourceString, (realm, port) -> {
                 // Bind test functions to this instance.
                 realm.createGlobalProperties(this, AtomicsTestFunctions.class);
+                realm.createGlobalProperties(new WorkerFunctions(port), WorkerFunctions.class);
 
                 // TODO: Add proper abstraction.
-                ModuleLoader moduleLoader = world.getModuleLoader();
+                ModuleLoader moduleLoader = realm.getWorld().getModuleLoader();
                 if (moduleLoader instanceof NodeModuleLoader) {
                     try {
                         ((NodeModuleLoader) moduleLoader).initialize(realm);
@@ -132,24 +219,49 @@ public final class AtomicsTestFunctions {
                         throw new CompletionException(e);
                     }
                 }
-
-                // Evaluate the script source code and then run pending jobs.
-                Source source = new Source(baseSource, "evalInWorker-script", 1);
-                Script script = realm.getScriptLoader().script(source, sourceString);
-                Object result = script.evaluate(realm);
-                world.runEventLoop();
-                return result;
-            } , cx.getRuntimeContext().getWorkerExecutor()).whenComplete((r, e) -> {
-                if (e instanceof CompletionException) {
-                    Throwable cause = ((CompletionException) e).getCause();
-                    cx.getRuntimeContext().getWorkerErrorReporter().accept(cx, (cause != null ? cause : e));
-                } else if (e != null) {
-                    cx.getRuntimeContext().getWorkerErrorReporter().accept(cx, e);
-                }
             });
-            return true;
         } catch (RejectedExecutionException e) {
-            return false;
+            return null;
+        }
+    }
+
+    /**
+     * Functions available in script workers.
+     */
+    public static final class WorkerFunctions {
+        private final MessagePort port;
+
+        WorkerFunctions(MessagePort port) {
+            this.port = port;
+        }
+
+        /**
+         * shell-function: {@code postMessage(message)}
+         * 
+         * @param cx
+         *            the execution context
+         * @param message
+         *            the message value
+         */
+        @Function(name = "postMessage", arity = 1)
+        public void postMessage(ExecutionContext cx, Object message) {
+            port.postMessage(cx, message);
+        }
+
+        /**
+         * shell-function: {@code receiveMessage([timeout])}
+         * 
+         * @param cx
+         *            the execution context
+         * @param timeout
+         *            the optional timeout in milliseconds
+         * @return the message value or {@code undefined} if the timeout elapsed
+         * @throws InterruptedException
+         *             if interrupted while waiting
+         */
+        @Function(name = "receiveMessage", arity = 0)
+        public Object receiveMessage(ExecutionContext cx, Object timeout) throws InterruptedException {
+            return AtomicsTestFunctions.receiveMessage(cx, port, timeout);
         }
     }
 }
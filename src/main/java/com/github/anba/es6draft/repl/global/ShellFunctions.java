@@ -10,6 +10,7 @@ import static com.github.anba.es6draft.repl.global.SharedFunctions.absolutePath;
 import static com.github.anba.es6draft.repl.global.SharedFunctions.loadScript;
 import static com.github.anba.es6draft.repl.global.SharedFunctions.readFile;
 import static com.github.anba.es6draft.repl.global.SharedFunctions.relativePathToScript;
+import static com.github.anba.es6draft.runtime.AbstractOperations.CreateDataProperty;
 import static com.github.anba.es6draft.runtime.AbstractOperations.Get;
 import static com.github.anba.es6draft.runtime.AbstractOperations.ToBoolean;
 import static com.github.anba.es6draft.runtime.AbstractOperations.ToFlatString;
@@ -18,6 +19,7 @@ import static com.github.anba.es6draft.runtime.modules.ModuleSemantics.GetModule
 import static com.github.anba.es6draft.runtime.modules.SourceTextModuleRecord.ParseModule;
 import static com.github.anba.es6draft.runtime.objects.binary.ArrayBufferConstructor.DetachArrayBuffer;
 import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
+import static com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject.ObjectCreate;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -32,6 +34,7 @@ import java.util.Objects;
 import com.github.anba.es6draft.Executable;
 import com.github.anba.es6draft.Script;
 import com.github.anba.es6draft.compiler.CompilationException;
+import com.github.anba.es6draft.compiler.CompiledCodeMetrics;
 import com.github.anba.es6draft.parser.ParserException;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.Realm;
@@ -55,9 +58,11 @@ import com.github.anba.es6draft.runtime.objects.binary.ArrayBufferObject;
 import com.github.anba.es6draft.runtime.objects.collection.WeakMapObject;
 import com.github.anba.es6draft.runtime.objects.reflect.RealmObject;
 import com.github.anba.es6draft.runtime.types.Callable;
+import com.github.anba.es6draft.runtime.types.Intrinsics;
 import com.github.anba.es6draft.runtime.types.ScriptObject;
 import com.github.anba.es6draft.runtime.types.Type;
 import com.github.anba.es6draft.runtime.types.builtins.FunctionObject;
+import com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject;
 
 /**
  * Built-in functions for the default shell.
@@ -235,6 +240,9 @@ public final class ShellFunctions {
 
     /**
      * shell-function: {@code dumpScope()}
+     * <p>
+     * Parameters and variables of functions which were compiled into local slots are only part of the scope when the
+     * code was compiled with {@link com.github.anba.es6draft.compiler.Compiler.Option#DebugInfo}.
      * 
      * @param cx
      *            the execution context
@@ -281,6 +289,38 @@ public final class ShellFunctions {
         System.gc();
     }
 
+    /**
+     * shell-function: {@code evictCompiledCode()}
+     * 
+     * @param cx
+     *            the execution context
+     */
+    @Function(name = "evictCompiledCode", arity = 0)
+    public void evictCompiledCode(ExecutionContext cx) {
+        cx.getRealm().getScriptLoader().evictCompiledCode();
+    }
+
+    /**
+     * shell-function: {@code compiledCodeMetrics()}
+     * 
+     * @param cx
+     *            the execution context
+     * @return an object with the current compiled code metrics
+     */
+    @Function(name = "compiledCodeMetrics", arity = 0)
+    public ScriptObject compiledCodeMetrics(ExecutionContext cx) {
+        OrdinaryObject metrics = ObjectCreate(cx, Intrinsics.ObjectPrototype);
+        CreateDataProperty(cx, metrics, "definedUnits", (double) CompiledCodeMetrics.getDefinedUnitCount());
+        CreateDataProperty(cx, metrics, "liveUnits", (double) CompiledCodeMetrics.getLiveUnitCount());
+        CreateDataProperty(cx, metrics, "unloadedUnits", (double) CompiledCodeMetrics.getUnloadedUnitCount());
+        CreateDataProperty(cx, metrics, "definedClasses", (double) CompiledCodeMetrics.getDefinedClassCount());
+        CreateDataProperty(cx, metrics, "liveClasses", (double) CompiledCodeMetrics.getLiveClassCount());
+        CreateDataProperty(cx, metrics, "liveClassBytes", (double) CompiledCodeMetrics.getLiveClassBytes());
+        CreateDataProperty(cx, metrics, "computedFramesClasses",
+                (double) CompiledCodeMetrics.getComputedFramesClassCount());
+        return metrics;
+    }
+
     /**
      * shell-function: {@code error()}
      */
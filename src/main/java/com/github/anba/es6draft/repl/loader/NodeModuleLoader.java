@@ -38,6 +38,7 @@ import com.github.anba.es6draft.runtime.types.ScriptObject;
 public class NodeModuleLoader extends AbstractFileModuleLoader<ModuleRecord> {
     private final HashMap<SourceIdentifier, ModuleRecord> modules = new HashMap<>();
     private final ScriptLoader scriptLoader;
+    private final NodeModuleResolution resolution = new NodeModuleResolution();
     private Constructor moduleConstructor;
 
     public NodeModuleLoader(RuntimeContext context, ScriptLoader scriptLoader) {
@@ -129,7 +130,14 @@ public class NodeModuleLoader extends AbstractFileModuleLoader<ModuleRecord> {
     @Override
     public FileSourceIdentifier normalizeName(String unnormalizedName, SourceIdentifier referrerId)
             throws MalformedNameException {
-        return NodeModuleResolution.resolve(getBaseDirectory(), super.normalizeName(unnormalizedName, referrerId),
+        return resolution.resolve(getBaseDirectory(), super.normalizeName(unnormalizedName, referrerId),
                 unnormalizedName, referrerId);
     }
+
+    /**
+     * Discards all cached module resolution results.
+     */
+    public void clearResolutionCache() {
+        resolution.clearCache();
+    }
 }
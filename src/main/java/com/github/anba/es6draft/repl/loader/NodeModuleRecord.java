@@ -230,7 +230,7 @@ public final class NodeModuleRecord implements ModuleRecord {
     public static NodeModuleRecord ParseModule(ScriptLoader scriptLoader, SourceIdentifier identifier,
             ModuleSource moduleSource) throws IOException, ParserException, CompilationException {
         Source source = moduleSource.toSource();
-        String sourceCode = moduleSource.sourceCode();
+        String sourceCode = moduleSource.sourceCode().toString();
         if (identifier.toUri().toString().endsWith(".json")) {
             String jsonScript = JSONParser.parse(sourceCode, new ScriptJSONBuilder());
             sourceCode = String.format("module.exports = %s", jsonScript);
@@ -12,7 +12,13 @@ import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 import com.github.anba.es6draft.parser.JSONBuilder;
 import com.github.anba.es6draft.parser.JSONParser;
@@ -24,6 +30,10 @@ import com.github.anba.es6draft.runtime.modules.loader.FileSourceIdentifier;
 
 /**
  * Node module file resolution.
+ * <p>
+ * Resolved module names, existing files and directories, and the executable entries of {@code package.json} files
+ * are cached until {@link #clearCache()} is called or the cache limit is reached. Failed lookups are not cached, so
+ * files which are created later are still found.
  * 
  * @see https://iojs.org/api/modules.html#modules_all_together
  */
@@ -34,7 +44,70 @@ final class NodeModuleResolution {
     private static final String EXECUTABLE_NAME = "main";
     private static final String[] FILE_EXTENSIONS = { ".js", ".json" };
 
-    private NodeModuleResolution() {
+    private static final int MAX_CACHE_SIZE = 4096;
+
+    private final Map<ResolutionKey, FileSourceIdentifier> resolved = newCache();
+    private final Map<Path, FileKind> fileKinds = newCache();
+    private final Map<Path, Optional<Path>> packages = newCache();
+
+    private static <KEY, VALUE> Map<KEY, VALUE> newCache() {
+        return Collections.synchronizedMap(new ResolutionCache<>(MAX_CACHE_SIZE));
+    }
+
+    @SuppressWarnings("serial")
+    private static final class ResolutionCache<KEY, VALUE> extends LinkedHashMap<KEY, VALUE> {
+        private final int maxSize;
+
+        ResolutionCache(int maxSize) {
+            super(16, .75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<KEY, VALUE> eldest) {
+            return size() > maxSize;
+        }
+    }
+
+    private enum FileKind {
+        None, File, Directory, Other
+    }
+
+    private static final class ResolutionKey {
+        private final String referrerDirectory;
+        private final String name;
+
+        ResolutionKey(String referrerDirectory, String name) {
+            this.referrerDirectory = referrerDirectory;
+            this.name = name;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(referrerDirectory) * 31 + name.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (obj == null || obj.getClass() != ResolutionKey.class) {
+                return false;
+            }
+            ResolutionKey other = (ResolutionKey) obj;
+            return Objects.equals(referrerDirectory, other.referrerDirectory) && name.equals(other.name);
+        }
+    }
+
+    /**
+     * Removes all cached resolution results. This method needs to be called when files or directories were added to or
+     * removed from the module search paths, or when {@code package.json} files were modified.
+     */
+    public void clearCache() {
+        resolved.clear();
+        fileKinds.clear();
+        packages.clear();
     }
 
     /**
@@ -52,11 +125,34 @@ final class NodeModuleResolution {
      * @throws MalformedNameException
      *             if the name cannot be normalized
      */
-    public static FileSourceIdentifier resolve(Path baseDirectory, FileSourceIdentifier normalizedName,
+    public FileSourceIdentifier resolve(Path baseDirectory, FileSourceIdentifier normalizedName,
             String unnormalizedName, SourceIdentifier referrerId) throws MalformedNameException {
+        boolean isRelative = unnormalizedName.startsWith("./") || unnormalizedName.startsWith("../");
+        if (!isRelative && referrerId == null) {
+            return resolve(baseDirectory, normalizedName, unnormalizedName, referrerId, isRelative);
+        }
+        // Relative names are already resolved against the referrer, other names depend on the referrer's directory.
+        String referrerDirectory = !isRelative ? referrerId.toUri().resolve(".").toString() : null;
+        ResolutionKey key = new ResolutionKey(referrerDirectory, normalizedName.toString());
+        FileSourceIdentifier identifier = resolved.get(key);
+        if (identifier == null) {
+            identifier = resolve(baseDirectory, normalizedName, unnormalizedName, referrerId, isRelative);
+            if (identifier == normalizedName) {
+                // Module file not found, don't cache the fallback name.
+                return identifier;
+            }
+            FileSourceIdentifier previous = resolved.putIfAbsent(key, identifier);
+            if (previous != null) {
+                identifier = previous;
+            }
+        }
+        return identifier;
+    }
+
+    private FileSourceIdentifier resolve(Path baseDirectory, FileSourceIdentifier normalizedName,
+            String unnormalizedName, SourceIdentifier referrerId, boolean isRelative) throws MalformedNameException {
         try {
             Path normalizedPath = normalizedName.getPath();
-            boolean isRelative = unnormalizedName.startsWith("./") || unnormalizedName.startsWith("../");
             if (isRelative) {
                 Path file = findModuleFile(baseDirectory, normalizedPath, true);
                 if (file != null) {
@@ -76,13 +172,34 @@ final class NodeModuleResolution {
         }
     }
 
-    private static Path findModuleFile(Path dir, Path path, boolean searchPackage) {
+    private FileKind fileKind(Path path) {
+        FileKind kind = fileKinds.get(path);
+        if (kind == null) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                if (attributes.isRegularFile()) {
+                    kind = FileKind.File;
+                } else if (attributes.isDirectory()) {
+                    kind = FileKind.Directory;
+                } else {
+                    kind = FileKind.Other;
+                }
+            } catch (IOException | SecurityException e) {
+                return FileKind.None;
+            }
+            fileKinds.put(path, kind);
+        }
+        return kind;
+    }
+
+    private Path findModuleFile(Path dir, Path path, boolean searchPackage) {
         path = dir.resolve(path);
-        if (Files.exists(path)) {
-            if (Files.isRegularFile(path)) {
+        FileKind kind = fileKind(path);
+        if (kind != FileKind.None) {
+            if (kind == FileKind.File) {
                 return path;
             }
-            if (Files.isDirectory(path)) {
+            if (kind == FileKind.Directory) {
                 if (searchPackage) {
                     Path executable = readPackage(path);
                     if (executable != null) {
@@ -94,7 +211,7 @@ final class NodeModuleResolution {
                 }
                 for (String ext : FILE_EXTENSIONS) {
                     Path indexFile = path.resolve(INDEX_FILE_NAME + ext);
-                    if (Files.isRegularFile(indexFile)) {
+                    if (fileKind(indexFile) == FileKind.File) {
                         return indexFile;
                     }
                 }
@@ -102,7 +219,7 @@ final class NodeModuleResolution {
         } else {
             for (String ext : FILE_EXTENSIONS) {
                 Path pathWithExt = Paths.get(path + ext);
-                if (Files.isRegularFile(pathWithExt)) {
+                if (fileKind(pathWithExt) == FileKind.File) {
                     return pathWithExt;
                 }
             }
@@ -110,11 +227,20 @@ final class NodeModuleResolution {
         return null;
     }
 
-    private static Path readPackage(Path path) {
-        Path jsonPackage = path.resolve(PACKAGE_FILE_NAME);
-        if (!Files.isRegularFile(jsonPackage)) {
-            return null;
+    private Path readPackage(Path path) {
+        Optional<Path> executable = packages.get(path);
+        if (executable == null) {
+            Path jsonPackage = path.resolve(PACKAGE_FILE_NAME);
+            if (fileKind(jsonPackage) != FileKind.File) {
+                return null;
+            }
+            executable = Optional.ofNullable(readPackageExecutable(jsonPackage));
+            packages.put(path, executable);
         }
+        return executable.orElse(null);
+    }
+
+    private Path readPackageExecutable(Path jsonPackage) {
         String executable;
         try {
             String json = new String(Files.readAllBytes(jsonPackage), StandardCharsets.UTF_8);
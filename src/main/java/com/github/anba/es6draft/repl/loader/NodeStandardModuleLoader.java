@@ -17,6 +17,8 @@ import com.github.anba.es6draft.runtime.modules.loader.FileSourceIdentifier;
  * 
  */
 public class NodeStandardModuleLoader extends FileModuleLoader {
+    private final NodeModuleResolution resolution = new NodeModuleResolution();
+
     public NodeStandardModuleLoader(RuntimeContext context, ScriptLoader scriptLoader) {
         super(context, scriptLoader);
     }
@@ -25,6 +27,13 @@ public class NodeStandardModuleLoader extends FileModuleLoader {
     public FileSourceIdentifier normalizeName(String unnormalizedName, SourceIdentifier referrerId)
             throws MalformedNameException {
         FileSourceIdentifier normalizedName = super.normalizeName(unnormalizedName, referrerId);
-        return NodeModuleResolution.resolve(getBaseDirectory(), normalizedName, unnormalizedName, referrerId);
+        return resolution.resolve(getBaseDirectory(), normalizedName, unnormalizedName, referrerId);
+    }
+
+    /**
+     * Discards all cached module resolution results.
+     */
+    public void clearResolutionCache() {
+        resolution.clearCache();
     }
 }
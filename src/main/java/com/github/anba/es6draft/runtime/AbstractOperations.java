@@ -1476,6 +1476,10 @@ public final class AbstractOperations {
      */
     public static Object GetV(ExecutionContext cx, Object value, Symbol propertyKey) {
         /* step 1 (not applicable) */
+        if (Type.isString(value)) {
+            // String objects don't have own symbol-valued properties, skip the wrapper allocation.
+            return cx.getIntrinsic(Intrinsics.StringPrototype).get(cx, propertyKey, value);
+        }
         /* steps 2-3 */
         ScriptObject obj = ToObject(cx, value);
         /* step 4 */
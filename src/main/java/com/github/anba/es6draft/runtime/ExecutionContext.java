@@ -6,6 +6,10 @@
  */
 package com.github.anba.es6draft.runtime;
 
+import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
+
+import java.util.Arrays;
+
 import com.github.anba.es6draft.Executable;
 import com.github.anba.es6draft.Module;
 import com.github.anba.es6draft.Script;
@@ -36,6 +40,8 @@ public final class ExecutionContext {
     private final FunctionObject function;
     private GeneratorObject generator;
     private Async async;
+    private Object thisValue;
+    private Object[] locals;
 
     private ExecutionContext(Realm realm, LexicalEnvironment<?> varEnv,
             LexicalEnvironment<?> lexEnv, LexicalEnvironment<FunctionEnvironmentRecord> funVarEnv,
@@ -429,6 +435,65 @@ public final class ExecutionContext {
                 f);
     }
 
+    /**
+     * Returns a new execution context for ECMAScript function code whose parameters and variables are stored in
+     * local slots instead of a function environment. The function's [[Environment]] is used as the variable and
+     * lexical environment.
+     * 
+     * @param f
+     *            the callee function object
+     * @param thisValue
+     *            the this-binding or {@code null} if the function has a lexical this-binding
+     * @param localCount
+     *            the number of local slots
+     * @return the new function execution context
+     */
+    public static ExecutionContext newFunctionExecutionContext(FunctionObject f, Object thisValue,
+            int localCount) {
+        LexicalEnvironment<?> env = f.getEnvironment();
+        ExecutionContext cx = new ExecutionContext(f.getRealm(), env, env, null, f.getExecutable(), f);
+        Object[] locals = new Object[localCount];
+        Arrays.fill(locals, UNDEFINED);
+        cx.thisValue = thisValue;
+        cx.locals = locals;
+        return cx;
+    }
+
+    /**
+     * Binds the function arguments to the parameter slots.
+     * 
+     * @param arguments
+     *            the function arguments
+     * @param parameterCount
+     *            the number of parameters
+     */
+    public void initializeLocals(Object[] arguments, int parameterCount) {
+        System.arraycopy(arguments, 0, locals, 0, Math.min(arguments.length, parameterCount));
+    }
+
+    /**
+     * Returns the value of the local slot.
+     * 
+     * @param slot
+     *            the slot index
+     * @return the slot value
+     */
+    public Object getLocal(int slot) {
+        return locals[slot];
+    }
+
+    /**
+     * Sets the value of the local slot.
+     * 
+     * @param slot
+     *            the slot index
+     * @param value
+     *            the new slot value
+     */
+    public void setLocal(int slot, Object value) {
+        locals[slot] = value;
+    }
+
     /**
      * Returns a new execution context for JSR-223 scripting.
      * 
@@ -498,6 +563,9 @@ public final class ExecutionContext {
      * @return the this-binding object
      */
     public Object resolveThisBinding() {
+        if (thisValue != null) {
+            return thisValue;
+        }
         /* step 1 */
         EnvironmentRecord envRec = getThisEnvironment();
         /* step 2 */
@@ -99,6 +99,7 @@ import com.github.anba.es6draft.runtime.types.Property;
 import com.github.anba.es6draft.runtime.types.PropertyDescriptor;
 import com.github.anba.es6draft.runtime.types.ScriptObject;
 import com.github.anba.es6draft.runtime.types.builtins.ArrayObject;
+import com.github.anba.es6draft.runtime.types.builtins.EnumerationCache;
 import com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject;
 import com.github.anba.es6draft.runtime.types.builtins.TypeErrorThrower;
 
@@ -139,6 +140,11 @@ public final class Realm {
      */
     private final HashMap<String, ArrayObject> templateMap = new HashMap<>();
 
+    /**
+     * Cached for-in keys
+     */
+    private final EnumerationCache enumerationCache = new EnumerationCache();
+
     /**
      * [[ThrowTypeError]]
      */
@@ -325,6 +331,15 @@ public final class Realm {
         return templateMap;
     }
 
+    /**
+     * Returns the cache for for-in keys.
+     * 
+     * @return the enumeration cache
+     */
+    public EnumerationCache getEnumerationCache() {
+        return enumerationCache;
+    }
+
     /**
      * [[ThrowTypeError]]
      * 
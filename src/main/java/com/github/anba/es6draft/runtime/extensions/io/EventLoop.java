@@ -0,0 +1,748 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.extensions.io;
+
+import static com.github.anba.es6draft.runtime.AbstractOperations.ToFlatString;
+import static com.github.anba.es6draft.runtime.internal.Errors.newError;
+import static com.github.anba.es6draft.runtime.internal.Errors.newTypeError;
+import static com.github.anba.es6draft.runtime.objects.promise.PromiseAbstractOperations.PromiseBuiltinCapability;
+import static com.github.anba.es6draft.runtime.types.Null.NULL;
+import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.anba.es6draft.runtime.ExecutionContext;
+import com.github.anba.es6draft.runtime.Task;
+import com.github.anba.es6draft.runtime.extensions.timer.Timers;
+import com.github.anba.es6draft.runtime.internal.Messages;
+import com.github.anba.es6draft.runtime.internal.Properties.Function;
+import com.github.anba.es6draft.runtime.internal.TaskSource;
+import com.github.anba.es6draft.runtime.objects.promise.PromiseCapability;
+import com.github.anba.es6draft.runtime.objects.promise.PromiseObject;
+import com.github.anba.es6draft.runtime.types.ScriptObject;
+import com.github.anba.es6draft.runtime.types.Type;
+
+/**
+ * Event loop for asynchronous file and socket I/O.
+ * <p>
+ * Socket readiness is multiplexed through a {@link Selector}, file operations are performed with
+ * {@link AsynchronousFileChannel}s. The event loop also dispatches the timers of its {@link Timers} object, so a single
+ * thread can serve timers and I/O operations. Each I/O function returns a promise which is resolved in a task returned
+ * from {@link #nextTask()} resp. {@link #awaitTask()}.
+ * <p>
+ * All selector and channel state is only accessed from the thread which retrieves the tasks, the I/O functions post
+ * their operations to that thread.
+ */
+public final class EventLoop implements TaskSource {
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final int LISTEN_BACKLOG = 1024;
+
+    private final Selector selector;
+    private final Timers timers;
+    private final ConcurrentLinkedQueue<Runnable> operations = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Task> completions = new ConcurrentLinkedQueue<>();
+    private final ConcurrentHashMap<Integer, Handle> handles = new ConcurrentHashMap<>();
+    private final AtomicInteger handleIds = new AtomicInteger();
+    // Number of operations whose promise has not yet been resolved.
+    private final AtomicInteger pendingOperations = new AtomicInteger();
+
+    /**
+     * Constructs a new event loop.
+     */
+    public EventLoop() {
+        try {
+            this.selector = Selector.open();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.timers = new Timers(selector::wakeup);
+    }
+
+    /**
+     * Returns the timers dispatched by this event loop.
+     *
+     * @return the timers object
+     */
+    public Timers getTimers() {
+        return timers;
+    }
+
+    /**
+     * A pending operation and its promise capability.
+     */
+    private final class Operation {
+        private final ExecutionContext cx;
+        private final PromiseCapability<PromiseObject> capability;
+
+        Operation(ExecutionContext cx) {
+            this.cx = cx;
+            this.capability = PromiseBuiltinCapability(cx);
+            pendingOperations.incrementAndGet();
+        }
+
+        ScriptObject getPromise() {
+            return capability.getPromise();
+        }
+
+        void resolve(Object value) {
+            complete(() -> capability.getResolve().call(cx, UNDEFINED, value));
+        }
+
+        void reject(Throwable e) {
+            String message = errorMessage(e);
+            complete(() -> capability.getReject().call(cx, UNDEFINED, newError(cx, message).getValue()));
+        }
+
+        private void complete(Task task) {
+            completions.add(task);
+            pendingOperations.decrementAndGet();
+            selector.wakeup();
+        }
+    }
+
+    private abstract class Handle {
+        final int id = handleIds.incrementAndGet();
+        SelectionKey key;
+
+        abstract SelectableChannel channel();
+
+        abstract int interestOps();
+
+        abstract void ready() throws IOException;
+
+        abstract void cancel(IOException reason);
+
+        void failed(IOException e) {
+            cancel(e);
+        }
+
+        final void dispatch() {
+            try {
+                ready();
+            } catch (IOException e) {
+                failed(e);
+            }
+        }
+
+        final void updateInterest() throws ClosedChannelException {
+            if (!channel().isOpen()) {
+                return;
+            }
+            int ops = interestOps();
+            if (key == null) {
+                if (ops != 0) {
+                    key = channel().register(selector, ops, this);
+                }
+            } else {
+                key.interestOps(ops);
+            }
+        }
+
+        final void close() {
+            handles.remove(id);
+            try {
+                channel().close();
+            } catch (IOException e) {
+                // Ignore errors when closing the channel.
+            }
+            cancel(new ClosedChannelException());
+        }
+    }
+
+    private final class ServerHandle extends Handle {
+        private final ServerSocketChannel channel;
+        private final ArrayDeque<Operation> accepts = new ArrayDeque<>();
+
+        ServerHandle(ServerSocketChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        SelectableChannel channel() {
+            return channel;
+        }
+
+        @Override
+        int interestOps() {
+            return accepts.isEmpty() ? 0 : SelectionKey.OP_ACCEPT;
+        }
+
+        void accept(Operation op) {
+            accepts.add(op);
+            dispatch();
+        }
+
+        @Override
+        void ready() throws IOException {
+            while (!accepts.isEmpty()) {
+                SocketChannel socket = channel.accept();
+                if (socket == null) {
+                    break;
+                }
+                socket.configureBlocking(false);
+                SocketHandle handle = new SocketHandle(socket);
+                handles.put(handle.id, handle);
+                accepts.poll().resolve(handle.id);
+            }
+            updateInterest();
+        }
+
+        @Override
+        void cancel(IOException reason) {
+            for (Operation op; (op = accepts.poll()) != null;) {
+                op.reject(reason);
+            }
+        }
+    }
+
+    private static final class Write {
+        final Operation op;
+        final ByteBuffer buffer;
+
+        Write(Operation op, ByteBuffer buffer) {
+            this.op = op;
+            this.buffer = buffer;
+        }
+    }
+
+    private final class SocketHandle extends Handle {
+        private final SocketChannel channel;
+        private final ArrayDeque<Operation> reads = new ArrayDeque<>();
+        private final ArrayDeque<Write> writes = new ArrayDeque<>();
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private Operation connect;
+        private boolean endOfStream;
+
+        SocketHandle(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        SelectableChannel channel() {
+            return channel;
+        }
+
+        @Override
+        int interestOps() {
+            if (connect != null) {
+                return SelectionKey.OP_CONNECT;
+            }
+            int ops = 0;
+            if (!reads.isEmpty()) {
+                ops |= SelectionKey.OP_READ;
+            }
+            if (!writes.isEmpty()) {
+                ops |= SelectionKey.OP_WRITE;
+            }
+            return ops;
+        }
+
+        void connect(Operation op, InetSocketAddress address) throws IOException {
+            if (channel.connect(address)) {
+                op.resolve(id);
+            } else {
+                connect = op;
+                updateInterest();
+            }
+        }
+
+        void read(Operation op) {
+            reads.add(op);
+            if (connect == null) {
+                dispatch();
+            }
+        }
+
+        void write(Operation op, ByteBuffer buffer) {
+            writes.add(new Write(op, buffer));
+            if (connect == null) {
+                dispatch();
+            }
+        }
+
+        @Override
+        void ready() throws IOException {
+            if (connect != null) {
+                if (!channel.finishConnect()) {
+                    return;
+                }
+                Operation op = connect;
+                connect = null;
+                op.resolve(id);
+            }
+            while (!reads.isEmpty()) {
+                if (endOfStream) {
+                    reads.poll().resolve(NULL);
+                    continue;
+                }
+                int n = channel.read(readBuffer);
+                if (n == 0) {
+                    break;
+                }
+                if (n < 0) {
+                    endOfStream = true;
+                }
+                String chars = decode(endOfStream);
+                if (!chars.isEmpty()) {
+                    reads.poll().resolve(chars);
+                }
+            }
+            while (!writes.isEmpty()) {
+                Write write = writes.peek();
+                channel.write(write.buffer);
+                if (write.buffer.hasRemaining()) {
+                    break;
+                }
+                writes.poll().op.resolve(UNDEFINED);
+            }
+            updateInterest();
+        }
+
+        private String decode(boolean endOfInput) {
+            ByteBuffer bytes = readBuffer;
+            bytes.flip();
+            CharBuffer chars = CharBuffer.allocate(bytes.remaining());
+            decoder.decode(bytes, chars, endOfInput);
+            if (endOfInput) {
+                // Incomplete byte sequences at the end of the stream are replaced.
+                decoder.flush(chars);
+            }
+            // Keep incomplete byte sequences for the next read.
+            bytes.compact();
+            chars.flip();
+            return chars.toString();
+        }
+
+        @Override
+        void failed(IOException e) {
+            if (connect != null) {
+                connect.reject(e);
+                connect = null;
+            }
+            cancel(e);
+            close();
+        }
+
+        @Override
+        void cancel(IOException reason) {
+            for (Operation op; (op = reads.poll()) != null;) {
+                op.reject(reason);
+            }
+            for (Write write; (write = writes.poll()) != null;) {
+                write.op.reject(reason);
+            }
+        }
+    }
+
+    private static String errorMessage(Throwable e) {
+        String name = e.getClass().getSimpleName();
+        return e.getMessage() != null ? name + ": " + e.getMessage() : name;
+    }
+
+    private <HANDLE extends Handle> HANDLE getHandle(ExecutionContext cx, int handleId, Class<HANDLE> type) {
+        Handle handle = handles.get(handleId);
+        if (!type.isInstance(handle)) {
+            throw newTypeError(cx, Messages.Key.IncompatibleObject);
+        }
+        return type.cast(handle);
+    }
+
+    @FunctionalInterface
+    private interface IOAction {
+        void run() throws IOException;
+    }
+
+    private void post(Operation op, IOAction action) {
+        operations.add(() -> {
+            try {
+                action.run();
+            } catch (IOException e) {
+                op.reject(e);
+            }
+        });
+        selector.wakeup();
+    }
+
+    private void runOperations() {
+        for (Runnable op; (op = operations.poll()) != null;) {
+            op.run();
+        }
+    }
+
+    private void processSelectedKeys() {
+        for (Iterator<SelectionKey> iter = selector.selectedKeys().iterator(); iter.hasNext();) {
+            SelectionKey key = iter.next();
+            iter.remove();
+            if (key.isValid()) {
+                ((Handle) key.attachment()).dispatch();
+            }
+        }
+    }
+
+    private Task pollTask() {
+        runOperations();
+        Task task = completions.poll();
+        if (task != null) {
+            return task;
+        }
+        return timers.pollTask();
+    }
+
+    @Override
+    public Task nextTask() throws InterruptedException {
+        Task task = pollTask();
+        if (task != null) {
+            return task;
+        }
+        if (pendingOperations.get() == 0 && completions.isEmpty() && timers.nextTimeout() < 0) {
+            return null;
+        }
+        return awaitTask();
+    }
+
+    @Override
+    public Task awaitTask() throws InterruptedException {
+        for (;;) {
+            Task task = pollTask();
+            if (task != null) {
+                return task;
+            }
+            long timeout = timers.nextTimeout();
+            try {
+                if (timeout < 0) {
+                    selector.select();
+                } else if (timeout == 0) {
+                    selector.selectNow();
+                } else {
+                    selector.select(timeout);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            processSelectedKeys();
+        }
+    }
+
+    /**
+     * Reads all bytes from a file.
+     */
+    private static final class ReadFileHandler implements CompletionHandler<Integer, ByteBuffer> {
+        private final AsynchronousFileChannel channel;
+        private final Operation op;
+
+        ReadFileHandler(AsynchronousFileChannel channel, Operation op) {
+            this.channel = channel;
+            this.op = op;
+        }
+
+        void read(ByteBuffer buffer) {
+            channel.read(buffer, buffer.position(), buffer, this);
+        }
+
+        @Override
+        public void completed(Integer result, ByteBuffer buffer) {
+            if (result >= 0 && buffer.hasRemaining()) {
+                read(buffer);
+                return;
+            }
+            closeChannel(channel);
+            buffer.flip();
+            op.resolve(StandardCharsets.UTF_8.decode(buffer).toString());
+        }
+
+        @Override
+        public void failed(Throwable exc, ByteBuffer buffer) {
+            closeChannel(channel);
+            op.reject(exc);
+        }
+    }
+
+    /**
+     * Writes all bytes to a file.
+     */
+    private static final class WriteFileHandler implements CompletionHandler<Integer, ByteBuffer> {
+        private final AsynchronousFileChannel channel;
+        private final Operation op;
+
+        WriteFileHandler(AsynchronousFileChannel channel, Operation op) {
+            this.channel = channel;
+            this.op = op;
+        }
+
+        void write(ByteBuffer buffer) {
+            channel.write(buffer, buffer.position(), buffer, this);
+        }
+
+        @Override
+        public void completed(Integer result, ByteBuffer buffer) {
+            if (buffer.hasRemaining()) {
+                write(buffer);
+                return;
+            }
+            closeChannel(channel);
+            op.resolve(UNDEFINED);
+        }
+
+        @Override
+        public void failed(Throwable exc, ByteBuffer buffer) {
+            closeChannel(channel);
+            op.reject(exc);
+        }
+    }
+
+    private static void closeChannel(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Ignore errors when closing the channel.
+        }
+    }
+
+    /**
+     * Resolves the file name against the base directory of the runtime context.
+     */
+    private static Path absolutePath(ExecutionContext cx, String filename) {
+        return cx.getRuntimeContext().getBaseDirectory().resolve(filename);
+    }
+
+    /**
+     * io-function: {@code readFile(filename)}
+     *
+     * @param cx
+     *            the execution context
+     * @param filename
+     *            the file name
+     * @return a promise for the file content
+     */
+    @Function(name = "readFile", arity = 1)
+    public ScriptObject readFile(ExecutionContext cx, String filename) {
+        Operation op = new Operation(cx);
+        try {
+            Path file = absolutePath(cx, filename);
+            AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, StandardOpenOption.READ);
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                closeChannel(channel);
+                throw new IOException("File too large: " + filename);
+            }
+            new ReadFileHandler(channel, op).read(ByteBuffer.allocate((int) size));
+        } catch (IOException | RuntimeException e) {
+            op.reject(e);
+        }
+        return op.getPromise();
+    }
+
+    /**
+     * io-function: {@code writeFile(filename, data)}
+     *
+     * @param cx
+     *            the execution context
+     * @param filename
+     *            the file name
+     * @param data
+     *            the file content
+     * @return a promise which is resolved when the file has been written
+     */
+    @Function(name = "writeFile", arity = 2)
+    public ScriptObject writeFile(ExecutionContext cx, String filename, String data) {
+        Operation op = new Operation(cx);
+        try {
+            Path file = absolutePath(cx, filename);
+            AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, StandardOpenOption.WRITE,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            new WriteFileHandler(channel, op).write(StandardCharsets.UTF_8.encode(data));
+        } catch (IOException | RuntimeException e) {
+            op.reject(e);
+        }
+        return op.getPromise();
+    }
+
+    /**
+     * io-function: {@code listen(port [, host])}
+     *
+     * @param cx
+     *            the execution context
+     * @param port
+     *            the port number, {@code 0} to select an ephemeral port
+     * @param host
+     *            the optional host name, defaults to the loopback address
+     * @return the server handle
+     */
+    @Function(name = "listen", arity = 1)
+    public int listen(ExecutionContext cx, int port, Object host) {
+        InetSocketAddress address;
+        if (Type.isUndefined(host)) {
+            address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        } else {
+            address = new InetSocketAddress(ToFlatString(cx, host), port);
+        }
+        try {
+            ServerSocketChannel channel = ServerSocketChannel.open();
+            try {
+                channel.configureBlocking(false);
+                channel.bind(address, LISTEN_BACKLOG);
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+            ServerHandle handle = new ServerHandle(channel);
+            handles.put(handle.id, handle);
+            return handle.id;
+        } catch (IOException e) {
+            throw newError(cx, errorMessage(e));
+        }
+    }
+
+    /**
+     * io-function: {@code localPort(handle)}
+     *
+     * @param cx
+     *            the execution context
+     * @param handleId
+     *            the server or socket handle
+     * @return the local port number
+     */
+    @Function(name = "localPort", arity = 1)
+    public int localPort(ExecutionContext cx, int handleId) {
+        Handle handle = getHandle(cx, handleId, Handle.class);
+        if (handle instanceof ServerHandle) {
+            return ((ServerHandle) handle).channel.socket().getLocalPort();
+        }
+        return ((SocketHandle) handle).channel.socket().getLocalPort();
+    }
+
+    /**
+     * io-function: {@code accept(server)}
+     *
+     * @param cx
+     *            the execution context
+     * @param serverId
+     *            the server handle
+     * @return a promise for the socket handle of the next connection
+     */
+    @Function(name = "accept", arity = 1)
+    public ScriptObject accept(ExecutionContext cx, int serverId) {
+        ServerHandle server = getHandle(cx, serverId, ServerHandle.class);
+        Operation op = new Operation(cx);
+        post(op, () -> server.accept(op));
+        return op.getPromise();
+    }
+
+    /**
+     * io-function: {@code connect(host, port)}
+     *
+     * @param cx
+     *            the execution context
+     * @param host
+     *            the host name
+     * @param port
+     *            the port number
+     * @return a promise for the socket handle
+     */
+    @Function(name = "connect", arity = 2)
+    public ScriptObject connect(ExecutionContext cx, String host, int port) {
+        Operation op = new Operation(cx);
+        try {
+            SocketChannel channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            SocketHandle socket = new SocketHandle(channel);
+            handles.put(socket.id, socket);
+            post(op, () -> {
+                try {
+                    socket.connect(op, new InetSocketAddress(host, port));
+                } catch (IOException | RuntimeException e) {
+                    socket.close();
+                    throw e;
+                }
+            });
+        } catch (IOException e) {
+            op.reject(e);
+        }
+        return op.getPromise();
+    }
+
+    /**
+     * io-function: {@code receive(socket)}
+     *
+     * @param cx
+     *            the execution context
+     * @param socketId
+     *            the socket handle
+     * @return a promise for the received characters or {@code null} at the end of the stream
+     */
+    @Function(name = "receive", arity = 1)
+    public ScriptObject receive(ExecutionContext cx, int socketId) {
+        SocketHandle socket = getHandle(cx, socketId, SocketHandle.class);
+        Operation op = new Operation(cx);
+        post(op, () -> socket.read(op));
+        return op.getPromise();
+    }
+
+    /**
+     * io-function: {@code send(socket, data)}
+     *
+     * @param cx
+     *            the execution context
+     * @param socketId
+     *            the socket handle
+     * @param data
+     *            the characters to send
+     * @return a promise which is resolved when all characters have been sent
+     */
+    @Function(name = "send", arity = 2)
+    public ScriptObject send(ExecutionContext cx, int socketId, String data) {
+        SocketHandle socket = getHandle(cx, socketId, SocketHandle.class);
+        Operation op = new Operation(cx);
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(data);
+        post(op, () -> socket.write(op, buffer));
+        return op.getPromise();
+    }
+
+    /**
+     * io-function: {@code close(handle)}
+     *
+     * @param cx
+     *            the execution context
+     * @param handleId
+     *            the server or socket handle
+     */
+    @Function(name = "close", arity = 1)
+    public void close(ExecutionContext cx, int handleId) {
+        Handle handle = getHandle(cx, handleId, Handle.class);
+        handles.remove(handleId);
+        operations.add(handle::close);
+        selector.wakeup();
+    }
+}
@@ -0,0 +1,265 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.extensions.timer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * Hierarchical timing wheel.
+ * <p>
+ * Timers are stored in doubly linked slot lists, so adding and removing a timer are constant time operations. The root
+ * wheel has one slot per tick, timers with a later deadline are kept in the coarser wheels and cascaded into the finer
+ * wheels when their slot becomes current. Timers with the same deadline share a single slot and expire together.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <TIMER>
+ *            the timer type
+ */
+final class TimerWheel<TIMER extends TimerWheel.Timer> {
+    private static final int ROOT_BITS = 8;
+    private static final int ROOT_SIZE = 1 << ROOT_BITS;
+    private static final int ROOT_MASK = ROOT_SIZE - 1;
+    private static final int LEVEL_BITS = 6;
+    private static final int LEVEL_SIZE = 1 << LEVEL_BITS;
+    private static final int LEVEL_MASK = LEVEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELTA = (1L << (ROOT_BITS + LEVELS * LEVEL_BITS)) - 1;
+
+    private static final Comparator<Timer> TIMER_ORDER = Comparator.comparingInt(t -> t.id);
+
+    private final Timer[] root = newSlots(ROOT_SIZE);
+    private final Timer[][] levels = new Timer[LEVELS][];
+    private final ArrayList<Timer> batch = new ArrayList<>();
+    // The next tick to process.
+    private long currentTick;
+    private int size;
+
+    /**
+     * Base class for timers stored in a {@link TimerWheel}.
+     */
+    static abstract class Timer {
+        private final int id;
+        private long deadline;
+        private Timer prev, next;
+
+        /**
+         * Constructs a new timer. Timers with the same deadline expire in ascending order of their ids.
+         *
+         * @param id
+         *            the timer id
+         */
+        protected Timer(int id) {
+            this.id = id;
+        }
+
+        final int getTimerId() {
+            return id;
+        }
+
+        final boolean isScheduled() {
+            return next != null;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = next = null;
+        }
+    }
+
+    private static final class Slot extends Timer {
+        Slot() {
+            super(0);
+            super.prev = super.next = this;
+        }
+
+        boolean isEmpty() {
+            return super.next == this;
+        }
+    }
+
+    /**
+     * Constructs a new timing wheel.
+     *
+     * @param currentTick
+     *            the current tick
+     */
+    TimerWheel(long currentTick) {
+        for (int i = 0; i < LEVELS; ++i) {
+            levels[i] = newSlots(LEVEL_SIZE);
+        }
+        this.currentTick = currentTick;
+    }
+
+    private static Timer[] newSlots(int length) {
+        Timer[] slots = new Timer[length];
+        for (int i = 0; i < length; ++i) {
+            slots[i] = new Slot();
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the number of scheduled timers.
+     *
+     * @return the number of timers
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds a timer to this timing wheel.
+     *
+     * @param timer
+     *            the timer
+     * @param deadline
+     *            the tick when the timer expires
+     */
+    void add(TIMER timer, long deadline) {
+        Timer t = timer;
+        assert !t.isScheduled();
+        t.deadline = deadline;
+        insert(t);
+        size += 1;
+    }
+
+    /**
+     * Removes a timer from this timing wheel.
+     *
+     * @param timer
+     *            the timer
+     * @return {@code true} if the timer was scheduled
+     */
+    boolean remove(TIMER timer) {
+        Timer t = timer;
+        if (!t.isScheduled()) {
+            return false;
+        }
+        t.unlink();
+        size -= 1;
+        return true;
+    }
+
+    private void insert(Timer timer) {
+        long deadline = timer.deadline;
+        long delta = deadline - currentTick;
+        Timer slot;
+        if (delta < ROOT_SIZE) {
+            // Expired timers are placed into the current slot.
+            slot = root[(int) (Math.max(deadline, currentTick) & ROOT_MASK)];
+        } else {
+            if (delta > MAX_DELTA) {
+                deadline = currentTick + MAX_DELTA;
+                delta = MAX_DELTA;
+            }
+            int level = 0, shift = ROOT_BITS;
+            while (delta >= 1L << (shift + LEVEL_BITS)) {
+                level += 1;
+                shift += LEVEL_BITS;
+            }
+            slot = levels[level][(int) ((deadline >>> shift) & LEVEL_MASK)];
+        }
+        Timer last = slot.prev;
+        timer.prev = last;
+        timer.next = slot;
+        last.next = timer;
+        slot.prev = timer;
+    }
+
+    /**
+     * Advances this timing wheel up to and including {@code tick} and adds all expired timers to {@code expired}.
+     * Timers are added in ascending order of their deadline and id.
+     *
+     * @param tick
+     *            the current tick
+     * @param expired
+     *            the collection for expired timers
+     */
+    @SuppressWarnings("unchecked")
+    void advance(long tick, Collection<? super TIMER> expired) {
+        if (size == 0) {
+            currentTick = Math.max(currentTick, tick + 1);
+            return;
+        }
+        ArrayList<Timer> batch = this.batch;
+        for (; currentTick <= tick && size > 0; ++currentTick) {
+            int index = (int) (currentTick & ROOT_MASK);
+            if (index == 0) {
+                cascade();
+            }
+            Timer slot = root[index];
+            for (Timer t = slot.next; t != slot;) {
+                Timer next = t.next;
+                t.prev = t.next = null;
+                batch.add(t);
+                t = next;
+            }
+            if (!batch.isEmpty()) {
+                slot.prev = slot.next = slot;
+                size -= batch.size();
+                batch.sort(TIMER_ORDER);
+                for (Timer t : batch) {
+                    expired.add((TIMER) t);
+                }
+                batch.clear();
+            }
+        }
+        currentTick = Math.max(currentTick, tick + 1);
+    }
+
+    private void cascade() {
+        for (int level = 0, shift = ROOT_BITS; level < LEVELS; ++level, shift += LEVEL_BITS) {
+            int index = (int) ((currentTick >>> shift) & LEVEL_MASK);
+            Timer slot = levels[level][index];
+            Timer t = slot.next;
+            slot.prev = slot.next = slot;
+            while (t != slot) {
+                Timer next = t.next;
+                insert(t);
+                t = next;
+            }
+            if (index != 0) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Returns the next tick when a timer may expire or {@code -1} if no timers are scheduled. The returned tick is
+     * never later than the deadline of the earliest timer.
+     *
+     * @return the next tick to advance to or {@code -1}
+     */
+    long nextTick() {
+        if (size == 0) {
+            return -1;
+        }
+        long tick = currentTick;
+        long next = Long.MAX_VALUE;
+        for (int k = 0; k < ROOT_SIZE; ++k) {
+            if (!((Slot) root[(int) ((tick + k) & ROOT_MASK)]).isEmpty()) {
+                next = tick + k;
+                break;
+            }
+        }
+        for (int level = 0, shift = ROOT_BITS; level < LEVELS; ++level, shift += LEVEL_BITS) {
+            // Ticks when the slots of this level are cascaded.
+            long boundary = ((tick + (1L << shift) - 1) >>> shift) << shift;
+            for (int k = 0; k < LEVEL_SIZE && boundary < next; ++k, boundary += 1L << shift) {
+                if (!((Slot) levels[level][(int) ((boundary >>> shift) & LEVEL_MASK)]).isEmpty()) {
+                    next = boundary;
+                    break;
+                }
+            }
+        }
+        return next;
+    }
+}
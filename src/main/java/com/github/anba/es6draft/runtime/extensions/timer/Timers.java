@@ -9,11 +9,12 @@ package com.github.anba.es6draft.runtime.extensions.timer;
 import static com.github.anba.es6draft.runtime.AbstractOperations.IsCallable;
 import static com.github.anba.es6draft.runtime.AbstractOperations.ToFlatString;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.DelayQueue;
-import java.util.concurrent.Delayed;
+import java.util.ArrayDeque;
+import java.util.HashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.github.anba.es6draft.Script;
 import com.github.anba.es6draft.compiler.CompilationException;
@@ -38,62 +39,52 @@ public final class Timers implements TaskSource {
     private static final int TIMER_CLAMP_INTERVAL = 4;
     private static final int MAX_TIMEOUT = Integer.MAX_VALUE;
     private final AtomicInteger timerIds = new AtomicInteger();
-    private final DelayQueue<TimerTask> queue = new DelayQueue<>();
-    private final ConcurrentHashMap<Integer, TimerTask> activeTimers = new ConcurrentHashMap<>(16, 0.75f, 2);
+    private final long startTime = System.nanoTime();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final TimerWheel<TimerTask> wheel = new TimerWheel<>(0);
+    private final ArrayDeque<TimerTask> expired = new ArrayDeque<>();
+    private final HashMap<Integer, TimerTask> activeTimers = new HashMap<>();
+    private final Runnable wakeup;
     private int nestingLevel = 0;
 
-    private abstract class TimerTask implements Task, Delayed {
-        private final int timerId;
+    /**
+     * Constructs a new Timers object.
+     */
+    public Timers() {
+        this(null);
+    }
+
+    /**
+     * Constructs a new Timers object for an event loop which polls the timers through {@link #pollTask()} and
+     * {@link #nextTimeout()}.
+     * 
+     * @param wakeup
+     *            the action to wake up the event loop after a new timer was scheduled or {@code null}
+     */
+    public Timers(Runnable wakeup) {
+        this.wakeup = wakeup;
+    }
+
+    private abstract class TimerTask extends TimerWheel.Timer implements Task {
         private final long delay;
         private final boolean interval;
         private boolean cancelled = false;
-        private long time;
 
         protected TimerTask(long delay, boolean interval) {
-            this.timerId = timerIds.incrementAndGet();
+            super(timerIds.incrementAndGet());
             this.delay = delay;
             this.interval = interval;
-            this.time = nextStart();
         }
 
-        private long nextStart() {
-            return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
-        }
-
-        int getTimerId() {
-            return timerId;
+        long nextStart() {
+            return deadline(delay);
         }
 
         boolean isInterval() {
             return interval;
         }
 
-        void cancel() {
-            if (!cancelled) {
-                cancelled = true;
-                queue.remove(this);
-            }
-        }
-
-        @Override
-        public int compareTo(Delayed o) {
-            if (o == this) {
-                return 0;
-            }
-            if (o instanceof TimerTask) {
-                TimerTask x = (TimerTask) o;
-                long delta = time - x.time;
-                return delta < 0 ? -1 : delta > 0 ? 1 : timerId < x.timerId ? -1 : 1;
-            }
-            long delta = getDelay(TimeUnit.NANOSECONDS) - o.getDelay(TimeUnit.NANOSECONDS);
-            return delta == 0 ? 0 : delta < 0 ? -1 : 1;
-        }
-
-        @Override
-        public long getDelay(TimeUnit unit) {
-            return unit.convert(time - System.nanoTime(), TimeUnit.NANOSECONDS);
-        }
-
         @Override
         public final void execute() {
             if (!cancelled) {
@@ -103,9 +94,8 @@ public final class Timers implements TaskSource {
                     executeInner();
                 } finally {
                     nestingLevel--;
-                    if (!cancelled && interval) {
-                        time = nextStart;
-                        queue.offer(this);
+                    if (interval) {
+                        rescheduleTimer(this, nextStart);
                     }
                 }
             }
@@ -155,6 +145,27 @@ public final class Timers implements TaskSource {
         }
     }
 
+    /**
+     * Returns the number of milliseconds elapsed since this object was created.
+     * 
+     * @return the current tick
+     */
+    private long currentTick() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Returns the first tick after {@code delay} milliseconds have elapsed.
+     * 
+     * @param delay
+     *            the delay in milliseconds
+     * @return the deadline tick
+     */
+    private long deadline(long delay) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime + TimeUnit.MILLISECONDS.toNanos(1) - 1)
+                + delay;
+    }
+
     private TimerTask scheduleTimer(long delay, boolean interval, ExecutionContext cx, Object f, Object... args) {
         TimerTask task;
         if (IsCallable(f)) {
@@ -162,33 +173,145 @@ public final class Timers implements TaskSource {
         } else {
             task = new ScriptedTimerTask(delay, interval, cx, ToFlatString(cx, f));
         }
-        activeTimers.put(task.getTimerId(), task);
-        queue.offer(task);
+        long deadline = task.nextStart();
+        lock.lock();
+        try {
+            activeTimers.put(task.getTimerId(), task);
+            wheel.add(task, deadline);
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (wakeup != null) {
+            wakeup.run();
+        }
         return task;
     }
 
+    private void rescheduleTimer(TimerTask task, long deadline) {
+        lock.lock();
+        try {
+            if (!task.cancelled) {
+                wheel.add(task, deadline);
+                available.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
     private void cancelTimer(int timerId) {
-        TimerTask task = activeTimers.remove(timerId);
-        if (task != null) {
-            task.cancel();
+        lock.lock();
+        try {
+            TimerTask task = activeTimers.remove(timerId);
+            if (task != null) {
+                // Expired timers are skipped in awaitTask().
+                task.cancelled = true;
+                wheel.remove(task);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private TimerTask pollExpired() {
+        for (TimerTask task; (task = expired.poll()) != null;) {
+            if (!task.cancelled) {
+                if (!task.isInterval()) {
+                    activeTimers.remove(task.getTimerId());
+                }
+                return task;
+            }
+        }
+        return null;
+    }
+
+    private void purgeCancelled() {
+        for (TimerTask task; (task = expired.peek()) != null && task.cancelled;) {
+            expired.poll();
+        }
+    }
+
+    /**
+     * Returns the next expired timer task without waiting or {@code null} if no timer has expired.
+     * 
+     * @return the next expired timer task or {@code null}
+     */
+    public Task pollTask() {
+        lock.lock();
+        try {
+            TimerTask task = pollExpired();
+            if (task == null) {
+                wheel.advance(currentTick(), expired);
+                task = pollExpired();
+            }
+            return task;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of milliseconds until the next timer may expire. Returns {@code 0} if a timer has already
+     * expired and {@code -1} if no timers are scheduled.
+     * 
+     * @return the number of milliseconds until the next timer may expire or {@code -1}
+     */
+    public long nextTimeout() {
+        lock.lock();
+        try {
+            purgeCancelled();
+            if (!expired.isEmpty()) {
+                return 0;
+            }
+            long nextTick = wheel.nextTick();
+            if (nextTick < 0) {
+                return -1;
+            }
+            return Math.max(nextTick - currentTick(), 0);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public Task nextTask() throws InterruptedException {
-        if (queue.isEmpty()) {
-            return null;
+        lock.lock();
+        try {
+            purgeCancelled();
+            if (expired.isEmpty() && wheel.size() == 0) {
+                return null;
+            }
+        } finally {
+            lock.unlock();
         }
         return awaitTask();
     }
 
     @Override
     public Task awaitTask() throws InterruptedException {
-        TimerTask task = queue.take();
-        if (!task.isInterval()) {
-            activeTimers.remove(task.getTimerId());
+        lock.lockInterruptibly();
+        try {
+            for (;;) {
+                TimerTask task = pollExpired();
+                if (task != null) {
+                    return task;
+                }
+                long tick = currentTick();
+                wheel.advance(tick, expired);
+                if (!expired.isEmpty()) {
+                    continue;
+                }
+                long nextTick = wheel.nextTick();
+                if (nextTick < 0) {
+                    available.await();
+                } else {
+                    available.awaitNanos(TimeUnit.MILLISECONDS.toNanos(nextTick) - (System.nanoTime() - startTime));
+                }
+            }
+        } finally {
+            lock.unlock();
         }
-        return task;
     }
 
     @Function(name = "setTimeout", arity = 2)
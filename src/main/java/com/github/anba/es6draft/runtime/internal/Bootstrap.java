@@ -27,11 +27,14 @@ import com.github.anba.es6draft.compiler.assembler.MethodName;
 import com.github.anba.es6draft.compiler.assembler.MethodTypeDescriptor;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.types.Constructor;
+import com.github.anba.es6draft.runtime.types.Intrinsics;
 import com.github.anba.es6draft.runtime.types.ScriptObject;
 import com.github.anba.es6draft.runtime.types.Type;
 import com.github.anba.es6draft.runtime.types.builtins.BuiltinConstructor;
 import com.github.anba.es6draft.runtime.types.builtins.BuiltinFunction;
 import com.github.anba.es6draft.runtime.types.builtins.FunctionObject;
+import com.github.anba.es6draft.runtime.types.builtins.NativeFunction;
+import com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject;
 
 /**
  *
@@ -42,9 +45,11 @@ public final class Bootstrap {
 
     private static final class CallNames {
         static final String CALL = "expression::call";
+        static final String CALL_FIXED = "expression::callFixed";
         static final String CONSTRUCT = "expression::construct";
         static final String SUPER = "expression::super";
         static final String CONCAT = "expression::concat";
+        static final String OBJECT_LITERAL = "expression::objectLiteral";
         static final String ADD = "expression::add";
         static final String EQ = "expression::equals";
         static final String SHEQ = "expression::strictEquals";
@@ -65,11 +70,32 @@ public final class Bootstrap {
                 boolean.class, Object.class, Object.class);
         static final MethodTypeDescriptor CALL = MethodTypeDescriptor.methodType(Object.class,
                 Object.class, ExecutionContext.class, Object.class, Object[].class);
+        static final MethodTypeDescriptor[] CALL_FIXED = callFixedDescriptors();
         static final MethodTypeDescriptor CONSTRUCT = MethodTypeDescriptor.methodType(
                 ScriptObject.class, Object.class, ExecutionContext.class, Object[].class);
         static final MethodTypeDescriptor SUPER = MethodTypeDescriptor.methodType(
                 ScriptObject.class, Constructor.class, ExecutionContext.class, Constructor.class,
                 Object[].class);
+
+        private static MethodTypeDescriptor[] callFixedDescriptors() {
+            MethodTypeDescriptor[] descriptors = new MethodTypeDescriptor[MAX_FIXED_ARITY_CALL + 1];
+            for (int i = 0; i < descriptors.length; ++i) {
+                descriptors[i] = MethodTypeDescriptor.methodType(Object.class, callFixedParameters(i));
+            }
+            return descriptors;
+        }
+    }
+
+    /**
+     * Maximum number of arguments for fixed-arity call expressions.
+     */
+    private static final int MAX_FIXED_ARITY_CALL = 4;
+
+    private static Class<?>[] callFixedParameters(int argumentCount) {
+        Class<?>[] parameters = new Class<?>[3 + argumentCount];
+        Arrays.fill(parameters, Object.class);
+        parameters[1] = ExecutionContext.class;
+        return parameters;
     }
 
     private static final Handle BOOTSTRAP;
@@ -97,6 +123,38 @@ public final class Bootstrap {
         return Descriptors.CALL;
     }
 
+    /**
+     * Returns {@code true} if a fixed-arity call expression is available for <var>argumentCount</var> arguments.
+     * 
+     * @param argumentCount
+     *            the number of call arguments
+     * @return {@code true} if a fixed-arity call expression can be used
+     */
+    public static boolean hasFixedArityCall(int argumentCount) {
+        return 0 <= argumentCount && argumentCount <= MAX_FIXED_ARITY_CALL;
+    }
+
+    /**
+     * Returns the invokedynamic instruction name for fixed-arity call expressions.
+     * 
+     * @return the invokedynamic instruction name
+     */
+    public static String getFixedArityCallName() {
+        return CallNames.CALL_FIXED;
+    }
+
+    /**
+     * Returns the method descriptor for fixed-arity call expressions.
+     * 
+     * @param argumentCount
+     *            the number of call arguments
+     * @return the method descriptor
+     */
+    public static MethodTypeDescriptor getFixedArityCallMethodDescriptor(int argumentCount) {
+        assert hasFixedArityCall(argumentCount);
+        return Descriptors.CALL_FIXED[argumentCount];
+    }
+
     /**
      * Returns the bootstrapping handle for call expressions.
      * 
@@ -140,6 +198,99 @@ public final class Bootstrap {
         return setCallSiteTarget(callsite, target, test, callGenericMH);
     }
 
+    private static final MethodHandle callFixedSetupMH;
+    private static final MethodHandle[] callFixedGenericMH;
+    static {
+        MethodLookup lookup = new MethodLookup(MethodHandles.lookup());
+        callFixedSetupMH = lookup.findStatic("callFixedSetup", MethodType.methodType(MethodHandle.class,
+                MutableCallSite.class, Object.class, ExecutionContext.class, Object.class, Object[].class));
+        callFixedGenericMH = new MethodHandle[MAX_FIXED_ARITY_CALL + 1];
+        for (int i = 0; i < callFixedGenericMH.length; ++i) {
+            callFixedGenericMH[i] = collectCallArguments(callGenericMH, i);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static MethodHandle callFixedSetup(MutableCallSite callsite, Object function, ExecutionContext cx,
+            Object thisValue, Object[] arguments) {
+        int argumentCount = arguments.length;
+        MethodHandle target, test;
+        if (function instanceof FunctionObject) {
+            FunctionObject fn = (FunctionObject) function;
+            test = MethodHandles.insertArguments(testFunctionObjectMH, 1, fn.getMethodInfo());
+            target = collectCallArguments(fn.getCallMethod(), argumentCount);
+        } else if (function instanceof BuiltinFunction) {
+            BuiltinFunction fn = (BuiltinFunction) function;
+            test = MethodHandles.insertArguments(testBuiltinFunctionMH, 1, fn.getMethodInfo());
+            target = fn.getCallMethod(argumentCount);
+            if (fn instanceof NativeFunction) {
+                MethodHandle intrinsic = ((NativeFunction) fn).getIntrinsic(thisValue, arguments);
+                if (intrinsic != null) {
+                    target = intrinsicTarget(callsite.type(), intrinsic, target);
+                }
+            }
+        } else {
+            target = test = null;
+        }
+        return setCallSiteTarget(callsite, target, test, callFixedGenericMH[argumentCount]);
+    }
+
+    private static final MethodHandle isInstanceMH;
+    static {
+        MethodLookup lookup = new MethodLookup(MethodHandles.lookup());
+        isInstanceMH = lookup.findVirtual(Class.class, "isInstance",
+                MethodType.methodType(boolean.class, Object.class));
+    }
+
+    /**
+     * Guards the intrinsic fast path with type tests for the this-value and the call arguments. The built-in function
+     * call method is invoked when the type tests fail.
+     * 
+     * @param type
+     *            the call site type
+     * @param intrinsic
+     *            the intrinsic method handle
+     * @param target
+     *            the built-in function call method handle
+     * @return the guarded intrinsic method handle
+     */
+    private static MethodHandle intrinsicTarget(MethodType type, MethodHandle intrinsic, MethodHandle target) {
+        // Skip function and execution context arguments.
+        final int fixedArguments = 2;
+        target = target.asType(type);
+        MethodHandle fastPath = MethodHandles.dropArguments(intrinsic, 0, type.parameterType(0),
+                type.parameterType(1)).asType(type);
+        for (int i = fixedArguments; i < type.parameterCount(); ++i) {
+            Class<?> expected = intrinsic.type().parameterType(i - fixedArguments);
+            if (expected == Object.class) {
+                continue;
+            }
+            MethodHandle test = MethodHandles.insertArguments(isInstanceMH, 0, expected);
+            test = MethodHandles.dropArguments(test, 0, type.parameterList().subList(0, i));
+            fastPath = MethodHandles.guardWithTest(test, fastPath, target);
+        }
+        return fastPath;
+    }
+
+    /**
+     * Adapts a {@code (function, ExecutionContext, Object, Object[]) -> Object} call method handle to accept
+     * <var>argumentCount</var> trailing {@code Object} arguments.
+     * 
+     * @param handle
+     *            the call method handle
+     * @param argumentCount
+     *            the number of call arguments
+     * @return the fixed-arity call method handle
+     */
+    public static MethodHandle collectCallArguments(MethodHandle handle, int argumentCount) {
+        int argumentsIndex = handle.type().parameterCount() - 1;
+        assert handle.type().parameterType(argumentsIndex) == Object[].class;
+        if (argumentCount == 0) {
+            return MethodHandles.insertArguments(handle, argumentsIndex, (Object) ScriptRuntime.EMPTY_ARRAY);
+        }
+        return handle.asCollector(Object[].class, argumentCount);
+    }
+
     @SuppressWarnings("unused")
     private static boolean testFunctionObject(Object function, Object methodInfo) {
         return function instanceof FunctionObject
@@ -887,6 +1038,94 @@ public final class Bootstrap {
         return sb.toString();
     }
 
+    /**
+     * Returns the invokedynamic instruction name for object literals.
+     * 
+     * @return the invokedynamic instruction name
+     */
+    public static String getObjectLiteralName() {
+        return CallNames.OBJECT_LITERAL;
+    }
+
+    /**
+     * Returns the method descriptor for object literals.
+     * 
+     * @param numberOfProperties
+     *            the number of property values
+     * @return the method descriptor
+     */
+    public static MethodTypeDescriptor getObjectLiteralMethodDescriptor(int numberOfProperties) {
+        Class<?>[] parameters = new Class<?>[numberOfProperties + 1];
+        parameters[0] = ExecutionContext.class;
+        Arrays.fill(parameters, 1, parameters.length, Object.class);
+        return MethodTypeDescriptor.methodType(OrdinaryObject.class, parameters);
+    }
+
+    /**
+     * Returns the bootstrapping handle for object literals. The property keys are passed as static bootstrap
+     * arguments.
+     * 
+     * @return the bootstrapping handle
+     */
+    public static Handle getObjectLiteralBootstrap() {
+        return OBJECT_LITERAL_BOOTSTRAP;
+    }
+
+    private static final Handle OBJECT_LITERAL_BOOTSTRAP;
+    private static final MethodHandle objectLiteralMH;
+    private static final MethodHandle stackOverFlow_ObjectLiteral;
+    static {
+        MethodType mt = MethodType.methodType(CallSite.class, MethodHandles.Lookup.class, String.class,
+                MethodType.class, Object[].class);
+        OBJECT_LITERAL_BOOTSTRAP = MethodName.findStatic(Bootstrap.class, "bootstrapObjectLiteral", mt).toHandle();
+
+        MethodLookup lookup = new MethodLookup(MethodHandles.lookup());
+        objectLiteralMH = lookup.findStatic("objectLiteral",
+                MethodType.methodType(OrdinaryObject.class, String[].class, ExecutionContext.class, Object[].class));
+        stackOverFlow_ObjectLiteral = lookup.findStatic("stackOverFlow_ObjectLiteral",
+                MethodType.methodType(OrdinaryObject.class));
+    }
+
+    @SuppressWarnings("unused")
+    private static OrdinaryObject objectLiteral(String[] propertyKeys, ExecutionContext cx, Object[] values) {
+        return OrdinaryObject.ObjectCreate(cx, Intrinsics.ObjectPrototype, propertyKeys, values);
+    }
+
+    @SuppressWarnings("unused")
+    private static OrdinaryObject stackOverFlow_ObjectLiteral() {
+        throw new StackOverflowError("bootstrap stack overflow");
+    }
+
+    /**
+     * The invokedynamic bootstrapping method for object literals.
+     * 
+     * @param caller
+     *            the caller lookup
+     * @param name
+     *            the instruction name
+     * @param type
+     *            the expected method type
+     * @param propertyKeys
+     *            the property keys of the object literal
+     * @return the invokedynamic call-site object
+     */
+    public static CallSite bootstrapObjectLiteral(MethodHandles.Lookup caller, String name, MethodType type,
+            Object... propertyKeys) {
+        if (!CallNames.OBJECT_LITERAL.equals(name)) {
+            throw new IllegalArgumentException(name);
+        }
+        // The property keys are shared by all objects created at this call-site.
+        String[] keys = Arrays.copyOf(propertyKeys, propertyKeys.length, String[].class);
+        try {
+            MethodHandle target = MethodHandles.insertArguments(objectLiteralMH, 0, (Object) keys)
+                    .asCollector(Object[].class, keys.length);
+            return new ConstantCallSite(target.asType(type));
+        } catch (StackOverflowError e) {
+            return new ConstantCallSite(MethodHandles.dropArguments(stackOverFlow_ObjectLiteral, 0,
+                    type.parameterArray()));
+        }
+    }
+
     /**
      * Returns the invokedynamic instruction name for the given binary operator.
      * 
@@ -1311,6 +1550,7 @@ public final class Bootstrap {
     private static final ConstantCallSite stackOverFlow_Construct;
     private static final ConstantCallSite stackOverFlow_Super;
     private static final MethodHandle stackOverFlow_Concat;
+    private static final MethodHandle stackOverFlow_CallFixed;
     static {
         MethodLookup lookup = new MethodLookup(MethodHandles.lookup());
         stackOverFlow_Add = new ConstantCallSite(lookup.findStatic("stackOverFlow_Add", MethodType
@@ -1332,6 +1572,7 @@ public final class Bootstrap {
                         ExecutionContext.class, Constructor.class, Object[].class)));
         stackOverFlow_Concat = lookup.findStatic("stackOverFlow_Concat",
                 MethodType.methodType(CharSequence.class));
+        stackOverFlow_CallFixed = lookup.findStatic("stackOverFlow_CallFixed", MethodType.methodType(Object.class));
     }
 
     @SuppressWarnings("unused")
@@ -1377,6 +1618,11 @@ public final class Bootstrap {
         throw new StackOverflowError("bootstrap stack overflow");
     }
 
+    @SuppressWarnings("unused")
+    private static Object stackOverFlow_CallFixed() {
+        throw new StackOverflowError("bootstrap stack overflow");
+    }
+
     /**
      * The invokedynamic bootstrapping method.
      * 
@@ -1401,6 +1647,10 @@ public final class Bootstrap {
             case CallNames.CALL:
                 setup = MethodHandles.insertArguments(callSetupMH, 0, callsite);
                 break;
+            case CallNames.CALL_FIXED:
+                setup = MethodHandles.insertArguments(callFixedSetupMH, 0, callsite)
+                        .asCollector(Object[].class, type.parameterCount() - 3);
+                break;
             case CallNames.CONSTRUCT:
                 setup = MethodHandles.insertArguments(constructSetupMH, 0, callsite);
                 break;
@@ -1445,6 +1695,9 @@ public final class Bootstrap {
             switch (name) {
             case CallNames.CALL:
                 return stackOverFlow_Call;
+            case CallNames.CALL_FIXED:
+                return new ConstantCallSite(MethodHandles.dropArguments(stackOverFlow_CallFixed, 0,
+                        type.parameterArray()));
             case CallNames.CONSTRUCT:
                 return stackOverFlow_Construct;
             case CallNames.SUPER:
@@ -7,11 +7,11 @@
 package com.github.anba.es6draft.runtime.internal;
 
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -22,25 +22,83 @@ import java.util.concurrent.locks.ReentrantLock;
  * </ul>
  */
 public final class Futex {
-    private static final class Entry {
-        private final Condition condition;
+    private static final class Key {
         private final ByteBuffer buffer;
-        private int index;
+        private final int index;
 
-        Entry(Condition condition, ByteBuffer buffer, int index) {
-            this.condition = condition;
+        Key(ByteBuffer buffer, int index) {
             this.buffer = buffer;
             this.index = index;
         }
 
-        boolean matches(ByteBuffer buffer, int index) {
-            return this.buffer == buffer && this.index == index;
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(buffer) * 31 + index;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return buffer == other.buffer && index == other.index;
+        }
+    }
+
+    private static final class Waiter {
+        private final Thread thread = Thread.currentThread();
+        // Guarded by the lock of the stripe for 'key', volatile to allow reads without holding the lock.
+        private volatile Key key;
+        private volatile boolean notified;
+
+        Waiter(Key key) {
+            this.key = key;
+        }
+
+        void wake() {
+            notified = true;
+            LockSupport.unpark(thread);
         }
     }
 
-    // FIXME: spec issue - define fairness property for 'futex critical section'?
-    private final ReentrantLock lock = new ReentrantLock(true);
-    private final LinkedList<Futex.Entry> queue = new LinkedList<>();
+    private static final class Stripe {
+        // FIXME: spec issue - define fairness property for 'futex critical section'?
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private final HashMap<Key, ArrayDeque<Waiter>> queues = new HashMap<>();
+
+        void enqueue(Waiter waiter) {
+            queues.computeIfAbsent(waiter.key, k -> new ArrayDeque<>()).add(waiter);
+        }
+
+        void remove(Waiter waiter) {
+            ArrayDeque<Waiter> queue = queues.get(waiter.key);
+            if (queue != null && queue.remove(waiter) && queue.isEmpty()) {
+                queues.remove(waiter.key);
+            }
+        }
+    }
+
+    private static final int STRIPE_BITS = 6;
+    private final Stripe[] stripes = new Stripe[1 << STRIPE_BITS];
+
+    public Futex() {
+        for (int i = 0; i < stripes.length; ++i) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    private static int stripeIndex(Key key) {
+        // Fibonacci hashing to spread adjacent indices across stripes.
+        return (key.hashCode() * 0x9E3779B9) >>> (Integer.SIZE - STRIPE_BITS);
+    }
+
+    private Stripe stripe(Key key) {
+        return stripes[stripeIndex(key)];
+    }
 
     /**
      * Result enumeration for {@link Futex#wait(ByteBuffer, int, int, long, TimeUnit)}.
@@ -68,21 +126,90 @@ public final class Futex {
      */
     public Futex.State wait(ByteBuffer buffer, int index, int value, long timeout, TimeUnit timeUnit)
             throws InterruptedException {
-        lock.lock();
+        Key key = new Key(buffer, index);
+        Stripe stripe = stripe(key);
+        Waiter waiter;
+        stripe.lock.lock();
         try {
             int w = UnsafeHolder.getIntVolatile(buffer, index);
             if (w != value) {
                 return State.NotEqual;
             }
-            Futex.Entry entry = new Entry(lock.newCondition(), buffer, index);
-            queue.add(entry);
-            if (entry.condition.await(timeout, timeUnit)) {
-                return State.OK;
-            }
-            queue.remove(entry);
-            return State.Timedout;
+            waiter = new Waiter(key);
+            stripe.enqueue(waiter);
         } finally {
-            lock.unlock();
+            stripe.lock.unlock();
+        }
+        // Block through the fork-join pool to allow work-stealing worker pools to compensate for waiting agents.
+        Blocker blocker = new Blocker(waiter, timeUnit.toNanos(timeout));
+        try {
+            ForkJoinPool.managedBlock(blocker);
+        } catch (InterruptedException e) {
+            if (cancel(waiter)) {
+                throw e;
+            }
+            Thread.currentThread().interrupt();
+            return State.OK;
+        }
+        if (!waiter.notified) {
+            return cancel(waiter) ? State.Timedout : State.OK;
+        }
+        return State.OK;
+    }
+
+    private final class Blocker implements ForkJoinPool.ManagedBlocker {
+        private final Waiter waiter;
+        private final long deadline;
+        private long nanos;
+
+        Blocker(Waiter waiter, long nanos) {
+            this.waiter = waiter;
+            this.deadline = System.nanoTime() + nanos;
+            this.nanos = nanos;
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            if (!isReleasable()) {
+                LockSupport.parkNanos(Futex.this, nanos);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                nanos = deadline - System.nanoTime();
+            }
+            return isReleasable();
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return waiter.notified || nanos <= 0;
+        }
+    }
+
+    /**
+     * Removes a waiter which was not yet notified from its wait queue.
+     * 
+     * @param waiter
+     *            the waiter
+     * @return {@code true} if the waiter was removed, {@code false} if it was already notified
+     */
+    private boolean cancel(Waiter waiter) {
+        while (true) {
+            // The waiter may be requeued concurrently, retry until the stripe matches the current key.
+            Key key = waiter.key;
+            Stripe stripe = stripe(key);
+            stripe.lock.lock();
+            try {
+                if (waiter.notified) {
+                    return false;
+                }
+                if (waiter.key == key) {
+                    stripe.remove(waiter);
+                    return true;
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
         }
     }
 
@@ -98,22 +225,31 @@ public final class Futex {
      * @return the actual number of agents awoken
      */
     public int wake(ByteBuffer buffer, int index, int count) {
-        lock.lock();
+        Key key = new Key(buffer, index);
+        Stripe stripe = stripe(key);
+        stripe.lock.lock();
         try {
-            int n = 0;
-            for (Iterator<Futex.Entry> it = queue.iterator(); count > 0 && it.hasNext();) {
-                Futex.Entry entry = it.next();
-                if (entry.matches(buffer, index)) {
-                    it.remove();
-                    entry.condition.signal();
-                    count -= 1;
-                    n += 1;
-                }
+            ArrayDeque<Waiter> queue = stripe.queues.get(key);
+            if (queue == null) {
+                return 0;
+            }
+            int n = wake(queue, count);
+            if (queue.isEmpty()) {
+                stripe.queues.remove(key);
             }
             return n;
         } finally {
-            lock.unlock();
+            stripe.lock.unlock();
+        }
+    }
+
+    private static int wake(ArrayDeque<Waiter> queue, int count) {
+        int n = 0;
+        for (Waiter waiter; n < count && (waiter = queue.poll()) != null;) {
+            waiter.wake();
+            n += 1;
         }
+        return n;
     }
 
     /**
@@ -132,37 +268,40 @@ public final class Futex {
      * @return the actual number of agents awoken or {@code -1} if the current value does not match the expected value
      */
     public int wakeOrRequeue(ByteBuffer buffer, int index1, int count, int index2, int value) {
-        lock.lock();
+        Key key1 = new Key(buffer, index1);
+        Key key2 = new Key(buffer, index2);
+        int i1 = stripeIndex(key1), i2 = stripeIndex(key2);
+        Stripe stripe1 = stripes[i1];
+        Stripe stripe2 = stripes[i2];
+        // Acquire both locks in stripe order to avoid deadlocks.
+        Stripe first = i1 <= i2 ? stripe1 : stripe2;
+        Stripe second = i1 <= i2 ? stripe2 : stripe1;
+        first.lock.lock();
+        second.lock.lock();
         try {
             int w = UnsafeHolder.getIntVolatile(buffer, index1);
             if (w != value) {
                 return -1;
             }
-            int n = 0;
-            ArrayList<Futex.Entry> newEntries = new ArrayList<>();
-            for (Iterator<Futex.Entry> it = queue.iterator(); it.hasNext();) {
-                Futex.Entry entry = it.next();
-                if (entry.matches(buffer, index1)) {
-                    if (count > 0) {
-                        it.remove();
-                        entry.condition.signal();
-                        count -= 1;
-                        n += 1;
-                    } else if (index1 != index2) {
-                        it.remove();
-                        entry.index = index2;
-                        newEntries.add(entry);
-                    } else {
-                        break;
-                    }
+            ArrayDeque<Waiter> queue = stripe1.queues.get(key1);
+            if (queue == null) {
+                return 0;
+            }
+            int n = wake(queue, count);
+            if (!queue.isEmpty() && index1 != index2) {
+                for (Waiter waiter : queue) {
+                    waiter.key = key2;
+                    stripe2.enqueue(waiter);
                 }
+                queue.clear();
             }
-            if (!newEntries.isEmpty()) {
-                queue.addAll(newEntries);
+            if (queue.isEmpty()) {
+                stripe1.queues.remove(key1);
             }
             return n;
         } finally {
-            lock.unlock();
+            second.lock.unlock();
+            first.lock.unlock();
         }
     }
 }
@@ -943,6 +943,18 @@ public final class IndexedMap<VALUE> implements Iterable<Map.Entry<Long, VALUE>>
         return null;
     }
 
+    /**
+     * Preallocates dense storage for the requested number of elements if the map is empty.
+     * 
+     * @param capacity
+     *            the expected number of elements
+     */
+    public void ensureCapacity(long capacity) {
+        if (elements == EMPTY_ELEMENTS && 0 < capacity && capacity <= MAX_DENSE_LENGTH) {
+            this.elements = new DenseElements<>((int) capacity);
+        }
+    }
+
     /**
      * Sets the property key to the new value.
      * 
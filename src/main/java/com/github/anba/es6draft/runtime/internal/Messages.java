@@ -202,6 +202,7 @@ public final class Messages {
         SymbolCreate("type.symbol_create"),
         CyclicProto("type.cyclic_proto"),
         FunctionNotCloneable("type.function_not_cloneable"),
+        NotCloneable("type.not_cloneable"),
         PropertyNotObject("type.property_not_object"),
         PropertyNotCallable("type.property_not_callable"),
         PropertyNotConstructor("type.property_not_constructor"),
@@ -27,6 +27,7 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -254,6 +255,17 @@ public final class Properties {
     public static @interface TailCall {
     }
 
+    /**
+     * Built-in function fast path for specific argument types. The annotated method has the same name as the built-in
+     * function method and is called instead of the built-in function when the this-value and the call arguments are
+     * instances of the declared parameter types.
+     */
+    @Documented
+    @Target({ ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    public static @interface Intrinsic {
+    }
+
     @Documented
     @Target({ ElementType.ANNOTATION_TYPE })
     @Retention(RetentionPolicy.RUNTIME)
@@ -430,12 +442,17 @@ public final class Properties {
         final int arity;
         final Class<?> nativeId;
         final MethodHandle methodHandle;
+        final MethodHandle fixedArityMethodHandle;
+        final MethodHandle[] intrinsics;
 
-        FunctionLayout(Function function, MethodHandle methodHandle) {
+        FunctionLayout(Function function, MethodHandle methodHandle, MethodHandle fixedArityMethodHandle,
+                MethodHandle[] intrinsics) {
             super(FUNCTION, function.attributes(), function.name(), function.symbol());
             this.arity = function.arity();
             this.nativeId = function.nativeId();
             this.methodHandle = methodHandle;
+            this.fixedArityMethodHandle = fixedArityMethodHandle;
+            this.intrinsics = intrinsics;
         }
 
         FunctionLayout(Function function, TailCall tailCall, MethodHandle methodHandle) {
@@ -443,6 +460,8 @@ public final class Properties {
             this.arity = function.arity();
             this.nativeId = function.nativeId();
             this.methodHandle = methodHandle;
+            this.fixedArityMethodHandle = null;
+            this.intrinsics = null;
         }
 
         boolean isTailCall() {
@@ -1119,6 +1138,13 @@ public final class Properties {
                     prototypeValue = getRawValue(field);
                 }
             }
+            HashMap<String, ArrayList<MethodHandle>> intrinsics = new HashMap<>();
+            for (Method method : holder.getDeclaredMethods()) {
+                if (Modifier.isStatic(method.getModifiers()) && method.isAnnotationPresent(Intrinsic.class)) {
+                    intrinsics.computeIfAbsent(method.getName(), k -> new ArrayList<>())
+                            .add(getIntrinsicMethodHandle(lookup, method));
+                }
+            }
             for (Method method : holder.getDeclaredMethods()) {
                 if (!Modifier.isStatic(method.getModifiers()))
                     continue;
@@ -1142,7 +1168,11 @@ public final class Properties {
                 } else if (function != null) {
                     MethodHandle mh = getStaticMethodHandle(lookup, method);
                     if (tailCall == null) {
-                        properties.add(new FunctionLayout(function, mh));
+                        MethodHandle fixedArity = getFixedArityMethodHandle(lookup, method);
+                        ArrayList<MethodHandle> fastPaths = intrinsics.get(method.getName());
+                        MethodHandle[] intrinsicHandles = fastPaths != null
+                                ? fastPaths.toArray(new MethodHandle[fastPaths.size()]) : null;
+                        properties.add(new FunctionLayout(function, mh, fixedArity, intrinsicHandles));
                     } else {
                         properties.add(new FunctionLayout(function, tailCall, mh));
                     }
@@ -1380,6 +1410,62 @@ public final class Properties {
         return handle;
     }
 
+    /**
+     * Returns the method handle for a built-in function whose parameters are all fixed {@code Object} parameters, so
+     * fixed-arity call sites can invoke the method without an intermediate arguments array. Returns {@code null} for
+     * methods with var-args, {@code Object[]} or optional parameters.
+     * 
+     * @param lookup
+     *            the lookup object
+     * @param method
+     *            the built-in method
+     * @return the {@code (ExecutionContext, ExecutionContext, Object, Object...) -> Object} method handle or
+     *         {@code null}
+     * @throws IllegalAccessException
+     *             if the method is not accessible
+     */
+    private static MethodHandle getFixedArityMethodHandle(Lookup lookup, Method method)
+            throws IllegalAccessException {
+        if (method.isVarArgs()) {
+            return null;
+        }
+        Class<?>[] params = method.getParameterTypes();
+        // (ExecutionContext, ExecutionContext?, Object=ThisValue, Object...)
+        boolean callerContext = params.length > 1 && ExecutionContext.class.equals(params[1]);
+        int fixedArguments = callerContext ? 3 : 2;
+        for (int p = fixedArguments; p < params.length; ++p) {
+            if (!Object.class.equals(params[p])) {
+                return null;
+            }
+        }
+        int actual = params.length - fixedArguments;
+        if (actual > 0 && methodDefaults(method, fixedArguments, actual) != null) {
+            return null;
+        }
+        MethodHandle handle = lookup.unreflect(method);
+        if (!callerContext) {
+            handle = MethodHandles.dropArguments(handle, 1, ExecutionContext.class);
+        }
+        return handle;
+    }
+
+    private static MethodHandle getIntrinsicMethodHandle(Lookup lookup, Method method)
+            throws IllegalAccessException {
+        // check: (ExecutionContext, Object=ThisValue, Object...) -> Object
+        MethodHandle handle = lookup.unreflect(method);
+        MethodType type = handle.type();
+        if (method.isVarArgs() || type.parameterCount() < 2
+                || !ExecutionContext.class.equals(type.parameterType(0))) {
+            throw new IllegalArgumentException(handle.toString());
+        }
+        for (Class<?> parameter : type.dropParameterTypes(0, 1).parameterList()) {
+            if (parameter.isPrimitive()) {
+                throw new IllegalArgumentException(handle.toString());
+            }
+        }
+        return handle;
+    }
+
     private static MethodHandle getComputedValueMethodHandle(Lookup lookup, Method method)
             throws IllegalAccessException {
         // check: (ExecutionContext) -> Object
@@ -1537,7 +1623,7 @@ public final class Properties {
             fun = new NativeTailCallFunction(realm, layout.name, layout.arity, layout.methodHandle);
         } else {
             fun = new NativeFunction(realm, layout.name, layout.arity, layout.nativeId,
-                    layout.methodHandle);
+                    layout.methodHandle, layout.fixedArityMethodHandle, layout.intrinsics);
         }
         defineProperty(target, layout, valueProperty(layout, fun));
     }
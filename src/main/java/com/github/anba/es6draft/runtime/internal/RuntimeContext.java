@@ -7,6 +7,7 @@
 package com.github.anba.es6draft.runtime.internal;
 
 import static com.github.anba.es6draft.runtime.internal.RuntimeWorkerThreadFactory.createThreadPoolExecutor;
+import static com.github.anba.es6draft.runtime.internal.RuntimeWorkerThreadFactory.createWorkerForkJoinPool;
 import static com.github.anba.es6draft.runtime.internal.RuntimeWorkerThreadFactory.createWorkerThreadPoolExecutor;
 
 import java.nio.file.Path;
@@ -45,6 +46,7 @@ public final class RuntimeContext {
     private final boolean shutdownExecutorOnFinalization;
     private final ExecutorService workerExecutor;
     private final boolean shutdownWorkerExecutorOnFinalization;
+    private final WorkerScheduling workerScheduling;
     private final BiConsumer<ExecutionContext, Throwable> workerErrorReporter;
     private final Futex futex;
 
@@ -55,7 +57,8 @@ public final class RuntimeContext {
     RuntimeContext(ObjectAllocator<? extends GlobalObject> globalAllocator,
             BiFunction<RuntimeContext, ScriptLoader, ? extends ModuleLoader> moduleLoader, Locale locale,
             TimeZone timeZone, Path baseDirectory, Console console, ScriptCache scriptCache, ExecutorService executor,
-            ExecutorService workerExecutor, BiConsumer<ExecutionContext, Throwable> workerErrorReporter, Futex futex,
+            ExecutorService workerExecutor, WorkerScheduling workerScheduling,
+            BiConsumer<ExecutionContext, Throwable> workerErrorReporter, Futex futex,
             EnumSet<CompatibilityOption> options, EnumSet<Parser.Option> parserOptions,
             EnumSet<Compiler.Option> compilerOptions) {
         this.globalAllocator = globalAllocator;
@@ -67,8 +70,9 @@ public final class RuntimeContext {
         this.scriptCache = scriptCache;
         this.executor = executor != null ? executor : createThreadPoolExecutor();
         this.shutdownExecutorOnFinalization = executor == null;
-        this.workerExecutor = workerExecutor != null ? workerExecutor : createWorkerThreadPoolExecutor();
+        this.workerExecutor = workerExecutor != null ? workerExecutor : createWorkerExecutor(workerScheduling);
         this.shutdownWorkerExecutorOnFinalization = workerExecutor == null;
+        this.workerScheduling = workerScheduling;
         this.workerErrorReporter = workerErrorReporter;
         this.futex = futex;
         this.options = EnumSet.copyOf(options);
@@ -76,6 +80,17 @@ public final class RuntimeContext {
         this.compilerOptions = EnumSet.copyOf(compilerOptions);
     }
 
+    private static ExecutorService createWorkerExecutor(WorkerScheduling workerScheduling) {
+        switch (workerScheduling) {
+        case ThreadPool:
+            return createWorkerThreadPoolExecutor();
+        case WorkStealing:
+            return createWorkerForkJoinPool();
+        default:
+            throw new AssertionError();
+        }
+    }
+
     @Override
     protected void finalize() throws Throwable {
         if (shutdownExecutorOnFinalization)
@@ -176,6 +191,15 @@ public final class RuntimeContext {
         return workerExecutor;
     }
 
+    /**
+     * Returns the scheduling policy for the default worker executor.
+     * 
+     * @return the worker scheduling policy
+     */
+    public WorkerScheduling getWorkerScheduling() {
+        return workerScheduling;
+    }
+
     /**
      * Returns the worker error reporter.
      * 
@@ -221,6 +245,21 @@ public final class RuntimeContext {
         return compilerOptions;
     }
 
+    /**
+     * Scheduling policies for the default worker executor.
+     */
+    public enum WorkerScheduling {
+        /**
+         * Bounded thread pool, each worker agent runs on its own thread.
+         */
+        ThreadPool,
+
+        /**
+         * Work-stealing thread pool with one thread per available processor.
+         */
+        WorkStealing
+    }
+
     /**
      * Builder class to create new runtime contexts.
      */
@@ -234,6 +273,7 @@ public final class RuntimeContext {
         private ScriptCache scriptCache;
         private ExecutorService executor;
         private ExecutorService workerExecutor;
+        private WorkerScheduling workerScheduling;
         private BiConsumer<ExecutionContext, Throwable> workerErrorReporter;
         private Futex futex;
         private final EnumSet<CompatibilityOption> options = EnumSet.noneOf(CompatibilityOption.class);
@@ -247,6 +287,7 @@ public final class RuntimeContext {
             timeZone = TimeZone.getDefault();
             baseDirectory = Paths.get("");
             scriptCache = new ScriptCache();
+            workerScheduling = WorkerScheduling.ThreadPool;
             workerErrorReporter = (cx, e) -> {
                 // empty
             };
@@ -263,6 +304,7 @@ public final class RuntimeContext {
             scriptCache = context.scriptCache;
             executor = context.executor;
             workerExecutor = context.workerExecutor;
+            workerScheduling = context.workerScheduling;
             workerErrorReporter = context.workerErrorReporter;
             futex = context.futex;
             options.addAll(context.options);
@@ -277,7 +319,8 @@ public final class RuntimeContext {
          */
         public RuntimeContext build() {
             return new RuntimeContext(allocator, moduleLoader, locale, timeZone, baseDirectory, console, scriptCache,
-                    executor, workerExecutor, workerErrorReporter, futex, options, parserOptions, compilerOptions);
+                    executor, workerExecutor, workerScheduling, workerErrorReporter, futex, options, parserOptions,
+                    compilerOptions);
         }
 
         /**
@@ -388,6 +431,19 @@ public final class RuntimeContext {
             return this;
         }
 
+        /**
+         * Sets the scheduling policy for the default worker executor. The policy is only used when no worker executor
+         * was set.
+         * 
+         * @param workerScheduling
+         *            the worker scheduling policy
+         * @return this builder
+         */
+        public Builder setWorkerScheduling(WorkerScheduling workerScheduling) {
+            this.workerScheduling = Objects.requireNonNull(workerScheduling);
+            return this;
+        }
+
         /**
          * Sets the worker error reporter.
          * 
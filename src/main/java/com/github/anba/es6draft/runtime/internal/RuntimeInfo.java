@@ -450,6 +450,16 @@ public final class RuntimeInfo {
          */
         MappedArguments(0x100000),
 
+        /**
+         * Flag for functions of the form {@code (a, b) => a - b}.
+         */
+        AscendingComparator(0x200000),
+
+        /**
+         * Flag for functions of the form {@code (a, b) => b - a}.
+         */
+        DescendingComparator(0x400000),
+
         ;
 
         private final int value;
@@ -6,6 +6,8 @@
  */
 package com.github.anba.es6draft.runtime.internal;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
@@ -74,4 +76,21 @@ final class RuntimeWorkerThreadFactory implements ThreadFactory {
         executor.allowCoreThreadTimeOut(true);
         return executor;
     }
+
+    /**
+     * Returns a new {@link ForkJoinPool} to run runtime worker agents. The pool parallelism is equal to the number of
+     * available processors, blocking operations of worker agents are compensated by the pool.
+     * 
+     * @return a new {@link ForkJoinPool} for runtime worker agents
+     */
+    static ForkJoinPool createWorkerForkJoinPool() {
+        String namePrefix = "runtimeworker-" + runtimeWorkerCount.incrementAndGet() + "-worker-";
+        AtomicInteger workerCount = new AtomicInteger(0);
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread newThread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            newThread.setName(namePrefix + workerCount.incrementAndGet());
+            return newThread;
+        } , null, true);
+    }
 }
@@ -11,11 +11,17 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -25,10 +31,12 @@ import com.github.anba.es6draft.Script;
 import com.github.anba.es6draft.ast.AsyncFunctionDefinition;
 import com.github.anba.es6draft.ast.AsyncGeneratorDefinition;
 import com.github.anba.es6draft.ast.FunctionDefinition;
+import com.github.anba.es6draft.ast.FunctionNode;
 import com.github.anba.es6draft.ast.GeneratorDefinition;
 import com.github.anba.es6draft.compiler.CompilationException;
 import com.github.anba.es6draft.compiler.CompiledFunction;
 import com.github.anba.es6draft.compiler.CompiledModule;
+import com.github.anba.es6draft.compiler.CompiledObject;
 import com.github.anba.es6draft.compiler.CompiledScript;
 import com.github.anba.es6draft.compiler.Compiler;
 import com.github.anba.es6draft.interpreter.Interpreter;
@@ -48,6 +56,84 @@ public final class ScriptLoader {
     private final AtomicInteger moduleCounter = new AtomicInteger(0);
     private final AtomicInteger evalCounter = new AtomicInteger(0);
     private final AtomicInteger functionCounter = new AtomicInteger(0);
+    private final Map<CodeCacheKey, CompiledFunction> functionCache = Collections
+            .synchronizedMap(new CodeCache<>(FUNCTION_CACHE_MAX_SIZE));
+    private final Map<CodeCacheKey, Script> evalCache = Collections
+            .synchronizedMap(new CodeCache<>(EVAL_CACHE_MAX_SIZE));
+
+    private static final int FUNCTION_CACHE_MAX_SIZE = 256;
+    private static final int EVAL_CACHE_MAX_SIZE = 256;
+    // Long eval strings are usually evaluated only once, don't keep their classes alive.
+    private static final int EVAL_CACHE_MAX_SOURCE_LENGTH = 16 * 1024;
+    // Stop caching compiled code when the metaspace is filled to 75%.
+    private static final double CODE_CACHE_METASPACE_RATIO = 0.75;
+    private static final MemoryPoolMXBean METASPACE = metaspacePool();
+
+    private enum CodeKind {
+        Function, Generator, AsyncFunction, AsyncGenerator, Eval
+    }
+
+    @SuppressWarnings("serial")
+    private static final class CodeCache<VALUE> extends LinkedHashMap<CodeCacheKey, VALUE> {
+        private final int maxSize;
+
+        CodeCache(int maxSize) {
+            super(16, .75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CodeCacheKey, VALUE> eldest) {
+            return size() > maxSize;
+        }
+    }
+
+    /**
+     * Cache key for dynamic functions and eval scripts. The source name is part of the key because it's compiled into
+     * the generated class file.
+     */
+    private static final class CodeCacheKey {
+        private final CodeKind kind;
+        private final EnumSet<Parser.Option> parserOptions;
+        private final String sourceName;
+        private final String sourceFile;
+        private final int sourceLine;
+        private final String formals;
+        private final String bodyText;
+
+        CodeCacheKey(CodeKind kind, EnumSet<Parser.Option> parserOptions, Source source, String formals,
+                String bodyText) {
+            this.kind = kind;
+            this.parserOptions = parserOptions;
+            this.sourceName = source.getName();
+            this.sourceFile = source.getFileString();
+            this.sourceLine = source.getLine();
+            this.formals = formals;
+            this.bodyText = bodyText;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == null || obj.getClass() != CodeCacheKey.class) {
+                return false;
+            }
+            CodeCacheKey other = (CodeCacheKey) obj;
+            return kind == other.kind && sourceLine == other.sourceLine && bodyText.equals(other.bodyText)
+                    && formals.equals(other.formals) && sourceName.equals(other.sourceName)
+                    && Objects.equals(sourceFile, other.sourceFile) && parserOptions.equals(other.parserOptions);
+        }
+
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + kind.hashCode();
+            result = prime * result + bodyText.hashCode();
+            result = prime * result + formals.hashCode();
+            result = prime * result + sourceName.hashCode();
+            return result;
+        }
+    }
 
     /**
      * Next class name for eval scripts.
@@ -109,7 +195,8 @@ public final class ScriptLoader {
      * @throws ParserException
      *             if the source contains any syntax errors
      */
-    public com.github.anba.es6draft.ast.Script parseScript(Source source, String sourceCode) throws ParserException {
+    public com.github.anba.es6draft.ast.Script parseScript(Source source, CharSequence sourceCode)
+            throws ParserException {
         Parser parser = new Parser(context, source);
         return parser.parseScript(sourceCode);
     }
@@ -125,7 +212,8 @@ public final class ScriptLoader {
      * @throws ParserException
      *             if the source contains any syntax errors
      */
-    public com.github.anba.es6draft.ast.Module parseModule(Source source, String sourceCode) throws ParserException {
+    public com.github.anba.es6draft.ast.Module parseModule(Source source, CharSequence sourceCode)
+            throws ParserException {
         Parser parser = new Parser(context, source);
         return parser.parseModule(sourceCode);
     }
@@ -147,12 +235,84 @@ public final class ScriptLoader {
      */
     public Script evalScript(Source source, String sourceCode, EnumSet<Parser.Option> evalOptions)
             throws ParserException, CompilationException {
+        boolean cacheable = sourceCode.length() <= EVAL_CACHE_MAX_SOURCE_LENGTH;
+        CodeCacheKey cacheKey = null;
+        if (cacheable) {
+            cacheKey = new CodeCacheKey(CodeKind.Eval, evalOptions, source, "", sourceCode);
+            Script cachedScript = evalCache.get(cacheKey);
+            if (cachedScript != null) {
+                return newInstance(cachedScript);
+            }
+        }
         Parser parser = new Parser(source, context.getOptions(), evalOptions);
         com.github.anba.es6draft.ast.Script parsedScript = parser.parseScript(sourceCode);
         if (parsedScript.getStatements().isEmpty()) {
             return null;
         }
-        return load(parsedScript, nextEvalName());
+        Script script = load(parsedScript, nextEvalName());
+        if (cacheable) {
+            putCache(evalCache, cacheKey, script);
+            return newInstance(script);
+        }
+        return script;
+    }
+
+    /**
+     * Returns a new instance of a cached script or function. Compiled objects carry evaluation state, for example the
+     * template objects of the current realm, so only their classes are shared between callers.
+     * 
+     * @param cached
+     *            the cached script or function
+     * @return a new instance if {@code cached} is a compiled object, otherwise {@code cached}
+     */
+    private static <T> T newInstance(T cached) {
+        if (!(cached instanceof CompiledObject)) {
+            return cached;
+        }
+        try {
+            @SuppressWarnings("unchecked")
+            T instance = (T) cached.getClass().newInstance();
+            return instance;
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private <VALUE> void putCache(Map<CodeCacheKey, VALUE> cache, CodeCacheKey cacheKey, VALUE value) {
+        if (isMetaspaceExhausted()) {
+            evictCompiledCode();
+        } else {
+            cache.put(cacheKey, value);
+        }
+    }
+
+    /**
+     * Removes all cached dynamic functions and eval scripts, so their generated classes can be unloaded once they are
+     * no longer referenced from script objects.
+     * 
+     * @see com.github.anba.es6draft.compiler.CompiledCodeMetrics
+     */
+    public void evictCompiledCode() {
+        functionCache.clear();
+        evalCache.clear();
+    }
+
+    private static MemoryPoolMXBean metaspacePool() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if ("Metaspace".equals(pool.getName())) {
+                return pool;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isMetaspaceExhausted() {
+        if (METASPACE == null) {
+            return false;
+        }
+        MemoryUsage usage = METASPACE.getUsage();
+        long max = usage.getMax();
+        return max > 0 && usage.getUsed() > max * CODE_CACHE_METASPACE_RATIO;
     }
 
     /**
@@ -172,9 +332,7 @@ public final class ScriptLoader {
      */
     public CompiledFunction function(Source source, String formals, String bodyText)
             throws ParserException, CompilationException {
-        Parser parser = new Parser(context, source);
-        FunctionDefinition functionDef = parser.parseFunction(formals, bodyText);
-        return compile(functionDef, nextFunctionName());
+        return function(CodeKind.Function, source, formals, bodyText, Parser::parseFunction, this::compile);
     }
 
     /**
@@ -194,9 +352,7 @@ public final class ScriptLoader {
      */
     public CompiledFunction generator(Source source, String formals, String bodyText)
             throws ParserException, CompilationException {
-        Parser parser = new Parser(context, source);
-        GeneratorDefinition generatorDef = parser.parseGenerator(formals, bodyText);
-        return compile(generatorDef, nextFunctionName());
+        return function(CodeKind.Generator, source, formals, bodyText, Parser::parseGenerator, this::compile);
     }
 
     /**
@@ -216,9 +372,7 @@ public final class ScriptLoader {
      */
     public CompiledFunction asyncFunction(Source source, String formals, String bodyText)
             throws ParserException, CompilationException {
-        Parser parser = new Parser(context, source);
-        AsyncFunctionDefinition asyncDef = parser.parseAsyncFunction(formals, bodyText);
-        return compile(asyncDef, nextFunctionName());
+        return function(CodeKind.AsyncFunction, source, formals, bodyText, Parser::parseAsyncFunction, this::compile);
     }
 
     /**
@@ -238,9 +392,31 @@ public final class ScriptLoader {
      */
     public CompiledFunction asyncGenerator(Source source, String formals, String bodyText)
             throws ParserException, CompilationException {
-        Parser parser = new Parser(context, source);
-        AsyncGeneratorDefinition asyncDef = parser.parseAsyncGenerator(formals, bodyText);
-        return compile(asyncDef, nextFunctionName());
+        return function(CodeKind.AsyncGenerator, source, formals, bodyText, Parser::parseAsyncGenerator, this::compile);
+    }
+
+    @FunctionalInterface
+    private interface FunctionParser<NODE extends FunctionNode> {
+        NODE parse(Parser parser, String formals, String bodyText) throws ParserException;
+    }
+
+    @FunctionalInterface
+    private interface FunctionCompiler<NODE extends FunctionNode> {
+        CompiledFunction compile(NODE function, String className) throws CompilationException;
+    }
+
+    private <NODE extends FunctionNode> CompiledFunction function(CodeKind kind, Source source, String formals,
+            String bodyText, FunctionParser<NODE> parser, FunctionCompiler<NODE> compiler)
+            throws ParserException, CompilationException {
+        CodeCacheKey cacheKey = new CodeCacheKey(kind, context.getParserOptions(), source, formals, bodyText);
+        CompiledFunction cachedFunction = functionCache.get(cacheKey);
+        if (cachedFunction != null) {
+            return newInstance(cachedFunction);
+        }
+        NODE function = parser.parse(new Parser(context, source), formals, bodyText);
+        CompiledFunction compiledFunction = compiler.compile(function, nextFunctionName());
+        putCache(functionCache, cacheKey, compiledFunction);
+        return newInstance(compiledFunction);
     }
 
     /**
@@ -550,7 +726,7 @@ public final class ScriptLoader {
         }
     }
 
-    private static String readFully(Path p) throws IOException {
-        return new String(Files.readAllBytes(p), StandardCharsets.UTF_8);
+    private static CharSequence readFully(Path p) throws IOException {
+        return SourceFiles.readFully(p);
     }
 }
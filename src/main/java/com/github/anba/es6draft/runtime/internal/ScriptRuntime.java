@@ -1988,6 +1988,10 @@ public final class ScriptRuntime {
         if (cx.getRealm().isEnabled(CompatibilityOption.Enumerate)) {
             return obj.enumerateKeys(cx);
         }
+        ScriptIterator<String> cachedKeys = cx.getRealm().getEnumerationCache().enumerate(cx, obj);
+        if (cachedKeys != null) {
+            return cachedKeys;
+        }
         return new EnumeratePropertiesIterator(cx, obj);
     }
 
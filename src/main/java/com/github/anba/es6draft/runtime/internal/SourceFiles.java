@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Utility class to read source files.
+ */
+public final class SourceFiles {
+    private static final int LARGE_FILE_THRESHOLD = 256 * 1024;
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private SourceFiles() {
+    }
+
+    /**
+     * Reads the UTF-8 encoded source file. Large files are decoded in fixed-size chunks directly into an exactly sized
+     * character buffer, so the file content is never held as a complete byte array next to the decoded characters.
+     * <p>
+     * Malformed input is replaced with U+FFFD and a leading byte order mark is preserved, same as
+     * {@link String#String(byte[], java.nio.charset.Charset)}.
+     * 
+     * @param path
+     *            the file path
+     * @return the source code
+     * @throws IOException
+     *             if there was any I/O error
+     */
+    public static CharSequence readFully(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(String.format("File too large: %s", path));
+            }
+            if (size < LARGE_FILE_THRESHOLD) {
+                ByteBuffer bytes = ByteBuffer.allocate((int) size);
+                while (bytes.hasRemaining() && channel.read(bytes) != -1) {
+                }
+                return new String(bytes.array(), 0, bytes.position(), StandardCharsets.UTF_8);
+            }
+            int length = decodedLength(channel);
+            channel.position(0);
+            return decode(channel, length);
+        }
+    }
+
+    private static CharsetDecoder newDecoder() {
+        return StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    private static int decodedLength(ReadableByteChannel channel) throws IOException {
+        CharsetDecoder decoder = newDecoder();
+        ByteBuffer bytes = ByteBuffer.allocate(CHUNK_SIZE);
+        CharBuffer chars = CharBuffer.allocate(CHUNK_SIZE);
+        long length = 0;
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            endOfInput = channel.read(bytes) == -1;
+            bytes.flip();
+            CoderResult result;
+            do {
+                result = decoder.decode(bytes, chars, endOfInput);
+                length += chars.position();
+                chars.clear();
+            } while (result.isOverflow());
+            bytes.compact();
+        }
+        CoderResult result;
+        do {
+            result = decoder.flush(chars);
+            length += chars.position();
+            chars.clear();
+        } while (result.isOverflow());
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("File too large");
+        }
+        return (int) length;
+    }
+
+    private static CharBuffer decode(ReadableByteChannel channel, int length) throws IOException {
+        CharsetDecoder decoder = newDecoder();
+        ByteBuffer bytes = ByteBuffer.allocate(CHUNK_SIZE);
+        CharBuffer chars = CharBuffer.allocate(length);
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            endOfInput = channel.read(bytes) == -1;
+            bytes.flip();
+            while (decoder.decode(bytes, chars, endOfInput).isOverflow()) {
+                // The file has grown since its length was computed.
+                chars = grow(chars, bytes.remaining());
+            }
+            bytes.compact();
+        }
+        while (decoder.flush(chars).isOverflow()) {
+            chars = grow(chars, 1);
+        }
+        chars.flip();
+        if (chars.remaining() != chars.capacity()) {
+            // The file has changed since its length was computed.
+            return CharBuffer.wrap(Arrays.copyOf(chars.array(), chars.remaining()));
+        }
+        return chars;
+    }
+
+    private static CharBuffer grow(CharBuffer chars, int minGrowth) {
+        int newCapacity = chars.capacity() + Math.max(minGrowth, Math.max(chars.capacity() >> 1, CHUNK_SIZE));
+        CharBuffer newChars = CharBuffer.allocate(newCapacity);
+        chars.flip();
+        newChars.put(chars);
+        return newChars;
+    }
+}
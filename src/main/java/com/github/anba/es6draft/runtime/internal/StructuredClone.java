@@ -0,0 +1,286 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.internal;
+
+import static com.github.anba.es6draft.runtime.AbstractOperations.CreateDataProperty;
+import static com.github.anba.es6draft.runtime.AbstractOperations.EnumerableOwnNames;
+import static com.github.anba.es6draft.runtime.AbstractOperations.Get;
+import static com.github.anba.es6draft.runtime.internal.Errors.newTypeError;
+import static com.github.anba.es6draft.runtime.objects.binary.ArrayBufferConstructor.CreateByteDataBlock;
+import static com.github.anba.es6draft.runtime.objects.binary.ArrayBufferConstructor.IsDetachedBuffer;
+import static com.github.anba.es6draft.runtime.types.builtins.ArrayObject.ArrayCreate;
+import static com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject.ObjectCreate;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+import com.github.anba.es6draft.runtime.ExecutionContext;
+import com.github.anba.es6draft.runtime.objects.atomics.SharedArrayBufferObject;
+import com.github.anba.es6draft.runtime.objects.binary.ArrayBuffer;
+import com.github.anba.es6draft.runtime.objects.binary.ArrayBufferObject;
+import com.github.anba.es6draft.runtime.objects.binary.ElementType;
+import com.github.anba.es6draft.runtime.objects.binary.TypedArrayObject;
+import com.github.anba.es6draft.runtime.objects.date.DateObject;
+import com.github.anba.es6draft.runtime.types.Intrinsics;
+import com.github.anba.es6draft.runtime.types.ScriptObject;
+import com.github.anba.es6draft.runtime.types.Type;
+import com.github.anba.es6draft.runtime.types.builtins.ArrayObject;
+import com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject;
+
+/**
+ * Structured clone of a script value.
+ * <p>
+ * A structured clone is independent of the realm of the original value, so it can be used to pass messages between
+ * agents. Supported values are primitive values except symbols, ordinary objects, arrays, date objects, array buffers,
+ * shared array buffers and typed arrays. Shared array buffers share their data block with the original buffer, all
+ * other objects are copied. Cyclic and shared references are preserved.
+ */
+public final class StructuredClone {
+    private final Object value;
+
+    private StructuredClone(Object value) {
+        this.value = value;
+    }
+
+    /**
+     * Creates a structured clone of {@code value}.
+     *
+     * @param cx
+     *            the execution context
+     * @param value
+     *            the value
+     * @return the structured clone
+     */
+    public static StructuredClone serialize(ExecutionContext cx, Object value) {
+        return new StructuredClone(new Serializer(cx).serialize(value));
+    }
+
+    /**
+     * Creates a new copy of the cloned value in the realm of {@code cx}.
+     *
+     * @param cx
+     *            the execution context
+     * @return the new copy of the cloned value
+     */
+    public Object deserialize(ExecutionContext cx) {
+        return new Deserializer(cx).deserialize(value);
+    }
+
+    private static class ObjectRecord {
+        final ArrayList<String> keys = new ArrayList<>();
+        final ArrayList<Object> values = new ArrayList<>();
+    }
+
+    private static final class ArrayRecord extends ObjectRecord {
+        final long length;
+
+        ArrayRecord(long length) {
+            this.length = length;
+        }
+    }
+
+    private static final class DateRecord {
+        final double dateValue;
+
+        DateRecord(double dateValue) {
+            this.dateValue = dateValue;
+        }
+    }
+
+    private static final class ArrayBufferRecord {
+        final ByteBuffer data;
+        final long byteLength;
+        final boolean shared;
+
+        ArrayBufferRecord(ByteBuffer data, long byteLength, boolean shared) {
+            this.data = data;
+            this.byteLength = byteLength;
+            this.shared = shared;
+        }
+    }
+
+    private static final class TypedArrayRecord {
+        final ArrayBufferRecord buffer;
+        final ElementType elementType;
+        final long byteOffset;
+        final long arrayLength;
+
+        TypedArrayRecord(ArrayBufferRecord buffer, ElementType elementType, long byteOffset, long arrayLength) {
+            this.buffer = buffer;
+            this.elementType = elementType;
+            this.byteOffset = byteOffset;
+            this.arrayLength = arrayLength;
+        }
+    }
+
+    private static ByteBuffer copyDataBlock(ExecutionContext cx, ByteBuffer data, long byteLength) {
+        ByteBuffer copy = CreateByteDataBlock(cx, byteLength);
+        ByteBuffer source = data.duplicate();
+        source.limit((int) byteLength).position(0);
+        copy.duplicate().put(source);
+        return copy;
+    }
+
+    private static final class Serializer {
+        private final ExecutionContext cx;
+        private final IdentityHashMap<ScriptObject, Object> memory = new IdentityHashMap<>();
+
+        Serializer(ExecutionContext cx) {
+            this.cx = cx;
+        }
+
+        Object serialize(Object value) {
+            switch (Type.of(value)) {
+            case Undefined:
+            case Null:
+            case Boolean:
+            case Number:
+                return value;
+            case String:
+                return Type.stringValue(value).toString();
+            case Object:
+                return serializeObject(Type.objectValue(value));
+            case Symbol:
+            case SIMD:
+            default:
+                throw newTypeError(cx, Messages.Key.NotCloneable);
+            }
+        }
+
+        private Object serializeObject(ScriptObject object) {
+            Object record = memory.get(object);
+            if (record != null) {
+                return record;
+            }
+            if (object instanceof ArrayBuffer) {
+                return serializeBuffer((ArrayBuffer) object);
+            }
+            if (object instanceof TypedArrayObject) {
+                TypedArrayObject array = (TypedArrayObject) object;
+                ArrayBufferRecord buffer = serializeBuffer(array.getBuffer());
+                record = new TypedArrayRecord(buffer, array.getElementType(), array.getByteOffset(),
+                        array.getArrayLength());
+                memory.put(object, record);
+                return record;
+            }
+            if (object instanceof DateObject) {
+                record = new DateRecord(((DateObject) object).getDateValue());
+                memory.put(object, record);
+                return record;
+            }
+            ObjectRecord objectRecord;
+            if (object instanceof ArrayObject) {
+                objectRecord = new ArrayRecord(((ArrayObject) object).getLength());
+            } else if (object.getClass() == OrdinaryObject.class) {
+                objectRecord = new ObjectRecord();
+            } else {
+                throw newTypeError(cx, Messages.Key.NotCloneable);
+            }
+            // Add to memory before serializing the property values to support cyclic references.
+            memory.put(object, objectRecord);
+            for (String key : EnumerableOwnNames(cx, object)) {
+                Object value = serialize(Get(cx, object, key));
+                objectRecord.keys.add(key);
+                objectRecord.values.add(value);
+            }
+            return objectRecord;
+        }
+
+        private ArrayBufferRecord serializeBuffer(ArrayBuffer buffer) {
+            ArrayBufferRecord record = (ArrayBufferRecord) memory.get(buffer);
+            if (record != null) {
+                return record;
+            }
+            if (IsDetachedBuffer(buffer)) {
+                throw newTypeError(cx, Messages.Key.BufferDetached);
+            }
+            if (buffer instanceof SharedArrayBufferObject) {
+                record = new ArrayBufferRecord(buffer.getData(), buffer.getByteLength(), true);
+            } else {
+                record = new ArrayBufferRecord(copyDataBlock(cx, buffer.getData(), buffer.getByteLength()),
+                        buffer.getByteLength(), false);
+            }
+            memory.put(buffer, record);
+            return record;
+        }
+    }
+
+    private static final class Deserializer {
+        private final ExecutionContext cx;
+        private final IdentityHashMap<Object, ScriptObject> memory = new IdentityHashMap<>();
+
+        Deserializer(ExecutionContext cx) {
+            this.cx = cx;
+        }
+
+        Object deserialize(Object value) {
+            if (value instanceof ObjectRecord) {
+                return deserializeObject((ObjectRecord) value);
+            }
+            if (value instanceof ArrayBufferRecord) {
+                return deserializeBuffer((ArrayBufferRecord) value);
+            }
+            if (value instanceof TypedArrayRecord) {
+                ScriptObject object = memory.get(value);
+                if (object == null) {
+                    TypedArrayRecord record = (TypedArrayRecord) value;
+                    ArrayBuffer buffer = deserializeBuffer(record.buffer);
+                    ElementType elementType = record.elementType;
+                    long byteLength = record.arrayLength * elementType.size();
+                    object = new TypedArrayObject(cx.getRealm(), elementType, buffer, byteLength, record.byteOffset,
+                            record.arrayLength, cx.getIntrinsic(elementType.getPrototype()));
+                    memory.put(value, object);
+                }
+                return object;
+            }
+            if (value instanceof DateRecord) {
+                ScriptObject object = memory.get(value);
+                if (object == null) {
+                    DateObject date = ObjectCreate(cx, Intrinsics.DatePrototype, DateObject::new);
+                    date.setDateValue(((DateRecord) value).dateValue);
+                    memory.put(value, object = date);
+                }
+                return object;
+            }
+            return value;
+        }
+
+        private ScriptObject deserializeObject(ObjectRecord record) {
+            ScriptObject object = memory.get(record);
+            if (object != null) {
+                return object;
+            }
+            if (record instanceof ArrayRecord) {
+                object = ArrayCreate(cx, ((ArrayRecord) record).length);
+            } else {
+                object = ObjectCreate(cx, Intrinsics.ObjectPrototype);
+            }
+            memory.put(record, object);
+            for (int i = 0, size = record.keys.size(); i < size; ++i) {
+                CreateDataProperty(cx, object, record.keys.get(i), deserialize(record.values.get(i)));
+            }
+            return object;
+        }
+
+        private ArrayBuffer deserializeBuffer(ArrayBufferRecord record) {
+            ScriptObject object = memory.get(record);
+            if (object == null) {
+                if (record.shared) {
+                    object = new SharedArrayBufferObject(cx.getRealm(), record.data, record.byteLength,
+                            cx.getIntrinsic(Intrinsics.SharedArrayBufferPrototype));
+                } else {
+                    // Copy the data block again, the same structured clone can be deserialized multiple times.
+                    object = new ArrayBufferObject(cx.getRealm(), copyDataBlock(cx, record.data, record.byteLength),
+                            record.byteLength, cx.getIntrinsic(Intrinsics.ArrayBufferPrototype));
+                }
+                memory.put(record, object);
+            }
+            return (ArrayBuffer) object;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.internal;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import com.github.anba.es6draft.Script;
+import com.github.anba.es6draft.runtime.ExecutionContext;
+import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.World;
+
+/**
+ * Worker agent to evaluate a script in its own {@link World}.
+ * <p>
+ * Worker agents run on the {@link RuntimeContext#getWorkerExecutor() worker executor} and share the futex object
+ * with their parent, so shared array buffers can be used to coordinate the agents. Messages between the worker agent
+ * and its parent are passed as {@link StructuredClone structured clones} through a pair of {@link MessagePort}
+ * objects.
+ */
+public final class WorkerAgent {
+    private final MessagePort port;
+    private final MessagePort workerPort;
+    private final CompletableFuture<Void> completion;
+
+    private WorkerAgent(ExecutionContext cx, Source source, String sourceCode,
+            BiConsumer<Realm, MessagePort> initializer) {
+        LinkedBlockingQueue<StructuredClone> toWorker = new LinkedBlockingQueue<>();
+        LinkedBlockingQueue<StructuredClone> fromWorker = new LinkedBlockingQueue<>();
+        this.port = new MessagePort(fromWorker, toWorker);
+        this.workerPort = new MessagePort(toWorker, fromWorker);
+        this.completion = CompletableFuture.runAsync(() -> run(cx.getRuntimeContext(), source, sourceCode,
+                initializer), cx.getRuntimeContext().getWorkerExecutor());
+        this.completion.whenComplete((r, e) -> {
+            if (e instanceof CompletionException) {
+                Throwable cause = ((CompletionException) e).getCause();
+                cx.getRuntimeContext().getWorkerErrorReporter().accept(cx, (cause != null ? cause : e));
+            } else if (e != null) {
+                cx.getRuntimeContext().getWorkerErrorReporter().accept(cx, e);
+            }
+        });
+    }
+
+    /**
+     * Starts a new worker agent. Errors thrown in the worker agent are passed to the
+     * {@link RuntimeContext#getWorkerErrorReporter() worker error reporter}.
+     *
+     * @param cx
+     *            the execution context
+     * @param source
+     *            the script source descriptor
+     * @param sourceCode
+     *            the script source code
+     * @param initializer
+     *            the initializer for the worker realm, called on the worker thread before the script is evaluated
+     * @return the new worker agent
+     * @throws RejectedExecutionException
+     *             if the worker executor rejected the worker agent
+     */
+    public static WorkerAgent start(ExecutionContext cx, Source source, String sourceCode,
+            BiConsumer<Realm, MessagePort> initializer) throws RejectedExecutionException {
+        return new WorkerAgent(cx, source, sourceCode, initializer);
+    }
+
+    private void run(RuntimeContext parentContext, Source source, String sourceCode,
+            BiConsumer<Realm, MessagePort> initializer) {
+        // Set 'executor' to null so it doesn't get shared with the parent runtime context.
+        /* @formatter:off */
+        RuntimeContext context = new RuntimeContext.Builder(parentContext)
+                                                   .setExecutor(null)
+                                                   .build();
+        /* @formatter:on */
+
+        World world = new World(context);
+        Realm realm;
+        try {
+            realm = world.newInitializedRealm();
+        } catch (IOException | URISyntaxException e) {
+            throw new CompletionException(e);
+        }
+        initializer.accept(realm, workerPort);
+
+        // Evaluate the script source code and then run pending jobs.
+        Script script = realm.getScriptLoader().script(source, sourceCode);
+        script.evaluate(realm);
+        world.runEventLoop();
+    }
+
+    /**
+     * Returns the message port of the parent agent.
+     *
+     * @return the message port to communicate with the worker agent
+     */
+    public MessagePort getPort() {
+        return port;
+    }
+
+    /**
+     * Returns {@code true} if the worker agent has finished evaluating its script.
+     *
+     * @return {@code true} if the worker agent is done
+     */
+    public boolean isDone() {
+        return completion.isDone();
+    }
+
+    /**
+     * Runs {@code action} when the worker agent has finished evaluating its script, whether normally or abruptly.
+     *
+     * @param action
+     *            the action to run
+     */
+    public void whenDone(Runnable action) {
+        completion.whenComplete((r, e) -> action.run());
+    }
+
+    /**
+     * Message port to send and receive structured clones.
+     */
+    public static final class MessagePort {
+        private final BlockingQueue<StructuredClone> inbox;
+        private final BlockingQueue<StructuredClone> outbox;
+
+        MessagePort(BlockingQueue<StructuredClone> inbox, BlockingQueue<StructuredClone> outbox) {
+            this.inbox = inbox;
+            this.outbox = outbox;
+        }
+
+        /**
+         * Sends a structured clone of {@code message} to the other agent.
+         *
+         * @param cx
+         *            the execution context
+         * @param message
+         *            the message value
+         */
+        public void postMessage(ExecutionContext cx, Object message) {
+            outbox.add(StructuredClone.serialize(cx, message));
+        }
+
+        /**
+         * Returns {@code true} if messages were received which have not yet been consumed.
+         *
+         * @return {@code true} if messages are pending
+         */
+        public boolean hasPendingMessages() {
+            return !inbox.isEmpty();
+        }
+
+        /**
+         * Waits until a message was received or the timeout elapses.
+         *
+         * @param cx
+         *            the execution context
+         * @param timeout
+         *            the timeout
+         * @param timeUnit
+         *            the time unit of the timeout parameter
+         * @return the received message or {@code null} if the timeout elapsed
+         * @throws InterruptedException
+         *             if interrupted while waiting
+         */
+        public Object receiveMessage(ExecutionContext cx, long timeout, TimeUnit timeUnit)
+                throws InterruptedException {
+            // Block through the fork-join pool to allow work-stealing worker pools to compensate for waiting agents.
+            Receiver receiver = new Receiver(inbox, timeUnit.toNanos(timeout));
+            ForkJoinPool.managedBlock(receiver);
+            return receiver.message != null ? receiver.message.deserialize(cx) : null;
+        }
+    }
+
+    private static final class Receiver implements ForkJoinPool.ManagedBlocker {
+        private final BlockingQueue<StructuredClone> queue;
+        private final long deadline;
+        private long nanos;
+        private StructuredClone message;
+
+        Receiver(BlockingQueue<StructuredClone> queue, long nanos) {
+            this.queue = queue;
+            this.deadline = System.nanoTime() + nanos;
+            this.nanos = nanos;
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            if (!isReleasable()) {
+                message = queue.poll(nanos, TimeUnit.NANOSECONDS);
+                nanos = deadline - System.nanoTime();
+            }
+            return isReleasable();
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return message != null || (message = queue.poll()) != null || nanos <= 0;
+        }
+    }
+}
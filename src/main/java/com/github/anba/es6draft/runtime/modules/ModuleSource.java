@@ -15,13 +15,13 @@ import com.github.anba.es6draft.runtime.internal.Source;
  */
 public interface ModuleSource {
     /**
-     * Returns the module source code string.
+     * Returns the module source code.
      * 
      * @return the module source code
      * @throws IOException
      *             if there was any I/O exception
      */
-    String sourceCode() throws IOException;
+    CharSequence sourceCode() throws IOException;
 
     /**
      * Returns the module source code information object.
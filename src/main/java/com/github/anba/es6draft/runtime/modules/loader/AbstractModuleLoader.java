@@ -7,10 +7,17 @@
 package com.github.anba.es6draft.runtime.modules.loader;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 import com.github.anba.es6draft.runtime.Realm;
 import com.github.anba.es6draft.runtime.internal.RuntimeContext;
@@ -24,6 +31,7 @@ import com.github.anba.es6draft.runtime.modules.SourceIdentifier;
  * 
  */
 public abstract class AbstractModuleLoader<MODULE extends ModuleRecord> implements ModuleLoader {
+    private static final int MAX_CONCURRENT_LOADS = 4;
     private final RuntimeContext context;
 
     protected AbstractModuleLoader(RuntimeContext context) {
@@ -39,6 +47,20 @@ public abstract class AbstractModuleLoader<MODULE extends ModuleRecord> implemen
         return context;
     }
 
+    /**
+     * Returns the executor service to load and compile requested modules concurrently or {@code null} to load modules
+     * sequentially. The default implementation returns {@code null}.
+     * <p>
+     * Subclasses which return an executor service must ensure {@link #loadSource(SourceIdentifier)} and
+     * {@link #parseModule(SourceIdentifier, ModuleSource)} can be called concurrently from worker threads. Neither
+     * method may access the modules of this loader, module records are only defined and linked on the calling thread.
+     * 
+     * @return the executor service or {@code null}
+     */
+    protected ExecutorService getLoaderExecutor() {
+        return null;
+    }
+
     /**
      * Loads the module source.
      * 
@@ -125,6 +147,7 @@ public abstract class AbstractModuleLoader<MODULE extends ModuleRecord> implemen
         if (module == null) {
             module = parseModule(identifier, source);
             defineModule(module);
+            prefetchRequested(module);
         }
         linkModule(module, realm);
         return module;
@@ -149,6 +172,7 @@ public abstract class AbstractModuleLoader<MODULE extends ModuleRecord> implemen
         if (module == null) {
             module = parseModule(identifier, loadSource(identifier));
             defineModule(module);
+            prefetchRequested(module);
         }
         return module;
     }
@@ -163,4 +187,70 @@ public abstract class AbstractModuleLoader<MODULE extends ModuleRecord> implemen
             }
         }
     }
+
+    /**
+     * Loads and compiles the not yet loaded modules of the module graph starting at <var>module</var> concurrently.
+     * The module records are defined on the current thread. Errors are ignored, they are reported when the failed
+     * module is requested again through {@link #resolve(SourceIdentifier, Realm)} or {@link #load(SourceIdentifier)}.
+     * 
+     * @param module
+     *            the new module record
+     */
+    private void prefetchRequested(MODULE module) {
+        ExecutorService executor = getLoaderExecutor();
+        if (executor == null) {
+            return;
+        }
+        CompletionService<MODULE> completionService = new ExecutorCompletionService<>(executor);
+        HashSet<SourceIdentifier> requested = new HashSet<>();
+        ArrayDeque<MODULE> newModules = new ArrayDeque<>();
+        ArrayDeque<SourceIdentifier> pendingLoads = new ArrayDeque<>();
+        int runningLoads = 0;
+        newModules.add(module);
+        try {
+            while (true) {
+                for (MODULE newModule; (newModule = newModules.poll()) != null;) {
+                    SourceIdentifier referrerId = newModule.getSourceCodeId();
+                    for (String specifier : getRequestedModules(newModule)) {
+                        SourceIdentifier identifier;
+                        try {
+                            identifier = normalizeName(specifier, referrerId);
+                        } catch (MalformedNameException e) {
+                            continue;
+                        }
+                        if (getModule(identifier) == null && requested.add(identifier)) {
+                            pendingLoads.add(identifier);
+                        }
+                    }
+                }
+                while (runningLoads < MAX_CONCURRENT_LOADS && !pendingLoads.isEmpty()) {
+                    SourceIdentifier identifier = pendingLoads.poll();
+                    try {
+                        completionService.submit(() -> parseModule(identifier, loadSource(identifier)));
+                        runningLoads += 1;
+                    } catch (RejectedExecutionException e) {
+                        // Worker executor is saturated, continue with the remaining running loads.
+                        pendingLoads.clear();
+                    }
+                }
+                if (runningLoads == 0) {
+                    break;
+                }
+                Future<MODULE> result = completionService.take();
+                runningLoads -= 1;
+                MODULE loaded;
+                try {
+                    loaded = result.get();
+                } catch (ExecutionException e) {
+                    continue;
+                }
+                if (getModule(loaded.getSourceCodeId()) == null) {
+                    defineModule(loaded);
+                    newModules.add(loaded);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
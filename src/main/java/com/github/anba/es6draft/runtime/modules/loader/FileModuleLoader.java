@@ -13,6 +13,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import com.github.anba.es6draft.runtime.Realm;
 import com.github.anba.es6draft.runtime.internal.RuntimeContext;
@@ -33,6 +34,19 @@ public class FileModuleLoader extends AbstractFileModuleLoader<SourceTextModuleR
         this.scriptLoader = scriptLoader;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Module files are read and parsed on the worker executor. Subclasses which override
+     * {@link #parseModule(SourceIdentifier, ModuleSource)} need to override this method, too, if their implementation
+     * is not thread-safe.
+     */
+    @Override
+    protected ExecutorService getLoaderExecutor() {
+        ExecutorService executor = getContext().getWorkerExecutor();
+        return !executor.isShutdown() ? executor : null;
+    }
+
     @Override
     protected void defineModule(SourceTextModuleRecord module) {
         SourceIdentifier identifier = module.getSourceCodeId();
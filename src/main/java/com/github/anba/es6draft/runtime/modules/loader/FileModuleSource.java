@@ -7,11 +7,10 @@
 package com.github.anba.es6draft.runtime.modules.loader;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
 import com.github.anba.es6draft.runtime.internal.Source;
+import com.github.anba.es6draft.runtime.internal.SourceFiles;
 import com.github.anba.es6draft.runtime.modules.ModuleSource;
 
 /**
@@ -27,8 +26,8 @@ public final class FileModuleSource implements ModuleSource {
     }
 
     @Override
-    public String sourceCode() throws IOException {
-        return new String(Files.readAllBytes(sourceFile), StandardCharsets.UTF_8);
+    public CharSequence sourceCode() throws IOException {
+        return SourceFiles.readFully(sourceFile);
     }
 
     @Override
@@ -27,19 +27,26 @@ import com.github.anba.es6draft.runtime.internal.Properties.AliasFunction;
 import com.github.anba.es6draft.runtime.internal.Properties.Attributes;
 import com.github.anba.es6draft.runtime.internal.Properties.CompatibilityExtension;
 import com.github.anba.es6draft.runtime.internal.Properties.Function;
+import com.github.anba.es6draft.runtime.internal.Properties.Intrinsic;
 import com.github.anba.es6draft.runtime.internal.Properties.Optional;
 import com.github.anba.es6draft.runtime.internal.Properties.Prototype;
 import com.github.anba.es6draft.runtime.internal.Properties.Value;
+import com.github.anba.es6draft.runtime.internal.RuntimeInfo;
 import com.github.anba.es6draft.runtime.objects.ArrayIteratorObject.ArrayIterationKind;
 import com.github.anba.es6draft.runtime.objects.binary.TypedArrayObject;
+import com.github.anba.es6draft.runtime.objects.intl.CollatorObject;
+import com.github.anba.es6draft.runtime.objects.intl.CollatorPrototype;
 import com.github.anba.es6draft.runtime.types.BuiltinSymbol;
 import com.github.anba.es6draft.runtime.types.Callable;
 import com.github.anba.es6draft.runtime.types.Intrinsics;
 import com.github.anba.es6draft.runtime.types.ScriptObject;
 import com.github.anba.es6draft.runtime.types.Type;
 import com.github.anba.es6draft.runtime.types.builtins.ArrayObject;
+import com.github.anba.es6draft.runtime.types.builtins.FunctionObject;
 import com.github.anba.es6draft.runtime.types.builtins.NativeFunction;
 import com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject;
+import com.ibm.icu.text.CollationKey;
+import com.ibm.icu.text.Collator;
 
 /**
  * <h1>22 Indexed Collections</h1><br>
@@ -193,6 +200,88 @@ public final class ArrayPrototype extends ArrayObject implements Initializable {
         return iteration;
     }
 
+    /**
+     * Combines HasProperty(O, P) and Get(O, P), own data elements of array objects are read directly.
+     * 
+     * @param cx
+     *            the execution context
+     * @param o
+     *            the script object
+     * @param pk
+     *            the indexed property key
+     * @return the property value or {@code null} if the property is not present
+     */
+    private static Object getIfPresent(ExecutionContext cx, ScriptObject o, long pk) {
+        if (!NO_ARRAY_OPTIMIZATION && o instanceof ArrayObject) {
+            Object value = ((ArrayObject) o).getOwnDataElement(pk);
+            if (value != null) {
+                return value;
+            }
+        }
+        if (!HasProperty(cx, o, pk)) {
+            return null;
+        }
+        return Get(cx, o, pk);
+    }
+
+    /**
+     * Get(O, P), own data elements of array objects are read directly.
+     * 
+     * @param cx
+     *            the execution context
+     * @param o
+     *            the script object
+     * @param pk
+     *            the indexed property key
+     * @return the property value
+     */
+    private static Object getElement(ExecutionContext cx, ScriptObject o, long pk) {
+        if (!NO_ARRAY_OPTIMIZATION && o instanceof ArrayObject) {
+            Object value = ((ArrayObject) o).getOwnDataElement(pk);
+            if (value != null) {
+                return value;
+            }
+        }
+        return Get(cx, o, pk);
+    }
+
+    /**
+     * CreateDataPropertyOrThrow(A, P, V), new elements of array objects are stored directly.
+     * 
+     * @param cx
+     *            the execution context
+     * @param a
+     *            the script object
+     * @param pk
+     *            the indexed property key
+     * @param value
+     *            the new property value
+     */
+    private static void createElement(ExecutionContext cx, ScriptObject a, long pk, Object value) {
+        if (!NO_ARRAY_OPTIMIZATION && a instanceof ArrayObject && ((ArrayObject) a).tryDefineElement(pk, value)) {
+            return;
+        }
+        CreateDataPropertyOrThrow(cx, a, pk, value);
+    }
+
+    /**
+     * Preallocates the element storage of a newly created array object when its elements are copied from a dense
+     * array object.
+     * 
+     * @param a
+     *            the script object
+     * @param o
+     *            the source object
+     * @param length
+     *            the expected number of elements
+     */
+    private static void ensureCapacity(ScriptObject a, ScriptObject o, long length) {
+        if (!NO_ARRAY_OPTIMIZATION && a instanceof ArrayObject && o instanceof ArrayObject
+                && ((ArrayObject) o).isDenseArray()) {
+            ((ArrayObject) a).ensureCapacity(length);
+        }
+    }
+
     private static long[] arrayKeys(OrdinaryObject array, long from, long to, boolean inherited) {
         if (inherited) {
             return inheritedKeys(array, from, to);
@@ -470,10 +559,9 @@ public final class ArrayPrototype extends ArrayObject implements Initializable {
                     /* steps 7.d.i, 7.d.v */
                     for (long k = 0; k < len; ++k, ++n) {
                         long p = k;
-                        boolean exists = HasProperty(cx, e, p);
-                        if (exists) {
-                            Object subElement = Get(cx, e, p);
-                            CreateDataPropertyOrThrow(cx, a, n, subElement);
+                        Object subElement = getIfPresent(cx, e, p);
+                        if (subElement != null) {
+                            createElement(cx, a, n, subElement);
                         }
                     }
                 } else {
@@ -481,7 +569,7 @@ public final class ArrayPrototype extends ArrayObject implements Initializable {
                     if (n >= ARRAY_LENGTH_LIMIT) {
                         throw newTypeError(cx, Messages.Key.InvalidArrayLength);
                     }
-                    CreateDataPropertyOrThrow(cx, a, n++, item);
+                    createElement(cx, a, n++, item);
                 }
             }
             /* steps 8-9 */
@@ -574,7 +662,7 @@ public final class ArrayPrototype extends ArrayObject implements Initializable {
                     /* step 13.a */
                     r.append(sep);
                     /* step 13.b */
-                    Object element = Get(cx, o, k);
+                    Object element = getElement(cx, o, k);
                     /* steps 13.c-e */
                     if (!Type.isUndefinedOrNull(element)) {
                         r.append(ToString(cx, element));
@@ -673,6 +761,24 @@ public final class ArrayPrototype extends ArrayObject implements Initializable {
             }
         }
 
+        /**
+         * 22.1.3.16 Array.prototype.pop ( )
+         * 
+         * @param cx
+         *            the execution context
+         * @param thisValue
+         *            the function this-value
+         * @return the popped array element
+         */
+        @Intrinsic
+        public static Object pop(ExecutionContext cx, ArrayObject thisValue) {
+            Object element = thisValue.tryRemoveLast();
+            if (element != null) {
+                return element;
+            }
+            return pop(cx, (Object) thisValue);
+        }
+
         /**
          * 22.1.3.17 Array.prototype.push ( ...items )
          * 
@@ -710,6 +816,25 @@ public final class ArrayPrototype extends ArrayObject implements Initializable {
             return len;
         }
 
+        /**
+         * 22.1.3.17 Array.prototype.push ( ...items )
+         * 
+         * @param cx
+         *            the execution context
+         * @param thisValue
+         *            the function this-value
+         * @param item
+         *            the new array element
+         * @return the new array length
+         */
+        @Intrinsic
+        public static Object push(ExecutionContext cx, ArrayObject thisValue, Object item) {
+            if (thisValue.tryAppend(item)) {
+                return thisValue.getLength();
+            }
+            return push(cx, (Object) thisValue, item);
+        }
+
         /**
          * 22.1.3.20 Array.prototype.reverse ( )
          * 
@@ -931,13 +1056,13 @@ public final class ArrayPrototype extends ArrayObject implements Initializable {
                 n = count;
             } else {
                 n = 0;
+                ensureCapacity(a, o, count);
                 /* steps 14-15 */
                 for (; k < finall; ++k, ++n) {
                     long pk = k;
-                    boolean kpresent = HasProperty(cx, o, pk);
-                    if (kpresent) {
-                        Object kvalue = Get(cx, o, pk);
-                        CreateDataPropertyOrThrow(cx, a, n, kvalue);
+                    Object kvalue = getIfPresent(cx, o, pk);
+                    if (kvalue != null) {
+                        createElement(cx, a, n, kvalue);
                     }
                 }
             }
@@ -1001,6 +1126,67 @@ public final class ArrayPrototype extends ArrayObject implements Initializable {
             }
         }
 
+        /**
+         * Sorts the elements without calling <var>comparefn</var> if the result is known to be the same, i.e. for
+         * Intl.Collator compare functions over strings and for subtracting comparators over numbers.
+         * 
+         * @param elements
+         *            the elements to sort
+         * @param comparefn
+         *            the comparator function
+         * @return {@code true} if the elements were sorted
+         */
+        private static boolean sortElementsIntrinsic(ArrayList<Object> elements, Callable comparefn) {
+            CollatorObject collator = CollatorPrototype.boundCollator(comparefn);
+            if (collator != null) {
+                return sortStrings(elements, collator.getCollator());
+            }
+            if (comparefn instanceof FunctionObject) {
+                RuntimeInfo.Function code = ((FunctionObject) comparefn).getCode();
+                if (code.is(RuntimeInfo.FunctionFlags.AscendingComparator)) {
+                    return sortNumbers(elements, false);
+                }
+                if (code.is(RuntimeInfo.FunctionFlags.DescendingComparator)) {
+                    return sortNumbers(elements, true);
+                }
+            }
+            return false;
+        }
+
+        private static boolean sortStrings(ArrayList<Object> elements, Collator collator) {
+            int count = elements.size();
+            CollationKey[] keys = new CollationKey[count];
+            for (int i = 0; i < count; ++i) {
+                Object e = elements.get(i);
+                if (!Type.isString(e)) {
+                    return false;
+                }
+                keys[i] = collator.getCollationKey(Type.stringValue(e).toString());
+            }
+            // Arrays.sort() is stable for objects, equal keys keep their original order.
+            Arrays.sort(keys);
+            for (int i = 0; i < count; ++i) {
+                elements.set(i, keys[i].getSourceString());
+            }
+            return true;
+        }
+
+        private static boolean sortNumbers(ArrayList<Object> elements, boolean descending) {
+            for (Object e : elements) {
+                // (a - b) is not a consistent comparator for NaN values.
+                if (!Type.isNumber(e) || Double.isNaN(Type.numberValue(e))) {
+                    return false;
+                }
+            }
+            Comparator<Object> comparator = (o1, o2) -> {
+                double x = Type.numberValue(o1), y = Type.numberValue(o2);
+                // Not Double.compare(), (+0 - -0) is zero.
+                return x < y ? -1 : x > y ? 1 : 0;
+            };
+            Collections.sort(elements, descending ? comparator.reversed() : comparator);
+            return true;
+        }
+
         private static void sortElements(ExecutionContext cx, ArrayList<Object> elements,
                 Object comparefn) {
             Comparator<Object> comparator;
@@ -1008,6 +1194,9 @@ public final class ArrayPrototype extends ArrayObject implements Initializable {
                 if (!IsCallable(comparefn)) {
                     throw newTypeError(cx, Messages.Key.NotCallable);
                 }
+                if (sortElementsIntrinsic(elements, (Callable) comparefn)) {
+                    return;
+                }
                 comparator = new FunctionComparator(cx, (Callable) comparefn);
             } else {
                 comparator = new DefaultComparator(cx);
@@ -1525,10 +1714,9 @@ public final class ArrayPrototype extends ArrayObject implements Initializable {
             /* step 11 */
             for (; k < len; ++k) {
                 /* step 11.a-b */
-                boolean kpresent = HasProperty(cx, o, k);
+                Object elementk = getIfPresent(cx, o, k);
                 /* step 11.c */
-                if (kpresent) {
-                    Object elementk = Get(cx, o, k);
+                if (elementk != null) {
                     boolean same = StrictEqualityComparison(searchElement, elementk);
                     if (same) {
                         return k;
@@ -1712,10 +1900,9 @@ public final class ArrayPrototype extends ArrayObject implements Initializable {
                 /* step 8.a */
                 long pk = k;
                 /* steps 8.b-c */
-                boolean kpresent = HasProperty(cx, o, pk);
+                Object kvalue = getIfPresent(cx, o, pk);
                 /* step 8.d */
-                if (kpresent) {
-                    Object kvalue = Get(cx, o, pk);
+                if (kvalue != null) {
                     callback.call(cx, thisArg, kvalue, k, o);
                 }
             }
@@ -1751,17 +1938,17 @@ public final class ArrayPrototype extends ArrayObject implements Initializable {
             /* step 6 (omitted) */
             /* steps 7-8 */
             ScriptObject a = ArraySpeciesCreate(cx, o, len);
+            ensureCapacity(a, o, len);
             /* steps 9-10 */
             for (long k = 0; k < len; ++k) {
                 /* step 10.a */
                 long pk = k;
                 /* steps 10.b-c */
-                boolean kpresent = HasProperty(cx, o, pk);
+                Object kvalue = getIfPresent(cx, o, pk);
                 /* step 10.d */
-                if (kpresent) {
-                    Object kvalue = Get(cx, o, pk);
+                if (kvalue != null) {
                     Object mappedValue = callback.call(cx, thisArg, kvalue, k, o);
-                    CreateDataPropertyOrThrow(cx, a, pk, mappedValue);
+                    createElement(cx, a, pk, mappedValue);
                 }
             }
             /* step 11 */
@@ -1801,13 +1988,12 @@ public final class ArrayPrototype extends ArrayObject implements Initializable {
                 /* step 11.a */
                 long pk = k;
                 /* steps 11.b-c */
-                boolean kpresent = HasProperty(cx, o, pk);
+                Object kvalue = getIfPresent(cx, o, pk);
                 /* step 11.d */
-                if (kpresent) {
-                    Object kvalue = Get(cx, o, pk);
+                if (kvalue != null) {
                     boolean selected = ToBoolean(callback.call(cx, thisArg, kvalue, k, o));
                     if (selected) {
-                        CreateDataPropertyOrThrow(cx, a, to, kvalue);
+                        createElement(cx, a, to, kvalue);
                         to += 1;
                     }
                 }
@@ -1858,10 +2044,8 @@ public final class ArrayPrototype extends ArrayObject implements Initializable {
                 /* step 9.b */
                 for (; !kpresent && k < len; ++k) {
                     long pk = k;
-                    kpresent = HasProperty(cx, o, pk);
-                    if (kpresent) {
-                        accumulator = Get(cx, o, pk);
-                    }
+                    accumulator = getIfPresent(cx, o, pk);
+                    kpresent = accumulator != null;
                 }
                 /* step 9.c */
                 if (!kpresent) {
@@ -1873,10 +2057,9 @@ public final class ArrayPrototype extends ArrayObject implements Initializable {
                 /* step 10.a */
                 long pk = k;
                 /* steps 10.b-c */
-                boolean kpresent = HasProperty(cx, o, pk);
+                Object kvalue = getIfPresent(cx, o, pk);
                 /* step 10.d */
-                if (kpresent) {
-                    Object kvalue = Get(cx, o, pk);
+                if (kvalue != null) {
                     accumulator = callback.call(cx, UNDEFINED, accumulator, kvalue, k, o);
                 }
             }
@@ -2266,7 +2449,7 @@ public final class ArrayPrototype extends ArrayObject implements Initializable {
             /* step 7 */
             for (; k < len; ++k) {
                 /* step 7.a */
-                Object element = Get(cx, o, k);
+                Object element = getElement(cx, o, k);
                 /* step 10.b */
                 if (SameValueZero(searchElement, element)) {
                     return true;
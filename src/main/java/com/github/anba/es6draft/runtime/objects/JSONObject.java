@@ -12,13 +12,18 @@ import static com.github.anba.es6draft.runtime.internal.Errors.newTypeError;
 import static com.github.anba.es6draft.runtime.internal.Properties.createProperties;
 import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 
 import com.github.anba.es6draft.parser.JSONParser;
 import com.github.anba.es6draft.parser.ParserException;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.internal.IndexedMap;
 import com.github.anba.es6draft.runtime.internal.Initializable;
 import com.github.anba.es6draft.runtime.internal.Messages;
 import com.github.anba.es6draft.runtime.internal.Properties.Attributes;
@@ -30,8 +35,10 @@ import com.github.anba.es6draft.runtime.objects.number.NumberObject;
 import com.github.anba.es6draft.runtime.types.BuiltinSymbol;
 import com.github.anba.es6draft.runtime.types.Callable;
 import com.github.anba.es6draft.runtime.types.Intrinsics;
+import com.github.anba.es6draft.runtime.types.Property;
 import com.github.anba.es6draft.runtime.types.ScriptObject;
 import com.github.anba.es6draft.runtime.types.Type;
+import com.github.anba.es6draft.runtime.types.builtins.ArrayObject;
 import com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject;
 import com.github.anba.es6draft.runtime.types.builtins.StringObject;
 
@@ -177,13 +184,18 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
             boolean status = CreateDataProperty(cx, wrapper, "", value);
             assert status;
             /* step 12 */
-            JSONSerializer serializer = new JSONSerializer(propertyList, replacerFunction, gap);
-            value = TransformJSONValue(cx, serializer, wrapper, "", value);
-            if (!IsJSONSerializable(value)) {
-                return UNDEFINED;
+            StringBuilder buffer = acquireBuffer();
+            try {
+                JSONSerializer serializer = new JSONSerializer(cx, propertyList, replacerFunction, gap, buffer, null);
+                value = TransformJSONValue(cx, serializer, wrapper, "", value);
+                if (!IsJSONSerializable(value)) {
+                    return UNDEFINED;
+                }
+                SerializeJSONValue(cx, serializer, value);
+                return serializer.result.toString();
+            } finally {
+                releaseBuffer(buffer);
             }
-            SerializeJSONValue(cx, serializer, value);
-            return serializer.result.toString();
         }
 
         /**
@@ -194,6 +206,64 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
         public static final String toStringTag = "JSON";
     }
 
+    /**
+     * Serializes <var>value</var> into <var>writer</var>. Performs the same operations as
+     * {@code JSON.stringify(value)}, except the JSON text is written in chunks to the writer instead of being
+     * materialized as a single string. Use an {@link java.io.OutputStreamWriter} to serialize into an output stream.
+     * 
+     * @param cx
+     *            the execution context
+     * @param value
+     *            the value
+     * @param writer
+     *            the target writer
+     * @return {@code true} if a JSON text was written, {@code false} if <var>value</var> is not serializable
+     * @throws IOException
+     *             if there was any I/O error
+     */
+    public static boolean Stringify(ExecutionContext cx, Object value, Writer writer) throws IOException {
+        OrdinaryObject wrapper = ObjectCreate(cx, Intrinsics.ObjectPrototype);
+        boolean status = CreateDataProperty(cx, wrapper, "", value);
+        assert status;
+        StringBuilder buffer = acquireBuffer();
+        try {
+            JSONSerializer serializer = new JSONSerializer(cx, null, null, "", buffer, writer);
+            value = TransformJSONValue(cx, serializer, wrapper, "", value);
+            if (!IsJSONSerializable(value)) {
+                return false;
+            }
+            SerializeJSONValue(cx, serializer, value);
+            writer.append(buffer);
+            return true;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    private static final int BUFFER_INITIAL_CAPACITY = 256;
+    private static final int BUFFER_MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final int WRITER_FLUSH_THRESHOLD = 8 * 1024;
+    private static final ThreadLocal<StringBuilder> buffers = new ThreadLocal<>();
+
+    private static StringBuilder acquireBuffer() {
+        StringBuilder buffer = buffers.get();
+        if (buffer == null) {
+            return new StringBuilder(BUFFER_INITIAL_CAPACITY);
+        }
+        // Remove buffer from cache for re-entrant calls to JSON.stringify.
+        buffers.set(null);
+        return buffer;
+    }
+
+    private static void releaseBuffer(StringBuilder buffer) {
+        if (buffer.capacity() <= BUFFER_MAX_RETAINED_CAPACITY) {
+            buffer.setLength(0);
+            buffers.set(buffer);
+        }
+    }
+
     /**
      * 24.3.1.1 Runtime Semantics: InternalizeJSONProperty( holder, name)
      * 
@@ -278,17 +348,116 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
         final HashSet<String> propertyList;
         final Callable replacerFunction;
         final String gap;
-        final StringBuilder result = new StringBuilder();
+        final StringBuilder result;
+        final Writer writer;
+        final boolean simple;
+        final OrdinaryObject objectPrototype;
+        final OrdinaryObject arrayPrototype;
         int level = 0;
 
-        JSONSerializer(HashSet<String> propertyList, Callable replacerFunction, String gap) {
+        JSONSerializer(ExecutionContext cx, HashSet<String> propertyList, Callable replacerFunction, String gap,
+                StringBuilder result, Writer writer) {
             this.stack = new HashSet<>();
             this.propertyList = propertyList;
             this.replacerFunction = replacerFunction;
             this.gap = gap;
+            this.result = result;
+            this.writer = writer;
+            this.simple = propertyList == null && replacerFunction == null;
+            this.objectPrototype = cx.getIntrinsic(Intrinsics.ObjectPrototype);
+            this.arrayPrototype = cx.getIntrinsic(Intrinsics.ArrayPrototype);
+        }
+
+        void flush() {
+            if (writer != null && result.length() >= WRITER_FLUSH_THRESHOLD) {
+                try {
+                    writer.append(result);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                result.setLength(0);
+            }
         }
     }
 
+    /**
+     * Returns {@code true} if <var>value</var> is an ordinary object or array without a "toJSON" property, so
+     * serializing the object cannot call user code and its properties can be read directly from the property storage.
+     * 
+     * @param serializer
+     *            the serializer state
+     * @param value
+     *            the script object
+     * @return {@code true} if the object can be serialized without calling user code
+     */
+    private static boolean IsSimpleJSONObject(JSONSerializer serializer, ScriptObject value) {
+        if (!serializer.simple) {
+            return false;
+        }
+        Class<?> c = value.getClass();
+        if (c != OrdinaryObject.class && c != ArrayObject.class) {
+            return false;
+        }
+        OrdinaryObject objectPrototype = serializer.objectPrototype;
+        OrdinaryObject object = (OrdinaryObject) value;
+        if (c == OrdinaryObject.class) {
+            if (object.getPrototype() != objectPrototype) {
+                return false;
+            }
+        } else {
+            OrdinaryObject arrayPrototype = serializer.arrayPrototype;
+            if (object.getPrototype() != arrayPrototype || arrayPrototype.getPrototype() != objectPrototype
+                    || arrayPrototype.lookupOwnProperty("toJSON") != null) {
+                return false;
+            }
+        }
+        return object.lookupOwnProperty("toJSON") == null && objectPrototype.lookupOwnProperty("toJSON") == null;
+    }
+
+    /**
+     * Returns the property value without calling user code if possible, otherwise falls back to [[Get]].
+     * 
+     * @param cx
+     *            the execution context
+     * @param object
+     *            the simple object
+     * @param key
+     *            the property key
+     * @return the property value
+     */
+    private static Object GetSimple(ExecutionContext cx, OrdinaryObject object, String key) {
+        long index = IndexedMap.toIndex(key);
+        Property prop;
+        if (IndexedMap.isIndex(index)) {
+            prop = object.lookupOwnProperty(index);
+        } else {
+            prop = object.lookupOwnProperty(key);
+        }
+        if (prop != null && prop.isDataDescriptor()) {
+            return prop.getValue();
+        }
+        return Get(cx, object, key);
+    }
+
+    /**
+     * Returns the property value without calling user code if possible, otherwise falls back to [[Get]].
+     * 
+     * @param cx
+     *            the execution context
+     * @param object
+     *            the simple object
+     * @param index
+     *            the property index
+     * @return the property value
+     */
+    private static Object GetSimple(ExecutionContext cx, OrdinaryObject object, long index) {
+        Property prop = object.lookupOwnProperty(index);
+        if (prop != null && prop.isDataDescriptor()) {
+            return prop.getValue();
+        }
+        return Get(cx, object, index);
+    }
+
     /**
      * 24.3.2.1 Runtime Semantics: SerializeJSONProperty (key, holder )
      * 
@@ -350,7 +519,13 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
         case Object:
             assert !IsCallable(value);
             ScriptObject valueObj = Type.objectValue(value);
-            if (valueObj instanceof NumberObject) {
+            if (IsSimpleJSONObject(serializer, valueObj)) {
+                if (valueObj instanceof ArrayObject) {
+                    SerializeSimpleJSONArray(cx, serializer, (ArrayObject) valueObj);
+                } else {
+                    SerializeSimpleJSONObject(cx, serializer, (OrdinaryObject) valueObj);
+                }
+            } else if (valueObj instanceof NumberObject) {
                 SerializeJSONNumber(serializer, ToNumber(cx, value));
             } else if (valueObj instanceof StringObject) {
                 SerializeJSONString(serializer, ToString(cx, value));
@@ -414,6 +589,27 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
     };
     /* @formatter:on */
 
+    private static final String[] ESCAPES;
+
+    static {
+        String[] escapes = new String['\\' + 1];
+        for (char c = 0; c < ' '; ++c) {
+            /* @formatter:off */
+            escapes[c] = new String(new char[] {
+                '\\', 'u', '0', '0', HEXDIGITS[(c >> 4) & 0xf], HEXDIGITS[(c >> 0) & 0xf]
+            });
+            /* @formatter:on */
+        }
+        escapes['"'] = "\\\"";
+        escapes['\\'] = "\\\\";
+        escapes['\b'] = "\\b";
+        escapes['\f'] = "\\f";
+        escapes['\n'] = "\\n";
+        escapes['\r'] = "\\r";
+        escapes['\t'] = "\\t";
+        ESCAPES = escapes;
+    }
+
     /**
      * 24.3.2.2 Runtime Semantics: QuoteJSONString ( value )
      * 
@@ -423,46 +619,22 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
      *            the string
      */
     private static void QuoteJSONString(StringBuilder product, String value) {
-        product.ensureCapacity(value.length() + 2);
+        String[] escapes = ESCAPES;
+        int len = value.length();
+        product.ensureCapacity(product.length() + len + 2);
         /* step 1 */
         product.append('"');
         /* step 2 */
-        for (int i = 0, len = value.length(); i < len; ++i) {
+        int start = 0;
+        for (int i = 0; i < len; ++i) {
             char c = value.charAt(i);
-            switch (c) {
-            case '"':
-            case '\\':
-                product.append('\\').append(c);
-                break;
-            case '\b':
-                product.append('\\').append('b');
-                break;
-            case '\f':
-                product.append('\\').append('f');
-                break;
-            case '\n':
-                product.append('\\').append('n');
-                break;
-            case '\r':
-                product.append('\\').append('r');
-                break;
-            case '\t':
-                product.append('\\').append('t');
-                break;
-            default:
-                if (c < ' ') {
-                    /* @formatter:off */
-                    product.append('\\').append('u')
-                            .append(HEXDIGITS[(c >> 12) & 0xf])
-                            .append(HEXDIGITS[(c >> 8) & 0xf])
-                            .append(HEXDIGITS[(c >> 4) & 0xf])
-                            .append(HEXDIGITS[(c >> 0) & 0xf]);
-                    /* @formatter:on */
-                } else {
-                    product.append(c);
-                }
+            String escape;
+            if (c < escapes.length && (escape = escapes[c]) != null) {
+                product.append(value, start, i).append(escape);
+                start = i + 1;
             }
         }
+        product.append(value, start, len);
         /* step 3 */
         product.append('"');
         /* step 4 (not applicable) */
@@ -524,6 +696,7 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
             indent(serializer, result);
         }
         result.append('}');
+        serializer.flush();
         /* step 11 */
         serializer.stack.remove(value);
         /* steps 12-13 (not applicable) */
@@ -577,6 +750,122 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
             }
         }
         result.append(']');
+        serializer.flush();
+        /* step 12 */
+        serializer.stack.remove(value);
+        /* steps 13-14 (not applicable) */
+    }
+
+    /**
+     * 24.3.2.3 Runtime Semantics: SerializeJSONObject ( value )
+     * <p>
+     * Specialized for objects where {@link #IsSimpleJSONObject(JSONSerializer, ScriptObject)} returned {@code true}.
+     * 
+     * @param cx
+     *            the execution context
+     * @param serializer
+     *            the serializer state
+     * @param value
+     *            the script object
+     */
+    private static void SerializeSimpleJSONObject(ExecutionContext cx, JSONSerializer serializer,
+            OrdinaryObject value) {
+        /* steps 1-2 */
+        if (!serializer.stack.add(value)) {
+            throw newTypeError(cx, Messages.Key.JSONCyclicValue);
+        }
+        /* steps 3-7 */
+        List<String> k = value.enumerableOwnNames();
+        /* steps 8-10 */
+        boolean isEmpty = true;
+        String gap = serializer.gap;
+        StringBuilder result = serializer.result;
+        result.append('{');
+        serializer.level += 1;
+        for (String p : k) {
+            // Inlined: SerializeJSONProperty
+            Object v = GetSimple(cx, value, p);
+            if (Type.isObject(v) && !IsSimpleJSONObject(serializer, Type.objectValue(v))) {
+                v = TransformJSONValue(cx, serializer, value, p, v);
+            }
+            if (!IsJSONSerializable(v)) {
+                continue;
+            }
+            if (!isEmpty) {
+                result.append(',');
+            }
+            isEmpty = false;
+            if (!gap.isEmpty()) {
+                indent(serializer, result);
+            }
+            QuoteJSONString(result, p);
+            result.append(':');
+            if (!gap.isEmpty()) {
+                result.append(' ');
+            }
+            SerializeJSONValue(cx, serializer, v);
+        }
+        serializer.level -= 1;
+        if (!isEmpty && !gap.isEmpty()) {
+            indent(serializer, result);
+        }
+        result.append('}');
+        serializer.flush();
+        /* step 11 */
+        serializer.stack.remove(value);
+        /* steps 12-13 (not applicable) */
+    }
+
+    /**
+     * 24.3.2.4 Runtime Semantics: SerializeJSONArray( value )
+     * <p>
+     * Specialized for arrays where {@link #IsSimpleJSONObject(JSONSerializer, ScriptObject)} returned {@code true}.
+     * 
+     * @param cx
+     *            the execution context
+     * @param serializer
+     *            the serializer state
+     * @param value
+     *            the array object
+     */
+    private static void SerializeSimpleJSONArray(ExecutionContext cx, JSONSerializer serializer, ArrayObject value) {
+        /* steps 1-2 */
+        if (!serializer.stack.add(value)) {
+            throw newTypeError(cx, Messages.Key.JSONCyclicValue);
+        }
+        /* steps 3-7 */
+        long len = value.getLength();
+        /* steps 8-11 */
+        String gap = serializer.gap;
+        StringBuilder result = serializer.result;
+        result.append('[');
+        if (len > 0) {
+            serializer.level += 1;
+            for (long index = 0; index < len; ++index) {
+                if (!gap.isEmpty()) {
+                    indent(serializer, result);
+                }
+                // Inlined: SerializeJSONProperty
+                Object v = GetSimple(cx, value, index);
+                if (Type.isObject(v) && !IsSimpleJSONObject(serializer, Type.objectValue(v))) {
+                    v = TransformJSONValue(cx, serializer, value, ToString(index), v);
+                }
+                if (!IsJSONSerializable(v)) {
+                    result.append("null");
+                } else {
+                    SerializeJSONValue(cx, serializer, v);
+                }
+                if (index + 1 < len) {
+                    result.append(',');
+                }
+            }
+            serializer.level -= 1;
+            if (!gap.isEmpty()) {
+                indent(serializer, result);
+            }
+        }
+        result.append(']');
+        serializer.flush();
         /* step 12 */
         serializer.stack.remove(value);
         /* steps 13-14 (not applicable) */
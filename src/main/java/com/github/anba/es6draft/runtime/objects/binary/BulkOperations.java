@@ -0,0 +1,264 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.objects.binary;
+
+import static com.github.anba.es6draft.runtime.objects.binary.ArrayBufferConstructor.SetValueInBuffer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+
+/**
+ * Bulk operations on the elements of typed arrays.
+ * <p>
+ * The operations work on primitive views of the underlying data block instead of reading and writing each element
+ * through {@link ArrayBufferConstructor#GetValueFromBuffer(ArrayBuffer, long, ElementType)} and
+ * {@link ArrayBufferConstructor#SetValueInBuffer(ArrayBuffer, long, ElementType, double)}. Callers must ensure the
+ * array buffer is not detached.
+ */
+final class BulkOperations {
+    private BulkOperations() {
+    }
+
+    /**
+     * Minimum number of elements to sort in parallel.
+     */
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+    /**
+     * Returns a view of the typed array elements in native byte order.
+     *
+     * @param array
+     *            the typed array
+     * @param start
+     *            the start index
+     * @param end
+     *            the end index
+     * @return the byte buffer view of the elements
+     */
+    private static ByteBuffer elements(TypedArrayObject array, long start, long end) {
+        int elementSize = array.getElementType().size();
+        // Use a duplicate to leave position, limit and byte order of the shared data block unchanged.
+        ByteBuffer data = array.getBuffer().getData().duplicate();
+        int byteOffset = (int) array.getByteOffset();
+        data.limit((int) (byteOffset + end * elementSize)).position((int) (byteOffset + start * elementSize));
+        return data.slice().order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Copies {@code length} bytes from {@code src} to {@code target}. Overlapping regions are handled correctly if
+     * both data blocks are the same.
+     *
+     * @param src
+     *            the source data block
+     * @param srcByteIndex
+     *            the source byte index
+     * @param target
+     *            the target data block
+     * @param targetByteIndex
+     *            the target byte index
+     * @param length
+     *            the number of bytes to copy
+     */
+    static void copy(ByteBuffer src, long srcByteIndex, ByteBuffer target, long targetByteIndex, long length) {
+        assert srcByteIndex + length <= src.capacity();
+        assert targetByteIndex + length <= target.capacity();
+        ByteBuffer srcView = src.duplicate();
+        ByteBuffer targetView = target.duplicate();
+        srcView.limit((int) (srcByteIndex + length)).position((int) srcByteIndex);
+        targetView.limit((int) (targetByteIndex + length)).position((int) targetByteIndex);
+        targetView.put(srcView);
+    }
+
+    /**
+     * Sets all elements in {@code [start, end)} to {@code value}.
+     *
+     * @param array
+     *            the typed array
+     * @param start
+     *            the start index
+     * @param end
+     *            the end index
+     * @param value
+     *            the new element value
+     */
+    static void fill(TypedArrayObject array, long start, long end, double value) {
+        assert 0 <= start && start < end && end <= array.getArrayLength();
+        ElementType type = array.getElementType();
+        int elementSize = type.size();
+        ArrayBuffer buffer = array.getBuffer();
+        long startByteIndex = array.getByteOffset() + start * elementSize;
+        long byteLength = (end - start) * elementSize;
+        // Store the first element, then double the filled range with each copy.
+        SetValueInBuffer(buffer, startByteIndex, type, value);
+        ByteBuffer data = buffer.getData();
+        for (long filled = elementSize; filled < byteLength; filled *= 2) {
+            copy(data, startByteIndex, data, startByteIndex + filled, Math.min(filled, byteLength - filled));
+        }
+    }
+
+    /**
+     * Sorts the typed array elements in ascending numeric order, {@code NaN} values are sorted to the end and
+     * {@code -0} is sorted before {@code +0}.
+     *
+     * @param array
+     *            the typed array
+     */
+    static void sort(TypedArrayObject array) {
+        int length = (int) array.getArrayLength();
+        ByteBuffer data = elements(array, 0, length);
+        switch (array.getElementType()) {
+        case Int8:
+        case Uint8:
+        case Uint8C: {
+            byte[] elements = new byte[length];
+            data.get(elements);
+            if (array.getElementType() == ElementType.Int8) {
+                sort(elements);
+            } else {
+                // Flip the sign bit to sort unsigned values.
+                flip(elements);
+                sort(elements);
+                flip(elements);
+            }
+            data.clear();
+            data.put(elements);
+            return;
+        }
+        case Int16:
+        case Uint16: {
+            ShortBuffer view = data.asShortBuffer();
+            short[] elements = new short[length];
+            view.get(elements);
+            if (array.getElementType() == ElementType.Int16) {
+                sort(elements);
+            } else {
+                flip(elements);
+                sort(elements);
+                flip(elements);
+            }
+            view.clear();
+            view.put(elements);
+            return;
+        }
+        case Int32:
+        case Uint32: {
+            IntBuffer view = data.asIntBuffer();
+            int[] elements = new int[length];
+            view.get(elements);
+            if (array.getElementType() == ElementType.Int32) {
+                sort(elements);
+            } else {
+                flip(elements);
+                sort(elements);
+                flip(elements);
+            }
+            view.clear();
+            view.put(elements);
+            return;
+        }
+        case Float32: {
+            FloatBuffer view = data.asFloatBuffer();
+            float[] elements = new float[length];
+            view.get(elements);
+            // Arrays.sort() orders NaN last and -0 before +0.
+            if (length >= PARALLEL_SORT_THRESHOLD) {
+                Arrays.parallelSort(elements);
+            } else {
+                Arrays.sort(elements);
+            }
+            view.clear();
+            view.put(elements);
+            return;
+        }
+        case Float64: {
+            DoubleBuffer view = data.asDoubleBuffer();
+            double[] elements = new double[length];
+            view.get(elements);
+            if (length >= PARALLEL_SORT_THRESHOLD) {
+                Arrays.parallelSort(elements);
+            } else {
+                Arrays.sort(elements);
+            }
+            view.clear();
+            view.put(elements);
+            return;
+        }
+        default:
+            throw new AssertionError();
+        }
+    }
+
+    /**
+     * Reverses the order of the typed array elements.
+     *
+     * @param array
+     *            the typed array
+     */
+    static void reverse(TypedArrayObject array) {
+        int length = (int) array.getArrayLength();
+        int elementSize = array.getElementType().size();
+        ByteBuffer data = elements(array, 0, length);
+        byte[] lower = new byte[elementSize], upper = new byte[elementSize];
+        for (int i = 0, j = (length - 1) * elementSize; i < j; i += elementSize, j -= elementSize) {
+            data.position(i);
+            data.get(lower);
+            data.position(j);
+            data.get(upper);
+            data.position(j);
+            data.put(lower);
+            data.position(i);
+            data.put(upper);
+        }
+    }
+
+    private static void sort(byte[] elements) {
+        if (elements.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(elements);
+        } else {
+            Arrays.sort(elements);
+        }
+    }
+
+    private static void sort(short[] elements) {
+        if (elements.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(elements);
+        } else {
+            Arrays.sort(elements);
+        }
+    }
+
+    private static void sort(int[] elements) {
+        if (elements.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(elements);
+        } else {
+            Arrays.sort(elements);
+        }
+    }
+
+    private static void flip(byte[] elements) {
+        for (int i = 0; i < elements.length; ++i) {
+            elements[i] ^= Byte.MIN_VALUE;
+        }
+    }
+
+    private static void flip(short[] elements) {
+        for (int i = 0; i < elements.length; ++i) {
+            elements[i] ^= Short.MIN_VALUE;
+        }
+    }
+
+    private static void flip(int[] elements) {
+        for (int i = 0; i < elements.length; ++i) {
+            elements[i] ^= Integer.MIN_VALUE;
+        }
+    }
+}
@@ -131,7 +131,7 @@ public final class TypedArrayConstructor extends BuiltinConstructor implements I
     private TypedArrayObject constructWithNoArguments(ExecutionContext cx, Constructor newTarget) {
         /* step 1 (not applicable) */
         /* steps 2-3 */
-        return AllocateTypedArray(cx, elementType, newTarget, prototypeForType(elementType), 0);
+        return AllocateTypedArray(cx, elementType, newTarget, elementType.getPrototype(), 0);
     }
 
     /**
@@ -162,7 +162,7 @@ public final class TypedArrayConstructor extends BuiltinConstructor implements I
             throw newRangeError(cx, Messages.Key.InvalidBufferSize);
         }
         /* steps 7-8 */
-        return AllocateTypedArray(cx, elementType, newTarget, prototypeForType(elementType), elementLength);
+        return AllocateTypedArray(cx, elementType, newTarget, elementType.getPrototype(), elementLength);
     }
 
     /**
@@ -181,7 +181,7 @@ public final class TypedArrayConstructor extends BuiltinConstructor implements I
         /* step 1 (implicit) */
         /* step 2 (not applicable) */
         /* steps 3-4 (TypedArray allocation deferred) */
-        ScriptObject proto = GetPrototypeFromConstructor(cx, newTarget, prototypeForType(elementType));
+        ScriptObject proto = GetPrototypeFromConstructor(cx, newTarget, elementType.getPrototype());
         /* step 5 */
         TypedArrayObject srcArray = typedArray;
         /* step 6 */
@@ -252,7 +252,7 @@ public final class TypedArrayConstructor extends BuiltinConstructor implements I
         assert !(object instanceof TypedArrayObject || object instanceof ArrayBuffer);
         /* step 2 (not applicable) */
         /* steps 3-4 (TypedArray allocation deferred) */
-        ScriptObject proto = GetPrototypeFromConstructor(cx, newTarget, prototypeForType(elementType));
+        ScriptObject proto = GetPrototypeFromConstructor(cx, newTarget, elementType.getPrototype());
         /* step 5 */
         List<Object> arrayLike = IterableToArrayLike(cx, object);
         /* step 6 */
@@ -292,7 +292,7 @@ public final class TypedArrayConstructor extends BuiltinConstructor implements I
         /* step 1 (implicit) */
         /* step 2 (not applicable) */
         /* steps 3-4 (TypedArray allocation deferred) */
-        ScriptObject proto = GetPrototypeFromConstructor(cx, newTarget, prototypeForType(elementType));
+        ScriptObject proto = GetPrototypeFromConstructor(cx, newTarget, elementType.getPrototype());
         /* steps 5-6 */
         int elementSize = elementType.size();
         /* step 7 */
@@ -503,30 +503,6 @@ public final class TypedArrayConstructor extends BuiltinConstructor implements I
         return TypedArrayCreate(cx, constructor, args);
     }
 
-    private static Intrinsics prototypeForType(ElementType elementType) {
-        switch (elementType) {
-        case Int8:
-            return Intrinsics.Int8ArrayPrototype;
-        case Uint8:
-            return Intrinsics.Uint8ArrayPrototype;
-        case Uint8C:
-            return Intrinsics.Uint8ClampedArrayPrototype;
-        case Int16:
-            return Intrinsics.Int16ArrayPrototype;
-        case Uint16:
-            return Intrinsics.Uint16ArrayPrototype;
-        case Int32:
-            return Intrinsics.Int32ArrayPrototype;
-        case Uint32:
-            return Intrinsics.Uint32ArrayPrototype;
-        case Float32:
-            return Intrinsics.Float32ArrayPrototype;
-        case Float64:
-            return Intrinsics.Float64ArrayPrototype;
-        default:
-            throw new AssertionError();
-        }
-    }
 
     private static Class<?> propertiesForType(ElementType elementType) {
         switch (elementType) {
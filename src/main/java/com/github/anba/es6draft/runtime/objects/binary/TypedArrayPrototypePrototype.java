@@ -38,12 +38,14 @@ import com.github.anba.es6draft.runtime.internal.Properties.Function;
 import com.github.anba.es6draft.runtime.internal.Properties.Optional;
 import com.github.anba.es6draft.runtime.internal.Properties.Prototype;
 import com.github.anba.es6draft.runtime.internal.Properties.Value;
+import com.github.anba.es6draft.runtime.internal.RuntimeInfo;
 import com.github.anba.es6draft.runtime.objects.ArrayIteratorObject.ArrayIterationKind;
 import com.github.anba.es6draft.runtime.types.BuiltinSymbol;
 import com.github.anba.es6draft.runtime.types.Callable;
 import com.github.anba.es6draft.runtime.types.Intrinsics;
 import com.github.anba.es6draft.runtime.types.ScriptObject;
 import com.github.anba.es6draft.runtime.types.Type;
+import com.github.anba.es6draft.runtime.types.builtins.FunctionObject;
 import com.github.anba.es6draft.runtime.types.builtins.NativeFunction;
 import com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject;
 
@@ -386,17 +388,8 @@ public final class TypedArrayPrototypePrototype extends OrdinaryObject implement
                     long countByteLength = targetElementSize * srcLength;
                     ByteBuffer srcData = srcBuffer.getData();
                     ByteBuffer targetData = targetBuffer.getData();
-                    assert (srcByteIndex + countByteLength) <= srcData.capacity();
-                    assert (targetByteIndex + countByteLength) <= targetData.capacity();
                     assert srcData != targetData;
-
-                    srcData.limit((int) (srcByteIndex + countByteLength)).position(
-                            (int) srcByteIndex);
-                    targetData.limit((int) (targetByteIndex + countByteLength)).position(
-                            (int) targetByteIndex);
-                    targetData.put(srcData);
-                    srcData.clear();
-                    targetData.clear();
+                    BulkOperations.copy(srcData, srcByteIndex, targetData, targetByteIndex, countByteLength);
                 }
                 /* step 30 */
                 return UNDEFINED;
@@ -636,15 +629,8 @@ public final class TypedArrayPrototypePrototype extends OrdinaryObject implement
                 ByteBuffer srcData = srcBuffer.getData();
                 ByteBuffer targetData = targetBuffer.getData();
                 long countByteLength = count * elementSize;
-                assert (srcByteIndex + countByteLength) <= srcData.capacity();
-                assert countByteLength <= targetData.capacity();
                 assert srcData != targetData;
-
-                srcData.limit((int) (srcByteIndex + countByteLength)).position((int) srcByteIndex);
-                targetData.limit((int) countByteLength).position((int) targetByteIndex);
-                targetData.put(srcData);
-                srcData.clear();
-                targetData.clear();
+                BulkOperations.copy(srcData, srcByteIndex, targetData, targetByteIndex, countByteLength);
             }
             /* step 16 */
             return a;
@@ -703,6 +689,9 @@ public final class TypedArrayPrototypePrototype extends OrdinaryObject implement
                 if (!IsCallable(comparefn)) {
                     throw newTypeError(cx, Messages.Key.NotCallable);
                 }
+                if (sortIntrinsic(obj, (Callable) comparefn)) {
+                    return obj;
+                }
                 Double[] elements = new Double[length];
                 for (int i = 0; i < length; ++i) {
                     elements[i] = obj.elementGetDirect(cx, i);
@@ -720,20 +709,43 @@ public final class TypedArrayPrototypePrototype extends OrdinaryObject implement
                     obj.elementSetDirect(cx, i, (double) elements[i]);
                 }
             } else {
-                double[] elements = new double[length];
-                for (int i = 0; i < length; ++i) {
-                    elements[i] = obj.elementGetDirect(cx, i);
-                }
-
-                Arrays.sort(elements);
-
-                for (int i = 0; i < length; ++i) {
-                    obj.elementSetDirect(cx, i, elements[i]);
-                }
+                BulkOperations.sort(obj);
             }
             return obj;
         }
 
+        /**
+         * Sorts integer typed arrays without calling <var>comparefn</var> if it is a subtracting comparator, i.e.
+         * {@code (a, b) => a - b} or {@code (a, b) => b - a}. Floating point arrays are excluded, because NaN and
+         * signed zero values are ordered differently by subtraction.
+         * 
+         * @param obj
+         *            the typed array object
+         * @param comparefn
+         *            the comparator function
+         * @return {@code true} if the typed array was sorted
+         */
+        private static boolean sortIntrinsic(TypedArrayObject obj, Callable comparefn) {
+            if (!(comparefn instanceof FunctionObject)) {
+                return false;
+            }
+            ElementType type = obj.getElementType();
+            if (type == ElementType.Float32 || type == ElementType.Float64) {
+                return false;
+            }
+            RuntimeInfo.Function code = ((FunctionObject) comparefn).getCode();
+            if (code.is(RuntimeInfo.FunctionFlags.AscendingComparator)) {
+                BulkOperations.sort(obj);
+                return true;
+            }
+            if (code.is(RuntimeInfo.FunctionFlags.DescendingComparator)) {
+                BulkOperations.sort(obj);
+                BulkOperations.reverse(obj);
+                return true;
+            }
+            return false;
+        }
+
         /**
          * 22.2.3.13 %TypedArray%.prototype.indexOf (searchElement [ , fromIndex ] )
          * 
@@ -1267,6 +1279,14 @@ public final class TypedArrayPrototypePrototype extends OrdinaryObject implement
             /* steps 8-10 */
             long finall = Type.isUndefined(end) ? len : ToArrayIndex(cx, end, len);
             /* step 11 */
+            if (Type.isNumber(value) && k < finall) {
+                // ToNumber is not observable for numbers, store the value once and copy it.
+                if (IsDetachedBuffer(o.getBuffer())) {
+                    throw newTypeError(cx, Messages.Key.BufferDetached);
+                }
+                BulkOperations.fill(o, k, finall, Type.numberValue(value));
+                return o;
+            }
             for (; k < finall; ++k) {
                 long pk = k;
                 o.elementSetDirect(cx, pk, ToNumber(cx, value));
@@ -1313,17 +1333,12 @@ public final class TypedArrayPrototypePrototype extends OrdinaryObject implement
                     throw newTypeError(cx, Messages.Key.BufferDetached);
                 }
                 int elementSize = o.getElementType().size();
-                long toByteIndex = to * elementSize;
-                long fromByteIndex = from * elementSize;
+                long byteOffset = o.getByteOffset();
+                long toByteIndex = to * elementSize + byteOffset;
+                long fromByteIndex = from * elementSize + byteOffset;
                 long countByteLength = count * elementSize;
                 ByteBuffer data = buffer.getData();
-                assert toByteIndex < data.capacity();
-                assert (fromByteIndex + countByteLength) <= data.capacity();
-
-                ByteBuffer dup = data.duplicate();
-                data.limit((int) (toByteIndex + countByteLength)).position((int) toByteIndex);
-                dup.limit((int) (fromByteIndex + countByteLength)).position((int) fromByteIndex);
-                data.put(dup).clear();
+                BulkOperations.copy(data, fromByteIndex, data, toByteIndex, countByteLength);
             }
             /* step 18 */
             return o;
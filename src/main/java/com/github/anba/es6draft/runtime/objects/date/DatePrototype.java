@@ -1150,12 +1150,18 @@ public final class DatePrototype extends OrdinaryObject implements Initializable
             if (Double.isNaN(t)) {
                 return "Invalid Date";
             }
-            /* steps 4-5 */
-            options = ToDateTimeOptions(cx, options, "date", "date");
-            /* steps 6-7 */
             DateTimeFormatConstructor ctor = (DateTimeFormatConstructor) cx
                     .getIntrinsic(Intrinsics.Intl_DateTimeFormat);
-            DateTimeFormatObject dateTimeFormat = ctor.construct(cx, ctor, locales, options);
+            DateTimeFormatObject dateTimeFormat;
+            if (Type.isUndefined(locales) && Type.isUndefined(options)) {
+                /* steps 4-7 (reuse default format) */
+                dateTimeFormat = ctor.defaultDateTimeFormat(cx, "date", "date");
+            } else {
+                /* steps 4-5 */
+                options = ToDateTimeOptions(cx, options, "date", "date");
+                /* steps 6-7 */
+                dateTimeFormat = ctor.construct(cx, ctor, locales, options);
+            }
             /* step 8 */
             return FormatDateTime(cx, dateTimeFormat, t);
         }
@@ -1183,12 +1189,18 @@ public final class DatePrototype extends OrdinaryObject implements Initializable
             if (Double.isNaN(t)) {
                 return "Invalid Date";
             }
-            /* steps 4-5 */
-            options = ToDateTimeOptions(cx, options, "any", "all");
-            /* steps 6-7 */
             DateTimeFormatConstructor ctor = (DateTimeFormatConstructor) cx
                     .getIntrinsic(Intrinsics.Intl_DateTimeFormat);
-            DateTimeFormatObject dateTimeFormat = ctor.construct(cx, ctor, locales, options);
+            DateTimeFormatObject dateTimeFormat;
+            if (Type.isUndefined(locales) && Type.isUndefined(options)) {
+                /* steps 4-7 (reuse default format) */
+                dateTimeFormat = ctor.defaultDateTimeFormat(cx, "any", "all");
+            } else {
+                /* steps 4-5 */
+                options = ToDateTimeOptions(cx, options, "any", "all");
+                /* steps 6-7 */
+                dateTimeFormat = ctor.construct(cx, ctor, locales, options);
+            }
             /* step 8 */
             return FormatDateTime(cx, dateTimeFormat, t);
         }
@@ -1216,12 +1228,18 @@ public final class DatePrototype extends OrdinaryObject implements Initializable
             if (Double.isNaN(t)) {
                 return "Invalid Date";
             }
-            /* steps 4-5 */
-            options = ToDateTimeOptions(cx, options, "time", "time");
-            /* steps 6-7 */
             DateTimeFormatConstructor ctor = (DateTimeFormatConstructor) cx
                     .getIntrinsic(Intrinsics.Intl_DateTimeFormat);
-            DateTimeFormatObject dateTimeFormat = ctor.construct(cx, ctor, locales, options);
+            DateTimeFormatObject dateTimeFormat;
+            if (Type.isUndefined(locales) && Type.isUndefined(options)) {
+                /* steps 4-7 (reuse default format) */
+                dateTimeFormat = ctor.defaultDateTimeFormat(cx, "time", "time");
+            } else {
+                /* steps 4-5 */
+                options = ToDateTimeOptions(cx, options, "time", "time");
+                /* steps 6-7 */
+                dateTimeFormat = ctor.construct(cx, ctor, locales, options);
+            }
             /* step 8 */
             return FormatDateTime(cx, dateTimeFormat, t);
         }
@@ -45,6 +45,11 @@ import com.ibm.icu.util.ULocale;
  * </ul>
  */
 public final class CollatorConstructor extends BuiltinConstructor implements Initializable {
+    private static final String[] OPTIONS = { "usage", "localeMatcher", "numeric", "caseFirst", "sensitivity",
+            "ignorePunctuation" };
+
+    private CollatorObject defaultCollator;
+
     /** [[availableLocales]] */
     private final Lazy<Set<String>> availableLocales = Lazy
             .of(() -> GetAvailableLocales(LanguageData.getAvailableCollatorLocales()));
@@ -382,6 +387,25 @@ public final class CollatorConstructor extends BuiltinConstructor implements Ini
         return collator;
     }
 
+    /**
+     * Returns a Collator object for the default locale and default options, the result is equivalent to calling
+     * {@code new Intl.Collator()}. The object is created once and then reused, unless %ObjectPrototype% defines a
+     * collator option property.
+     * 
+     * @param cx
+     *            the execution context
+     * @return the default Collator object
+     */
+    public CollatorObject defaultCollator(ExecutionContext cx) {
+        if (!hasDefaultOptions(calleeContext(), OPTIONS)) {
+            return construct(cx, this);
+        }
+        if (defaultCollator == null) {
+            defaultCollator = construct(cx, this);
+        }
+        return defaultCollator;
+    }
+
     /**
      * 10.2 Properties of the Intl.Collator Constructor
      */
@@ -46,6 +46,8 @@ public class CollatorObject extends OrdinaryObject {
 
     private Collator collator;
 
+    private static final IntlObjectCache<Collator> collators = new IntlObjectCache<>(16);
+
     /**
      * Constructs a new Collator object.
      * 
@@ -63,11 +65,16 @@ public class CollatorObject extends OrdinaryObject {
      */
     public Collator getCollator() {
         if (collator == null) {
-            collator = createCollator();
+            collator = collators.get(cacheKey(), this::createCollator);
         }
         return collator;
     }
 
+    private String cacheKey() {
+        return locale + ':' + usage + ':' + collation + ':' + numeric + ':' + caseFirst + ':' + sensitivity + ':'
+                + ignorePunctuation;
+    }
+
     private Collator createCollator() {
         ULocale locale = ULocale.forLanguageTag(this.locale);
         if ("search".equals(usage)) {
@@ -101,7 +108,8 @@ public class CollatorObject extends OrdinaryObject {
             break;
         }
         collator.setAlternateHandlingShifted(ignorePunctuation);
-        return collator;
+        // Frozen collators are thread-safe and can be shared between realms.
+        return collator.freeze();
     }
 
     /**
@@ -134,6 +134,24 @@ public final class CollatorPrototype extends CollatorObject implements Initializ
         }
     }
 
+    /**
+     * Returns the Collator object of a [[boundCompare]] function.
+     * 
+     * @param compare
+     *            the compare function
+     * @return the Collator object or {@code null} if <var>compare</var> is not a [[boundCompare]] function
+     */
+    public static CollatorObject boundCollator(Object compare) {
+        if (compare instanceof BoundFunctionObject) {
+            BoundFunctionObject bound = (BoundFunctionObject) compare;
+            if (bound.getBoundTargetFunction() instanceof CompareFunction
+                    && bound.getBoundThis() instanceof CollatorObject && bound.getBoundArguments().length == 0) {
+                return (CollatorObject) bound.getBoundThis();
+            }
+        }
+        return null;
+    }
+
     /**
      * Abstract Operation: CompareStrings
      * 
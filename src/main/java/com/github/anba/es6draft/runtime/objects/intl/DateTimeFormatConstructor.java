@@ -19,6 +19,7 @@ import java.text.CharacterIterator;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -46,6 +47,7 @@ import com.github.anba.es6draft.runtime.types.Constructor;
 import com.github.anba.es6draft.runtime.types.Intrinsics;
 import com.github.anba.es6draft.runtime.types.ScriptObject;
 import com.github.anba.es6draft.runtime.types.Type;
+import com.github.anba.es6draft.runtime.types.Undefined;
 import com.github.anba.es6draft.runtime.types.builtins.ArrayObject;
 import com.github.anba.es6draft.runtime.types.builtins.BuiltinConstructor;
 import com.github.anba.es6draft.runtime.types.builtins.BuiltinFunction;
@@ -67,6 +69,8 @@ import com.ibm.icu.util.ULocale;
  * </ul>
  */
 public final class DateTimeFormatConstructor extends BuiltinConstructor implements Initializable {
+    private final HashMap<String, DateTimeFormatObject> defaultDateTimeFormats = new HashMap<>();
+
     /** [[availableLocales]] */
     private final Lazy<Set<String>> availableLocales = Lazy
             .of(() -> GetAvailableLocales(LanguageData.getAvailableDateFormatLocales()));
@@ -1045,6 +1049,27 @@ public final class DateTimeFormatConstructor extends BuiltinConstructor implemen
         return obj;
     }
 
+    /**
+     * Returns a DateTimeFormat object for the default locale, the result is equivalent to calling
+     * {@code new Intl.DateTimeFormat(undefined, ToDateTimeOptions(undefined, required, defaults))}. The object is
+     * created once per {@code required} and {@code defaults} combination and then reused.
+     * 
+     * @param cx
+     *            the execution context
+     * @param required
+     *            the required date time options
+     * @param defaults
+     *            the default date time options
+     * @return the default DateTimeFormat object
+     */
+    public DateTimeFormatObject defaultDateTimeFormat(ExecutionContext cx, String required, String defaults) {
+        // The options object has a null prototype, so reading its properties is not observable.
+        return defaultDateTimeFormats.computeIfAbsent(required + ':' + defaults, k -> {
+            ScriptObject options = ToDateTimeOptions(calleeContext(), Undefined.UNDEFINED, required, defaults);
+            return construct(cx, this, Undefined.UNDEFINED, options);
+        });
+    }
+
     /**
      * 12.3 Properties of the Intl.DateTimeFormat Constructor
      */
@@ -49,6 +49,8 @@ public class DateTimeFormatObject extends OrdinaryObject {
 
     private DateFormat dateFormat;
 
+    private static final IntlObjectCache<DateFormat> dateFormats = new IntlObjectCache<>(16);
+
     /**
      * Constructs a new DateTimeFormat object.
      * 
@@ -66,11 +68,16 @@ public class DateTimeFormatObject extends OrdinaryObject {
      */
     public DateFormat getDateFormat() {
         if (dateFormat == null) {
-            dateFormat = createDateFormat();
+            // DateFormat is not thread-safe, clone the cached instance.
+            dateFormat = (DateFormat) dateFormats.get(cacheKey(), this::createDateFormat).clone();
         }
         return dateFormat;
     }
 
+    private String cacheKey() {
+        return locale + ':' + calendar + ':' + numberingSystem + ':' + timeZone + ':' + pattern.get();
+    }
+
     private DateFormat createDateFormat() {
         ULocale locale = ULocale.forLanguageTag(this.locale);
         // calendar and numberingSystem are already handled in language-tag
@@ -23,6 +23,7 @@ import com.github.anba.es6draft.runtime.Realm;
 import com.github.anba.es6draft.runtime.internal.Lazy;
 import com.github.anba.es6draft.runtime.internal.Messages;
 import com.github.anba.es6draft.runtime.objects.intl.LanguageTagParser.LanguageTag;
+import com.github.anba.es6draft.runtime.types.Intrinsics;
 import com.github.anba.es6draft.runtime.types.PropertyDescriptor;
 import com.github.anba.es6draft.runtime.types.ScriptObject;
 import com.github.anba.es6draft.runtime.types.Type;
@@ -1457,6 +1458,26 @@ public final class IntlAbstractOperations {
         return fallback;
     }
 
+    /**
+     * Returns {@code true} if an options object created from {@code undefined}, i.e. an ordinary object whose
+     * prototype is %ObjectPrototype%, yields the default value for each of the requested option properties.
+     * 
+     * @param cx
+     *            the execution context
+     * @param properties
+     *            the option property names
+     * @return {@code true} if no option property is inherited from %ObjectPrototype%
+     */
+    static boolean hasDefaultOptions(ExecutionContext cx, String... properties) {
+        ScriptObject objectPrototype = cx.getIntrinsic(Intrinsics.ObjectPrototype);
+        for (String property : properties) {
+            if (objectPrototype.getOwnProperty(cx, property) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @SafeVarargs
     private static <T> Set<T> set(T... elements) {
         return new HashSet<>(Arrays.asList(elements));
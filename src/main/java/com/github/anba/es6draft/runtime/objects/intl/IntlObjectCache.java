@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.objects.intl;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Least recently used cache for ICU service objects, shared by all realms.
+ * <p>
+ * Cached values are keyed by the resolved locale and options and must not be modified after they were added to the
+ * cache. Callers either freeze the value or clone it before use.
+ */
+final class IntlObjectCache<VALUE> {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = .75f;
+    private final Map<String, VALUE> cache;
+
+    @SuppressWarnings("serial")
+    private static final class Cache<VALUE> extends LinkedHashMap<String, VALUE> {
+        private final int maxSize;
+
+        Cache(int maxSize) {
+            super(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, VALUE> eldest) {
+            return size() > maxSize;
+        }
+    }
+
+    /**
+     * Constructs a new cache.
+     * 
+     * @param maxSize
+     *            the maximum number of cached entries
+     */
+    IntlObjectCache(int maxSize) {
+        this.cache = Collections.synchronizedMap(new Cache<>(maxSize));
+    }
+
+    /**
+     * Returns the cached value for <var>key</var>, creating and adding a new value if not present.
+     * 
+     * @param key
+     *            the cache key
+     * @param factory
+     *            the value factory
+     * @return the cached value
+     */
+    VALUE get(String key, Supplier<VALUE> factory) {
+        VALUE value = cache.get(key);
+        if (value == null) {
+            // Racing threads may create the value twice, which is harmless.
+            value = factory.get();
+            cache.put(key, value);
+        }
+        return value;
+    }
+}
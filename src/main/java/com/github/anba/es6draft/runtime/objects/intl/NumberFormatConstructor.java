@@ -51,6 +51,12 @@ import com.ibm.icu.util.ULocale;
  * </ul>
  */
 public final class NumberFormatConstructor extends BuiltinConstructor implements Initializable {
+    private static final String[] OPTIONS = { "localeMatcher", "style", "currency", "currencyDisplay",
+            "minimumIntegerDigits", "minimumFractionDigits", "maximumFractionDigits", "minimumSignificantDigits",
+            "maximumSignificantDigits", "useGrouping" };
+
+    private NumberFormatObject defaultNumberFormat;
+
     /** [[availableLocales]] */
     private final Lazy<Set<String>> availableLocales = Lazy
             .of(() -> GetAvailableLocales(LanguageData.getAvailableNumberFormatLocales()));
@@ -411,6 +417,25 @@ public final class NumberFormatConstructor extends BuiltinConstructor implements
         return obj;
     }
 
+    /**
+     * Returns a NumberFormat object for the default locale and default options, the result is equivalent to calling
+     * {@code new Intl.NumberFormat()}. The object is created once and then reused, unless %ObjectPrototype% defines a
+     * number format option property.
+     * 
+     * @param cx
+     *            the execution context
+     * @return the default NumberFormat object
+     */
+    public NumberFormatObject defaultNumberFormat(ExecutionContext cx) {
+        if (!hasDefaultOptions(calleeContext(), OPTIONS)) {
+            return construct(cx, this);
+        }
+        if (defaultNumberFormat == null) {
+            defaultNumberFormat = construct(cx, this);
+        }
+        return defaultNumberFormat;
+    }
+
     /**
      * 11.3 Properties of the Intl.NumberFormat Constructor
      */
@@ -60,6 +60,8 @@ public class NumberFormatObject extends OrdinaryObject {
 
     private NumberFormat numberFormat;
 
+    private static final IntlObjectCache<NumberFormat> numberFormats = new IntlObjectCache<>(16);
+
     /**
      * Constructs a new NumberFormat object.
      * 
@@ -77,11 +79,18 @@ public class NumberFormatObject extends OrdinaryObject {
      */
     public NumberFormat getNumberFormat() {
         if (numberFormat == null) {
-            numberFormat = createNumberFormat();
+            // NumberFormat is not thread-safe, clone the cached instance.
+            numberFormat = (NumberFormat) numberFormats.get(cacheKey(), this::createNumberFormat).clone();
         }
         return numberFormat;
     }
 
+    private String cacheKey() {
+        return locale + ':' + numberingSystem + ':' + style + ':' + currency + ':' + currencyDisplay + ':'
+                + minimumIntegerDigits + ':' + minimumFractionDigits + ':' + maximumFractionDigits + ':'
+                + minimumSignificantDigits + ':' + maximumSignificantDigits + ':' + useGrouping;
+    }
+
     private NumberFormat createNumberFormat() {
         ULocale locale = ULocale.forLanguageTag(this.locale);
         int choice;
@@ -16,6 +16,7 @@ import com.github.anba.es6draft.runtime.internal.Initializable;
 import com.github.anba.es6draft.runtime.internal.MathImpl;
 import com.github.anba.es6draft.runtime.internal.Properties.Attributes;
 import com.github.anba.es6draft.runtime.internal.Properties.Function;
+import com.github.anba.es6draft.runtime.internal.Properties.Intrinsic;
 import com.github.anba.es6draft.runtime.internal.Properties.Value;
 import com.github.anba.es6draft.runtime.types.BuiltinSymbol;
 import com.github.anba.es6draft.runtime.types.Intrinsics;
@@ -140,6 +141,22 @@ public final class MathObject extends OrdinaryObject implements Initializable {
             return Math.abs(ToNumber(cx, x));
         }
 
+        /**
+         * 20.2.2.1 Math.abs (x)
+         * 
+         * @param cx
+         *            the execution context
+         * @param thisValue
+         *            the function this-value
+         * @param x
+         *            the argument number
+         * @return the absolute number value
+         */
+        @Intrinsic
+        public static Object abs(ExecutionContext cx, Object thisValue, Number x) {
+            return Math.abs(x.doubleValue());
+        }
+
         /**
          * 20.2.2.2 Math.acos (x)
          * 
@@ -412,6 +429,22 @@ public final class MathObject extends OrdinaryObject implements Initializable {
             return Math.floor(ToNumber(cx, x));
         }
 
+        /**
+         * 20.2.2.16 Math.floor (x)
+         * 
+         * @param cx
+         *            the execution context
+         * @param thisValue
+         *            the function this-value
+         * @param x
+         *            the argument number
+         * @return the floor value of <var>x</var>
+         */
+        @Intrinsic
+        public static Object floor(ExecutionContext cx, Object thisValue, Number x) {
+            return Math.floor(x.doubleValue());
+        }
+
         /**
          * 20.2.2.17 Math.fround (x)
          * 
@@ -602,6 +635,24 @@ public final class MathObject extends OrdinaryObject implements Initializable {
             return result;
         }
 
+        /**
+         * 20.2.2.24 Math.max ( value1, value2, ...values )
+         * 
+         * @param cx
+         *            the execution context
+         * @param thisValue
+         *            the function this-value
+         * @param value1
+         *            the first argument value
+         * @param value2
+         *            the second argument value
+         * @return the maximum number
+         */
+        @Intrinsic
+        public static Object max(ExecutionContext cx, Object thisValue, Number value1, Number value2) {
+            return Math.max(value1.doubleValue(), value2.doubleValue());
+        }
+
         /**
          * 20.2.2.25 Math.min ( value1, value2, ...values )
          * 
@@ -622,6 +673,24 @@ public final class MathObject extends OrdinaryObject implements Initializable {
             return result;
         }
 
+        /**
+         * 20.2.2.25 Math.min ( value1, value2, ...values )
+         * 
+         * @param cx
+         *            the execution context
+         * @param thisValue
+         *            the function this-value
+         * @param value1
+         *            the first argument value
+         * @param value2
+         *            the second argument value
+         * @return the minimum number
+         */
+        @Intrinsic
+        public static Object min(ExecutionContext cx, Object thisValue, Number value1, Number value2) {
+            return Math.min(value1.doubleValue(), value2.doubleValue());
+        }
+
         /**
          * 20.2.2.26 Math.pow (x, y)
          * 
@@ -748,6 +817,22 @@ public final class MathObject extends OrdinaryObject implements Initializable {
             return Math.sqrt(ToNumber(cx, x));
         }
 
+        /**
+         * 20.2.2.32 Math.sqrt (x)
+         * 
+         * @param cx
+         *            the execution context
+         * @param thisValue
+         *            the function this-value
+         * @param x
+         *            the argument number
+         * @return the square root of <var>x</var>
+         */
+        @Intrinsic
+        public static Object sqrt(ExecutionContext cx, Object thisValue, Number x) {
+            return Math.sqrt(x.doubleValue());
+        }
+
         /**
          * 20.2.2.33 Math.tan (x)
          * 
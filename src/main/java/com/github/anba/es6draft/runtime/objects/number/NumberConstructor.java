@@ -21,6 +21,7 @@ import com.github.anba.es6draft.runtime.Realm;
 import com.github.anba.es6draft.runtime.internal.Initializable;
 import com.github.anba.es6draft.runtime.internal.Properties.Attributes;
 import com.github.anba.es6draft.runtime.internal.Properties.Function;
+import com.github.anba.es6draft.runtime.internal.Properties.Intrinsic;
 import com.github.anba.es6draft.runtime.internal.Properties.Prototype;
 import com.github.anba.es6draft.runtime.internal.Properties.Value;
 import com.github.anba.es6draft.runtime.internal.Strings;
@@ -315,6 +316,23 @@ public final class NumberConstructor extends BuiltinConstructor implements Initi
             return integer == num;
         }
 
+        /**
+         * 20.1.2.3 Number.isInteger (number)
+         * 
+         * @param cx
+         *            the execution context
+         * @param thisValue
+         *            the function this-value
+         * @param number
+         *            the number value
+         * @return {@code true} if the argument is an integer
+         */
+        @Intrinsic
+        public static Object isInteger(ExecutionContext cx, Object thisValue, Number number) {
+            double num = number.doubleValue();
+            return !(Double.isNaN(num) || Double.isInfinite(num)) && ToInteger(num) == num;
+        }
+
         /**
          * 20.1.2.5 Number.isSafeInteger (number)
          * 
@@ -155,7 +155,12 @@ public final class NumberPrototype extends NumberObject implements Initializable
             /* steps 3-4 */
             NumberFormatConstructor ctor = (NumberFormatConstructor) cx
                     .getIntrinsic(Intrinsics.Intl_NumberFormat);
-            NumberFormatObject numberFormat = ctor.construct(cx, ctor, locales, options);
+            NumberFormatObject numberFormat;
+            if (Type.isUndefined(locales) && Type.isUndefined(options)) {
+                numberFormat = ctor.defaultNumberFormat(cx);
+            } else {
+                numberFormat = ctor.construct(cx, ctor, locales, options);
+            }
             /* step 5 */
             return FormatNumber(numberFormat, x);
         }
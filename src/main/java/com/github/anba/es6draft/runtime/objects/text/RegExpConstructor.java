@@ -10,6 +10,8 @@ import static com.github.anba.es6draft.runtime.AbstractOperations.*;
 import static com.github.anba.es6draft.runtime.internal.Properties.createProperties;
 import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -34,6 +36,7 @@ import com.github.anba.es6draft.runtime.types.Property;
 import com.github.anba.es6draft.runtime.types.ScriptObject;
 import com.github.anba.es6draft.runtime.types.Type;
 import com.github.anba.es6draft.runtime.types.builtins.BuiltinConstructor;
+import com.github.anba.es6draft.runtime.types.builtins.NativeFunction;
 
 /**
  * <h1>21 Text Processing</h1><br>
@@ -229,13 +232,7 @@ public final class RegExpConstructor extends BuiltinConstructor implements Initi
     private static RegExpObject RegExpInitialize(ExecutionContext cx, RegExpObject obj, String p,
             String f) {
         /* steps 7-10 */
-        RegExpMatcher matcher;
-        try {
-            matcher = RegExpParser.parse(p, f, "<regexp>", 1, 1,
-                    cx.getRealm().isEnabled(CompatibilityOption.WebRegularExpressions));
-        } catch (ParserException e) {
-            throw e.toScriptException(cx);
-        }
+        RegExpMatcher matcher = getRegExpMatcher(cx, p, f);
         /* steps 11-13 */
         obj.initialize(p, f, matcher);
         /* steps 14-15 */
@@ -244,6 +241,92 @@ public final class RegExpConstructor extends BuiltinConstructor implements Initi
         return obj;
     }
 
+    private static final int MATCHER_CACHE_SIZE = 64;
+
+    private static final class MatcherKey {
+        private final String pattern;
+        private final String flags;
+
+        MatcherKey(String pattern, String flags) {
+            this.pattern = pattern;
+            this.flags = flags;
+        }
+
+        @Override
+        public int hashCode() {
+            return pattern.hashCode() * 31 + flags.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof MatcherKey)) {
+                return false;
+            }
+            MatcherKey other = (MatcherKey) obj;
+            return pattern.equals(other.pattern) && flags.equals(other.flags);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class MatcherCache extends LinkedHashMap<MatcherKey, RegExpMatcher> {
+        MatcherCache() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<MatcherKey, RegExpMatcher> eldest) {
+            return size() > MATCHER_CACHE_SIZE;
+        }
+    }
+
+    // Recently compiled patterns, only used to create clones.
+    private MatcherCache matcherCache;
+
+    /**
+     * Returns a new matcher for the regular expression pattern. Clones of recently compiled matchers share the compiled
+     * pattern, so repeatedly creating the same regular expression doesn't parse and compile the pattern again.
+     * 
+     * @param cx
+     *            the execution context
+     * @param pattern
+     *            the regular expression pattern
+     * @param flags
+     *            the regular expression flags
+     * @return the new regular expression matcher
+     */
+    private static RegExpMatcher getRegExpMatcher(ExecutionContext cx, String pattern, String flags) {
+        RegExpConstructor re = (RegExpConstructor) cx.getIntrinsic(Intrinsics.RegExp);
+        MatcherCache cache = re.matcherCache;
+        if (cache == null) {
+            re.matcherCache = cache = new MatcherCache();
+        }
+        MatcherKey key = new MatcherKey(pattern, flags);
+        RegExpMatcher matcher = cache.get(key);
+        if (matcher != null) {
+            try {
+                return matcher.clone();
+            } catch (CloneNotSupportedException e) {
+                cache.remove(key);
+            }
+        }
+        try {
+            matcher = RegExpParser.parse(pattern, flags, "<regexp>", 1, 1,
+                    cx.getRealm().isEnabled(CompatibilityOption.WebRegularExpressions));
+        } catch (ParserException e) {
+            throw e.toScriptException(cx);
+        }
+        try {
+            cache.put(key, matcher);
+            return matcher.clone();
+        } catch (CloneNotSupportedException e) {
+            cache.remove(key);
+            return matcher;
+        }
+    }
+
     /**
      * 21.2.3.2 Abstract Operations for the RegExp Constructor<br>
      * 21.2.3.2.3 Runtime Semantics: RegExpCreate ( P, F )
@@ -368,13 +451,33 @@ public final class RegExpConstructor extends BuiltinConstructor implements Initi
          * @return the species object
          */
         @Accessor(name = "get [Symbol.species]", symbol = BuiltinSymbol.species,
-                type = Accessor.Type.Getter)
+                type = Accessor.Type.Getter, nativeId = RegExpSpecies.class)
         public static Object species(ExecutionContext cx, Object thisValue) {
             /* step 1 */
             return thisValue;
         }
     }
 
+    /**
+     * Marker class for {@code RegExp[@@species]}.
+     */
+    private static final class RegExpSpecies {
+    }
+
+    /**
+     * Returns {@code true} if {@code RegExp[@@species]} is the built-in species getter.
+     * 
+     * @param cx
+     *            the execution context
+     * @return {@code true} if {@code RegExp[@@species]} is the built-in species getter
+     */
+    static boolean isBuiltinSpecies(ExecutionContext cx) {
+        RegExpConstructor re = (RegExpConstructor) cx.getIntrinsic(Intrinsics.RegExp);
+        Property speciesProp = re.getOwnProperty(cx, BuiltinSymbol.species.get());
+        return speciesProp != null
+                && NativeFunction.isNative(cx.getRealm(), speciesProp.getGetter(), RegExpSpecies.class);
+    }
+
     /*
      * RegExp statics extensions below this point
      */
@@ -88,6 +88,15 @@ public final class RegExpObject extends OrdinaryObject {
         return flag.isSet(flags);
     }
 
+    /**
+     * Returns {@code true} if "lastIndex" is the only own property of this object.
+     * 
+     * @return {@code true} if no other own properties are present
+     */
+    boolean hasOnlyLastIndexProperty() {
+        return countProperties(true) == 1;
+    }
+
     /**
      * [[OriginalSource]]
      * 
@@ -15,11 +15,13 @@ import static com.github.anba.es6draft.runtime.objects.text.RegExpConstructor.Re
 import static com.github.anba.es6draft.runtime.types.Null.NULL;
 import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
 import static com.github.anba.es6draft.runtime.types.builtins.ArrayObject.ArrayCreate;
+import static com.github.anba.es6draft.runtime.types.builtins.LazyArrayObject.LazyArrayCreate;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
 import java.util.regex.MatchResult;
 
 import com.github.anba.es6draft.regexp.IterableMatchResult;
@@ -124,7 +126,8 @@ public final class RegExpPrototype extends OrdinaryObject implements Initializab
          *            the function this-value
          * @return the regular expressions flags
          */
-        @Accessor(name = "flags", type = Accessor.Type.Getter)
+        @Accessor(name = "flags", type = Accessor.Type.Getter,
+                nativeId = RegExpPrototypeFlags.class)
         public static Object flags(ExecutionContext cx, Object thisValue) {
             /* step 2 */
             if (!Type.isObject(thisValue)) {
@@ -186,7 +189,8 @@ public final class RegExpPrototype extends OrdinaryObject implements Initializab
          *            the function this-value
          * @return the ignoreCase flag
          */
-        @Accessor(name = "ignoreCase", type = Accessor.Type.Getter)
+        @Accessor(name = "ignoreCase", type = Accessor.Type.Getter,
+                nativeId = RegExpPrototypeIgnoreCase.class)
         public static Object ignoreCase(ExecutionContext cx, Object thisValue) {
             /* steps 1-3 */
             RegExpObject r = thisRegExpObject(cx, thisValue);
@@ -203,7 +207,8 @@ public final class RegExpPrototype extends OrdinaryObject implements Initializab
          *            the function this-value
          * @return the multiline flag
          */
-        @Accessor(name = "multiline", type = Accessor.Type.Getter)
+        @Accessor(name = "multiline", type = Accessor.Type.Getter,
+                nativeId = RegExpPrototypeMultiline.class)
         public static Object multiline(ExecutionContext cx, Object thisValue) {
             /* steps 1-3 */
             RegExpObject r = thisRegExpObject(cx, thisValue);
@@ -308,7 +313,8 @@ public final class RegExpPrototype extends OrdinaryObject implements Initializab
          *            the function this-value
          * @return the unicode flag
          */
-        @Accessor(name = "unicode", type = Accessor.Type.Getter)
+        @Accessor(name = "unicode", type = Accessor.Type.Getter,
+                nativeId = RegExpPrototypeUnicode.class)
         public static Object unicode(ExecutionContext cx, Object thisValue) {
             /* steps 1-3 */
             RegExpObject r = thisRegExpObject(cx, thisValue);
@@ -348,6 +354,19 @@ public final class RegExpPrototype extends OrdinaryObject implements Initializab
                 boolean fullUnicode = ToBoolean(Get(cx, rx, "unicode"));
                 /* steps 8.c-d */
                 Set(cx, rx, "lastIndex", 0, true);
+                if (isUnmodifiedRegExp(cx, rx)) {
+                    // Steps 8.e-g are not observable for unmodified RegExp objects.
+                    ArrayList<MatchResult> results = GlobalMatchResults(cx, (RegExpObject) rx, s, fullUnicode);
+                    if (results.isEmpty()) {
+                        return NULL;
+                    }
+                    RegExpConstructor.storeLastMatchResult(cx, s, results.get(results.size() - 1));
+                    ArrayList<String> matches = new ArrayList<>(results.size());
+                    for (MatchResult result : results) {
+                        matches.add(result.group(0));
+                    }
+                    return CreateArrayFromList(cx, matches);
+                }
                 /* step 8.e */
                 ArrayObject array = ArrayCreate(cx, 0);
                 /* steps 8.f-g */
@@ -416,9 +435,16 @@ public final class RegExpPrototype extends OrdinaryObject implements Initializab
                 Set(cx, rx, "lastIndex", 0, true);
             }
             /* step 11 */
-            ArrayList<MatchResult> results = new ArrayList<>();
+            ArrayList<MatchResult> results;
             /* step 12 */
             boolean done = false;
+            if (global && isUnmodifiedRegExp(cx, rx)) {
+                // Step 13 is not observable for unmodified RegExp objects.
+                results = GlobalMatchResults(cx, (RegExpObject) rx, s, fullUnicode);
+                done = true;
+            } else {
+                results = new ArrayList<>();
+            }
             /* step 13 */
             while (!done) {
                 /* steps 13.a-b */
@@ -470,8 +496,8 @@ public final class RegExpPrototype extends OrdinaryObject implements Initializab
                     Object replValue = replaceValueCallable.call(cx, UNDEFINED, replacerArgs);
                     replacement = ToFlatString(cx, replValue);
                 } else {
-                    String[] captures = groups(result, nCaptures);
-                    replacement = GetSubstitution(matched, s, position, captures, replaceValueString);
+                    IntFunction<String> captures = captures(result, nCaptures);
+                    replacement = GetSubstitution(matched, s, position, captures, nCaptures, replaceValueString);
                 }
                 /* step 16.p */
                 if (position >= nextSourcePosition) {
@@ -553,10 +579,22 @@ public final class RegExpPrototype extends OrdinaryObject implements Initializab
             ScriptObject rx = Type.objectValue(thisValue);
             /* steps 3-4 */
             String s = ToFlatString(cx, string);
+            // Steps 5-8 and the IsRegExp call in step 13 are not observable for unmodified RegExp objects.
+            boolean unmodified = isUnmodifiedRegExpForSplit(cx, rx);
             /* steps 5-6 */
-            Constructor c = SpeciesConstructor(cx, rx, Intrinsics.RegExp);
+            Constructor c;
+            if (unmodified) {
+                c = (Constructor) cx.getIntrinsic(Intrinsics.RegExp);
+            } else {
+                c = SpeciesConstructor(cx, rx, Intrinsics.RegExp);
+            }
             /* steps 7-8 */
-            String flags = ToFlatString(cx, Get(cx, rx, "flags"));
+            String flags;
+            if (unmodified) {
+                flags = ((RegExpObject) rx).getOriginalFlags();
+            } else {
+                flags = ToFlatString(cx, Get(cx, rx, "flags"));
+            }
             /* steps 9-10 */
             boolean unicodeMatching = flags.indexOf('u') != -1;
             /* steps 11-12 */
@@ -571,7 +609,9 @@ public final class RegExpPrototype extends OrdinaryObject implements Initializab
                 RegExpConstructor reConstructor = (RegExpConstructor) c;
                 // 21.2.3.1 RegExp ( pattern, flags ) - steps 1-2
                 // NB: Only executed for its side-effects.
-                IsRegExp(cx, re);
+                if (!unmodified) {
+                    IsRegExp(cx, re);
+                }
                 // Extract pattern and default multiline before calling ToLength.
                 String pattern = re.getOriginalSource();
                 boolean defaultMultiline = RegExpConstructor.isDefaultMultiline(cx);
@@ -734,6 +774,30 @@ public final class RegExpPrototype extends OrdinaryObject implements Initializab
     private static final class RegExpPrototypeSticky {
     }
 
+    /**
+     * Marker class for {@code RegExp.prototype.flags}.
+     */
+    private static final class RegExpPrototypeFlags {
+    }
+
+    /**
+     * Marker class for {@code RegExp.prototype.ignoreCase}.
+     */
+    private static final class RegExpPrototypeIgnoreCase {
+    }
+
+    /**
+     * Marker class for {@code RegExp.prototype.multiline}.
+     */
+    private static final class RegExpPrototypeMultiline {
+    }
+
+    /**
+     * Marker class for {@code RegExp.prototype.unicode}.
+     */
+    private static final class RegExpPrototypeUnicode {
+    }
+
     private static boolean isBuiltinExec(Realm realm, Object value) {
         return NativeFunction.isNative(realm, value, RegExpPrototypeExec.class);
     }
@@ -960,24 +1024,30 @@ public final class RegExpPrototype extends OrdinaryObject implements Initializab
         int e = m.end();
         /* step 19 */
         int n = m.groupCount();
-        /* step 20 */
-        ArrayObject array = ArrayCreate(cx, n + 1);
+        /* steps 20, 26-28 */
+        // The matched substring and the captured groups are only created when the array elements are accessed.
+        ArrayObject array;
+        if (m instanceof IterableMatchResult) {
+            IterableMatchResult result = (IterableMatchResult) m;
+            array = LazyArrayCreate(cx, n + 1, i -> {
+                String capture = i == 0 ? s.substring(result.start(), e) : result.capture(i);
+                return capture != null ? capture : UNDEFINED;
+            });
+        } else {
+            array = ArrayCreate(cx, n + 1);
+            CreateDataProperty(cx, array, 0, s.substring(m.start(), e));
+            Iterator<String> iterator = groupIterator(m, n);
+            for (int i = 1; iterator.hasNext(); ++i) {
+                String capture = iterator.next();
+                CreateDataProperty(cx, array, i, (capture != null ? capture : UNDEFINED));
+            }
+        }
         /* step 21 (omitted) */
         /* step 22 */
         int matchIndex = m.start();
         /* steps 23-25 */
-        CreateDataProperty(cx, array, "index", matchIndex);
-        CreateDataProperty(cx, array, "input", s);
-        /* step 26 */
-        String matchedSubstr = s.substring(matchIndex, e);
-        /* step 27 */
-        CreateDataProperty(cx, array, 0, matchedSubstr);
-        /* step 28 */
-        Iterator<String> iterator = groupIterator(m, n);
-        for (int i = 1; iterator.hasNext(); ++i) {
-            String capture = iterator.next();
-            CreateDataProperty(cx, array, i, (capture != null ? capture : UNDEFINED));
-        }
+        array.infallibleDefineOwnProperty("index", new Property(matchIndex, true, true, true));
+        array.infallibleDefineOwnProperty("input", new Property(s, true, true, true));
         /* step 29 */
         return array;
     }
@@ -1059,6 +1129,101 @@ public final class RegExpPrototype extends OrdinaryObject implements Initializab
         return true;
     }
 
+    private static boolean isBuiltinGetter(ExecutionContext cx, OrdinaryObject object, String name, Class<?> id) {
+        Property prop = object.getOwnProperty(cx, name);
+        return prop != null && NativeFunction.isNative(cx.getRealm(), prop.getGetter(), id);
+    }
+
+    /**
+     * Returns {@code true} if {@code r} is a RegExp object without own properties other than "lastIndex" and whose
+     * prototype is the unmodified {@code RegExp.prototype} object. Reading the "exec", "global", "sticky" and "unicode"
+     * properties of such objects has no side-effects, so the matching loops in {@code RegExp.prototype[@@match]} and
+     * {@code RegExp.prototype[@@replace]} can be performed directly on the matcher.
+     * 
+     * @param cx
+     *            the execution context
+     * @param r
+     *            the regular expression object
+     * @return {@code true} if the regular expression object is unmodified
+     */
+    private static boolean isUnmodifiedRegExp(ExecutionContext cx, ScriptObject r) {
+        if (!(r instanceof RegExpObject)) {
+            return false;
+        }
+        RegExpObject rx = (RegExpObject) r;
+        OrdinaryObject prototype = cx.getIntrinsic(Intrinsics.RegExpPrototype);
+        return rx.getRegExpMatcher() != null && rx.hasOnlyLastIndexProperty() && rx.getPrototype() == prototype
+                && isBuiltinRegExpPrototypeForExec(cx)
+                && isBuiltinGetter(cx, prototype, "unicode", RegExpPrototypeUnicode.class);
+    }
+
+    /**
+     * Returns {@code true} if {@code r} is an {@link #isUnmodifiedRegExp(ExecutionContext, ScriptObject) unmodified}
+     * RegExp object and the species constructor, the flags and the IsRegExp test in
+     * {@code RegExp.prototype[@@split]} are all computed by side-effect free built-in functions.
+     * 
+     * @param cx
+     *            the execution context
+     * @param r
+     *            the regular expression object
+     * @return {@code true} if the regular expression object is unmodified
+     */
+    private static boolean isUnmodifiedRegExpForSplit(ExecutionContext cx, ScriptObject r) {
+        if (!isUnmodifiedRegExp(cx, r)) {
+            return false;
+        }
+        OrdinaryObject prototype = cx.getIntrinsic(Intrinsics.RegExpPrototype);
+        Property constructorProp = prototype.getOwnProperty(cx, "constructor");
+        if (constructorProp == null || !constructorProp.isDataDescriptor()
+                || constructorProp.getValue() != cx.getIntrinsic(Intrinsics.RegExp)) {
+            return false;
+        }
+        if (!RegExpConstructor.isBuiltinSpecies(cx)) {
+            return false;
+        }
+        Property matchProp = prototype.getOwnProperty(cx, BuiltinSymbol.match.get());
+        if (matchProp == null || !matchProp.isDataDescriptor()) {
+            return false;
+        }
+        return isBuiltinGetter(cx, prototype, "flags", RegExpPrototypeFlags.class)
+                && isBuiltinGetter(cx, prototype, "ignoreCase", RegExpPrototypeIgnoreCase.class)
+                && isBuiltinGetter(cx, prototype, "multiline", RegExpPrototypeMultiline.class);
+    }
+
+    /**
+     * Collects all matches of a global regular expression, starting at index zero. This is the matching loop of
+     * {@code RegExp.prototype[@@match]} and {@code RegExp.prototype[@@replace]} for unmodified RegExp objects, the
+     * "lastIndex" property is only updated once all matches have been found.
+     * 
+     * @param cx
+     *            the execution context
+     * @param rx
+     *            the regular expression object
+     * @param s
+     *            the string
+     * @param fullUnicode
+     *            the unicode flag
+     * @return the list of match results
+     */
+    private static ArrayList<MatchResult> GlobalMatchResults(ExecutionContext cx, RegExpObject rx, String s,
+            boolean fullUnicode) {
+        boolean sticky = rx.isSet(RegExpObject.Flags.Sticky);
+        ArrayList<MatchResult> results = new ArrayList<>();
+        MatchState m = rx.getRegExpMatcher().matcher(s);
+        for (int lastIndex = 0; lastIndex <= s.length();) {
+            boolean matchSucceeded = sticky ? m.matches(lastIndex) : m.find(lastIndex);
+            if (!matchSucceeded) {
+                break;
+            }
+            results.add(m.toMatchResult());
+            int e = m.end();
+            lastIndex = e != m.start() ? e : AdvanceStringIndex(s, e, fullUnicode);
+        }
+        // The failed final match resets "lastIndex".
+        Set(cx, rx, "lastIndex", 0, true);
+        return results;
+    }
+
     private static Object[] GetReplacerArguments(String matched, String string, int position,
             MatchResult matchResult, int groupCount) {
         Object[] arguments = new Object[groupCount + 3];
@@ -1083,13 +1248,15 @@ public final class RegExpPrototype extends OrdinaryObject implements Initializab
      * @param position
      *            the match position
      * @param captures
-     *            the captured groups
+     *            the function to retrieve the captured groups
+     * @param m
+     *            the number of captured groups
      * @param replacement
      *            the replace string
      * @return the replacement string
      */
-    private static String GetSubstitution(String matched, String string, int position, String[] captures,
-            String replacement) {
+    private static String GetSubstitution(String matched, String string, int position, IntFunction<String> captures,
+            int m, String replacement) {
         /* step 1 (not applicable) */
         /* step 2 */
         int matchLength = matched.length();
@@ -1103,8 +1270,7 @@ public final class RegExpPrototype extends OrdinaryObject implements Initializab
         /* steps 7-8 (not applicable) */
         /* step 9 */
         int tailPos = Math.min(position + matchLength, stringLength);
-        /* step 10 */
-        int m = captures.length;
+        /* step 10 (not applicable) */
         /* step 11 */
         int cursor = replacement.indexOf('$');
         if (cursor < 0) {
@@ -1150,7 +1316,7 @@ public final class RegExpPrototype extends OrdinaryObject implements Initializab
                     result.append('$').append(c);
                 } else {
                     assert n >= 1 && n <= 99;
-                    String capture = captures[n - 1];
+                    String capture = captures.apply(n);
                     if (capture != null) {
                         result.append(capture);
                     }
@@ -1248,8 +1414,9 @@ public final class RegExpPrototype extends OrdinaryObject implements Initializab
             int position = result.start();
             assert 0 <= position && position < lengthS;
             assert position >= nextSrcPosition;
-            String[] captures = groups(result);
-            String replacement = GetSubstitution(matched, string, position, captures, replaceValue);
+            int nCaptures = result.groupCount();
+            IntFunction<String> captures = captures(result, nCaptures);
+            String replacement = GetSubstitution(matched, string, position, captures, nCaptures, replaceValue);
             accumulatedResult.append(string, nextSrcPosition, position).append(replacement);
             nextSrcPosition = position + matchLength;
         } while (global);
@@ -1384,6 +1551,25 @@ public final class RegExpPrototype extends OrdinaryObject implements Initializab
         return groups;
     }
 
+    /**
+     * Returns a function to retrieve the capturing groups of the {@link MatchResult} argument. Captured groups of
+     * built-in match results are only created when requested, the groups of script object match results are retrieved
+     * eagerly to preserve the evaluation order.
+     * 
+     * @param matchResult
+     *            the match result
+     * @param groupCount
+     *            the number of capturing groups
+     * @return the function to retrieve the captured group {@code n}, {@code 1 <= n <= groupCount}
+     */
+    private static IntFunction<String> captures(MatchResult matchResult, int groupCount) {
+        if (matchResult instanceof IterableMatchResult) {
+            return ((IterableMatchResult) matchResult)::capture;
+        }
+        String[] groups = groups(matchResult, groupCount);
+        return n -> groups[n - 1];
+    }
+
     private static Iterator<String> groupIterator(MatchResult matchResult, int groupCount) {
         if (groupCount == 0) {
             return Collections.emptyIterator();
@@ -19,8 +19,8 @@ import static com.github.anba.es6draft.runtime.objects.text.RegExpConstructor.Re
 import static com.github.anba.es6draft.runtime.objects.text.RegExpStringIteratorPrototype.CreateRegExpStringIterator;
 import static com.github.anba.es6draft.runtime.objects.text.StringIteratorPrototype.CreateStringIterator;
 import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
-import static com.github.anba.es6draft.runtime.types.builtins.ArrayObject.ArrayCreate;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
@@ -33,6 +33,7 @@ import com.github.anba.es6draft.runtime.internal.Messages;
 import com.github.anba.es6draft.runtime.internal.Properties.Attributes;
 import com.github.anba.es6draft.runtime.internal.Properties.CompatibilityExtension;
 import com.github.anba.es6draft.runtime.internal.Properties.Function;
+import com.github.anba.es6draft.runtime.internal.Properties.Intrinsic;
 import com.github.anba.es6draft.runtime.internal.Properties.Prototype;
 import com.github.anba.es6draft.runtime.internal.Properties.Value;
 import com.github.anba.es6draft.runtime.internal.Strings;
@@ -42,7 +43,6 @@ import com.github.anba.es6draft.runtime.types.BuiltinSymbol;
 import com.github.anba.es6draft.runtime.types.Callable;
 import com.github.anba.es6draft.runtime.types.Intrinsics;
 import com.github.anba.es6draft.runtime.types.Type;
-import com.github.anba.es6draft.runtime.types.builtins.ArrayObject;
 import com.github.anba.es6draft.runtime.types.builtins.NativeFunction;
 import com.github.anba.es6draft.runtime.types.builtins.StringObject;
 import com.ibm.icu.lang.UCharacter;
@@ -227,6 +227,26 @@ public final class StringPrototype extends StringObject implements Initializable
             return (int) s.charAt((int) position);
         }
 
+        /**
+         * 21.1.3.2 String.prototype.charCodeAt (pos)
+         * 
+         * @param cx
+         *            the execution context
+         * @param thisValue
+         *            the function this-value
+         * @param pos
+         *            the string index
+         * @return the character code unit
+         */
+        @Intrinsic
+        public static Object charCodeAt(ExecutionContext cx, CharSequence thisValue, Number pos) {
+            double position = ToInteger(pos.doubleValue());
+            if (position < 0 || position >= thisValue.length()) {
+                return Double.NaN;
+            }
+            return (int) thisValue.charAt((int) position);
+        }
+
         /**
          * 21.1.3.3 String.prototype.codePointAt (pos)
          * 
@@ -399,6 +419,42 @@ public final class StringPrototype extends StringObject implements Initializable
             return s.indexOf(searchStr, start);
         }
 
+        /**
+         * 21.1.3.8 String.prototype.indexOf ( searchString [ , position ] )
+         * 
+         * @param cx
+         *            the execution context
+         * @param thisValue
+         *            the function this-value
+         * @param searchString
+         *            the search string
+         * @return the result index
+         */
+        @Intrinsic
+        public static Object indexOf(ExecutionContext cx, String thisValue, String searchString) {
+            return thisValue.indexOf(searchString);
+        }
+
+        /**
+         * 21.1.3.8 String.prototype.indexOf ( searchString [ , position ] )
+         * 
+         * @param cx
+         *            the execution context
+         * @param thisValue
+         *            the function this-value
+         * @param searchString
+         *            the search string
+         * @param position
+         *            the start position
+         * @return the result index
+         */
+        @Intrinsic
+        public static Object indexOf(ExecutionContext cx, String thisValue, String searchString, Number position) {
+            double pos = ToInteger(position.doubleValue());
+            int start = (int) Math.min(Math.max(pos, 0), thisValue.length());
+            return thisValue.indexOf(searchString, start);
+        }
+
         /**
          * 21.1.3.9 String.prototype.lastIndexOf ( searchString [ , position ] )
          * 
@@ -466,7 +522,12 @@ public final class StringPrototype extends StringObject implements Initializable
             /* steps 6-7 */
             CollatorConstructor ctor = (CollatorConstructor) cx
                     .getIntrinsic(Intrinsics.Intl_Collator);
-            CollatorObject collator = ctor.construct(cx, ctor, locales, options);
+            CollatorObject collator;
+            if (Type.isUndefined(locales) && Type.isUndefined(options)) {
+                collator = ctor.defaultCollator(cx);
+            } else {
+                collator = ctor.construct(cx, ctor, locales, options);
+            }
             /* step 8 */
             return CompareStrings(collator, s, t);
         }
@@ -827,9 +888,9 @@ public final class StringPrototype extends StringObject implements Initializable
             /* steps 4-5 */
             String s = ToFlatString(cx, obj);
             /* step 6 */
-            ArrayObject a = ArrayCreate(cx, 0);
-            /* step 7 */
-            int lengthA = 0;
+            // Elements are collected in a list, the array object is only created at the end.
+            ArrayList<String> a = new ArrayList<>();
+            /* step 7 (not applicable) */
             /* steps 8-9 */
             long lim = Type.isUndefined(limit) ? 0xFFFF_FFFFL : ToUint32(cx, limit);
             /* step 10 */
@@ -840,20 +901,20 @@ public final class StringPrototype extends StringObject implements Initializable
             String r = ToFlatString(cx, separator);
             /* step 14 */
             if (lim == 0) {
-                return a;
+                return CreateArrayFromList(cx, a);
             }
             /* step 15 */
             if (Type.isUndefined(separator)) {
-                CreateDataProperty(cx, a, 0, s);
-                return a;
+                a.add(s);
+                return CreateArrayFromList(cx, a);
             }
             /* step 16 */
             if (size == 0) {
                 if (r.length() == 0) {
-                    return a;
+                    return CreateArrayFromList(cx, a);
                 }
-                CreateDataProperty(cx, a, 0, s);
-                return a;
+                a.add(s);
+                return CreateArrayFromList(cx, a);
             }
             /* step 17 */
             int q = p;
@@ -868,10 +929,9 @@ public final class StringPrototype extends StringObject implements Initializable
                         q = q + 1;
                     } else {
                         String t = s.substring(p, z);
-                        CreateDataProperty(cx, a, lengthA, t);
-                        lengthA += 1;
-                        if (lengthA == lim) {
-                            return a;
+                        a.add(t);
+                        if (a.size() == lim) {
+                            return CreateArrayFromList(cx, a);
                         }
                         p = e;
                         q = p;
@@ -881,9 +941,9 @@ public final class StringPrototype extends StringObject implements Initializable
             /* step 19 */
             String t = s.substring(p, size);
             /* steps 20-21 */
-            CreateDataProperty(cx, a, lengthA, t);
+            a.add(t);
             /* step 22 */
-            return a;
+            return CreateArrayFromList(cx, a);
         }
 
         /**
@@ -84,6 +84,58 @@ public class ArrayObject extends OrdinaryObject {
         return getIndexed(propertyKey);
     }
 
+    /**
+     * Returns the own element from the requested index if it is a data property, that means the value can be read
+     * without performing any observable operations.
+     * 
+     * @param propertyKey
+     *            the indexed property key
+     * @return the property value or {@code null} if not present or not a data property
+     */
+    public Object getOwnDataElement(long propertyKey) {
+        if (0 <= propertyKey && propertyKey < length) {
+            Property property = ordinaryGetOwnProperty(propertyKey);
+            if (property != null && property.isDataDescriptor()) {
+                return property.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Defines a new element at the requested index if no observable operations are performed, that means the array
+     * is extensible, has no own property at the index and has a writable length property if the index is not less
+     * than the current length.
+     * 
+     * @param propertyKey
+     *            the indexed property key
+     * @param value
+     *            the new array element
+     * @return {@code true} if the element was defined
+     */
+    public final boolean tryDefineElement(long propertyKey, Object value) {
+        long length = this.length;
+        if (!isArrayIndex(propertyKey) || !isExtensible() || (propertyKey >= length && !lengthWritable)
+                || ordinaryGetOwnProperty(propertyKey) != null) {
+            return false;
+        }
+        setIndexed(propertyKey, value);
+        if (propertyKey >= length) {
+            this.length = propertyKey + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Preallocates storage for the requested number of elements if the array has no indexed properties.
+     * 
+     * @param capacity
+     *            the expected number of elements
+     */
+    public final void ensureCapacity(long capacity) {
+        ensureIndexedCapacity(capacity);
+    }
+
     /**
      * Returns {@code true} if the array has indexed accessors.
      * 
@@ -94,6 +146,57 @@ public class ArrayObject extends OrdinaryObject {
         return hasIndexedAccessors;
     }
 
+    /**
+     * Appends the value to this array object if no observable operations are performed, that means the array is
+     * dense, extensible, has a writable length property and no object on its prototype chain has indexed properties.
+     * 
+     * @param value
+     *            the new array element
+     * @return {@code true} if the value was appended to this array
+     */
+    public final boolean tryAppend(Object value) {
+        long length = this.length;
+        if (!lengthWritable || !isExtensible() || length >= Integer.MAX_VALUE || !isDenseArray(length)
+                || hasIndexedPrototypes()) {
+            return false;
+        }
+        insert((int) length, value);
+        return true;
+    }
+
+    /**
+     * Removes the last element of this array object if no observable operations are performed, that means the array
+     * is dense, has a writable length property and the last element is configurable.
+     * 
+     * @return the removed array element or {@code null} if no element was removed
+     */
+    public final Object tryRemoveLast() {
+        long length = this.length;
+        if (!lengthWritable || length == 0 || !isDenseArray(length)) {
+            return null;
+        }
+        Object element = getIndexed(length - 1);
+        if (deleteRange(length - 1, length) != -1) {
+            return null;
+        }
+        this.length = length - 1;
+        return element;
+    }
+
+    private boolean hasIndexedPrototypes() {
+        for (ScriptObject proto = getPrototype(); proto != null;) {
+            if (!(proto instanceof OrdinaryObject)) {
+                return true;
+            }
+            OrdinaryObject object = (OrdinaryObject) proto;
+            if (object.hasSpecialIndexedProperties() || object.hasIndexedProperties()) {
+                return true;
+            }
+            proto = object.getPrototype();
+        }
+        return false;
+    }
+
     @Override
     public String className() {
         return "Array";
@@ -352,6 +455,7 @@ public class ArrayObject extends OrdinaryObject {
      */
     public static ArrayObject DenseArrayCreate(ExecutionContext cx, ScriptObject proto, Object... values) {
         ArrayObject array = ArrayCreate(cx, values.length, proto);
+        array.ensureIndexedCapacity(values.length);
         for (int i = 0, len = values.length; i < len; ++i) {
             array.setIndexed(i, values[i]);
         }
@@ -426,6 +530,7 @@ public class ArrayObject extends OrdinaryObject {
      */
     public static ArrayObject DenseArrayCreate(ExecutionContext cx, Object... values) {
         ArrayObject array = ArrayCreate(cx, values.length);
+        array.ensureIndexedCapacity(values.length);
         for (int i = 0, len = values.length; i < len; ++i) {
             array.setIndexed(i, values[i]);
         }
@@ -445,6 +550,7 @@ public class ArrayObject extends OrdinaryObject {
      */
     public static ArrayObject SparseArrayCreate(ExecutionContext cx, Object[] values) {
         ArrayObject array = ArrayCreate(cx, values.length);
+        array.ensureIndexedCapacity(values.length);
         for (int i = 0, len = values.length; i < len; ++i) {
             if (values[i] != null) {
                 array.setIndexed(i, values[i]);
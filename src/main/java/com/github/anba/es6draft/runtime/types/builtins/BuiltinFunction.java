@@ -16,6 +16,7 @@ import java.util.List;
 
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.internal.Bootstrap;
 import com.github.anba.es6draft.runtime.types.Callable;
 import com.github.anba.es6draft.runtime.types.Intrinsics;
 import com.github.anba.es6draft.runtime.types.Property;
@@ -184,6 +185,18 @@ public abstract class BuiltinFunction extends OrdinaryObject implements Callable
         return callMethod;
     }
 
+    /**
+     * Returns `(? extends BuiltinFunction, ExecutionContext, Object, Object...) {@literal ->} Object` method-handle
+     * which accepts exactly <var>argumentCount</var> call arguments.
+     * 
+     * @param argumentCount
+     *            the number of call arguments
+     * @return the fixed-arity call method handle
+     */
+    public MethodHandle getCallMethod(int argumentCount) {
+        return Bootstrap.collectCallArguments(getCallMethod(), argumentCount);
+    }
+
     /**
      * Returns the method info object.
      * 
@@ -274,10 +287,12 @@ public abstract class BuiltinFunction extends OrdinaryObject implements Callable
     protected boolean deleteProperty(ExecutionContext cx, String propertyKey) {
         if (hasDefaultName && "name".equals(propertyKey)) {
             hasDefaultName = false;
+            layoutChanged();
             return true;
         }
         if (hasDefaultLength && "length".equals(propertyKey)) {
             hasDefaultLength = false;
+            layoutChanged();
             return true;
         }
         return super.deleteProperty(cx, propertyKey);
@@ -0,0 +1,296 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.types.builtins;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+
+import com.github.anba.es6draft.runtime.ExecutionContext;
+import com.github.anba.es6draft.runtime.internal.ScriptException;
+import com.github.anba.es6draft.runtime.internal.ScriptIterator;
+import com.github.anba.es6draft.runtime.internal.SimpleIterator;
+import com.github.anba.es6draft.runtime.types.ScriptObject;
+import com.github.anba.es6draft.runtime.types.ScriptObject.Enumerability;
+
+/**
+ * Precomputed for-in keys shared by ordinary objects with the same layout.
+ * <p>
+ * Entries are keyed by the prototype chain and the own string valued property keys of the enumerated object. An entry
+ * is reused for any object with the same prototype and the same own keys in the same order and with the same
+ * enumerable attributes, as long as the layout version of every object on the prototype chain is unchanged. Entries
+ * are only created when the same layout is enumerated a second time, so one-off objects never pay for the cache.
+ */
+public final class EnumerationCache {
+    private static final int MAX_PROTO_DEPTH = 8; // Arbitrarily chosen limit
+    private static final int TABLE_SIZE = 64; // Arbitrarily chosen limit, must be a power of two
+
+    private final Shape[] shapes = new Shape[TABLE_SIZE];
+    // Hash of the last uncached layout per slot.
+    private final int[] seen = new int[TABLE_SIZE];
+
+    /**
+     * Returns the keys iterator for {@code EnumerateObjectProperties(O)} or {@code null} if the keys of the object
+     * are not cached.
+     *
+     * @param cx
+     *            the execution context
+     * @param object
+     *            the script object
+     * @return the keys iterator or {@code null}
+     */
+    public ScriptIterator<String> enumerate(ExecutionContext cx, ScriptObject object) {
+        if (!(object instanceof OrdinaryObject)) {
+            return null;
+        }
+        OrdinaryObject obj = (OrdinaryObject) object;
+        int depth = prototypeDepth(obj);
+        if (depth < 0) {
+            return null;
+        }
+        ScriptObject proto = obj.getPrototype();
+        List<String> ownKeys = obj.getEnumerableKeys(cx);
+        int hash = hash(proto, ownKeys);
+        int slot = hash & (TABLE_SIZE - 1);
+        Shape shape = shapes[slot];
+        if (shape == null || shape.hash != hash || !shape.matches(obj, proto, ownKeys)) {
+            if (seen[slot] != hash) {
+                seen[slot] = hash;
+                return null;
+            }
+            shapes[slot] = shape = Shape.create(cx, obj, depth, ownKeys, hash);
+        }
+        return new KeysIterator(cx, obj, shape);
+    }
+
+    /**
+     * Returns the number of prototypes of {@code object} or {@code -1} if the keys cannot be cached.
+     */
+    private static int prototypeDepth(OrdinaryObject object) {
+        if (object.hasSpecialIndexedProperties()) {
+            return -1;
+        }
+        int depth = 0;
+        for (ScriptObject obj = object.getPrototype(); obj != null; obj = ((OrdinaryObject) obj).getPrototype()) {
+            if (!(obj instanceof OrdinaryObject) || ((OrdinaryObject) obj).hasSpecialIndexedProperties()) {
+                return -1;
+            }
+            if (++depth > MAX_PROTO_DEPTH) {
+                return -1;
+            }
+        }
+        return depth;
+    }
+
+    private static int hash(ScriptObject proto, List<String> ownKeys) {
+        int hash = System.identityHashCode(proto);
+        for (int i = 0, size = ownKeys.size(); i < size; ++i) {
+            hash = hash * 31 + ownKeys.get(i).hashCode();
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * The shared keys for objects with the same prototype chain and own keys.
+     */
+    private static final class Shape {
+        private final int hash;
+        private final OrdinaryObject[] prototypes;
+        private final int[] layouts;
+        private final Enumerability[] enumerability;
+        // Own keys of the enumerated object followed by the own keys of each prototype.
+        private final String[][] objectKeys;
+        // Resulting keys with their object and key index.
+        private final String[] keys;
+        private final int[] owners;
+        private final int[] positions;
+
+        private Shape(int hash, OrdinaryObject[] prototypes, int[] layouts, Enumerability[] enumerability,
+                String[][] objectKeys, String[] keys, int[] owners, int[] positions) {
+            this.hash = hash;
+            this.prototypes = prototypes;
+            this.layouts = layouts;
+            this.enumerability = enumerability;
+            this.objectKeys = objectKeys;
+            this.keys = keys;
+            this.owners = owners;
+            this.positions = positions;
+        }
+
+        static Shape create(ExecutionContext cx, OrdinaryObject object, int depth, List<String> ownKeys, int hash) {
+            OrdinaryObject[] prototypes = new OrdinaryObject[depth];
+            int[] layouts = new int[depth];
+            String[][] objectKeys = new String[depth + 1][];
+            Enumerability[] enumerability = new Enumerability[ownKeys.size()];
+            HashSet<String> visitedKeys = new HashSet<>();
+            ArrayList<String> keys = new ArrayList<>();
+            ArrayList<Integer> owners = new ArrayList<>();
+            ArrayList<Integer> positions = new ArrayList<>();
+            OrdinaryObject obj = object;
+            for (int i = 0; i <= depth; ++i) {
+                String[] objKeys;
+                if (i == 0) {
+                    objKeys = ownKeys.toArray(new String[ownKeys.size()]);
+                } else {
+                    obj = (OrdinaryObject) obj.getPrototype();
+                    List<String> protoKeys = obj.getEnumerableKeys(cx);
+                    objKeys = protoKeys.toArray(new String[protoKeys.size()]);
+                    prototypes[i - 1] = obj;
+                    layouts[i - 1] = obj.layoutVersion();
+                }
+                objectKeys[i] = objKeys;
+                for (int j = 0; j < objKeys.length; ++j) {
+                    String key = objKeys[j];
+                    Enumerability e = obj.isEnumerableOwnProperty(key);
+                    if (i == 0) {
+                        enumerability[j] = e;
+                    }
+                    if (e != Enumerability.Deleted) {
+                        if (visitedKeys.add(key) && e == Enumerability.Enumerable) {
+                            keys.add(key);
+                            owners.add(i);
+                            positions.add(j);
+                        }
+                    }
+                }
+            }
+            return new Shape(hash, prototypes, layouts, enumerability, objectKeys,
+                    keys.toArray(new String[keys.size()]), toIntArray(owners), toIntArray(positions));
+        }
+
+        boolean matches(OrdinaryObject object, ScriptObject proto, List<String> ownKeys) {
+            OrdinaryObject[] prototypes = this.prototypes;
+            if (prototypes.length == 0 ? proto != null : prototypes[0] != proto) {
+                return false;
+            }
+            if (!isValid()) {
+                return false;
+            }
+            String[] cachedKeys = objectKeys[0];
+            if (cachedKeys.length != ownKeys.size()) {
+                return false;
+            }
+            Enumerability[] enumerability = this.enumerability;
+            for (int i = 0; i < cachedKeys.length; ++i) {
+                String key = ownKeys.get(i);
+                if (!cachedKeys[i].equals(key) || object.isEnumerableOwnProperty(key) != enumerability[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean isValid() {
+            OrdinaryObject[] prototypes = this.prototypes;
+            int[] layouts = this.layouts;
+            for (int i = 0; i < prototypes.length; ++i) {
+                if (prototypes[i].layoutVersion() != layouts[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int[] toIntArray(ArrayList<Integer> list) {
+            int[] array = new int[list.size()];
+            for (int i = 0; i < array.length; ++i) {
+                array[i] = list.get(i);
+            }
+            return array;
+        }
+    }
+
+    /**
+     * Returns the cached keys while the cache is valid. Otherwise continues with the uncached enumeration from the
+     * last returned key.
+     */
+    private static final class KeysIterator extends SimpleIterator<String> implements ScriptIterator<String> {
+        private final ExecutionContext cx;
+        private final OrdinaryObject object;
+        private final int layout;
+        private final Shape shape;
+        private int index = 0;
+        // State of the uncached enumeration.
+        private HashSet<Object> visitedKeys;
+        private ScriptObject obj;
+        private Iterator<String> objKeys;
+
+        KeysIterator(ExecutionContext cx, OrdinaryObject object, Shape shape) {
+            this.cx = cx;
+            this.object = object;
+            this.layout = object.layoutVersion();
+            this.shape = shape;
+        }
+
+        @Override
+        protected String findNext() {
+            if (visitedKeys == null) {
+                Shape shape = this.shape;
+                if (object.layoutVersion() == layout && shape.isValid()) {
+                    return index < shape.keys.length ? shape.keys[index++] : null;
+                }
+                switchToUncached();
+            }
+            return findNextUncached();
+        }
+
+        private void switchToUncached() {
+            Shape shape = this.shape;
+            int owner = 0, position = 0;
+            if (index > 0) {
+                owner = shape.owners[index - 1];
+                position = shape.positions[index - 1] + 1;
+            }
+            // All keys before the current position have already been processed.
+            HashSet<Object> visitedKeys = new HashSet<>();
+            for (int i = 0; i < owner; ++i) {
+                Collections.addAll(visitedKeys, shape.objectKeys[i]);
+            }
+            String[] ownerKeys = shape.objectKeys[owner];
+            visitedKeys.addAll(Arrays.asList(ownerKeys).subList(0, position));
+            this.visitedKeys = visitedKeys;
+            this.obj = owner == 0 ? object : shape.prototypes[owner - 1];
+            this.objKeys = Arrays.asList(ownerKeys).subList(position, ownerKeys.length).iterator();
+        }
+
+        private String findNextUncached() {
+            HashSet<Object> visitedKeys = this.visitedKeys;
+            ExecutionContext cx = this.cx;
+            for (ScriptObject obj = this.obj; obj != null;) {
+                for (Iterator<String> keys = this.objKeys; keys.hasNext();) {
+                    String key = keys.next();
+                    Enumerability e = obj.isEnumerableOwnProperty(cx, key);
+                    if (e != Enumerability.Deleted) {
+                        if (visitedKeys.add(key) && e == Enumerability.Enumerable) {
+                            return key;
+                        }
+                    }
+                }
+                obj = this.obj = obj.getPrototypeOf(cx);
+                if (obj != null) {
+                    this.objKeys = obj.ownEnumerablePropertyKeys(cx);
+                } else {
+                    this.objKeys = null;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void close() throws ScriptException {
+            // No return() action required.
+        }
+
+        @Override
+        public void close(Throwable cause) throws ScriptException {
+            // No return() action required.
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.types.builtins;
+
+import java.util.function.IntFunction;
+
+import com.github.anba.es6draft.runtime.ExecutionContext;
+import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.types.Intrinsics;
+import com.github.anba.es6draft.runtime.types.Property;
+
+/**
+ * Dense array object whose initial elements are computed when they are first read.
+ * <p>
+ * The initial elements are stored as placeholder values in ordinary data properties, so the array has the same
+ * properties and layout as an eagerly created array. A placeholder is replaced with the computed value before the
+ * element value or its property descriptor is observable.
+ */
+public final class LazyArrayObject extends ArrayObject {
+    private static final Placeholder[] PLACEHOLDERS = new Placeholder[32];
+
+    static {
+        for (int i = 0; i < PLACEHOLDERS.length; ++i) {
+            PLACEHOLDERS[i] = new Placeholder(i);
+        }
+    }
+
+    private final IntFunction<Object> elements;
+
+    private static final class Placeholder {
+        final int index;
+
+        Placeholder(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String toString() {
+            return "<lazy " + index + ">";
+        }
+    }
+
+    private static Placeholder placeholder(int index) {
+        return index < PLACEHOLDERS.length ? PLACEHOLDERS[index] : new Placeholder(index);
+    }
+
+    private LazyArrayObject(Realm realm, IntFunction<Object> elements) {
+        super(realm);
+        this.elements = elements;
+    }
+
+    private Object resolve(Property property) {
+        Object value = property.getValue();
+        if (value instanceof Placeholder) {
+            // Placeholders are only stored in writable data properties. Attribute changes always retrieve the current
+            // property first, so the placeholder has already been replaced when the property becomes non-writable.
+            value = elements.apply(((Placeholder) value).index);
+            property.setValue(value);
+        }
+        return value;
+    }
+
+    @Override
+    Object getIndexed(long propertyKey) {
+        return resolve(lookupOwnProperty(propertyKey));
+    }
+
+    @Override
+    public Object getOwnDataElement(long propertyKey) {
+        Object value = super.getOwnDataElement(propertyKey);
+        if (value instanceof Placeholder) {
+            return getIndexed(propertyKey);
+        }
+        return value;
+    }
+
+    @Override
+    protected Property getProperty(ExecutionContext cx, long propertyKey) {
+        Property property = super.getProperty(cx, propertyKey);
+        if (property != null && property.isDataDescriptor()) {
+            resolve(property);
+        }
+        return property;
+    }
+
+    /**
+     * Creates a new dense array whose elements are computed on first access.
+     *
+     * @param cx
+     *            the execution context
+     * @param length
+     *            the array length
+     * @param elements
+     *            the function to compute the element values
+     * @return the new array object
+     */
+    public static LazyArrayObject LazyArrayCreate(ExecutionContext cx, int length, IntFunction<Object> elements) {
+        assert length >= 0;
+        LazyArrayObject array = new LazyArrayObject(cx.getRealm(), elements);
+        array.setPrototype(cx.getIntrinsic(Intrinsics.ArrayPrototype));
+        array.setLengthUnchecked(length);
+        array.ensureIndexedCapacity(length);
+        for (int i = 0; i < length; ++i) {
+            array.setIndexed(i, placeholder(i));
+        }
+        return array;
+    }
+}
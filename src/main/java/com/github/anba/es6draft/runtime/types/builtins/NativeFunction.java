@@ -6,8 +6,12 @@
  */
 package com.github.anba.es6draft.runtime.types.builtins;
 
+import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
+
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
 
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.Realm;
@@ -22,6 +26,12 @@ public final class NativeFunction extends BuiltinFunction {
     // (ExecutionContext, ExecutionContext, Object, Object[]) -> Object
     private final MethodHandle mh;
 
+    // (ExecutionContext, ExecutionContext, Object, Object...) -> Object
+    private final MethodHandle fixedArityMh;
+
+    // (ExecutionContext, ? extends Object, ? extends Object...) -> ?
+    private final MethodHandle[] intrinsics;
+
     private final Class<?> id;
 
     /**
@@ -56,8 +66,54 @@ public final class NativeFunction extends BuiltinFunction {
      *            the method handle to the function code
      */
     public NativeFunction(Realm realm, String name, int arity, Class<?> id, MethodHandle mh) {
+        this(realm, name, arity, id, mh, null);
+    }
+
+    /**
+     * Constructs a new native function.
+     * 
+     * @param realm
+     *            the realm object
+     * @param name
+     *            the function name
+     * @param arity
+     *            the function arity
+     * @param id
+     *            the native function identifier
+     * @param mh
+     *            the method handle to the function code
+     * @param fixedArityMh
+     *            the method handle to the function code with fixed {@code Object} parameters or {@code null}
+     */
+    public NativeFunction(Realm realm, String name, int arity, Class<?> id, MethodHandle mh,
+            MethodHandle fixedArityMh) {
+        this(realm, name, arity, id, mh, fixedArityMh, null);
+    }
+
+    /**
+     * Constructs a new native function.
+     * 
+     * @param realm
+     *            the realm object
+     * @param name
+     *            the function name
+     * @param arity
+     *            the function arity
+     * @param id
+     *            the native function identifier
+     * @param mh
+     *            the method handle to the function code
+     * @param fixedArityMh
+     *            the method handle to the function code with fixed {@code Object} parameters or {@code null}
+     * @param intrinsics
+     *            the method handles to the intrinsic fast paths or {@code null}
+     */
+    public NativeFunction(Realm realm, String name, int arity, Class<?> id, MethodHandle mh,
+            MethodHandle fixedArityMh, MethodHandle[] intrinsics) {
         super(realm, name, arity);
         this.mh = mh;
+        this.fixedArityMh = fixedArityMh;
+        this.intrinsics = intrinsics;
         this.id = id;
         createDefaultFunctionProperties();
     }
@@ -65,6 +121,8 @@ public final class NativeFunction extends BuiltinFunction {
     private NativeFunction(NativeFunction original) {
         super(original.getRealm(), original.getName(), original.getArity());
         this.mh = original.mh;
+        this.fixedArityMh = original.fixedArityMh;
+        this.intrinsics = original.intrinsics;
         this.id = original.id;
     }
 
@@ -79,6 +137,66 @@ public final class NativeFunction extends BuiltinFunction {
         return MethodHandles.dropArguments(mh, 0, NativeFunction.class);
     }
 
+    @Override
+    public MethodHandle getCallMethod(int argumentCount) {
+        if (fixedArityMh == null) {
+            return super.getCallMethod(argumentCount);
+        }
+        // Pass missing arguments as undefined and ignore extra arguments.
+        final int fixedArguments = 3;
+        int parameterCount = fixedArityMh.type().parameterCount() - fixedArguments;
+        MethodHandle mh = fixedArityMh;
+        if (argumentCount < parameterCount) {
+            Object[] missing = new Object[parameterCount - argumentCount];
+            Arrays.fill(missing, UNDEFINED);
+            mh = MethodHandles.insertArguments(mh, fixedArguments + argumentCount, missing);
+        } else if (argumentCount > parameterCount) {
+            Class<?>[] extra = new Class<?>[argumentCount - parameterCount];
+            Arrays.fill(extra, Object.class);
+            mh = MethodHandles.dropArguments(mh, fixedArguments + parameterCount, extra);
+        }
+        mh = MethodHandles.insertArguments(mh, 0, getRealm().defaultContext());
+        return MethodHandles.dropArguments(mh, 0, NativeFunction.class);
+    }
+
+    /**
+     * Returns `(? extends Object, ? extends Object...) {@literal ->} ?` method-handle for the intrinsic fast path
+     * which accepts the this-value and the call arguments, or {@code null} if no such intrinsic is available.
+     * 
+     * @param thisValue
+     *            the function this-value
+     * @param arguments
+     *            the function call arguments
+     * @return the intrinsic method handle or {@code null} if not available
+     */
+    public MethodHandle getIntrinsic(Object thisValue, Object[] arguments) {
+        if (intrinsics == null) {
+            return null;
+        }
+        for (MethodHandle intrinsic : intrinsics) {
+            if (isApplicable(intrinsic.type(), thisValue, arguments)) {
+                return MethodHandles.insertArguments(intrinsic, 0, getRealm().defaultContext());
+            }
+        }
+        return null;
+    }
+
+    private static boolean isApplicable(MethodType type, Object thisValue, Object[] arguments) {
+        final int fixedArguments = 2;
+        if (type.parameterCount() - fixedArguments != arguments.length) {
+            return false;
+        }
+        if (!type.parameterType(1).isInstance(thisValue)) {
+            return false;
+        }
+        for (int i = 0; i < arguments.length; ++i) {
+            if (!type.parameterType(fixedArguments + i).isInstance(arguments[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns the optional identifier for this native function.
      * 
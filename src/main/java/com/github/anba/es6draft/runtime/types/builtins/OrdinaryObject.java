@@ -59,6 +59,10 @@ public class OrdinaryObject implements ScriptObject {
     /** [[Extensible]] */
     private boolean extensible = true;
 
+    // Incremented when string valued or indexed properties are added or removed, when their enumerable attribute
+    // changes or when the prototype is changed.
+    private int layoutVersion = 0;
+
     /**
      * Constructs a new Ordinary Object instance.
      * 
@@ -66,8 +70,20 @@ public class OrdinaryObject implements ScriptObject {
      *            the realm object
      */
     public OrdinaryObject(Realm realm) {
+        this(realm, STRING_PROPERTIES_DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new Ordinary Object instance.
+     * 
+     * @param realm
+     *            the realm object
+     * @param stringPropertiesCapacity
+     *            the initial capacity for string valued properties
+     */
+    private OrdinaryObject(Realm realm, int stringPropertiesCapacity) {
         this.realm = realm;
-        this.properties = new PropertyMap<>(STRING_PROPERTIES_DEFAULT_INITIAL_CAPACITY);
+        this.properties = new PropertyMap<>(stringPropertiesCapacity);
         this.symbolProperties = new PropertyMap<>(SYMBOL_PROPERTIES_DEFAULT_INITIAL_CAPACITY);
         this.indexedProperties = new IndexedMap<>();
     }
@@ -125,7 +141,7 @@ public class OrdinaryObject implements ScriptObject {
      *            {@code true} to include symbol properties
      * @return the number of properties
      */
-    final int countProperties(boolean withSymbols) {
+    protected final int countProperties(boolean withSymbols) {
         return properties.size() + indexedProperties.size() + (withSymbols ? symbolProperties.size() : 0);
     }
 
@@ -170,6 +186,7 @@ public class OrdinaryObject implements ScriptObject {
         assert !IndexedMap.isIndex(IndexedMap.toIndex(propertyKey));
         assert !properties.containsKey(propertyKey) : "illegal property = " + propertyKey;
         properties.put(propertyKey, property);
+        layoutVersion += 1;
     }
 
     public final void infallibleDefineOwnProperty(String propertyKey, Property property) {
@@ -177,6 +194,7 @@ public class OrdinaryObject implements ScriptObject {
         assert !IndexedMap.isIndex(IndexedMap.toIndex(propertyKey));
         assert !properties.containsKey(propertyKey) : "illegal property = " + propertyKey;
         properties.put(propertyKey, property);
+        layoutVersion += 1;
     }
 
     public final void infallibleDefineOwnProperty(Symbol propertyKey, Property property) {
@@ -194,8 +212,58 @@ public class OrdinaryObject implements ScriptObject {
         return symbolProperties.get(propertyKey);
     }
 
+    public final Property lookupOwnProperty(long propertyKey) {
+        assert IndexedMap.isIndex(propertyKey);
+        return indexedProperties.get(propertyKey);
+    }
+
+    /**
+     * Returns the list of own enumerable string valued property keys, including integer indexed keys. Only applicable
+     * for objects without special indexed or virtual properties.
+     *
+     * @return the list of own enumerable string valued property keys
+     */
+    public final List<String> enumerableOwnNames() {
+        assert !hasSpecialIndexedProperties();
+        int totalSize = countProperties(false);
+        if (totalSize == 0) {
+            return Collections.emptyList();
+        }
+        ArrayList<String> keys = new ArrayList<>(totalSize);
+        if (!indexedProperties.isEmpty()) {
+            for (Map.Entry<Long, Property> entry : indexedProperties) {
+                if (entry.getValue().isEnumerable()) {
+                    keys.add(Long.toString(entry.getKey()));
+                }
+            }
+        }
+        for (Map.Entry<String, Property> entry : properties.entrySet()) {
+            if (entry.getValue().isEnumerable()) {
+                keys.add(entry.getKey());
+            }
+        }
+        return keys;
+    }
+
     public final void infallibleSetPrototype(ScriptObject prototype) {
         this.prototype = prototype;
+        layoutVersion += 1;
+    }
+
+    /**
+     * Returns the layout version of this object.
+     * 
+     * @return the layout version
+     */
+    final int layoutVersion() {
+        return layoutVersion;
+    }
+
+    /**
+     * Subclasses need to call this method when virtual properties are added or removed.
+     */
+    protected final void layoutChanged() {
+        layoutVersion += 1;
     }
 
     /**
@@ -228,6 +296,17 @@ public class OrdinaryObject implements ScriptObject {
      */
     final void setIndexed(long propertyKey, Object value) {
         indexedProperties.put(propertyKey, new Property(value, true, true, true));
+        layoutVersion += 1;
+    }
+
+    /**
+     * Preallocates storage for the requested number of indexed properties.
+     * 
+     * @param capacity
+     *            the expected number of indexed properties
+     */
+    final void ensureIndexedCapacity(long capacity) {
+        indexedProperties.ensureCapacity(capacity);
     }
 
     /**
@@ -247,6 +326,7 @@ public class OrdinaryObject implements ScriptObject {
         if (indexed.isEmpty()) {
             return -1;
         }
+        layoutVersion += 1;
         long lastIndex;
         if (indexed.isSparse()) {
             lastIndex = deleteRangeSparse(startIndex, endIndex);
@@ -428,6 +508,7 @@ public class OrdinaryObject implements ScriptObject {
      */
     protected final void setPrototype(ScriptObject prototype) {
         this.prototype = prototype;
+        layoutVersion += 1;
     }
 
     /**
@@ -558,6 +639,7 @@ public class OrdinaryObject implements ScriptObject {
         }
         /* step 9 */
         this.prototype = prototype;
+        layoutVersion += 1;
         /* step 10 */
         return true;
     }
@@ -766,7 +848,13 @@ public class OrdinaryObject implements ScriptObject {
         /* step 3 */
         boolean extensible = isExtensible();
         /* step 4 */
-        return validateAndApplyPropertyDescriptor(indexedProperties, propertyKey, extensible, desc, current);
+        boolean layoutChange = isLayoutChange(desc, current);
+        boolean succeeded = validateAndApplyPropertyDescriptor(indexedProperties, propertyKey, extensible, desc,
+                current);
+        if (succeeded && layoutChange) {
+            layoutVersion += 1;
+        }
+        return succeeded;
     }
 
     /**
@@ -787,7 +875,12 @@ public class OrdinaryObject implements ScriptObject {
         /* step 3 */
         boolean extensible = isExtensible();
         /* step 4 */
-        return validateAndApplyPropertyDescriptor(properties, propertyKey, extensible, desc, current);
+        boolean layoutChange = isLayoutChange(desc, current);
+        boolean succeeded = validateAndApplyPropertyDescriptor(properties, propertyKey, extensible, desc, current);
+        if (succeeded && layoutChange) {
+            layoutVersion += 1;
+        }
+        return succeeded;
     }
 
     /**
@@ -828,6 +921,20 @@ public class OrdinaryObject implements ScriptObject {
         return validateAndApplyPropertyDescriptor(null, null, extensible, desc, current);
     }
 
+    /**
+     * Returns {@code true} if applying the property descriptor adds a new property or changes the enumerable attribute
+     * of the current property.
+     * 
+     * @param desc
+     *            the property descriptor
+     * @param current
+     *            the current property
+     * @return {@code true} if the property descriptor changes the object layout
+     */
+    private static boolean isLayoutChange(PropertyDescriptor desc, Property current) {
+        return current == null || (desc.hasEnumerable() && desc.isEnumerable() != current.isEnumerable());
+    }
+
     /**
      * 9.1.6.3 ValidateAndApplyPropertyDescriptor (O, P, extensible, Desc, current)
      * 
@@ -845,7 +952,13 @@ public class OrdinaryObject implements ScriptObject {
      */
     protected static final boolean ValidateAndApplyPropertyDescriptor(OrdinaryObject object, long propertyKey,
             boolean extensible, PropertyDescriptor desc, Property current) {
-        return validateAndApplyPropertyDescriptor(object.indexedProperties, propertyKey, extensible, desc, current);
+        boolean layoutChange = isLayoutChange(desc, current);
+        boolean succeeded = validateAndApplyPropertyDescriptor(object.indexedProperties, propertyKey, extensible,
+                desc, current);
+        if (succeeded && layoutChange) {
+            object.layoutVersion += 1;
+        }
+        return succeeded;
     }
 
     /**
@@ -865,7 +978,13 @@ public class OrdinaryObject implements ScriptObject {
      */
     protected static final boolean ValidateAndApplyPropertyDescriptor(OrdinaryObject object, String propertyKey,
             boolean extensible, PropertyDescriptor desc, Property current) {
-        return validateAndApplyPropertyDescriptor(object.properties, propertyKey, extensible, desc, current);
+        boolean layoutChange = isLayoutChange(desc, current);
+        boolean succeeded = validateAndApplyPropertyDescriptor(object.properties, propertyKey, extensible, desc,
+                current);
+        if (succeeded && layoutChange) {
+            object.layoutVersion += 1;
+        }
+        return succeeded;
     }
 
     /**
@@ -1637,6 +1756,7 @@ public class OrdinaryObject implements ScriptObject {
         /* step 5 */
         if (desc.isConfigurable()) {
             indexedProperties.remove(propertyKey);
+            layoutVersion += 1;
             return true;
         }
         /* step 6 */
@@ -1663,6 +1783,7 @@ public class OrdinaryObject implements ScriptObject {
         /* step 5 */
         if (desc.isConfigurable()) {
             properties.remove(propertyKey);
+            layoutVersion += 1;
             return true;
         }
         /* step 6 */
@@ -1956,6 +2077,41 @@ public class OrdinaryObject implements ScriptObject {
         return new OrdinaryObject(cx.getRealm(), cx.getIntrinsic(proto));
     }
 
+    /**
+     * 9.1.13 ObjectCreate(proto, internalSlotsList)
+     * <p>
+     * Creates a new object with the data properties {@code propertyKeys[i]: values[i]}, all properties are writable,
+     * enumerable and configurable. The property keys must be distinct and must not be array indices.
+     *
+     * @param cx
+     *            the execution context
+     * @param proto
+     *            the prototype object
+     * @param propertyKeys
+     *            the property keys
+     * @param values
+     *            the property values
+     * @return the new object
+     */
+    public static final OrdinaryObject ObjectCreate(ExecutionContext cx, Intrinsics proto, String[] propertyKeys,
+            Object[] values) {
+        assert propertyKeys.length == values.length;
+        int count = propertyKeys.length;
+        // Size the property map so it doesn't need to be resized for the initial properties.
+        int capacity = Math.max(count + (count / 3) + 1, STRING_PROPERTIES_DEFAULT_INITIAL_CAPACITY);
+        OrdinaryObject obj = new OrdinaryObject(cx.getRealm(), capacity);
+        obj.prototype = cx.getIntrinsic(proto);
+        PropertyMap<String, Property> properties = obj.properties;
+        for (int i = 0; i < count; ++i) {
+            String propertyKey = propertyKeys[i];
+            assert !IndexedMap.isIndex(IndexedMap.toIndex(propertyKey));
+            assert !properties.containsKey(propertyKey) : "illegal property = " + propertyKey;
+            properties.put(propertyKey, new Property(values[i], true, true, true));
+        }
+        obj.layoutVersion += count;
+        return obj;
+    }
+
     /**
      * 9.1.13 ObjectCreate(proto, internalSlotsList)
      *
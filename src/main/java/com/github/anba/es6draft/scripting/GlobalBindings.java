@@ -16,6 +16,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import javax.script.Bindings;
 
@@ -27,12 +28,20 @@ import com.github.anba.es6draft.runtime.Realm;
  */
 // TODO: Handle ScriptException when calling globalEnvRec methods?
 final class GlobalBindings implements Bindings {
-    private final Realm realm;
-    private final GlobalEnvironmentRecord globalEnvRec;
+    private final Supplier<Realm> realm;
 
     public GlobalBindings(Realm realm) {
+        this(() -> realm);
+    }
+
+    /**
+     * Creates new bindings for the realm returned by <var>realm</var>, for example the realm of the current thread.
+     * 
+     * @param realm
+     *            the realm supplier
+     */
+    GlobalBindings(Supplier<Realm> realm) {
         this.realm = realm;
-        this.globalEnvRec = realm.getGlobalEnv().getEnvRec();
     }
 
     /**
@@ -66,14 +75,18 @@ final class GlobalBindings implements Bindings {
      * @return the realm object
      */
     Realm getRealm() {
-        return realm;
+        return realm.get();
+    }
+
+    private GlobalEnvironmentRecord globalEnvRec() {
+        return getRealm().getGlobalEnv().getEnvRec();
     }
 
     @Override
     public Object put(String key, Object value) {
         String name = toBindingName(key);
         Object oldValue = getOrNull(name);
-        globalEnvRec.setMutableBinding(name, fromJava(value), false);
+        globalEnvRec().setMutableBinding(name, fromJava(value), false);
         return oldValue;
     }
 
@@ -87,13 +100,13 @@ final class GlobalBindings implements Bindings {
     @Override
     public boolean containsKey(Object key) {
         String name = toBindingName(key);
-        return globalEnvRec.hasBinding(name);
+        return globalEnvRec().hasBinding(name);
     }
 
     @Override
     public Object get(Object key) {
         String name = toBindingName(key);
-        Object value = globalEnvRec.getBindingValue(name, false);
+        Object value = globalEnvRec().getBindingValue(name, false);
         return toJava(value);
     }
 
@@ -101,13 +114,13 @@ final class GlobalBindings implements Bindings {
     public Object remove(Object key) {
         String name = toBindingName(key);
         Object oldValue = getOrNull(name);
-        globalEnvRec.deleteBinding(name);
+        globalEnvRec().deleteBinding(name);
         return oldValue;
     }
 
     @Override
     public Set<String> keySet() {
-        return Collections.unmodifiableSet(globalEnvRec.bindingNames());
+        return Collections.unmodifiableSet(globalEnvRec().bindingNames());
     }
 
     @Override
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.scripting;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.List;
+
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+
+/**
+ * {@link ScriptEngineFactory} for script engines which can be used concurrently from multiple threads.
+ * <p>
+ * Each thread evaluates scripts in its own realm and world, compiled scripts are shared between all threads. The
+ * engine scope bindings of the default script context are therefore per-thread, too. A thread's realm is created when
+ * the thread first uses the engine and is released once the thread has terminated or the engine is no longer
+ * reachable.
+ */
+public final class MultiThreadedScriptEngineFactoryImpl extends ScriptEngineFactoryImpl {
+    @Override
+    public String getEngineName() {
+        return "es6draft-mt";
+    }
+
+    @Override
+    public List<String> getExtensions() {
+        // Only available by name, the single-threaded engine stays the default for extensions and mime types.
+        return emptyList();
+    }
+
+    @Override
+    public List<String> getMimeTypes() {
+        return emptyList();
+    }
+
+    @Override
+    public List<String> getNames() {
+        return unmodifiableList(asList("es6draft-mt", "ES6Draft-MT"));
+    }
+
+    @Override
+    public Object getParameter(String key) {
+        if ("THREADING".equals(key)) {
+            return "MULTITHREADED";
+        }
+        return super.getParameter(key);
+    }
+
+    @Override
+    public ScriptEngine getScriptEngine() {
+        return new ScriptEngineImpl(this, true);
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.scripting;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.github.anba.es6draft.runtime.Realm;
+
+/**
+ * Pool of pre-initialized realms.
+ * <p>
+ * Realms are handed out at most once: a realm which was used to evaluate scripts cannot be reset to its initial
+ * state, because scripts may have modified any of its intrinsic objects. Instead each acquired realm is replaced by a
+ * new realm which is initialized in the background.
+ */
+final class RealmPool {
+    private final Supplier<Realm> factory;
+    private final Executor executor;
+    private final int capacity;
+    private final ConcurrentLinkedQueue<Realm> realms = new ConcurrentLinkedQueue<>();
+    // Number of available and pending realms.
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Constructs a new realm pool and starts to initialize its realms.
+     *
+     * @param factory
+     *            the realm factory, must be callable from any thread
+     * @param executor
+     *            the executor to initialize new realms
+     * @param capacity
+     *            the number of pre-initialized realms
+     */
+    RealmPool(Supplier<Realm> factory, Executor executor, int capacity) {
+        assert capacity > 0;
+        this.factory = factory;
+        this.executor = executor;
+        this.capacity = capacity;
+        fill();
+    }
+
+    /**
+     * Returns a pre-initialized realm or creates a new realm if no pre-initialized realm is available.
+     *
+     * @return the realm object
+     */
+    Realm acquire() {
+        Realm realm = realms.poll();
+        if (realm != null) {
+            size.decrementAndGet();
+        } else {
+            realm = factory.get();
+        }
+        fill();
+        return realm;
+    }
+
+    private void fill() {
+        for (int n; (n = size.get()) < capacity;) {
+            if (size.compareAndSet(n, n + 1)) {
+                try {
+                    executor.execute(this::createRealm);
+                } catch (RejectedExecutionException e) {
+                    size.decrementAndGet();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void createRealm() {
+        Realm realm;
+        try {
+            realm = factory.get();
+        } catch (RuntimeException e) {
+            size.decrementAndGet();
+            return;
+        }
+        realms.offer(realm);
+    }
+}
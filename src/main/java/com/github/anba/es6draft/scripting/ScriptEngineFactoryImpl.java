@@ -21,7 +21,7 @@ import javax.script.ScriptEngineFactory;
 /**
  * Concrete implementation of the {@link ScriptEngineFactory} interface.
  */
-public final class ScriptEngineFactoryImpl implements ScriptEngineFactory {
+public class ScriptEngineFactoryImpl implements ScriptEngineFactory {
     @Override
     public String getEngineName() {
         return "es6draft";
@@ -16,8 +16,11 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.net.URISyntaxException;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
 
 import javax.script.AbstractScriptEngine;
 import javax.script.Bindings;
@@ -49,21 +52,49 @@ import com.github.anba.es6draft.runtime.types.ScriptObject;
  * Concrete implementation of the {@link AbstractScriptEngine} abstract class.
  */
 final class ScriptEngineImpl extends AbstractScriptEngine implements ScriptEngine, Compilable, Invocable {
+    /**
+     * System property for the number of pre-initialized realms kept by each script engine, defaults to {@code 0}.
+     */
+    static final String REALM_POOL_SIZE = "es6draft.scripting.realmPoolSize";
+
     private final ScriptEngineFactoryImpl factory;
     // Scripting sources have an extra scope object before the global environment record, the
     // ScriptContext object. To ensure this extra scope is properly handled, we use the
     // 'scripting' parser-option when evaluating the source code.
     private final ScriptLoader scriptingLoader;
+    private final RuntimeContext runtimeContext;
+    private final ThreadLocalConsole console;
     private final World world;
+    private final RealmPool realmPool;
+    private final boolean multiThreaded;
+    // Per-thread realms of a multi-threaded engine. The entries are weakly keyed by their thread, so a realm is
+    // released when its thread has terminated and is not retained by long-lived threads after the engine was
+    // discarded.
+    private final Map<Thread, Realm> threadRealms;
 
     ScriptEngineImpl(ScriptEngineFactoryImpl factory) {
+        this(factory, false);
+    }
+
+    /**
+     * Creates a new script engine.
+     * 
+     * @param factory
+     *            the script engine factory
+     * @param multiThreaded
+     *            if {@code true} each thread uses its own world and realm for the default engine scope bindings. The
+     *            realm of a thread is created on first use and stays alive as long as both the thread and the engine
+     *            are reachable
+     */
+    ScriptEngineImpl(ScriptEngineFactoryImpl factory, boolean multiThreaded) {
         this.factory = factory;
+        this.console = new ThreadLocalConsole(new ScriptingConsole(this.context));
 
         /* @formatter:off */
         RuntimeContext context = new RuntimeContext.Builder()
                                                    .setBaseDirectory(Paths.get("").toAbsolutePath())
                                                    .setGlobalAllocator(ScriptingGlobalObject::new)
-                                                   .setConsole(new ScriptingConsole(this.context))
+                                                   .setConsole(console)
                                                    .setOptions(CompatibilityOption.WebCompatibility())
                                                    .build();
         RuntimeContext scriptingContext = new RuntimeContext.Builder(context)
@@ -71,12 +102,31 @@ final class ScriptEngineImpl extends AbstractScriptEngine implements ScriptEngin
                                                             .build();
         /* @formatter:on */
 
+        this.runtimeContext = context;
         this.world = new World(context);
         this.scriptingLoader = new ScriptLoader(scriptingContext);
-        this.context.setBindings(createBindings(), ScriptContext.ENGINE_SCOPE);
+        this.realmPool = newRealmPool(context);
+        this.multiThreaded = multiThreaded;
+        if (multiThreaded) {
+            this.threadRealms = Collections.synchronizedMap(new WeakHashMap<>());
+            this.context.setBindings(new GlobalBindings(this::getThreadRealm), ScriptContext.ENGINE_SCOPE);
+        } else {
+            this.threadRealms = null;
+            this.context.setBindings(new GlobalBindings(newScriptingRealm(world)), ScriptContext.ENGINE_SCOPE);
+        }
     }
 
-    private Realm newScriptingRealm() {
+    private RealmPool newRealmPool(RuntimeContext context) {
+        int poolSize = Integer.getInteger(REALM_POOL_SIZE, 0);
+        if (poolSize <= 0) {
+            return null;
+        }
+        // Pooled realms are created in the background, each realm is placed in its own world to avoid sharing the
+        // world's task queues across threads.
+        return new RealmPool(() -> newScriptingRealm(new World(context)), context.getExecutor(), poolSize);
+    }
+
+    private static Realm newScriptingRealm(World world) {
         try {
             return world.newInitializedRealm();
         } catch (ParserException | CompilationException | IOException | URISyntaxException e) {
@@ -84,6 +134,28 @@ final class ScriptEngineImpl extends AbstractScriptEngine implements ScriptEngin
         }
     }
 
+    private Realm newScriptingRealm() {
+        if (realmPool != null) {
+            return realmPool.acquire();
+        }
+        if (multiThreaded) {
+            // Worlds are not thread-safe, give each realm its own world.
+            return newScriptingRealm(new World(runtimeContext));
+        }
+        return newScriptingRealm(world);
+    }
+
+    private Realm getThreadRealm() {
+        Thread thread = Thread.currentThread();
+        Realm realm = threadRealms.get(thread);
+        if (realm == null) {
+            // Only the current thread adds its own entry, create the realm without holding the lock.
+            realm = newScriptingRealm();
+            threadRealms.put(thread, realm);
+        }
+        return realm;
+    }
+
     @Override
     public ScriptEngineFactory getFactory() {
         return factory;
@@ -171,9 +243,7 @@ final class ScriptEngineImpl extends AbstractScriptEngine implements ScriptEngin
 
     Object eval(Script script, ScriptContext context) throws javax.script.ScriptException {
         Realm realm = getEvalRealm(context);
-        RuntimeContext runtimeContext = realm.getWorld().getContext();
-        Console console = runtimeContext.getConsole();
-        runtimeContext.setConsole(new ScriptingConsole(context));
+        Console console = this.console.enter(new ScriptingConsole(context));
         try {
             // Prepare a new execution context before calling the generated code.
             ExecutionContext evalCxt = newScriptingExecutionContext(realm, script, new LexicalEnvironment<>(
@@ -184,16 +254,14 @@ final class ScriptEngineImpl extends AbstractScriptEngine implements ScriptEngin
         } catch (ScriptException e) {
             throw new javax.script.ScriptException(e);
         } finally {
-            runtimeContext.setConsole(console);
+            this.console.enter(console);
         }
     }
 
     private Object invoke(ScriptObject thisValue, String name, Object... args)
             throws javax.script.ScriptException, NoSuchMethodException {
         Realm realm = getEvalRealm(context);
-        RuntimeContext runtimeContext = realm.getWorld().getContext();
-        Console console = runtimeContext.getConsole();
-        runtimeContext.setConsole(new ScriptingConsole(context));
+        Console console = this.console.enter(new ScriptingConsole(context));
         try {
             Object[] arguments = TypeConverter.fromJava(args);
             if (thisValue == null) {
@@ -210,7 +278,7 @@ final class ScriptEngineImpl extends AbstractScriptEngine implements ScriptEngin
         } catch (ScriptException e) {
             throw new javax.script.ScriptException(e);
         } finally {
-            runtimeContext.setConsole(console);
+            this.console.enter(console);
         }
     }
 
@@ -232,9 +300,9 @@ final class ScriptEngineImpl extends AbstractScriptEngine implements ScriptEngin
     private Realm getEvalRealm(ScriptContext context) {
         Bindings bindings = context.getBindings(ScriptContext.ENGINE_SCOPE);
         if (bindings instanceof GlobalBindings) {
-            // Return realm from engine scope bindings if compatible, i.e. from the same world instance.
+            // Return realm from engine scope bindings if compatible, i.e. created by this script engine.
             Realm realm = ((GlobalBindings) bindings).getRealm();
-            if (realm.getWorld() == world) {
+            if (realm.getWorld().getContext() == runtimeContext) {
                 return realm;
             }
         }
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.scripting;
+
+import java.io.PrintWriter;
+import java.io.Reader;
+
+import com.github.anba.es6draft.runtime.internal.Console;
+
+/**
+ * {@link Console} implementation which delegates to the console of the current thread.
+ * <p>
+ * Script engines install this console once in their runtime context, so concurrent evaluations on different threads
+ * no longer need to swap the runtime context's console.
+ */
+final class ThreadLocalConsole implements Console {
+    private final Console defaultConsole;
+    private final ThreadLocal<Console> current = new ThreadLocal<>();
+
+    ThreadLocalConsole(Console defaultConsole) {
+        this.defaultConsole = defaultConsole;
+    }
+
+    /**
+     * Sets the console of the current thread.
+     * 
+     * @param console
+     *            the new console or {@code null} to use the default console
+     * @return the previous console of the current thread
+     */
+    Console enter(Console console) {
+        Console previous = current.get();
+        if (console != null) {
+            current.set(console);
+        } else {
+            current.remove();
+        }
+        return previous;
+    }
+
+    private Console console() {
+        Console console = current.get();
+        return console != null ? console : defaultConsole;
+    }
+
+    @Override
+    public void printf(String format, Object... args) {
+        console().printf(format, args);
+    }
+
+    @Override
+    public void flush() {
+        console().flush();
+    }
+
+    @Override
+    public String readLine() {
+        return console().readLine();
+    }
+
+    @Override
+    public String readLine(String prompt) {
+        return console().readLine(prompt);
+    }
+
+    @Override
+    public Reader reader() {
+        return console().reader();
+    }
+
+    @Override
+    public PrintWriter writer() {
+        return console().writer();
+    }
+
+    @Override
+    public PrintWriter errorWriter() {
+        return console().errorWriter();
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static com.github.anba.es6draft.util.TestRealms.newRealm;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.anba.es6draft.compiler.CompiledCodeMetrics;
+import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+import com.github.anba.es6draft.util.TestRealms;
+
+/**
+ *
+ */
+public final class CompiledCodeMetricsTest {
+    private static final int EVAL_COUNT = 64;
+    private static final long GC_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+    private Realm realm;
+
+    @Before
+    public void setUp() throws Exception {
+        realm = newRealm(new RuntimeContext.Builder().build());
+    }
+
+    private Object eval(String sourceCode) {
+        return TestRealms.eval(realm, "compiled-code-metrics-test", sourceCode);
+    }
+
+    private static void collectGarbage() throws InterruptedException {
+        System.gc();
+        System.runFinalization();
+        Thread.sleep(10);
+    }
+
+    private static void awaitUnloaded(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + GC_TIMEOUT;
+        do {
+            collectGarbage();
+        } while (CompiledCodeMetrics.getUnloadedUnitCount() < expected && System.currentTimeMillis() < deadline);
+    }
+
+    private static void awaitStable() throws InterruptedException {
+        long unloaded;
+        do {
+            unloaded = CompiledCodeMetrics.getUnloadedUnitCount();
+            collectGarbage();
+            collectGarbage();
+        } while (CompiledCodeMetrics.getUnloadedUnitCount() != unloaded);
+    }
+
+    private static void assertConsistent() {
+        long defined = CompiledCodeMetrics.getDefinedUnitCount();
+        long unloaded = CompiledCodeMetrics.getUnloadedUnitCount();
+        long live = CompiledCodeMetrics.getLiveUnitCount();
+        assertEquals(defined, live + unloaded);
+    }
+
+    @Test
+    public void evictedEvalCodeIsUnloaded() throws Exception {
+        long definedBefore = CompiledCodeMetrics.getDefinedUnitCount();
+        String script = String.format("for (var i = 0; i < %d; ++i) eval('(function() { return ' + i + '; })()');",
+                EVAL_COUNT);
+        eval(script);
+        assertTrue(CompiledCodeMetrics.getDefinedUnitCount() - definedBefore >= EVAL_COUNT);
+
+        // Cached eval scripts survive garbage collection.
+        awaitStable();
+        assertConsistent();
+        long liveBefore = CompiledCodeMetrics.getLiveUnitCount();
+        long unloadedBefore = CompiledCodeMetrics.getUnloadedUnitCount();
+        assertTrue(liveBefore >= EVAL_COUNT);
+
+        // Evicted eval scripts are unloaded.
+        realm.getScriptLoader().evictCompiledCode();
+        awaitUnloaded(unloadedBefore + EVAL_COUNT);
+        assertConsistent();
+        assertTrue(CompiledCodeMetrics.getUnloadedUnitCount() - unloadedBefore >= EVAL_COUNT);
+        assertTrue(CompiledCodeMetrics.getLiveUnitCount() <= liveBefore - EVAL_COUNT);
+
+        // Evicted eval scripts are compiled again on demand.
+        long definedAfter = CompiledCodeMetrics.getDefinedUnitCount();
+        eval(script);
+        assertTrue(CompiledCodeMetrics.getDefinedUnitCount() - definedAfter >= EVAL_COUNT);
+    }
+}
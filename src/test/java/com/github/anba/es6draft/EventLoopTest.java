@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static com.github.anba.es6draft.util.TestRealms.deleteRecursively;
+import static com.github.anba.es6draft.util.TestRealms.getGlobal;
+import static com.github.anba.es6draft.util.TestRealms.newRealm;
+import static com.github.anba.es6draft.util.TestRealms.result;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.extensions.io.EventLoop;
+import com.github.anba.es6draft.runtime.extensions.timer.Timers;
+import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
+import com.github.anba.es6draft.runtime.internal.CompatibilityOption.Stage;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+import com.github.anba.es6draft.util.TestRealms;
+
+/**
+ *
+ */
+public final class EventLoopTest {
+    private Path directory;
+    private Realm realm;
+    private EventLoop eventLoop;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("event-loop-test");
+        /* @formatter:off */
+        RuntimeContext context = new RuntimeContext.Builder()
+                                                   .setBaseDirectory(directory)
+                                                   .setOptions(CompatibilityOption.Stage(Stage.Candidate))
+                                                   .build();
+        /* @formatter:on */
+        realm = newRealm(context);
+        eventLoop = realm.createGlobalProperties(new EventLoop(), EventLoop.class);
+        realm.createGlobalProperties(eventLoop.getTimers(), Timers.class);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        deleteRecursively(directory);
+    }
+
+    private void eval(String... lines) {
+        TestRealms.eval(realm, "event-loop-test", lines);
+    }
+
+    /**
+     * Evaluates the script and runs the event loop until all operations and timers are done. Returns the value of the
+     * global {@code result} property.
+     */
+    private Object run(String... lines) throws InterruptedException {
+        eval(lines);
+        realm.getWorld().runEventLoop(eventLoop);
+        return result(realm);
+    }
+
+    private static String script(String... body) {
+        return String.join("\n", "(async function() {", String.join("\n", body),
+                "})().catch(e => { result = 'error: ' + e; });");
+    }
+
+    @Test
+    public void loopback() throws Exception {
+        assertEquals("hello world|null|null", run(script(
+                "var server = listen(0);",
+                "var accepted = accept(server);",
+                "var client = await connect('127.0.0.1', localPort(server));",
+                "var socket = await accepted;",
+                "await send(client, 'hello ');",
+                "await send(client, 'world');",
+                "close(client);",
+                "var data = '', chunk;",
+                "while ((chunk = await receive(socket)) !== null) data += chunk;",
+                "result = [data, String(chunk), String(await receive(socket))].join('|');",
+                "close(socket);",
+                "close(server);")));
+    }
+
+    @Test
+    public void readToEndOfStream() throws Exception {
+        assertEquals("ping,pong,null", run(script(
+                "var server = listen(0);",
+                "var accepted = accept(server);",
+                "var client = await connect('127.0.0.1', localPort(server));",
+                "var socket = await accepted;",
+                "await send(socket, 'ping');",
+                "var log = [await receive(client)];",
+                "await send(client, 'pong');",
+                "close(client);",
+                "log.push(await receive(socket));",
+                "log.push(String(await receive(socket)));",
+                "result = log.join();",
+                "close(socket);",
+                "close(server);")));
+    }
+
+    @Test
+    public void incompleteSequenceAtEndOfStream() throws Exception {
+        eval(script(
+                "var server = listen(0);",
+                "port = localPort(server);",
+                "var socket = await accept(server);",
+                "var data = '', chunk;",
+                "while ((chunk = await receive(socket)) !== null) data += chunk;",
+                "result = data;",
+                "close(socket);",
+                "close(server);"));
+        try (Socket client = new Socket(InetAddress.getLoopbackAddress(), ((Number) getGlobal(realm, "port")).intValue())) {
+            OutputStream out = client.getOutputStream();
+            // A complete sequence split across two writes and an incomplete sequence at the end.
+            out.write(new byte[] { 'a', (byte) 0xE2 });
+            out.flush();
+            Thread.sleep(10);
+            out.write(new byte[] { (byte) 0x82, (byte) 0xAC, 'b', (byte) 0xE2, (byte) 0x82 });
+        }
+        realm.getWorld().runEventLoop(eventLoop);
+        assertEquals("a\u20ACb\uFFFD", result(realm));
+    }
+
+    @Test
+    public void readMissingFile() throws Exception {
+        String fileName = directory.resolve("missing.txt").toString().replace("\\", "\\\\");
+        Object result = run(script(
+                "try {",
+                "  await readFile('" + fileName + "');",
+                "  result = 'resolved';",
+                "} catch (e) {",
+                "  result = e.message;",
+                "}"));
+        assertTrue(String.valueOf(result), result.toString().startsWith("NoSuchFileException"));
+    }
+
+    @Test
+    public void writeAndReadFile() throws Exception {
+        String fileName = directory.resolve("file.txt").toString().replace("\\", "\\\\");
+        assertEquals("\u00E4\u20AC", run(script(
+                "await writeFile('" + fileName + "', '\u00E4\u20AC');",
+                "result = await readFile('" + fileName + "');")));
+    }
+
+    @Test
+    public void relativeFileNamesUseBaseDirectory() throws Exception {
+        assertEquals("content", run(script(
+                "await writeFile('relative.txt', 'content');",
+                "result = await readFile('relative.txt');")));
+        assertEquals("content", new String(Files.readAllBytes(directory.resolve("relative.txt")),
+                StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void timerWhileSocketOpen() throws Exception {
+        assertEquals("timer,data", run(script(
+                "var server = listen(0);",
+                "var accepted = accept(server);",
+                "var client = await connect('127.0.0.1', localPort(server));",
+                "var socket = await accepted;",
+                "var log = [];",
+                "// The timer fires while the event loop waits for data on the socket.",
+                "setTimeout(() => { log.push('timer'); send(client, 'data'); }, 20);",
+                "log.push(await receive(socket));",
+                "result = log.join();",
+                "close(client);",
+                "close(socket);",
+                "close(server);")));
+    }
+}
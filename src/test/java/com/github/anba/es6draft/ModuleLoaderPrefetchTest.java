@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static com.github.anba.es6draft.util.TestRealms.deleteRecursively;
+import static com.github.anba.es6draft.util.TestRealms.evalModule;
+import static com.github.anba.es6draft.util.TestRealms.newRealm;
+import static com.github.anba.es6draft.util.TestRealms.result;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+import com.github.anba.es6draft.runtime.internal.ScriptLoader;
+import com.github.anba.es6draft.runtime.modules.ModuleSource;
+import com.github.anba.es6draft.runtime.modules.SourceIdentifier;
+import com.github.anba.es6draft.runtime.modules.SourceTextModuleRecord;
+import com.github.anba.es6draft.runtime.modules.loader.FileModuleLoader;
+
+/**
+ *
+ */
+public final class ModuleLoaderPrefetchTest {
+    private Path baseDirectory;
+
+    private static final class RecordingModuleLoader extends FileModuleLoader {
+        private final boolean concurrent;
+        private final Set<Thread> parseThreads = ConcurrentHashMap.newKeySet();
+
+        RecordingModuleLoader(RuntimeContext context, ScriptLoader scriptLoader, boolean concurrent) {
+            super(context, scriptLoader);
+            this.concurrent = concurrent;
+        }
+
+        @Override
+        protected ExecutorService getLoaderExecutor() {
+            return concurrent ? super.getLoaderExecutor() : null;
+        }
+
+        @Override
+        protected SourceTextModuleRecord parseModule(SourceIdentifier identifier, ModuleSource source)
+                throws IOException {
+            parseThreads.add(Thread.currentThread());
+            return super.parseModule(identifier, source);
+        }
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        baseDirectory = Files.createTempDirectory("module-loader-prefetch-test");
+        write("log.js", "export const log = [];");
+        write("main.js", "import {log} from './log.js'; import './a.js'; import './b.js'; log.push('main');",
+                "new Function('return this')().result = log.join(' ');");
+        write("a.js", "import {log} from './log.js'; import {b} from './b.js'; import './c.js';",
+                "export function a() { return 'a'; }", "log.push('a:' + b());");
+        write("b.js", "import {log} from './log.js'; import {a} from './a.js';", "export function b() { return 'b'; }",
+                "log.push('b:' + a());");
+        write("c.js", "import {log} from './log.js'; import './d.js'; log.push('c');");
+        write("d.js", "import {log} from './log.js'; log.push('d');");
+        write("syntax-error.js", "import './a.js'; import './invalid.js';");
+        write("invalid.js", "export let = ;");
+        write("missing.js", "import './a.js'; import './not-found.js';");
+        write("nested-missing.js", "import './c.js'; import './missing.js';");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        deleteRecursively(baseDirectory);
+    }
+
+    private void write(String fileName, String... lines) throws IOException {
+        Files.write(baseDirectory.resolve(fileName), String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Realm newPrefetchRealm(boolean concurrent) throws Exception {
+        /* @formatter:off */
+        RuntimeContext context = new RuntimeContext.Builder()
+                                                   .setBaseDirectory(baseDirectory)
+                                                   .setModuleLoader((cx, scriptLoader) ->
+                                                        new RecordingModuleLoader(cx, scriptLoader, concurrent))
+                                                   .build();
+        /* @formatter:on */
+        return newRealm(context);
+    }
+
+    private static Object evaluate(Realm realm, String moduleName) throws Exception {
+        evalModule(realm, moduleName);
+        return result(realm);
+    }
+
+    private static String evaluateError(Realm realm, String moduleName) {
+        try {
+            evaluate(realm, moduleName);
+        } catch (Exception e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+        return null;
+    }
+
+    private static Set<Thread> parseThreads(Realm realm) {
+        return ((RecordingModuleLoader) realm.getModuleLoader()).parseThreads;
+    }
+
+    @Test
+    public void prefetchIsOptIn() throws Exception {
+        Realm sequential = newPrefetchRealm(false);
+        evaluate(sequential, "main.js");
+        assertEquals(Collections.singleton(Thread.currentThread()), parseThreads(sequential));
+
+        Realm concurrent = newPrefetchRealm(true);
+        evaluate(concurrent, "main.js");
+        assertTrue(parseThreads(concurrent).stream().anyMatch(t -> t != Thread.currentThread()));
+    }
+
+    @Test
+    public void evaluationOrder() throws Exception {
+        Object expected = evaluate(newPrefetchRealm(false), "main.js");
+        assertEquals("b:a d c a:b main", expected);
+        assertEquals(expected, evaluate(newPrefetchRealm(true), "main.js"));
+    }
+
+    @Test
+    public void reportedErrors() throws Exception {
+        for (String moduleName : new String[] { "syntax-error.js", "missing.js", "nested-missing.js" }) {
+            String expected = evaluateError(newPrefetchRealm(false), moduleName);
+            assertNotNull(moduleName, expected);
+            assertEquals(moduleName, expected, evaluateError(newPrefetchRealm(true), moduleName));
+        }
+    }
+
+    @Test
+    public void errorsDoNotAffectValidModules() throws Exception {
+        for (boolean concurrent : new boolean[] { false, true }) {
+            Realm realm = newPrefetchRealm(concurrent);
+            assertNotNull(evaluateError(realm, "syntax-error.js"));
+            assertNotNull(evaluateError(realm, "missing.js"));
+            assertEquals("b:a d c a:b main", evaluate(realm, "main.js"));
+        }
+    }
+}
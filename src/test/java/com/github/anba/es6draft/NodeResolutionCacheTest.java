@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static com.github.anba.es6draft.util.TestRealms.deleteRecursively;
+import static com.github.anba.es6draft.util.TestRealms.evalModule;
+import static com.github.anba.es6draft.util.TestRealms.newRealm;
+import static com.github.anba.es6draft.util.TestRealms.result;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+import com.github.anba.es6draft.util.TestNodeModuleLoader;
+
+/**
+ *
+ */
+public final class NodeResolutionCacheTest {
+    private Path baseDirectory;
+    private Realm realm;
+
+    @Before
+    public void setUp() throws Exception {
+        baseDirectory = Files.createTempDirectory("node-resolution-cache-test");
+        /* @formatter:off */
+        RuntimeContext context = new RuntimeContext.Builder()
+                                                   .setBaseDirectory(baseDirectory)
+                                                   .setModuleLoader(TestNodeModuleLoader::new)
+                                                   .build();
+        /* @formatter:on */
+        realm = newRealm(context);
+        ((TestNodeModuleLoader) realm.getModuleLoader()).initialize(realm);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        deleteRecursively(baseDirectory);
+    }
+
+    private void write(String fileName, String sourceCode) throws IOException {
+        Path file = baseDirectory.resolve(fileName);
+        Files.createDirectories(file.getParent());
+        Files.write(file, sourceCode.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Object require(String testName, String moduleName) throws Exception {
+        String mainName = testName + ".js";
+        String sourceCode = "try { result = require('%s').default; } catch (e) { result = 'failed'; }";
+        write(mainName, String.format(sourceCode, moduleName));
+        evalModule(realm, mainName);
+        return result(realm);
+    }
+
+    @Test
+    public void requireFileCreatedAfterFailedRequire() throws Exception {
+        assertEquals("failed", require("main1", "./dependency"));
+        write("dependency.js", "module.exports = 'dependency';");
+        assertEquals("dependency", require("main2", "./dependency"));
+    }
+
+    @Test
+    public void requireIndexCreatedAfterFailedRequire() throws Exception {
+        Files.createDirectories(baseDirectory.resolve("package"));
+        assertEquals("failed", require("main1", "./package"));
+        write("package/index.js", "module.exports = 'index';");
+        assertEquals("index", require("main2", "./package"));
+    }
+
+    @Test
+    public void requireNodeModuleCreatedAfterFailedRequire() throws Exception {
+        assertEquals("failed", require("main1", "library"));
+        write("node_modules/library.js", "module.exports = 'library';");
+        assertEquals("library", require("main2", "library"));
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.anba.es6draft.runtime.internal.SourceFiles;
+
+/**
+ *
+ */
+public final class SourceFilesTest {
+    private static final int SMALL_FILE_SIZE = 1024;
+    private static final int LARGE_FILE_SIZE = 512 * 1024;
+    private static final byte[] BOM = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
+
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("source-files-test", ".js");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private static byte[] repeat(int size, byte[]... parts) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+        while (out.size() < size) {
+            for (byte[] part : parts) {
+                out.write(part);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] concat(byte[]... parts) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.write(part);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] utf8(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void assertReadFully(byte[] bytes) throws IOException {
+        Files.write(file, bytes);
+        String expected = new String(bytes, StandardCharsets.UTF_8);
+        CharSequence actual = SourceFiles.readFully(file);
+        assertEquals(expected, actual.toString());
+        if (actual instanceof CharBuffer) {
+            assertEquals(actual.length(), ((CharBuffer) actual).capacity());
+        }
+    }
+
+    @Test
+    public void empty() throws IOException {
+        assertReadFully(new byte[0]);
+    }
+
+    @Test
+    public void ascii() throws IOException {
+        assertReadFully(repeat(SMALL_FILE_SIZE, utf8("var a = 0;\n")));
+        assertReadFully(repeat(LARGE_FILE_SIZE, utf8("var a = 0;\n")));
+    }
+
+    @Test
+    public void nonAscii() throws IOException {
+        // Two, three and four byte sequences at every offset relative to the chunk boundaries.
+        byte[] text = utf8("'\u00E4\u20AC\uD83D\uDE00';\n");
+        assertReadFully(repeat(SMALL_FILE_SIZE, text));
+        assertReadFully(repeat(LARGE_FILE_SIZE, text));
+        assertReadFully(repeat(LARGE_FILE_SIZE, utf8("\u20AC")));
+        assertReadFully(repeat(LARGE_FILE_SIZE, utf8("\uD83D\uDE00")));
+    }
+
+    @Test
+    public void byteOrderMark() throws IOException {
+        byte[] small = concat(BOM, repeat(SMALL_FILE_SIZE, utf8("a;\n")));
+        byte[] large = concat(BOM, repeat(LARGE_FILE_SIZE, utf8("a;\n")));
+        assertReadFully(small);
+        assertReadFully(large);
+        Files.write(file, large);
+        assertEquals('\uFEFF', SourceFiles.readFully(file).charAt(0));
+    }
+
+    @Test
+    public void malformedInput() throws IOException {
+        byte[] malformed = { 'a', (byte) 0x80, 'b', (byte) 0xFF, (byte) 0xE2, (byte) 0x82, 'c', (byte) 0xF0,
+                (byte) 0x9F, '\n' };
+        byte[] truncated = { (byte) 0xF0, (byte) 0x9F, (byte) 0x98 };
+        assertReadFully(repeat(SMALL_FILE_SIZE, malformed));
+        assertReadFully(repeat(LARGE_FILE_SIZE, malformed));
+        assertReadFully(concat(repeat(SMALL_FILE_SIZE, utf8("a")), truncated));
+        assertReadFully(concat(repeat(LARGE_FILE_SIZE, utf8("a")), truncated));
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static com.github.anba.es6draft.util.TestRealms.newRealm;
+import static com.github.anba.es6draft.util.TestRealms.result;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.anba.es6draft.compiler.CompiledCodeMetrics;
+import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
+import com.github.anba.es6draft.runtime.internal.CompatibilityOption.Stage;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+import com.github.anba.es6draft.util.TestRealms;
+
+/**
+ *
+ */
+public final class StackMapFramesTest {
+    private Realm realm;
+
+    @Before
+    public void setUp() throws Exception {
+        /* @formatter:off */
+        RuntimeContext context = new RuntimeContext.Builder()
+                                                   .setOptions(CompatibilityOption.Stage(Stage.Candidate))
+                                                   .build();
+        /* @formatter:on */
+        realm = newRealm(context);
+    }
+
+    /**
+     * Compiles and evaluates the script and returns the value of the global {@code result} property after all pending
+     * tasks were executed. Fails if any class of the script required the stack map frames fallback.
+     */
+    private Object eval(String... lines) {
+        long definedBefore = CompiledCodeMetrics.getDefinedClassCount();
+        long computedBefore = CompiledCodeMetrics.getComputedFramesClassCount();
+        TestRealms.eval(realm, "stack-map-frames-test", lines);
+        assertTrue(CompiledCodeMetrics.getDefinedClassCount() > definedBefore);
+        assertEquals(computedBefore, CompiledCodeMetrics.getComputedFramesClassCount());
+        realm.getWorld().runEventLoop();
+        return result(realm);
+    }
+
+    @Test
+    public void tryCatchFinally() {
+        assertEquals("try,catch,finally,rethrown", eval(
+                "var log = [];",
+                "function f() {",
+                "  try {",
+                "    try { log.push('try'); throw new Error(); }",
+                "    catch (e) { log.push('catch'); throw e; }",
+                "    finally { log.push('finally'); }",
+                "  } catch ({message}) {",
+                "    log.push('rethrown');",
+                "  }",
+                "}",
+                "f();",
+                "result = log.join();"));
+        assertEquals(3.0, eval(
+                "function f() {",
+                "  for (var i = 0; ; ++i) { try { if (i === 3) return i; } finally { if (i < 3) continue; } }",
+                "}",
+                "function g() { try { return f(); } finally { } }",
+                "result = g();"));
+    }
+
+    @Test
+    public void loops() {
+        assertEquals("3,1,2,2,3,5", eval(
+                "function f() {",
+                "  var log = [], s = 0;",
+                "  for (var i = 0; i < 3; ++i) s++;",
+                "  log.push(s);",
+                "  for (let k in {a: 0}) log.push(k.length);",
+                "  for (let v of [1, 2]) { if (v === 1) continue; log.push(v); }",
+                "  for (var j = 0; j < 2; ++j) log.push(function() { return j; });",
+                "  log[3] = log[3](); log[4] = log[4]();",
+                "  do { s++; } while (s < 5);",
+                "  while (true) { if (s++ === 5) break; }",
+                "  log[4] += 1;",
+                "  log.push(s - 1);",
+                "  return log;",
+                "}",
+                "result = f().join();"));
+    }
+
+    @Test
+    public void labeledLoops() {
+        assertEquals("3,1,2", eval(
+                "function f() {",
+                "  var log = [], i = 0;",
+                "  outer: for (;;) { inner: while (true) { break outer; } }",
+                "  next: for (; i < 3; ++i) { for (;;) { continue next; } }",
+                "  log.push(i);",
+                "  a: do { b: for (;;) { log.push(1); break a; } } while (true);",
+                "  c: { d: for (;;) { log.push(2); break c; } }",
+                "  return log;",
+                "}",
+                "result = f().join();"));
+    }
+
+    @Test
+    public void switchStatements() {
+        assertEquals("one,two,default,fall,four", eval(
+                "function f(v) {",
+                "  switch (v) {",
+                "  case 1: return 'one';",
+                "  case 'two': return 'two';",
+                "  case 3: case 4: { let x = 'fall'; if (v === 3) return x; }",
+                "  case 5: return 'four';",
+                "  default: return 'default';",
+                "  }",
+                "}",
+                "function g(v) { switch (v) { case 0: break; default: for (;;) { break; } } }",
+                "g(0); g(1);",
+                "result = [f(1), f('two'), f(0), f(3), f(4)].join();"));
+    }
+
+    @Test
+    public void generators() {
+        assertEquals("1,2,3,4,5,6", eval(
+                "function* g(p) {",
+                "  yield* [p, p + 1];",
+                "  for (var x of [3]) yield x;",
+                "  try { yield 4; } finally { yield 5; }",
+                "  switch (yield 6) { case 0: yield 7; }",
+                "}",
+                "result = [...g(1)].join();"));
+        assertEquals("a,b,caught", eval(
+                "function* g() { try { yield 'a'; yield 'b'; } catch (e) { yield e; } }",
+                "var it = g();",
+                "result = [it.next().value, it.next().value, it.throw('caught').value].join();"));
+    }
+
+    @Test
+    public void asyncFunctions() {
+        assertEquals("1,2,3,4,5,6,7", eval(
+                "var log = [];",
+                "async function simple(p) { log.push(await p); }",
+                "var arrow = async (x) => { let r = await x; return r + 1; };",
+                "var o = {",
+                "  async m(x) {",
+                "    for (var i = 0; i < 1; ++i) {",
+                "      try { await Promise.reject(x); } catch (e) { log.push(e); } finally { log.push(await 4); }",
+                "    }",
+                "  }",
+                "};",
+                "async function sw(p) { switch (await p) { case 5: log.push(await 5); break; default: await 0; } }",
+                "async function loop() { outer: for (;;) { for (let v of [6, 7]) log.push(await v); break outer; } }",
+                "(async function() {",
+                "  await simple(1);",
+                "  log.push(await arrow(1));",
+                "  await o.m(3);",
+                "  await sw(5);",
+                "  await loop();",
+                "  result = log.join();",
+                "})();"));
+    }
+}
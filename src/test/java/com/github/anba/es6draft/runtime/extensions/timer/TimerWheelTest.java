@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.extensions.timer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ *
+ */
+public final class TimerWheelTest {
+    private static final class TestTimer extends TimerWheel.Timer {
+        final long deadline;
+
+        TestTimer(int id, long deadline) {
+            super(id);
+            this.deadline = deadline;
+        }
+
+        @Override
+        public String toString() {
+            return getTimerId() + "@" + deadline;
+        }
+    }
+
+    private static ArrayList<TestTimer> advance(TimerWheel<TestTimer> wheel, long tick) {
+        ArrayList<TestTimer> expired = new ArrayList<>();
+        wheel.advance(tick, expired);
+        return expired;
+    }
+
+    @Test
+    public void expireInOrder() {
+        TimerWheel<TestTimer> wheel = new TimerWheel<>(0);
+        TestTimer t1 = new TestTimer(1, 10);
+        TestTimer t2 = new TestTimer(2, 5);
+        TestTimer t3 = new TestTimer(3, 10);
+        TestTimer t4 = new TestTimer(4, 0);
+        wheel.add(t3, t3.deadline);
+        wheel.add(t1, t1.deadline);
+        wheel.add(t2, t2.deadline);
+        wheel.add(t4, t4.deadline);
+        assertEquals(4, wheel.size());
+
+        assertEquals(Arrays.asList(t4), advance(wheel, 4));
+        assertEquals(Arrays.asList(t2), advance(wheel, 9));
+        // Timers with the same deadline expire together, ordered by id.
+        assertEquals(Arrays.asList(t1, t3), advance(wheel, 100));
+        assertEquals(0, wheel.size());
+        assertEquals(-1, wheel.nextTick());
+    }
+
+    @Test
+    public void remove() {
+        TimerWheel<TestTimer> wheel = new TimerWheel<>(0);
+        TestTimer t1 = new TestTimer(1, 10);
+        TestTimer t2 = new TestTimer(2, 10);
+        TestTimer t3 = new TestTimer(3, 100_000);
+        wheel.add(t1, t1.deadline);
+        wheel.add(t2, t2.deadline);
+        wheel.add(t3, t3.deadline);
+
+        assertTrue(wheel.remove(t1));
+        assertFalse(wheel.remove(t1));
+        assertTrue(wheel.remove(t3));
+        assertEquals(1, wheel.size());
+        assertEquals(Arrays.asList(t2), advance(wheel, 200_000));
+        assertFalse(wheel.remove(t2));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void expiredDeadline() {
+        TimerWheel<TestTimer> wheel = new TimerWheel<>(1000);
+        TestTimer t1 = new TestTimer(1, 10);
+        wheel.add(t1, t1.deadline);
+        assertEquals(1000, wheel.nextTick());
+        assertEquals(Arrays.asList(t1), advance(wheel, 1000));
+    }
+
+    @Test
+    public void randomDeadlines() {
+        Random random = new Random(0x5eed);
+        TimerWheel<TestTimer> wheel = new TimerWheel<>(0);
+        ArrayList<TestTimer> pending = new ArrayList<>();
+        long tick = 0;
+        for (int id = 1; id <= 20_000; ++id) {
+            long delta;
+            switch (random.nextInt(4)) {
+            case 0:
+                delta = random.nextInt(300);
+                break;
+            case 1:
+                delta = random.nextInt(20_000);
+                break;
+            case 2:
+                delta = random.nextInt(2_000_000);
+                break;
+            default:
+                delta = random.nextInt(Integer.MAX_VALUE);
+                break;
+            }
+            // All ticks up to and including the current tick have already been processed.
+            TestTimer timer = new TestTimer(id, tick + 1 + delta);
+            wheel.add(timer, timer.deadline);
+            pending.add(timer);
+            if (random.nextInt(3) == 0) {
+                TestTimer removed = pending.remove(random.nextInt(pending.size()));
+                assertTrue(wheel.remove(removed));
+            }
+            if (random.nextInt(10) == 0) {
+                long next = wheel.nextTick();
+                long earliest = Long.MAX_VALUE;
+                for (TestTimer t : pending) {
+                    earliest = Math.min(earliest, t.deadline);
+                }
+                assertTrue(next <= earliest);
+                tick = Math.max(tick, next) + random.nextInt(500);
+                for (TestTimer t : advance(wheel, tick)) {
+                    assertTrue(t.deadline <= tick);
+                    assertTrue(pending.remove(t));
+                }
+                for (TestTimer t : pending) {
+                    assertTrue(t.toString(), t.deadline > tick);
+                }
+            }
+            assertEquals(pending.size(), wheel.size());
+        }
+    }
+}
@@ -15,6 +15,10 @@ import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.script.Bindings;
 import javax.script.Compilable;
@@ -120,4 +124,55 @@ public final class CompilableTest {
 
         assertThat(script.eval(context), instanceOfWith(Number.class, is(numberCloseTo(18))));
     }
+
+    @Test
+    public void compileStringWithBindingsInMultipleThreads() throws Exception {
+        ScriptEngine pooledEngine = newPooledEngine(2);
+        CompiledScript script = ((Compilable) pooledEngine)
+                .compile("var counter = (typeof counter === 'number' ? counter : 0) + numberVal; counter");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ArrayList<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < 16; ++i) {
+                final int value = i;
+                results.add(executor.submit(() -> {
+                    Bindings bindings = pooledEngine.createBindings();
+                    bindings.put("numberVal", value);
+                    script.eval(bindings);
+                    return script.eval(bindings);
+                }));
+            }
+            for (int i = 0; i < results.size(); ++i) {
+                assertThat(results.get(i).get(), instanceOfWith(Number.class, is(numberCloseTo(2 * i))));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void compileStringWithSimpleBindingsAndRealmPool() throws ScriptException {
+        ScriptEngine pooledEngine = newPooledEngine(1);
+        CompiledScript script = ((Compilable) pooledEngine)
+                .compile("var counter = (typeof counter === 'number' ? counter : 0) + numberVal; counter");
+        for (int i = 0; i < 4; ++i) {
+            Bindings bindings = new SimpleBindings();
+            bindings.put("numberVal", i);
+
+            assertThat(script.eval(bindings), instanceOfWith(Number.class, is(numberCloseTo(i))));
+        }
+    }
+
+    private static ScriptEngine newPooledEngine(int poolSize) {
+        String oldValue = System.setProperty(ScriptEngineImpl.REALM_POOL_SIZE, Integer.toString(poolSize));
+        try {
+            return new ScriptEngineFactoryImpl().getScriptEngine();
+        } finally {
+            if (oldValue != null) {
+                System.setProperty(ScriptEngineImpl.REALM_POOL_SIZE, oldValue);
+            } else {
+                System.clearProperty(ScriptEngineImpl.REALM_POOL_SIZE);
+            }
+        }
+    }
 }
@@ -12,6 +12,12 @@ import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.assertThat;
 
 import java.io.StringReader;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.script.Bindings;
 import javax.script.Invocable;
@@ -23,6 +29,8 @@ import javax.script.ScriptException;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.github.anba.es6draft.runtime.Realm;
+
 /**
  * JSR-223 Scripting API tests
  */
@@ -194,4 +202,84 @@ public final class ScriptEngineTest {
         assertThat(value, instanceOfWith(String.class, is("a")));
         assertThat(engine.get("log"), instanceOfWith(String.class, is("ab")));
     }
+
+    @Test
+    public void multiThreadedEngine() throws Exception {
+        ScriptEngine mtEngine = manager.getEngineByName("es6draft-mt");
+        assertThat(mtEngine, notNullValue());
+        assertThat(mtEngine.getFactory().getParameter("THREADING"), instanceOfWith(String.class, is("MULTITHREADED")));
+        assertThat(engine.getFactory().getParameter("THREADING"), nullValue());
+
+        // Each thread evaluates in its own realm, so the counters are independent.
+        final int threads = 4, iterations = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            ArrayList<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < threads; ++i) {
+                results.add(executor.submit(() -> {
+                    Object value = null;
+                    for (int j = 0; j < iterations; ++j) {
+                        value = mtEngine.eval("var counter = (typeof counter === 'number' ? counter : 0) + 1; counter");
+                    }
+                    return value;
+                }));
+            }
+            for (Future<Object> result : results) {
+                assertThat(result.get(), instanceOfWith(Number.class, is(numberCloseTo(iterations))));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static WeakReference<Realm> evalThreadRealm(ExecutorService executor, ScriptEngine engine)
+            throws Exception {
+        return executor.submit(() -> {
+            engine.eval("var counter = 1;");
+            Bindings bindings = engine.getBindings(ScriptContext.ENGINE_SCOPE);
+            return new WeakReference<>(((GlobalBindings) bindings).getRealm());
+        }).get();
+    }
+
+    private static void awaitCleared(WeakReference<?> reference, Runnable action) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (reference.get() != null && System.currentTimeMillis() < deadline) {
+            System.gc();
+            action.run();
+            Thread.sleep(10);
+        }
+        assertThat(reference.get(), nullValue());
+    }
+
+    @Test
+    public void multiThreadedEngineReleasesThreadRealms() throws Exception {
+        ScriptEngine mtEngine = manager.getEngineByName("es6draft-mt");
+
+        // The realm of a terminated thread is released, the engine itself stays usable.
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        WeakReference<Realm> realm = evalThreadRealm(executor, mtEngine);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS), is(true));
+        executor = null;
+        awaitCleared(realm, () -> {
+            try {
+                assertThat(mtEngine.eval("typeof counter"), instanceOfWith(String.class, is("undefined")));
+            } catch (ScriptException e) {
+                throw new AssertionError(e);
+            }
+        });
+    }
+
+    @Test
+    public void discardedMultiThreadedEngineReleasesThreadRealms() throws Exception {
+        // A long-lived thread does not retain the realm of a discarded engine.
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            WeakReference<Realm> realm = evalThreadRealm(executor, manager.getEngineByName("es6draft-mt"));
+            awaitCleared(realm, () -> {
+            });
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.util;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.World;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+import com.github.anba.es6draft.runtime.internal.Source;
+import com.github.anba.es6draft.runtime.modules.MalformedNameException;
+import com.github.anba.es6draft.runtime.modules.ModuleLoader;
+import com.github.anba.es6draft.runtime.modules.ModuleRecord;
+import com.github.anba.es6draft.runtime.modules.ResolutionException;
+
+/**
+ * Helper methods for tests which evaluate source code in a new realm.
+ */
+public final class TestRealms {
+    private TestRealms() {
+    }
+
+    /**
+     * Creates a new initialized realm in a new world.
+     *
+     * @param context
+     *            the runtime context
+     * @return the new realm
+     * @throws IOException
+     *             if there was any I/O error
+     * @throws URISyntaxException
+     *             the URL is not a valid URI
+     */
+    public static Realm newRealm(RuntimeContext context) throws IOException, URISyntaxException {
+        return new World(context).newInitializedRealm();
+    }
+
+    /**
+     * Evaluates the script lines and returns the completion value.
+     *
+     * @param realm
+     *            the realm
+     * @param sourceName
+     *            the source name
+     * @param lines
+     *            the script source lines
+     * @return the completion value
+     */
+    public static Object eval(Realm realm, String sourceName, String... lines) {
+        Source source = new Source(sourceName, 1);
+        return realm.getScriptLoader().script(source, String.join("\n", lines)).evaluate(realm);
+    }
+
+    /**
+     * Resolves, instantiates and evaluates the module, relative to the base directory.
+     *
+     * @param realm
+     *            the realm
+     * @param moduleName
+     *            the module name
+     * @throws IOException
+     *             if there was any I/O error
+     * @throws MalformedNameException
+     *             if the module name cannot be normalized
+     * @throws ResolutionException
+     *             if any export binding cannot be resolved
+     */
+    public static void evalModule(Realm realm, String moduleName)
+            throws IOException, MalformedNameException, ResolutionException {
+        ModuleLoader moduleLoader = realm.getModuleLoader();
+        ModuleRecord module = moduleLoader.resolve(moduleLoader.normalizeName("./" + moduleName, null), realm);
+        module.instantiate();
+        module.evaluate();
+    }
+
+    /**
+     * Returns the value of the global property {@code name}.
+     *
+     * @param realm
+     *            the realm
+     * @param name
+     *            the property name
+     * @return the property value
+     */
+    public static Object getGlobal(Realm realm, String name) {
+        return realm.getGlobalObject().get(realm.defaultContext(), name, realm.getGlobalObject());
+    }
+
+    /**
+     * Returns the value of the global {@code result} property.
+     *
+     * @param realm
+     *            the realm
+     * @return the property value
+     */
+    public static Object result(Realm realm) {
+        return getGlobal(realm, "result");
+    }
+
+    /**
+     * Deletes the directory and all its content.
+     *
+     * @param directory
+     *            the directory
+     * @throws IOException
+     *             if there was any I/O error
+     */
+    public static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+}
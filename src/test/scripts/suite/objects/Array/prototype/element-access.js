@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertEquals, assertFalse, assertThrows
+} = Assert;
+
+// Own data elements are read directly, other elements use the generic [[HasProperty]] and [[Get]].
+
+// Holes are filled from the prototype chain
+{
+  let array = [0, , 2];
+  Array.prototype[1] = "proto";
+  try {
+    assertEquals([0, "proto", 2], array.map(v => v));
+    assertEquals([0, "proto", 2], array.filter(() => true));
+    assertEquals([0, "proto", 2], array.slice());
+    assertEquals([0, "proto", 2], [].concat(array));
+    assertSame("0,proto,2", array.join());
+    assertSame(1, array.indexOf("proto"));
+    assertSame(true, array.includes("proto"));
+    assertSame("0proto2", array.reduce((acc, v) => acc + v, ""));
+  } finally {
+    delete Array.prototype[1];
+  }
+  assertEquals([0, 2], array.filter(() => true));
+  assertSame(-1, array.indexOf(undefined));
+  assertSame(true, array.includes(undefined));
+}
+
+// Accessor elements are called for each access
+{
+  let calls = 0;
+  let array = [0, 1, 2];
+  Object.defineProperty(array, 1, {get() { calls += 1; return "getter"; }});
+  assertEquals([0, "getter", 2], array.map(v => v));
+  assertSame("0,getter,2", array.join());
+  assertSame(2, calls);
+}
+
+// Mutations in callbacks are observed
+{
+  let array = [0, 1, 2, 3];
+  let seen = [];
+  array.forEach((v, k) => {
+    seen.push(v);
+    if (k === 0) {
+      array[2] = "changed";
+      delete array[3];
+    }
+  });
+  assertEquals([0, 1, "changed"], seen);
+}
+
+// Elements appended during the iteration are not visited
+{
+  let array = [0, 1];
+  let result = array.map(v => { array.push(v); return v * 2; });
+  assertEquals([0, 2], result);
+  assertEquals([0, 1, 0, 1], array);
+}
+
+// Non-extensible species results throw a TypeError
+{
+  class FrozenArray extends Array {
+    static get [Symbol.species]() {
+      return function(len) { return Object.preventExtensions(new Array(len)); };
+    }
+  }
+  let array = new FrozenArray(1, 2, 3);
+  assertThrows(TypeError, () => array.map(v => v));
+  assertThrows(TypeError, () => array.filter(v => v));
+  assertThrows(TypeError, () => array.slice());
+  assertThrows(TypeError, () => array.concat());
+}
+
+// Non-writable length on species results throws a TypeError when elements are appended
+{
+  class FixedArray extends Array {
+    static get [Symbol.species]() {
+      return function(len) { return Object.defineProperty([], "length", {writable: false}); };
+    }
+  }
+  let array = new FixedArray(1, 2, 3);
+  assertThrows(TypeError, () => array.filter(v => v));
+  assertThrows(TypeError, () => array.concat());
+}
+
+// Existing non-configurable elements on species results are not silently overwritten
+{
+  class PresetArray extends Array {
+    static get [Symbol.species]() {
+      return function(len) {
+        let a = new Array(len);
+        Object.defineProperty(a, 0, {value: "preset", writable: false, configurable: false});
+        return a;
+      };
+    }
+  }
+  let array = new PresetArray(1, 2, 3);
+  assertThrows(TypeError, () => array.map(v => v));
+}
+
+// Generated arrays are dense and have the expected length
+{
+  let array = Array.from({length: 1000}, (v, k) => k);
+  let mapped = array.map(v => v + 1);
+  assertSame(1000, mapped.length);
+  assertSame(1, mapped[0]);
+  assertSame(1000, mapped[999]);
+  let sliced = array.slice(500);
+  assertSame(500, sliced.length);
+  assertSame(500, sliced[0]);
+  let filtered = array.filter(v => v % 2 === 0);
+  assertSame(500, filtered.length);
+  assertSame(998, filtered[499]);
+  assertFalse(filtered.hasOwnProperty(500));
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertEquals
+} = Assert;
+
+function assertSorted(expected, actual) {
+  assertSame(expected.length, actual.length);
+  for (let i = 0; i < expected.length; ++i) {
+    assertSame(expected[i], actual[i], `index ${i}`);
+  }
+}
+
+// Intl.Collator compare functions
+{
+  let compare = new Intl.Collator("en").compare;
+  assertSorted(["a", "A", "b", "B", "c"], ["c", "B", "a", "b", "A"].sort(compare));
+  assertSorted(["a", "b", "c", void 0, void 0], ["c", void 0, "a", void 0, "b"].sort(compare));
+  assertSorted(["1", "10", "2"], ["10", "2", "1"].sort(compare));
+  assertSorted(["1", "2", "10"], ["10", "2", "1"].sort(new Intl.Collator("en", {numeric: true}).compare));
+
+  // Equal strings keep their original order.
+  let base = new Intl.Collator("en", {sensitivity: "base"}).compare;
+  assertSorted(["a", "A", "á", "b"], ["b", "a", "A", "á"].sort(base));
+  assertSorted(["A", "á", "a", "b"], ["A", "b", "á", "a"].sort(base));
+
+  // Non-string elements are converted with ToString.
+  let log = [];
+  let obj = {toString() { log.push("toString"); return "b"; }};
+  let sorted = ["c", obj, "a"].sort(compare);
+  assertSorted(["a", obj, "c"], sorted);
+  assertSame(true, log.length > 0);
+}
+
+// Subtracting comparators
+{
+  assertSorted([-Infinity, -1, 0, 1.5, 2, 10, Infinity],
+               [10, 2, -1, Infinity, 0, 1.5, -Infinity].sort((a, b) => a - b));
+  assertSorted([10, 2, 1.5, 0, -1], [0, 10, -1, 1.5, 2].sort((a, b) => b - a));
+  assertSorted([1, 2, 3], [3, 1, 2].sort(function(x, y) { return x - y; }));
+  assertSorted([3, 2, 1], [3, 1, 2].sort(function(x, y) { return y - x; }));
+
+  // +0 and -0 compare equal and keep their original order.
+  let zeros = [0, -0, 1, -0, 0].sort((a, b) => a - b);
+  assertSorted([0, -0, -0, 0, 1], zeros);
+  assertSame(Infinity, 1 / zeros[0]);
+  assertSame(-Infinity, 1 / zeros[1]);
+
+  // Mixed element types call the comparator.
+  let calls = 0;
+  let valueOf = () => { calls += 1; return 5; };
+  let sorted = [10, {valueOf}, 1].sort((a, b) => a - b);
+  assertSame(1, sorted[0]);
+  assertSame(10, sorted[2]);
+  assertSame(true, calls > 0);
+
+  // Not subtracting comparators.
+  assertSorted([1, 2, 3], [3, 1, 2].sort((a, b) => a < b ? -1 : 1));
+  assertSorted([3, 1, 2], [3, 1, 2].sort((a, a2) => a2 - a2));
+  assertEquals(["b", "a"], ["a", "b"].sort((a, b) => a > b ? -1 : 1));
+}
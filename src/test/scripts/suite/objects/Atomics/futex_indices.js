@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertTrue
+} = Assert;
+
+// Waiters on different indices are woken independently.
+{
+  // 0 -> Counter (started workers)
+  // 1..N -> Futex (main->worker)
+  // N+1 -> Counter (finished workers)
+  // N+2 -> Futex (main)
+  const N = 8;
+  setSharedArrayBuffer(new SharedArrayBuffer(4 * (N + 3)));
+
+  const ta = new Int32Array(getSharedArrayBuffer());
+
+  for (let i = 1; i <= N; ++i) {
+    let worker = evalInWorker(`
+      const ta = new Int32Array(getSharedArrayBuffer());
+      Atomics.add(ta, 0, 1);
+      Atomics.futexWait(ta, ${i}, 0);
+      Atomics.add(ta, ${N + 1}, 1);
+    `);
+    assertTrue(worker);
+  }
+
+  // Wait until workers have started.
+  while (Atomics.load(ta, 0) !== N) {
+    Atomics.futexWait(ta, N + 2, 0, 10);
+  }
+
+  // Wake workers in reverse order, one index at a time.
+  for (let i = N; i >= 1; --i) {
+    let woken;
+    do { woken = Atomics.futexWake(ta, i, Infinity); } while (woken === 0);
+    assertSame(1, woken);
+    assertSame(0, Atomics.futexWake(ta, i, Infinity));
+  }
+
+  // Wait until workers have finished.
+  while (Atomics.load(ta, N + 1) !== N) {
+    Atomics.futexWait(ta, N + 2, 0, 10);
+  }
+
+  // Timeouts do not leave stale waiters behind.
+  assertSame(Atomics.TIMEDOUT, Atomics.futexWait(ta, N + 2, 0, 0));
+  assertSame(0, Atomics.futexWake(ta, N + 2, 1));
+
+  setSharedArrayBuffer(null);
+}
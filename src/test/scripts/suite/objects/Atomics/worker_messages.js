@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertNotSame, assertTrue, assertFalse, assertThrows
+} = Assert;
+
+// Messages are structured clones
+{
+  let worker = startWorker(`
+    let message = receiveMessage();
+    postMessage({
+      objectProto: Object.getPrototypeOf(message) === Object.prototype,
+      arrayProto: Object.getPrototypeOf(message.array) === Array.prototype,
+      cyclic: message.self === message,
+      sameDate: message.date.getTime(),
+      array: message.array,
+      date: message.date,
+      typed: message.typed,
+      buffer: message.buffer,
+      typedSharesBuffer: message.typed.buffer === message.buffer,
+    });
+  `);
+  assertTrue(worker > 0);
+
+  let message = {array: [1, "two", null, void 0], date: new Date(1234)};
+  message.self = message;
+  message.buffer = new ArrayBuffer(8);
+  message.typed = new Int16Array(message.buffer, 2, 2);
+  message.typed.set([5, -6]);
+  postMessageToWorker(worker, message);
+
+  let reply = receiveMessageFromWorker(worker);
+  assertTrue(reply.objectProto);
+  assertTrue(reply.arrayProto);
+  assertTrue(reply.cyclic);
+  assertSame(1234, reply.sameDate);
+  assertSame(4, reply.array.length);
+  assertSame(1, reply.array[0]);
+  assertSame("two", reply.array[1]);
+  assertSame(null, reply.array[2]);
+  assertSame(void 0, reply.array[3]);
+  assertTrue(3 in reply.array);
+  assertSame(Date.prototype, Object.getPrototypeOf(reply.date));
+  assertSame(1234, reply.date.getTime());
+  assertSame(Int16Array.prototype, Object.getPrototypeOf(reply.typed));
+  assertSame(2, reply.typed.byteOffset);
+  assertSame(5, reply.typed[0]);
+  assertSame(-6, reply.typed[1]);
+  assertTrue(reply.typedSharesBuffer);
+  assertSame(reply.buffer, reply.typed.buffer);
+  assertNotSame(message.buffer, reply.buffer);
+}
+
+// Array buffers are copied, shared array buffers are shared
+{
+  let worker = startWorker(`
+    let {buffer, shared} = receiveMessage();
+    new Int32Array(buffer)[0] = 1;
+    Atomics.store(new Int32Array(shared), 0, 2);
+    postMessage("done");
+  `);
+  let buffer = new ArrayBuffer(4);
+  let shared = new SharedArrayBuffer(4);
+  postMessageToWorker(worker, {buffer, shared});
+  assertSame("done", receiveMessageFromWorker(worker));
+  assertSame(0, new Int32Array(buffer)[0]);
+  assertSame(2, Atomics.load(new Int32Array(shared), 0));
+}
+
+// Timeout
+{
+  let worker = startWorker(`
+    postMessage(receiveMessage(0));
+  `);
+  assertSame(void 0, receiveMessageFromWorker(worker));
+  assertSame(void 0, receiveMessageFromWorker(worker, 0));
+}
+
+// Values which are not cloneable
+{
+  let worker = startWorker(``);
+  assertThrows(TypeError, () => postMessageToWorker(worker, function(){}));
+  assertThrows(TypeError, () => postMessageToWorker(worker, Symbol()));
+  assertThrows(TypeError, () => postMessageToWorker(worker, {nested: new Map}));
+  assertThrows(TypeError, () => postMessageToWorker(worker, new Proxy({}, {})));
+  assertThrows(TypeError, () => postMessageToWorker(0, null));
+}
+
+// Getters are invoked and only enumerable own properties are cloned
+{
+  let worker = startWorker(`
+    let message = receiveMessage();
+    postMessage(Object.keys(message).join() + ":" + message.a + message.b);
+  `);
+  let message = Object.create({inherited: 1}, {
+    a: {value: 1, enumerable: true},
+    b: {get() { return 2; }, enumerable: true},
+    c: {value: 3, enumerable: false},
+  });
+  message[Symbol()] = 4;
+  postMessageToWorker(worker, message);
+  assertSame("a,b:12", receiveMessageFromWorker(worker));
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame,
+  assertNotSame,
+  assertFalse,
+} = Assert;
+
+// Repeated dynamic function creation with the same source text returns distinct function objects
+{
+  let fs = [];
+  for (let i = 0; i < 3; ++i) {
+    fs.push(new Function("a", "b", "return a + b + this.c;"));
+  }
+  assertNotSame(fs[0], fs[1]);
+  assertNotSame(fs[0].prototype, fs[1].prototype);
+  fs[0].x = 1;
+  assertFalse("x" in fs[1]);
+  for (let f of fs) {
+    assertSame(6, f.call({c: 3}, 1, 2));
+    assertSame(fs[0].toString(), f.toString());
+  }
+}
+
+// Generator and function bodies with the same source text
+{
+  let g = new (Object.getPrototypeOf(function*(){}).constructor)("return 1;");
+  let f = new Function("return 1;");
+  assertSame(1, g().next().value);
+  assertSame(1, f());
+}
+
+// Strict and non-strict functions
+{
+  for (let i = 0; i < 2; ++i) {
+    let sloppy = new Function("return this;");
+    let strict = new Function("'use strict'; return this;");
+    assertSame(void 0, strict());
+    assertSame(this, sloppy());
+  }
+}
+
+// Template objects are not shared across realms
+{
+  const functionSource = "return (function(x) { return x; })`b`";
+  let g = new Reflect.Realm().global;
+  let fn = Function(functionSource), otherFn = g.Function(functionSource);
+  assertNotSame(fn(), otherFn());
+  assertSame(Array.prototype, Object.getPrototypeOf(fn()));
+  assertSame(g.Array.prototype, Object.getPrototypeOf(otherFn()));
+  assertSame(otherFn(), g.Function(functionSource)());
+}
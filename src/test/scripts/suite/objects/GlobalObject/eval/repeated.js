@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertNotSame, assertThrows
+} = Assert;
+
+const global = this;
+const indirectEval = eval;
+
+// Repeated direct eval in different scopes resolves bindings in the current scope
+{
+  function f(a) {
+    return eval("a + 1");
+  }
+  function g() {
+    let a = "g";
+    return eval("a + 1");
+  }
+  for (let i = 0; i < 3; ++i) {
+    assertSame(i + 1, f(i));
+    assertSame("g1", g());
+  }
+}
+
+// Repeated eval creates fresh functions and objects
+{
+  let fs = [];
+  for (let i = 0; i < 3; ++i) {
+    fs.push(eval("(function() { return {}; })"));
+  }
+  assertNotSame(fs[0], fs[1]);
+  assertNotSame(fs[0](), fs[0]());
+  assertNotSame(indirectEval("({})"), indirectEval("({})"));
+}
+
+// Var declarations are instantiated on each evaluation
+{
+  function h() {
+    eval("var x = 1;");
+    return x;
+  }
+  for (let i = 0; i < 3; ++i) {
+    assertSame(1, h());
+  }
+  for (let i = 0; i < 3; ++i) {
+    indirectEval("var evalRepeatedGlobal = " + i + ";");
+    assertSame(i, global.evalRepeatedGlobal);
+  }
+}
+
+// Strict and non-strict callers with the same source text
+{
+  function sloppy() {
+    eval("var y = 0;");
+    return typeof y;
+  }
+  function strict() {
+    "use strict";
+    eval("var y = 0;");
+    return typeof y;
+  }
+  for (let i = 0; i < 2; ++i) {
+    assertSame("number", sloppy());
+    assertSame("undefined", strict());
+  }
+}
+
+// Scope dependent early errors are reported for each caller
+{
+  function plain() {
+    return eval("new.target");
+  }
+  assertSame(void 0, plain());
+  assertSame(void 0, plain());
+  for (let i = 0; i < 2; ++i) {
+    assertThrows(SyntaxError, () => indirectEval("new.target"));
+  }
+}
+
+// Template objects are not shared across realms
+{
+  const source = "(function(x) { return x; })`a`";
+  let g = new Reflect.Realm().global;
+  let template = indirectEval(source);
+  let otherTemplate = g.eval(source);
+  assertNotSame(template, otherTemplate);
+  assertSame(Array.prototype, Object.getPrototypeOf(template));
+  assertSame(g.Array.prototype, Object.getPrototypeOf(otherTemplate));
+  assertSame(template, indirectEval(source));
+  assertSame(otherTemplate, g.eval(source));
+}
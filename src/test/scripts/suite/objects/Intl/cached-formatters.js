@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertNotSame
+} = Assert;
+
+// Repeated calls with default locale and options return the same results as fresh formatters.
+{
+  for (let i = 0; i < 3; ++i) {
+    assertSame(new Intl.Collator().compare("a", "B"), "a".localeCompare("B"));
+    assertSame(new Intl.NumberFormat().format(1234.5), (1234.5).toLocaleString());
+    let date = new Date(2016, 0, 1, 12, 30);
+    assertSame(new Intl.DateTimeFormat(void 0, {
+      year: "numeric", month: "numeric", day: "numeric", hour: "numeric", minute: "numeric", second: "numeric"
+    }).format(date), date.toLocaleString());
+    assertSame(new Intl.DateTimeFormat().format(date), date.toLocaleDateString());
+    assertNotSame(date.toLocaleDateString(), date.toLocaleTimeString());
+  }
+}
+
+// Explicit locales and options still create new formatters.
+{
+  assertSame(0, "a".localeCompare("A", "en", {sensitivity: "base"}));
+  assertNotSame(0, "a".localeCompare("A"));
+  assertSame("1,234.5", (1234.5).toLocaleString("en"));
+  assertSame("1234.5", (1234.5).toLocaleString("en", {useGrouping: false}));
+  assertSame("1,234.5", (1234.5).toLocaleString());
+}
+
+// Options inherited from Object.prototype are observed.
+{
+  Object.prototype.sensitivity = "base";
+  try {
+    assertSame(0, "a".localeCompare("A"));
+  } finally {
+    delete Object.prototype.sensitivity;
+  }
+  assertNotSame(0, "a".localeCompare("A"));
+
+  Object.prototype.useGrouping = false;
+  try {
+    assertSame("1234.5", (1234.5).toLocaleString());
+  } finally {
+    delete Object.prototype.useGrouping;
+  }
+  assertSame("1,234.5", (1234.5).toLocaleString());
+}
+
+// Cached ICU instances are not shared between formatter objects.
+{
+  let nf1 = new Intl.NumberFormat("en", {minimumFractionDigits: 2});
+  let nf2 = new Intl.NumberFormat("en", {minimumFractionDigits: 2});
+  assertSame("1.00", nf1.format(1));
+  assertSame("2.00", nf2.format(2));
+  assertSame(nf1.format(3), nf2.format(3));
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame,
+} = Assert;
+
+// Plain objects and arrays
+assertSame('{"a":1,"b":"x","c":[1,2,{"d":null}],"e":true}',
+           JSON.stringify({a: 1, b: "x", c: [1, 2, {d: null}], e: true, f: void 0, g() {}}));
+assertSame('{"0":0,"1":1,"a":2}', JSON.stringify({a: 2, 1: 1, 0: 0}));
+assertSame('[null,null,null]', JSON.stringify([, void 0, () => {}]));
+assertSame('{\n  "a": [\n    1\n  ]\n}', JSON.stringify({a: [1]}, null, 2));
+
+// String escapes
+assertSame('"\\"\\\\\\b\\f\\n\\r\\t\\u0000\\u001f abc\\u0001"', JSON.stringify("\"\\\b\f\n\r\t\0\x1f abc\x01"));
+assertSame('{"\\n":"\\u0002"}', JSON.stringify({"\n": "\x02"}));
+
+// toJSON on prototype objects
+{
+  Object.prototype.toJSON = function() { return "object"; };
+  try {
+    assertSame('"object"', JSON.stringify({a: 0}));
+    assertSame('"object"', JSON.stringify([0]));
+  } finally {
+    delete Object.prototype.toJSON;
+  }
+  Array.prototype.toJSON = function() { return "array"; };
+  try {
+    assertSame('{"a":"array"}', JSON.stringify({a: [0]}));
+  } finally {
+    delete Array.prototype.toJSON;
+  }
+}
+
+// Property changes from toJSON are observed by subsequent property reads
+{
+  let o = {a: {toJSON() { delete o.b; o.c = 3; return 1; }}, b: 2, c: 0};
+  assertSame('{"a":1,"c":3}', JSON.stringify(o));
+}
+{
+  let a = [{toJSON() { a[1] = "changed"; Object.defineProperty(a, 2, {get() { return "getter" }}); }}, 0, 0];
+  assertSame('[null,"changed","getter"]', JSON.stringify(a));
+}
+{
+  let o = {a: {toJSON() { Object.prototype.b = "inherited"; delete o.b; }}, b: 2};
+  try {
+    assertSame('{"b":"inherited"}', JSON.stringify(o));
+  } finally {
+    delete Object.prototype.b;
+  }
+}
+
+// Nested toJSON is called with the property key
+{
+  let keys = [];
+  let v = {toJSON(k) { keys.push(k); return k; }};
+  assertSame('{"a":"a","b":["0","1"]}', JSON.stringify({a: v, b: [v, v]}));
+  assertSame("a,0,1", keys.join());
+}
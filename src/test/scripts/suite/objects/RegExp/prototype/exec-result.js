@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertEquals, assertDataProperty
+} = Assert;
+
+// Match result properties and descriptors
+{
+  let m = /(\d+)-(x)?-(\w+)/.exec("ab 12--cd");
+  assertSame(true, Array.isArray(m));
+  assertSame(4, m.length);
+  assertEquals(["0", "1", "2", "3", "length", "index", "input"], Object.getOwnPropertyNames(m));
+  assertSame(3, m.index);
+  assertSame("ab 12--cd", m.input);
+  assertDataProperty(m, "3", {value: "cd", writable: true, enumerable: true, configurable: true});
+  assertDataProperty(m, "0", {value: "12--cd", writable: true, enumerable: true, configurable: true});
+  assertSame(void 0, m[2]);
+  assertSame(true, 2 in m);
+  assertSame("12", m[1]);
+  assertEquals(["12--cd", "12", void 0, "cd"], [...m]);
+  assertSame('["12--cd","12",null,"cd"]', JSON.stringify(m));
+}
+
+// Undefined captures in alternatives and negative lookahead
+{
+  assertEquals(["b", void 0, "b"], [.../(a)|(b)/.exec("b")]);
+  assertSame(void 0, /(?!(a))b/.exec("b")[1]);
+  assertSame("a", /(?=(a))a/.exec("a")[1]);
+  assertSame("", /()a/.exec("a")[1]);
+}
+
+// Attribute changes before the first read
+{
+  let m = /(a)(b)/.exec("ab");
+  Object.defineProperty(m, 1, {writable: false});
+  assertDataProperty(m, "1", {value: "a", writable: false, enumerable: true, configurable: true});
+  Object.freeze(m);
+  assertDataProperty(m, "2", {value: "b", writable: false, enumerable: true, configurable: false});
+}
+
+// Array operations on unread elements
+{
+  let m = /(a)(b)(c)/.exec("abc");
+  assertSame("abc", m.shift());
+  assertEquals(["a", "b", "c"], m.slice());
+  m = /(a)(b)(c)/.exec("abc");
+  m.length = 2;
+  m[3] = "x";
+  assertEquals(["abc", "a", void 0, "x"], Array.from(m));
+  m = /(a)(b)(c)/.exec("abc");
+  delete m[1];
+  m.reverse();
+  assertEquals(["c", "b", void 0, "abc"], Array.from(m));
+  assertSame("abc,b,c", /(a)(b)(c)/.exec("abc").filter((x, i) => i !== 1).join());
+  assertEquals(["0", "1"], Object.keys(/(a)/.exec("a")).slice(0, 2));
+  assertSame("a", [].concat(/(a)/.exec("a"))[1]);
+}
+
+// Results are independent from later matches with the same regular expression
+{
+  let re = /(\w)(\d)?/g;
+  let s = "a1 b c3";
+  let results = [];
+  let m;
+  while ((m = re.exec(s)) !== null) {
+    results.push(m);
+  }
+  assertSame(3, results.length);
+  assertEquals(["a1", "a", "1"], [...results[0]]);
+  assertEquals(["b", "b", void 0], [...results[1]]);
+  assertEquals(["c3", "c", "3"], [...results[2]]);
+  assertEquals([0, 3, 5], results.map(r => r.index));
+}
+
+// Matching before the previous match with the same input
+{
+  let s = "\u{1F600}a\u{1F600}b\u{1F600}c";
+  let re = /(\u{1F600})(\w)/gu;
+  assertEquals([0, 3, 6], [re.exec(s), re.exec(s), re.exec(s)].map(r => r.index));
+  re.lastIndex = 6;
+  assertEquals(["\u{1F600}c", "\u{1F600}", "c"], [...re.exec(s)]);
+  re.lastIndex = 0;
+  assertEquals(["\u{1F600}a", "\u{1F600}", "a"], [...re.exec(s)]);
+  assertSame(3, re.lastIndex);
+}
+
+// Nested matches from replacer functions
+{
+  let re = /(\w)(\w)/g;
+  let inner = [];
+  let s = "abcd";
+  assertSame("[ba][dc]", s.replace(re, (m, a, b) => {
+    inner.push(re.exec(s)[2]);
+    return `[${b}${a}]`;
+  }));
+  assertEquals(["b", "d"], inner);
+}
+
+// Substitution patterns in replacement strings
+{
+  assertSame("b-a", "ab".replace(/(a)(b)/, "$2-$1"));
+  assertSame("-b", "ab".replace(/(x)?(a)(b)/, "$1-$3"));
+  assertSame("a0", "ab".replace(/(a)(b)/, "$10"));
+  assertSame("$3", "ab".replace(/(a)(b)/, "$3"));
+  assertSame("[a][]", "ab".replace(/(?:(a)|b)/g, "[$1]"));
+  assertSame("x-", "b".replace(/(?!(a))b/, "x-$1"));
+}
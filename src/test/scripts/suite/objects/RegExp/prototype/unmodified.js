@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertEquals, assertThrows
+} = Assert;
+
+// Global match and replace reset lastIndex
+{
+  let re = /a*/g;
+  re.lastIndex = 3;
+  assertEquals(["aa", "", "", "a", ""], "aab a".match(re));
+  assertSame(0, re.lastIndex);
+  re.lastIndex = 3;
+  assertSame("xxbx-xx", "aab a".replace(re, "x").replace(/ /g, "-"));
+  assertSame(0, re.lastIndex);
+  assertSame(null, "bbb".match(/a/g));
+  assertSame("bbb", "bbb".replace(/a/g, "x"));
+}
+
+// Empty matches advance by code points for unicode patterns
+{
+  assertEquals(["", "", ""], "\u{1F600}x".match(/(?:)/gu));
+  assertEquals(["", "", "", ""], "\u{1F600}x".match(/(?:)/g));
+  assertSame("-\u{1F600}-x-", "\u{1F600}x".replace(/(?:)/gu, "-"));
+}
+
+// Global sticky patterns stop at the first failed match
+{
+  assertEquals(["a", "a"], "aaba".match(/a/gy));
+  assertSame("xxba", "aaba".replace(/a/gy, "x"));
+}
+
+// Replacer functions see lastIndex after all matches were collected
+{
+  let re = /b/g;
+  let seen = [];
+  assertSame("aXcX", "abcb".replace(re, (m, pos) => {
+    seen.push(re.lastIndex, pos);
+    return "X";
+  }));
+  assertEquals([0, 1, 0, 3], seen);
+}
+
+// Non-writable lastIndex throws
+{
+  let re = /a/g;
+  Object.defineProperty(re, "lastIndex", {writable: false});
+  assertThrows(TypeError, () => "aaa".match(re));
+  assertThrows(TypeError, () => "aaa".replace(re, ""));
+}
+
+// Own exec property is called
+{
+  let re = /a/g;
+  let count = 0;
+  re.exec = function(s) {
+    count += 1;
+    return RegExp.prototype.exec.call(this, s);
+  };
+  assertEquals(["a", "a"], "aba".match(re));
+  assertSame(3, count);
+  assertSame("xbx", "aba".replace(re, "x"));
+  assertSame(6, count);
+}
+
+// Modified RegExp.prototype.exec is called
+{
+  let exec = RegExp.prototype.exec;
+  let count = 0;
+  RegExp.prototype.exec = function(s) {
+    count += 1;
+    return exec.call(this, s);
+  };
+  try {
+    assertEquals(["a", "a"], "aba".match(/a/g));
+    assertSame("xbx", "aba".replace(/a/g, "x"));
+    assertEquals(["", "b", ""], "aba".split(/a/));
+  } finally {
+    RegExp.prototype.exec = exec;
+  }
+  assertSame(true, count > 6);
+}
+
+// Modified flags getter is called by split
+{
+  let desc = Object.getOwnPropertyDescriptor(RegExp.prototype, "flags");
+  let count = 0;
+  Object.defineProperty(RegExp.prototype, "flags", {
+    get() {
+      count += 1;
+      return desc.get.call(this);
+    }, configurable: true
+  });
+  try {
+    assertEquals(["a", "c"], "abc".split(/b/));
+  } finally {
+    Object.defineProperty(RegExp.prototype, "flags", desc);
+  }
+  assertSame(1, count);
+}
+
+// Modified species and constructor are used by split
+{
+  let re = /b/;
+  let count = 0;
+  re.constructor = function(...args) {
+    count += 1;
+    return new RegExp(...args);
+  };
+  re.constructor[Symbol.species] = re.constructor;
+  assertEquals(["a", "c"], "abc".split(re));
+  assertSame(1, count);
+
+  let desc = Object.getOwnPropertyDescriptor(RegExp, Symbol.species);
+  Object.defineProperty(RegExp, Symbol.species, {
+    get() {
+      count += 1;
+      return RegExp;
+    }, configurable: true
+  });
+  try {
+    assertEquals(["a", "c"], "abc".split(/b/));
+  } finally {
+    Object.defineProperty(RegExp, Symbol.species, desc);
+  }
+  assertSame(2, count);
+}
+
+// Split with captures, limits and flags in non-canonical order
+{
+  assertEquals(["a", "-", "b", "-", "c"], "a-b-c".split(/(-)/));
+  assertEquals(["a", "b"], "a-b-c".split(/-/, 2));
+  assertEquals(["a", "c"], "aBc".split(new RegExp("b", "mi")));
+  assertEquals(["a", "c"], "aBc".split(new RegExp("b", "yi")));
+  assertEquals([], "abc".split(/b/, 0));
+}
+
+// Limit conversion can modify the pattern
+{
+  let re = /b/;
+  assertEquals(["a", "c"], "abc".split(re, {
+    valueOf() {
+      re.compile("c");
+      return 10;
+    }
+  }));
+}
+
+// Repeatedly created patterns don't share state
+{
+  for (let i = 0; i < 3; ++i) {
+    let re = new RegExp("(a)", "g");
+    assertSame(0, re.lastIndex);
+    assertSame("a", re.exec("xa")[1]);
+    assertSame(2, re.lastIndex);
+  }
+  assertThrows(SyntaxError, () => new RegExp("("));
+  assertThrows(SyntaxError, () => new RegExp("("));
+}
+
+// String patterns
+{
+  assertSame("a-b", "a+b".replace("+", "-"));
+  assertEquals(["a", "b", "c"], "a,b,c".split(","));
+  assertEquals(["a", "b"], "a,b,c".split(",", 2));
+  assertEquals(["a", "b", "c"], "abc".split(""));
+  assertEquals([], "".split(""));
+  assertEquals([""], "".split(","));
+}
+
+// Symbol methods on String.prototype are used for string patterns
+{
+  let count = 0;
+  String.prototype[Symbol.split] = function() {
+    count += 1;
+    return ["called"];
+  };
+  try {
+    assertEquals(["called"], "a,b".split(","));
+  } finally {
+    delete String.prototype[Symbol.split];
+  }
+  assertSame(1, count);
+  assertEquals(["a", "b"], "a,b".split(","));
+}
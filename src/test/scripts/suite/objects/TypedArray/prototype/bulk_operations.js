@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame
+} = Assert;
+
+function assertElements(expected, actual) {
+  assertSame(expected.length, actual.length);
+  for (let i = 0; i < expected.length; ++i) {
+    assertSame(expected[i], actual[i], `index ${i}`);
+  }
+}
+
+const integerArrays = [Int8Array, Uint8Array, Uint8ClampedArray, Int16Array, Uint16Array, Int32Array, Uint32Array];
+const floatArrays = [Float32Array, Float64Array];
+
+// Default sort
+for (let TA of integerArrays) {
+  let ta = new TA([5, 100, 0, 3, 127, 1]);
+  assertElements([0, 1, 3, 5, 100, 127], ta.sort());
+}
+assertElements([-128, -1, 0, 127], new Int8Array([127, -1, -128, 0]).sort());
+assertElements([0, 1, 128, 255], new Uint8Array([255, 0, 128, 1]).sort());
+assertElements([0, 1, 0x8000, 0xffff], new Uint16Array([0xffff, 0x8000, 0, 1]).sort());
+assertElements([0, 1, 0x80000000, 0xffffffff], new Uint32Array([0xffffffff, 1, 0x80000000, 0]).sort());
+assertElements([-0x80000000, -1, 0, 0x7fffffff], new Int32Array([0x7fffffff, -1, 0, -0x80000000]).sort());
+for (let TA of floatArrays) {
+  let ta = new TA([NaN, 1.5, -Infinity, 0, -0, Infinity, -2]).sort();
+  assertElements([-Infinity, -2, -0, 0, 1.5, Infinity, NaN], ta);
+  assertSame(-Infinity, 1 / ta[2]);
+  assertSame(Infinity, 1 / ta[3]);
+}
+
+// Sort typed arrays with a byte offset
+{
+  let ta = new Int16Array(new ArrayBuffer(16), 4, 4);
+  ta.set([4, 3, 2, 1]);
+  ta.sort();
+  assertElements([0, 0, 1, 2, 3, 4, 0, 0], new Int16Array(ta.buffer));
+}
+
+// Large typed arrays
+{
+  let n = 100000;
+  let ta = new Float64Array(n);
+  for (let i = 0; i < n; ++i) ta[i] = (i * 7919) % n;
+  ta.sort();
+  let sorted = true;
+  for (let i = 0; i < n; ++i) sorted = sorted && ta[i] === i;
+  assertSame(true, sorted);
+}
+
+// Subtracting comparators
+for (let TA of integerArrays) {
+  assertElements([1, 2, 3, 4], new TA([3, 1, 4, 2]).sort((a, b) => a - b));
+  assertElements([4, 3, 2, 1], new TA([3, 1, 4, 2]).sort((a, b) => b - a));
+}
+assertElements([3, 2, 1, -1], new Int32Array([-1, 3, 1, 2]).sort(function(x, y) { return y - x; }));
+assertElements([1, 2, 3], new Float64Array([3, 1, 2]).sort((a, b) => a - b));
+
+// Fill
+for (let TA of [...integerArrays, ...floatArrays]) {
+  let ta = new TA(9);
+  ta.fill(7, 1, 8);
+  assertElements([0, 7, 7, 7, 7, 7, 7, 7, 0], ta);
+  ta.fill(3);
+  assertElements([3, 3, 3, 3, 3, 3, 3, 3, 3], ta);
+  ta.fill(5, 8);
+  assertElements([3, 3, 3, 3, 3, 3, 3, 3, 5], ta);
+}
+assertElements([255, 255, 255], new Uint8ClampedArray(3).fill(300));
+assertElements([44, 44, 44], new Uint8Array(3).fill(300));
+{
+  let ta = new Float64Array(new ArrayBuffer(64), 8, 5).fill(-0, 1, 4);
+  let all = new Float64Array(ta.buffer);
+  assertSame(Infinity, 1 / all[1]);
+  assertSame(-Infinity, 1 / all[2]);
+  assertSame(-Infinity, 1 / all[4]);
+  assertSame(Infinity, 1 / all[5]);
+}
+{
+  let calls = 0;
+  new Int32Array(4).fill({valueOf() { calls += 1; return 1; }});
+  assertSame(4, calls);
+}
+
+// copyWithin on typed arrays with a byte offset
+{
+  let ta = new Int8Array(8);
+  ta.set([0, 1, 2, 3, 4, 5, 6, 7]);
+  new Int8Array(ta.buffer, 4).copyWithin(0, 1);
+  assertElements([0, 1, 2, 3, 5, 6, 7, 7], ta);
+  new Int8Array(ta.buffer, 2, 4).copyWithin(1, 0);
+  assertElements([0, 1, 2, 2, 3, 5, 7, 7], ta);
+}
+
+// set and slice with the same element type
+{
+  let src = new Float64Array([1, 2, 3, 4]);
+  let target = new Float64Array(6);
+  target.set(src, 1);
+  assertElements([0, 1, 2, 3, 4, 0], target);
+  target.set(target.subarray(1, 3), 3);
+  assertElements([0, 1, 2, 1, 2, 0], target);
+  assertElements([2, 1, 2], target.slice(2, 5));
+}
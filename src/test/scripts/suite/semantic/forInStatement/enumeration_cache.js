@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertEquals
+} = Assert;
+
+function keys(o) {
+  var result = [];
+  for (var k in o) result.push(k);
+  return result;
+}
+
+// Repeated enumeration observes added, deleted and redefined properties
+{
+  let o = {a: 1, b: 2};
+  assertEquals(["a", "b"], keys(o));
+  o.c = 3;
+  assertEquals(["a", "b", "c"], keys(o));
+  delete o.a;
+  assertEquals(["b", "c"], keys(o));
+  Object.defineProperty(o, "b", {enumerable: false});
+  assertEquals(["c"], keys(o));
+  Object.defineProperty(o, "b", {enumerable: true});
+  assertEquals(["b", "c"], keys(o));
+  o[0] = 0;
+  assertEquals(["0", "b", "c"], keys(o));
+  o.c = 4;
+  assertEquals(["0", "b", "c"], keys(o));
+}
+
+// Changes on the prototype chain are observed
+{
+  let proto = {p: 1};
+  let o = Object.create(proto);
+  o.a = 1;
+  assertEquals(["a", "p"], keys(o));
+  proto.q = 2;
+  assertEquals(["a", "p", "q"], keys(o));
+  o.p = 0;
+  assertEquals(["a", "p", "q"], keys(o));
+  Object.defineProperty(o, "q", {value: 0, enumerable: false, configurable: true});
+  assertEquals(["a", "p"], keys(o));
+  Object.setPrototypeOf(o, {r: 3});
+  assertEquals(["a", "p", "r"], keys(o));
+  Object.prototype.s = 4;
+  try {
+    assertEquals(["a", "p", "r", "s"], keys(o));
+  } finally {
+    delete Object.prototype.s;
+  }
+  assertEquals(["a", "p", "r"], keys(o));
+}
+
+// Properties deleted during enumeration are not visited
+{
+  let o = {a: 1, b: 2, c: 3};
+  keys(o);
+  let seen = [];
+  for (let k in o) {
+    seen.push(k);
+    delete o.b;
+  }
+  assertEquals(["a", "c"], seen);
+}
+
+// Properties deleted from the prototype during enumeration are not visited
+{
+  let proto = {p: 1, q: 2};
+  let o = Object.create(proto);
+  o.a = 1;
+  keys(o);
+  let seen = [];
+  for (let k in o) {
+    seen.push(k);
+    delete proto.q;
+  }
+  assertEquals(["a", "p"], seen);
+}
+
+// Deleted default properties of built-in functions no longer shadow inherited properties
+{
+  Object.setPrototypeOf(parseInt, {name: "inherited"});
+  assertEquals([], keys(parseInt));
+  delete parseInt.name;
+  assertEquals(["name"], keys(parseInt));
+}
+
+// Objects with the same layout share cached keys, but differing own keys are observed
+{
+  let make = () => ({a: 1, b: 2});
+  for (let i = 0; i < 3; ++i) {
+    assertEquals(["a", "b"], keys(make()));
+  }
+  let o = make();
+  Object.defineProperty(o, "a", {enumerable: false});
+  assertEquals(["b"], keys(o));
+  let p = make();
+  p.c = 3;
+  assertEquals(["a", "b", "c"], keys(p));
+  assertEquals(["b", "a"], keys({b: 2, a: 1}));
+  assertEquals(["b", "a"], keys({b: 2, a: 1}));
+  assertEquals(["a", "b"], keys(make()));
+}
+
+// Objects with the same own keys but different prototypes don't share cached keys
+{
+  let p1 = {x: 1}, p2 = {y: 2};
+  for (let i = 0; i < 3; ++i) {
+    let o1 = Object.create(p1), o2 = Object.create(p2);
+    o1.a = o2.a = 0;
+    assertEquals(["a", "x"], keys(o1));
+    assertEquals(["a", "y"], keys(o2));
+  }
+  let o = Object.create(p1);
+  o.x = 0;
+  assertEquals(["x"], keys(o));
+  assertEquals(["x"], keys(o));
+}
+
+// Deletion during enumeration of an object with a shared layout
+{
+  let make = () => ({a: 1, b: 2, c: 3});
+  keys(make());
+  keys(make());
+  let o = make();
+  let seen = [];
+  for (let k in o) {
+    seen.push(k);
+    delete o.b;
+  }
+  assertEquals(["a", "c"], seen);
+}
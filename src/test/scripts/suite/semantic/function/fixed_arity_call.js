@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertEquals, assertThrows
+} = Assert;
+
+// Script functions receive all call arguments
+{
+  function f(a, b) {
+    return [a, b, arguments.length];
+  }
+  assertEquals([void 0, void 0, 0], f());
+  assertEquals([1, void 0, 1], f(1));
+  assertEquals([1, 2, 2], f(1, 2));
+  assertEquals([1, 2, 3], f(1, 2, 3));
+  assertEquals([1, 2, 4], f(1, 2, 3, 4));
+  assertEquals([1, 2, 5], f(1, 2, 3, 4, 5));
+  assertEquals([1, 2, 3], f(...[1, 2, 3]));
+}
+
+// Built-in functions pad missing arguments and ignore extra arguments
+{
+  assertSame(-Infinity, Math.max());
+  assertSame(5, Math.max(1, 5, 3));
+  assertSame(NaN, Math.pow(2));
+  assertSame(8, Math.pow(2, 3, 4));
+  assertSame("a", "abc".charAt());
+  assertSame("c", "abc".charAt(2, 0));
+  assertSame(3, "abcabc".indexOf("a", 1, 0));
+}
+
+// Call sites with changing callees
+{
+  let results = [];
+  for (let fn of [Math.abs, x => x * 2, function(x, y) { return y; }, String, Math.abs]) {
+    results.push(fn(-4));
+  }
+  assertEquals([4, -8, void 0, "-4", 4], results);
+}
+
+// Non-callable values throw a TypeError
+{
+  let values = [void 0, null, 0, "", {}];
+  for (let v of values) {
+    assertThrows(TypeError, () => v());
+    assertThrows(TypeError, () => v(1, 2, 3, 4));
+  }
+}
+
+// this-binding for method calls
+{
+  let o = {m(a, b, c) { return [this, a, b, c]; }};
+  assertEquals([o, 1, 2, 3], o.m(1, 2, 3));
+}
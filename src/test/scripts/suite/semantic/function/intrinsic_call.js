@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertEquals, assertThrows
+} = Assert;
+
+// Call sites switch between number and non-number arguments
+{
+  let values = [2.5, -3, "4.5", {valueOf() { return -1.5; }}, 7];
+  let floor = [], abs = [], sqrt = [];
+  for (let v of values) {
+    floor.push(Math.floor(v));
+    abs.push(Math.abs(v));
+    sqrt.push(Math.sqrt(v));
+  }
+  assertEquals([2, -3, 4, -2, 7], floor);
+  assertEquals([2.5, 3, 4.5, 1.5, 7], abs);
+  assertEquals([Math.sqrt(2.5), NaN, Math.sqrt(4.5), NaN, Math.sqrt(7)], sqrt);
+
+  let max = [], min = [];
+  for (let [a, b] of [[1, 2], [-0, 0], [NaN, 1], ["3", 2], [1, 2]]) {
+    max.push(Math.max(a, b));
+    min.push(Math.min(a, b));
+  }
+  assertEquals([2, 0, NaN, 3, 2], max);
+  assertEquals([1, -0, NaN, 2, 1], min);
+  assertSame(-0, min[1]);
+}
+
+// String.prototype.charCodeAt and String.prototype.indexOf
+{
+  let codes = [], indices = [];
+  for (let [s, i] of [["abc", 0], ["abc", 2.9], ["abc", -1], ["abc", 3], [new String("abc"), 1], ["abc", "1"]]) {
+    codes.push(String.prototype.charCodeAt.call(s, i));
+  }
+  assertEquals([97, 99, NaN, NaN, 98, 98], codes);
+
+  for (let [s, t, p] of [["abcabc", "c", 0], ["abcabc", "c", 3], ["abcabc", "c", -5], ["abcabc", "c", 99], ["a1", 1, 0]]) {
+    indices.push(s.indexOf(t), s.indexOf(t, p));
+  }
+  assertEquals([2, 2, 2, 5, 2, 2, 2, -1, 1, 1], indices);
+}
+
+// Number.isInteger
+{
+  let results = [];
+  for (let v of [1, 1.5, -0, Infinity, NaN, "1", 2 ** 53]) {
+    results.push(Number.isInteger(v));
+  }
+  assertEquals([true, false, true, false, false, false, true], results);
+}
+
+// Array.prototype.push and Array.prototype.pop on dense arrays
+{
+  let a = [];
+  for (let i = 0; i < 5; ++i) {
+    assertSame(i + 1, a.push(i));
+  }
+  assertEquals([0, 1, 2, 3, 4], a);
+  assertSame(4, a.pop());
+  assertSame(3, a.pop());
+  assertEquals([0, 1, 2], a);
+
+  let empty = [];
+  assertSame(void 0, empty.pop());
+  assertSame(0, empty.length);
+
+  let holes = [1, , ];
+  assertSame(void 0, holes.pop());
+  assertSame(1, holes.length);
+}
+
+// Array.prototype.push and Array.prototype.pop on non-extensible arrays
+{
+  for (let freeze of [Object.freeze, Object.seal, Object.preventExtensions]) {
+    let a = freeze([1]);
+    assertThrows(TypeError, () => a.push(2));
+    assertSame(1, a.length);
+    assertSame(1, a[0]);
+  }
+  assertThrows(TypeError, () => Object.freeze([1]).pop());
+  assertThrows(TypeError, () => Object.seal([1]).pop());
+  let a = Object.preventExtensions([1]);
+  assertSame(1, a.pop());
+  assertSame(0, a.length);
+
+  let b = [1];
+  Object.defineProperty(b, "length", {writable: false});
+  assertThrows(TypeError, () => b.push(2));
+  assertThrows(TypeError, () => b.pop());
+}
+
+// Array.prototype.push calls inherited setters
+{
+  let log = [];
+  Object.defineProperty(Array.prototype, 2, {
+    set(v) { log.push(v); }, configurable: true
+  });
+  try {
+    let a = [0, 1];
+    assertSame(3, a.push(10));
+    assertSame(void 0, a[2]);
+    assertEquals([10], log);
+  } finally {
+    delete Array.prototype[2];
+  }
+}
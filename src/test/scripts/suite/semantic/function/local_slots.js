@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertTrue, assertFalse, assertEquals, assertThrows
+} = Assert;
+
+// Parameters and variables
+{
+  function f(a, b) {
+    var c = a + b;
+    c += 1;
+    c++;
+    return c;
+  }
+  assertSame(5, f(1, 2));
+  assertTrue(Number.isNaN(f(1)));
+  assertTrue(Number.isNaN(f()));
+  assertSame(5, f(1, 2, 3));
+}
+
+// Variables are initialized to undefined
+{
+  function f() {
+    var before = x;
+    var x = 1;
+    return [before, x];
+  }
+  assertEquals([void 0, 1], f());
+}
+
+// this-binding in sloppy and strict mode functions
+{
+  function sloppy() { return this; }
+  function strict() { "use strict"; return this; }
+  assertSame(this, sloppy());
+  assertSame("object", typeof sloppy.call(5));
+  assertSame(void 0, strict());
+  assertSame(5, strict.call(5));
+
+  let o = {v: 10, m(x) { return this.v + x; }};
+  assertSame(15, o.m(5));
+
+  let arrow = (a, b) => [this, a * b];
+  assertEquals([this, 12], arrow(3, 4));
+}
+
+// Constructors
+{
+  function C(a) {
+    var t = a * 2;
+    this.a = a;
+    this.t = t;
+  }
+  let c = new C(4);
+  assertSame(4, c.a);
+  assertSame(8, c.t);
+}
+
+// Destructuring, for-in and for-of
+{
+  function f(o) {
+    var {a, b: [c, d = 7]} = o;
+    var [x, ...r] = [1, 2, 3];
+    ({a} = {a: a + 100});
+    var keys = [];
+    for (var k in {p: 0, q: 0}) keys.push(k);
+    for (var v of [1, 2]) keys.push(v);
+    return [a, c, d, x, r.length, keys.join()];
+  }
+  assertEquals([101, 2, 7, 1, 2, "p,q,1,2"], f({a: 1, b: [2]}));
+}
+
+// delete and typeof
+{
+  function f(x) {
+    var y;
+    return [delete x, delete y, typeof x, typeof y, typeof unresolvable];
+  }
+  assertEquals([false, false, "number", "undefined", "undefined"], f(1));
+}
+
+// Catch parameters and block-scoped declarations
+{
+  function f(x) {
+    try {
+      throw x;
+    } catch (e) {
+      x = e + 1;
+    }
+    for (let i = 0; i < 3; i++) {
+      x += i;
+    }
+    {
+      let y = 10;
+      x += y;
+    }
+    return x;
+  }
+  assertSame(15, f(1));
+
+  function shadowed(x) {
+    {
+      let x = 2;
+    }
+    return x;
+  }
+  assertSame(9, shadowed(9));
+
+  function tdz() {
+    {
+      y;
+      let y = 0;
+    }
+  }
+  assertThrows(ReferenceError, tdz);
+}
+
+// Free variables are resolved in the outer environment
+{
+  var outerValue = 5;
+  function f(a) {
+    outerValue = outerValue + a;
+    return outerValue;
+  }
+  assertSame(6, f(1));
+  assertSame(6, outerValue);
+}
+
+// Closures and arguments still use a function environment
+{
+  function outer() {
+    var x = 1;
+    return function(y) { return x + y; };
+  }
+  assertSame(3, outer()(2));
+
+  function args() { return arguments.length; }
+  assertSame(3, args(1, 2, 3));
+
+  function argumentsVar() { var arguments; return typeof arguments; }
+  assertSame("object", argumentsVar());
+}
+
+// Recursive calls get fresh slots
+{
+  function fib(n) {
+    var a = n < 2 ? n : fib(n - 1) + fib(n - 2);
+    return a;
+  }
+  assertSame(55, fib(10));
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2012-2016 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertEquals, assertTrue, assertThrows, assertDataProperty
+} = Assert;
+
+// Data properties are created with default attributes
+{
+  let status = 200, data = "ok";
+  let o = {status, data, error: null};
+  assertSame(Object.prototype, Object.getPrototypeOf(o));
+  assertTrue(Object.isExtensible(o));
+  assertEquals(["status", "data", "error"], Object.getOwnPropertyNames(o));
+  assertDataProperty(o, "status", {value: 200, writable: true, enumerable: true, configurable: true});
+  assertDataProperty(o, "data", {value: "ok", writable: true, enumerable: true, configurable: true});
+  assertDataProperty(o, "error", {value: null, writable: true, enumerable: true, configurable: true});
+}
+
+// Each evaluation creates a new object
+{
+  let objects = [];
+  for (let i = 0; i < 3; ++i) {
+    objects.push({a: i, b: i * 2});
+  }
+  objects[0].a = 10;
+  delete objects[1].b;
+  objects[2].c = 3;
+  assertEquals([{a: 10, b: 0}, {a: 1}, {a: 2, b: 4, c: 3}], objects);
+}
+
+// Setters on Object.prototype are not called
+{
+  let called = false;
+  Object.defineProperty(Object.prototype, "templateSetter", {
+    set(v) { called = true; }, configurable: true
+  });
+  try {
+    let o = {templateSetter: 1};
+    assertSame(false, called);
+    assertDataProperty(o, "templateSetter", {value: 1, writable: true, enumerable: true, configurable: true});
+  } finally {
+    delete Object.prototype.templateSetter;
+  }
+}
+
+// Values are evaluated in order and abrupt completions propagate
+{
+  let log = [];
+  let o = {a: log.push("a"), b: log.push("b"), ["c"]: log.push("c"), d: log.push("d")};
+  assertEquals(["a", "b", "c", "d"], log);
+  assertEquals({a: 1, b: 2, c: 3, d: 4}, o);
+
+  class E extends Error { }
+  assertThrows(E, () => ({a: 0, b: (() => { throw new E })(), c: 0}));
+}
+
+// Property order with duplicate, index, computed and __proto__ property names
+{
+  let proto = {};
+  let o = {b: 1, a: 2, b: 3, 1: 4, c: 5};
+  assertEquals(["1", "b", "a", "c"], Object.keys(o));
+  assertEquals({1: 4, b: 3, a: 2, c: 5}, o);
+
+  o = {a: 1, 0: 2, b: 3};
+  assertEquals(["0", "a", "b"], Object.keys(o));
+
+  o = {a: 1, __proto__: proto, b: 2};
+  assertSame(proto, Object.getPrototypeOf(o));
+  assertEquals(["a", "b"], Object.keys(o));
+
+  o = {a: 1, ["__proto__"]: proto};
+  assertSame(Object.prototype, Object.getPrototypeOf(o));
+  assertDataProperty(o, "__proto__", {value: proto, writable: true, enumerable: true, configurable: true});
+}
+
+// Accessors and methods after data properties
+{
+  let o = {
+    a: 1,
+    get b() { return this.a + 1; },
+    c: 3,
+    m() { return super.toString === Object.prototype.toString; },
+  };
+  assertEquals(["a", "b", "c", "m"], Object.keys(o));
+  assertSame(2, o.b);
+  assertSame(true, o.m());
+}
+
+// Anonymous functions and classes receive the property name
+{
+  let o = {f: function() {}, g: () => {}, c: class {}, s: class { static name() {} }};
+  assertSame("f", o.f.name);
+  assertSame("g", o.g.name);
+  assertSame("c", o.c.name);
+  assertSame("function", typeof o.s.name);
+}
+
+// Large object literals
+{
+  let source = "({" + Array.from({length: 100}, (_, i) => `p${i}: ${i}`).join(", ") + "})";
+  let o = eval(source);
+  let keys = Object.keys(o);
+  assertSame(100, keys.length);
+  keys.forEach((k, i) => {
+    assertSame(`p${i}`, k);
+    assertSame(i, o[k]);
+  });
+}
+
+// Suspended generators keep partially evaluated object literals
+{
+  function* g() {
+    return {a: yield 1, b: 2, c: yield 3};
+  }
+  let it = g();
+  assertSame(1, it.next().value);
+  assertSame(3, it.next("x").value);
+  let {value, done} = it.next("y");
+  assertSame(true, done);
+  assertEquals({a: "x", b: 2, c: "y"}, value);
+}